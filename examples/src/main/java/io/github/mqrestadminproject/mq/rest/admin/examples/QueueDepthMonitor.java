@@ -2,14 +2,13 @@ package io.github.mqrestadminproject.mq.rest.admin.examples;
 
 import io.github.mqrestadminproject.mq.rest.admin.HttpClientTransport;
 import io.github.mqrestadminproject.mq.rest.admin.MqRestSession;
+import io.github.mqrestadminproject.mq.rest.admin.MqscRow;
 import io.github.mqrestadminproject.mq.rest.admin.auth.BasicAuth;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
-import org.jspecify.annotations.Nullable;
 
 /**
  * Queue depth monitor.
@@ -36,24 +35,25 @@ public final class QueueDepthMonitor {
   /** Monitor queue depths for a queue manager. */
   public static List<QueueDepthInfo> monitorQueueDepths(
       MqRestSession session, double thresholdPct) {
-    List<Map<String, Object>> queues = session.displayQueue("*", null, null, null);
+    List<MqscRow> queues = session.displayQueueRows("*", null, null, null);
     List<QueueDepthInfo> results = new ArrayList<>();
 
-    for (Map<String, Object> queue : queues) {
-      String qtype = String.valueOf(queue.getOrDefault("type", "")).strip().toUpperCase(Locale.ROOT);
-      if (!LOCAL_TYPES.contains(qtype)) {
+    for (MqscRow queue : queues) {
+      String qtype = queue.getString("type");
+      if (qtype == null || !LOCAL_TYPES.contains(qtype.strip().toUpperCase(Locale.ROOT))) {
         continue;
       }
 
-      int currentDepth = toInt(queue.get("current_queue_depth"));
-      int maxDepth = toInt(queue.get("max_queue_depth"));
-      int openInput = toInt(queue.get("open_input_count"));
-      int openOutput = toInt(queue.get("open_output_count"));
+      int currentDepth = queue.getInt("current_queue_depth", 0);
+      int maxDepth = queue.getInt("max_queue_depth", 0);
+      int openInput = queue.getInt("open_input_count", 0);
+      int openOutput = queue.getInt("open_output_count", 0);
       double depthPct = maxDepth > 0 ? ((double) currentDepth / maxDepth * 100.0) : 0.0;
 
+      String name = queue.getString("queue_name");
       results.add(
           new QueueDepthInfo(
-              String.valueOf(queue.getOrDefault("queue_name", "")).strip(),
+              name != null ? name.strip() : "",
               currentDepth,
               maxDepth,
               depthPct,
@@ -93,20 +93,6 @@ public final class QueueDepthMonitor {
     return results;
   }
 
-  static int toInt(@Nullable Object value) {
-    if (value instanceof Number n) {
-      return n.intValue();
-    }
-    if (value != null) {
-      try {
-        return Integer.parseInt(value.toString().strip());
-      } catch (NumberFormatException e) {
-        return 0;
-      }
-    }
-    return 0;
-  }
-
   /** Entry point. */
   public static void main(String[] args) {
     double threshold = Double.parseDouble(env("DEPTH_THRESHOLD_PCT", "80"));
@@ -0,0 +1,186 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import com.google.gson.Gson;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds realistic {@code runCommandJSON} response bodies for the benchmarks.
+ *
+ * <p>Attribute names and value shapes follow what an IBM MQ 9.x queue manager returns for {@code
+ * DISPLAY QUEUE(*)} and {@code DISPLAY CONN(*) TYPE(ALL)}, restricted to attributes known to the
+ * built-in mapping data so that strict mapping succeeds.
+ */
+final class BenchmarkPayloads {
+
+  private static final Gson GSON = new Gson();
+
+  private BenchmarkPayloads() {}
+
+  /**
+   * Returns a {@code DISPLAY QUEUE(*)} response body containing {@code queueCount} local queues.
+   *
+   * @param queueCount the number of queues in the response
+   * @return the JSON response body
+   */
+  static String displayQueueResponse(int queueCount) {
+    List<Map<String, Object>> items = new ArrayList<>(queueCount);
+    for (int queueIndex = 0; queueIndex < queueCount; queueIndex++) {
+      items.add(commandResponseItem(queueAttributes(queueIndex)));
+    }
+    return responseBody(items);
+  }
+
+  /**
+   * Returns a {@code DISPLAY CONN(*) TYPE(ALL)} response body containing {@code connectionCount}
+   * connections, each with a nested {@code objects} array of open handles.
+   *
+   * @param connectionCount the number of connections in the response
+   * @param handlesPerConnection the number of nested handle objects per connection
+   * @return the JSON response body
+   */
+  static String displayConnResponse(int connectionCount, int handlesPerConnection) {
+    List<Map<String, Object>> items = new ArrayList<>(connectionCount);
+    for (int connIndex = 0; connIndex < connectionCount; connIndex++) {
+      Map<String, Object> parameters = connectionAttributes(connIndex);
+      List<Map<String, Object>> handles = new ArrayList<>(handlesPerConnection);
+      for (int handleIndex = 0; handleIndex < handlesPerConnection; handleIndex++) {
+        handles.add(handleAttributes(connIndex, handleIndex));
+      }
+      parameters.put("objects", handles);
+      items.add(commandResponseItem(parameters));
+    }
+    return responseBody(items);
+  }
+
+  /**
+   * Returns a typical snake_case request attribute map for {@code DEFINE QLOCAL}.
+   *
+   * @return the request attributes
+   */
+  static Map<String, Object> defineQlocalRequest() {
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("description", "Order intake queue");
+    attributes.put("max_queue_depth", 50_000);
+    attributes.put("max_message_length", 4_194_304);
+    attributes.put("default_persistence", "yes");
+    attributes.put("backout_threshold", 5);
+    attributes.put("backout_requeue_name", "APP.ORDERS.BACKOUT");
+    attributes.put("queue_depth_high_limit", 80);
+    attributes.put("queue_depth_high_event", "ENABLED");
+    attributes.put("replace", "yes");
+    return attributes;
+  }
+
+  private static Map<String, Object> queueAttributes(int queueIndex) {
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("QUEUE", String.format("APP.QUEUE.%05d", queueIndex));
+    attributes.put("TYPE", "QLOCAL");
+    attributes.put("ACCTQ", "QMGR");
+    attributes.put("ALTDATE", "2026-03-02");
+    attributes.put("ALTTIME", "10.15.42");
+    attributes.put("BOQNAME", "");
+    attributes.put("BOTHRESH", 0);
+    attributes.put("CLUSNL", "");
+    attributes.put("CLUSTER", "");
+    attributes.put("CLWLPRTY", 0);
+    attributes.put("CLWLRANK", 0);
+    attributes.put("CLWLUSEQ", "QMGR");
+    attributes.put("CRDATE", "2026-01-15");
+    attributes.put("CRTIME", "08.01.10");
+    attributes.put("CURDEPTH", queueIndex % 250);
+    attributes.put("CUSTOM", "");
+    attributes.put("DEFBIND", "OPEN");
+    attributes.put("DEFPRESP", "SYNC");
+    attributes.put("DEFPRTY", 0);
+    attributes.put("DEFPSIST", queueIndex % 2 == 0 ? "NO" : "YES");
+    attributes.put("DEFREADA", "NO");
+    attributes.put("DEFSOPT", "SHARED");
+    attributes.put("DEFTYPE", "PREDEFINED");
+    attributes.put("DESCR", "Application queue " + queueIndex);
+    attributes.put("DISTL", "NO");
+    attributes.put("GET", "ENABLED");
+    attributes.put("HARDENBO", "HARDENBO");
+    attributes.put("INITQ", "");
+    attributes.put("IPPROCS", queueIndex % 3);
+    attributes.put("MAXDEPTH", 5000);
+    attributes.put("MAXMSGL", 4_194_304);
+    attributes.put("MAXFSIZE", "DEFAULT");
+    attributes.put("MONQ", "QMGR");
+    attributes.put("MSGDLVSQ", "PRIORITY");
+    attributes.put("NPMCLASS", "NORMAL");
+    attributes.put("OPPROCS", queueIndex % 5);
+    attributes.put("PROCESS", "");
+    attributes.put("PROPCTL", "COMPAT");
+    attributes.put("PUT", "ENABLED");
+    attributes.put("QDEPTHHI", 80);
+    attributes.put("QDEPTHLO", 20);
+    attributes.put("QDPHIEV", "DISABLED");
+    attributes.put("QDPLOEV", "DISABLED");
+    attributes.put("QDPMAXEV", "ENABLED");
+    attributes.put("QSVCIEV", "NONE");
+    attributes.put("QSVCINT", 999_999_999);
+    attributes.put("RETINTVL", 999_999_999);
+    attributes.put("SCOPE", "QMGR");
+    attributes.put("SHARE", "SHARE");
+    attributes.put("STATQ", "QMGR");
+    attributes.put("STREAMQ", "");
+    attributes.put("STRMQOS", "BESTEF");
+    attributes.put("TRIGDATA", "");
+    attributes.put("TRIGDPTH", 1);
+    attributes.put("TRIGGER", "NOTRIGGER");
+    attributes.put("TRIGMPRI", 0);
+    attributes.put("TRIGTYPE", "FIRST");
+    attributes.put("USAGE", "NORMAL");
+    return attributes;
+  }
+
+  private static Map<String, Object> connectionAttributes(int connIndex) {
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("CONN", String.format("414D5143514D312020202020202020%08X", connIndex));
+    attributes.put("EXTCONN", "414D5143514D31202020202020202020");
+    attributes.put("TYPE", "*");
+    attributes.put("APPLTAG", "com.example.OrderService");
+    attributes.put("APPLTYPE", "JAVA");
+    attributes.put("ASTATE", "NONE");
+    attributes.put("CHANNEL", "APP.SVRCONN");
+    attributes.put("CLIENTID", "");
+    attributes.put("CONNAME", "10.0.0." + (connIndex % 250) + "(51234)");
+    attributes.put("CONNOPTS", List.of("MQCNO_SHARED_BINDING", "MQCNO_GENERATE_CONN_TAG"));
+    attributes.put("PID", 4242);
+    attributes.put("TID", connIndex);
+    attributes.put("UOWLOG", "");
+    attributes.put("UOWSTATE", "NONE");
+    attributes.put("URTYPE", "QMGR");
+    attributes.put("USERID", "app");
+    return attributes;
+  }
+
+  private static Map<String, Object> handleAttributes(int connIndex, int handleIndex) {
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("OBJNAME", String.format("APP.QUEUE.%05d", (connIndex + handleIndex) % 5000));
+    attributes.put("OBJTYPE", "QUEUE");
+    attributes.put("HSTATE", handleIndex % 2 == 0 ? "ACTIVE" : "INACTIVE");
+    attributes.put("OPENOPTS", List.of("MQOO_INPUT_SHARED", "MQOO_FAIL_IF_QUIESCING"));
+    attributes.put("READA", "NO");
+    return attributes;
+  }
+
+  private static Map<String, Object> commandResponseItem(Map<String, Object> parameters) {
+    Map<String, Object> item = new LinkedHashMap<>();
+    item.put("completionCode", 0);
+    item.put("reasonCode", 0);
+    item.put("parameters", parameters);
+    return item;
+  }
+
+  private static String responseBody(List<Map<String, Object>> items) {
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("commandResponse", items);
+    body.put("overallCompletionCode", 0);
+    body.put("overallReasonCode", 0);
+    return GSON.toJson(body);
+  }
+}
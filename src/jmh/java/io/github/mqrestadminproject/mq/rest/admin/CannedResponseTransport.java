@@ -0,0 +1,36 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link MqRestTransport} stand-in that returns the same canned response for every request.
+ *
+ * <p>Removes the network from the benchmarks so that only the session's own request building,
+ * response parsing and attribute mapping are measured.
+ */
+final class CannedResponseTransport implements MqRestTransport {
+
+  private final TransportResponse response;
+
+  /**
+   * Creates a transport that answers every request with a 200 response carrying the given body.
+   *
+   * @param body the JSON response body to return
+   */
+  CannedResponseTransport(String body) {
+    this.response = new TransportResponse(200, Objects.requireNonNull(body, "body"), Map.of());
+  }
+
+  @Override
+  public TransportResponse postJson(
+      String url,
+      Map<String, Object> payload,
+      Map<String, String> headers,
+      @Nullable Duration timeout,
+      boolean verifyTls) {
+    return response;
+  }
+}
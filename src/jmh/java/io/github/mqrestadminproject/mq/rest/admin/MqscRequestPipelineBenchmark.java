@@ -0,0 +1,127 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import com.google.gson.Gson;
+import io.github.mqrestadminproject.mq.rest.admin.auth.BasicAuth;
+import io.github.mqrestadminproject.mq.rest.admin.mapping.AttributeMapper;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the request half of {@link MqRestSession#mqscCommand}: command normalization, request
+ * attribute mapping, WHERE mapping, payload building and JSON serialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MqscRequestPipelineBenchmark {
+
+  private static final Gson GSON = new Gson();
+
+  private MqRestSession session;
+  private AttributeMapper attributeMapper;
+  private Map<String, Object> requestAttributes;
+  private Map<String, Object> mappedRequestAttributes;
+  private Map<String, Object> payload;
+  private PreparedMqscCommand preparedDefine;
+  private int nameIndex;
+
+  /** Builds the session, mapper and pre-mapped inputs for the individual stages. */
+  @Setup
+  public void setUp() {
+    session =
+        new MqRestSession.Builder(
+                "https://localhost:9443/ibmmq/rest/v2", "QM1", new BasicAuth("admin", "passw0rd"))
+            .transport(new CannedResponseTransport("{}"))
+            .build();
+    attributeMapper = new AttributeMapper();
+    requestAttributes = BenchmarkPayloads.defineQlocalRequest();
+    mappedRequestAttributes =
+        attributeMapper.mapRequestAttributes("queue", requestAttributes, true);
+    payload =
+        MqRestSession.buildCommandPayload(
+            "DEFINE", "QLOCAL", "APP.ORDERS", mappedRequestAttributes, List.of());
+    preparedDefine = session.prepare("DEFINE", "QLOCAL", requestAttributes, null, null);
+  }
+
+  /** Stage 1 and 4: uppercase normalization and mapping qualifier resolution. */
+  @Benchmark
+  public String normalizeCommand() {
+    String command = "define".toUpperCase(Locale.ROOT);
+    String qualifier = "qlocal".toUpperCase(Locale.ROOT);
+    return session.resolveMappingQualifier(command, qualifier);
+  }
+
+  /** Stage 5: snake_case to MQSC request attribute mapping. */
+  @Benchmark
+  public Map<String, Object> mapRequestAttributes() {
+    return attributeMapper.mapRequestAttributes("queue", requestAttributes, true);
+  }
+
+  /** Stage 6: WHERE keyword mapping. */
+  @Benchmark
+  public String mapWhereKeyword() {
+    return session.mapWhereKeyword("current_queue_depth GT 100", "queue");
+  }
+
+  /** Stage 7: {@code runCommandJSON} payload construction. */
+  @Benchmark
+  public Map<String, Object> buildCommandPayload() {
+    return MqRestSession.buildCommandPayload(
+        "DEFINE", "QLOCAL", "APP.ORDERS", mappedRequestAttributes, List.of());
+  }
+
+  /** Stage 8 (transport side): Gson serialization of the request body. */
+  @Benchmark
+  public String serializePayload() {
+    return GSON.toJson(payload);
+  }
+
+  /** Stage 8 (transport side): UTF-8 encoding straight into a reused byte buffer. */
+  @Benchmark
+  public byte[] encodePayload() {
+    return EncodedPayload.encode(payload);
+  }
+
+  /** Stage 8 for a repeated command: the payload's cached encoding. */
+  @Benchmark
+  public byte[] cachedPayloadJson() {
+    return ((EncodedPayload) payload).json();
+  }
+
+  /** Full request and response round trip through a canned transport. */
+  @Benchmark
+  public List<Map<String, Object>> defineQlocalEndToEnd() {
+    return session.mqscCommand("DEFINE", "QLOCAL", "APP.ORDERS", requestAttributes, null, null);
+  }
+
+  /**
+   * Stages 1 to 7 for a prepared command: adding the object name to the prepared payload. Names
+   * alternate so the per-name cache is always missed.
+   */
+  @Benchmark
+  public Map<String, Object> preparedPayloadForName() {
+    String name = (nameIndex++ & 1) == 0 ? "APP.ORDERS" : "APP.INVOICES";
+    return preparedDefine.forName(name).payload();
+  }
+
+  /** Full round trip of a prepared command, where only the name varies between executions. */
+  @Benchmark
+  public List<Map<String, Object>> preparedDefineQlocalEndToEnd() {
+    return preparedDefine.execute("APP.ORDERS");
+  }
+}
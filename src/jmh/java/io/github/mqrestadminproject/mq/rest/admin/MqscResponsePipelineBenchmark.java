@@ -0,0 +1,219 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import com.google.gson.Gson;
+import io.github.mqrestadminproject.mq.rest.admin.auth.BasicAuth;
+import io.github.mqrestadminproject.mq.rest.admin.mapping.AttributeMapper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the response half of {@link MqRestSession#mqscCommand} for {@code DISPLAY QUEUE(*)} and
+ * {@code DISPLAY CONN(*)} responses of increasing size: decoding, error detection, row building,
+ * and end to end.
+ *
+ * <p>Decoding is measured with the session's response decoder ({@code parseResponse}) and with
+ * Gson's generic decoding ({@code gsonParseResponse}) for comparison. Row building is measured both
+ * as the single pass the session uses ({@code fused*}) and as the staged pipeline it replaced
+ * ({@code staged*}), which copied every row while extracting, unwrapping, flattening, normalizing
+ * and mapping it. Run with {@code -prof gc} to compare the allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MqscResponsePipelineBenchmark {
+
+  private static final int HANDLES_PER_CONNECTION = 4;
+  private static final Gson GSON = new Gson();
+
+  /** Number of queues (and connections) in the canned responses. */
+  @Param({"100", "5000"})
+  public int rowCount;
+
+  private String queueResponse;
+  private Map<String, Object> queuePayload;
+  private Map<String, Object> connPayload;
+  private AttributeMapper attributeMapper;
+  private MqRestSession queueSession;
+  private MqRestSession unmappedQueueSession;
+  private MqRestSession connSession;
+
+  /** Builds the canned responses and their decoded payloads. */
+  @Setup
+  public void setUp() {
+    queueResponse = BenchmarkPayloads.displayQueueResponse(rowCount);
+    String connResponse = BenchmarkPayloads.displayConnResponse(rowCount, HANDLES_PER_CONNECTION);
+
+    queuePayload = MqRestSession.parseResponsePayload(queueResponse);
+    connPayload = MqRestSession.parseResponsePayload(connResponse);
+    attributeMapper = new AttributeMapper();
+
+    queueSession = session(queueResponse, true);
+    unmappedQueueSession = session(queueResponse, false);
+    connSession = session(connResponse, true);
+  }
+
+  /** Stage 10: JSON decoding of the response body. */
+  @Benchmark
+  public Map<String, Object> parseResponse() {
+    return MqRestSession.parseResponsePayload(queueResponse);
+  }
+
+  /** Stage 10 with Gson's generic {@code Object} decoding, which the session used before. */
+  @Benchmark
+  public Object gsonParseResponse() {
+    return GSON.fromJson(queueResponse, Object.class);
+  }
+
+  /** Stage 11: command error detection. */
+  @Benchmark
+  public Map<String, Object> raiseForCommandErrors() {
+    MqRestSession.raiseForCommandErrors(queuePayload, 200);
+    return queuePayload;
+  }
+
+  /** Stages 12 to 15 for {@code DISPLAY QUEUE(*)}, in the session's single pass. */
+  @Benchmark
+  public List<Map<String, Object>> fusedQueueRows() {
+    return MqRestSession.responseRows(
+        queuePayload, attributeMapper.responseRowMapper("queue", true), true);
+  }
+
+  /** Stages 12 to 15 for {@code DISPLAY QUEUE(*)}, as separate copying stages. */
+  @Benchmark
+  public List<Map<String, Object>> stagedQueueRows() {
+    return stagedRows(queuePayload, "queue");
+  }
+
+  /** Stages 12 to 15 for {@code DISPLAY CONN(*)}, including nested object flattening. */
+  @Benchmark
+  public List<Map<String, Object>> fusedConnRows() {
+    return MqRestSession.responseRows(
+        connPayload, attributeMapper.responseRowMapper("conn", true), true);
+  }
+
+  /** Stages 12 to 15 for {@code DISPLAY CONN(*)}, as separate copying stages. */
+  @Benchmark
+  public List<Map<String, Object>> stagedConnRows() {
+    return stagedRows(connPayload, "conn");
+  }
+
+  /** All stages for {@code DISPLAY QUEUE(*)} with attribute mapping enabled. */
+  @Benchmark
+  public List<Map<String, Object>> displayQueueEndToEnd() {
+    return queueSession.mqscCommand("DISPLAY", "QUEUE", "*", null, null, null);
+  }
+
+  /** All stages for {@code DISPLAY QUEUE(*)} with attribute mapping disabled. */
+  @Benchmark
+  public List<Map<String, Object>> displayQueueUnmappedEndToEnd() {
+    return unmappedQueueSession.mqscCommand("DISPLAY", "QUEUE", "*", null, null, null);
+  }
+
+  /** All stages for {@code DISPLAY CONN(*)}, including nested object flattening. */
+  @Benchmark
+  public List<Map<String, Object>> displayConnEndToEnd() {
+    return connSession.mqscCommand("DISPLAY", "CONN", "*", null, null, null);
+  }
+
+  /**
+   * {@code DISPLAY QUEUE(*)} through {@link MqRestSession#mqscCommandStream}, counting rows rather
+   * than collecting them, for comparison with {@link #displayQueueEndToEnd()}.
+   */
+  @Benchmark
+  public long displayQueueStreamEndToEnd() {
+    long[] rows = {0};
+    queueSession.mqscCommandStream("DISPLAY", "QUEUE", "*", null, null, null, row -> rows[0]++);
+    return rows[0];
+  }
+
+  /**
+   * {@code DISPLAY QUEUE(*)} through {@link MqRestSession#mqscCommandTable}, for comparison with
+   * {@link #displayQueueEndToEnd()}.
+   */
+  @Benchmark
+  public MqscTable displayQueueTableEndToEnd() {
+    return queueSession.mqscCommandTable("DISPLAY", "QUEUE", "*", null, null, null);
+  }
+
+  /**
+   * {@code DISPLAY CONN(*)} through {@link MqRestSession#mqscCommandTable}, for comparison with
+   * {@link #displayConnEndToEnd()}.
+   */
+  @Benchmark
+  public MqscTable displayConnTableEndToEnd() {
+    return connSession.mqscCommandTable("DISPLAY", "CONN", "*", null, null, null);
+  }
+
+  private static MqRestSession session(String responseBody, boolean mapAttributes) {
+    return new MqRestSession.Builder(
+            "https://localhost:9443/ibmmq/rest/v2", "QM1", new BasicAuth("admin", "passw0rd"))
+        .transport(new CannedResponseTransport(responseBody))
+        .mapAttributes(mapAttributes)
+        .build();
+  }
+
+  /** The response row pipeline before it was fused: each stage copies every row into a new map. */
+  @SuppressWarnings("unchecked")
+  private List<Map<String, Object>> stagedRows(Map<String, Object> payload, String qualifier) {
+    // 12. Extract commandResponse
+    List<Map<String, Object>> items = new ArrayList<>();
+    for (Object item : (List<Object>) payload.get("commandResponse")) {
+      items.add(new LinkedHashMap<>((Map<String, Object>) item));
+    }
+    // 13. Extract parameters
+    List<Map<String, Object>> parameterObjects = new ArrayList<>();
+    for (Map<String, Object> item : items) {
+      Object parameters = item.get("parameters");
+      parameterObjects.add(
+          parameters instanceof Map
+              ? new LinkedHashMap<>((Map<String, Object>) parameters)
+              : new LinkedHashMap<>());
+    }
+    // 14. Flatten nested objects
+    List<Map<String, Object>> flattened = new ArrayList<>();
+    for (Map<String, Object> item : parameterObjects) {
+      Object objects = item.get("objects");
+      if (!(objects instanceof List)) {
+        flattened.add(item);
+        continue;
+      }
+      Map<String, Object> shared = new LinkedHashMap<>(item);
+      shared.remove("objects");
+      for (Object nested : (List<Object>) objects) {
+        if (nested instanceof Map) {
+          Map<String, Object> merged = new LinkedHashMap<>(shared);
+          merged.putAll((Map<String, Object>) nested);
+          flattened.add(merged);
+        }
+      }
+    }
+    // 15. Normalize and map
+    List<Map<String, Object>> normalized = new ArrayList<>(flattened.size());
+    for (Map<String, Object> row : flattened) {
+      Map<String, Object> upperCased = new LinkedHashMap<>();
+      for (Map.Entry<String, Object> entry : row.entrySet()) {
+        upperCased.put(entry.getKey().toUpperCase(Locale.ROOT), entry.getValue());
+      }
+      normalized.add(upperCased);
+    }
+    return attributeMapper.mapResponseList(qualifier, normalized, true);
+  }
+}
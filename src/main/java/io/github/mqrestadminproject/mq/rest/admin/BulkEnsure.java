@@ -0,0 +1,246 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import io.github.mqrestadminproject.mq.rest.admin.ensure.EnsureAction;
+import io.github.mqrestadminproject.mq.rest.admin.ensure.EnsureResult;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestBulkEnsureException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestCommandException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestResponseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Ensures many objects of one type with a single wildcard DISPLAY.
+ *
+ * <p>The current state of every object is read with one {@code DISPLAY} of the longest generic name
+ * covering all the requested names, narrowed to the attributes being compared; names that share no
+ * prefix are read with one {@code DISPLAY} each instead of a DISPLAY of every object of the type.
+ * Only an MQ "not found" reply means an object is missing; any other DISPLAY failure is thrown
+ * before a change is made. Diffs are computed locally and only the required DEFINE and ALTER
+ * commands are sent, on the given executor when there is one or on the calling thread otherwise.
+ * Every command is sent even if another fails, and the failures are reported together.
+ */
+final class BulkEnsure {
+
+  /** MQRC_UNKNOWN_OBJECT_NAME and MQRCCF_CHANNEL_NOT_FOUND: no object matched the DISPLAY. */
+  private static final Set<Integer> NOT_FOUND_REASON_CODES = Set.of(2085, 3047);
+
+  private final MqRestSession session;
+  private final String displayQualifier;
+  private final String defineQualifier;
+  private final String alterQualifier;
+
+  BulkEnsure(
+      MqRestSession session,
+      String displayQualifier,
+      String defineQualifier,
+      String alterQualifier) {
+    this.session = session;
+    this.displayQualifier = displayQualifier;
+    this.defineQualifier = defineQualifier;
+    this.alterQualifier = alterQualifier;
+  }
+
+  /**
+   * Ensures every object has the desired attributes.
+   *
+   * @param objects the desired attributes keyed by object names
+   * @param executor runs the DEFINE and ALTER commands, or null to run them in order on the calling
+   *     thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails; it carries the results of the
+   *     objects that were ensured
+   */
+  Map<String, EnsureResult> ensure(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    if (objects.isEmpty()) {
+      return Map.of();
+    }
+
+    // 1. DISPLAY every object at once, requesting only the compared attributes
+    Map<String, Map<String, Object>> currentByName = displayCurrent(objects);
+
+    // 2. Diff locally and collect the commands that are actually needed
+    Map<String, EnsureResult> results = new LinkedHashMap<>();
+    Map<String, Runnable> commands = new LinkedHashMap<>();
+    for (Map.Entry<String, ? extends @Nullable Map<String, Object>> entry : objects.entrySet()) {
+      String name = entry.getKey();
+      Map<String, Object> requestParameters = entry.getValue();
+      Map<String, Object> current = currentByName.get(name);
+      if (current == null) {
+        commands.put(
+            name,
+            () ->
+                session.mqscCommand(
+                    "DEFINE", defineQualifier, name, requestParameters, null, null));
+        results.put(name, new EnsureResult(EnsureAction.CREATED, null));
+        continue;
+      }
+      Map<String, Object> changedParams =
+          requestParameters == null
+              ? Map.of()
+              : MqRestSession.changedAttributes(requestParameters, current);
+      if (changedParams.isEmpty()) {
+        results.put(name, new EnsureResult(EnsureAction.UNCHANGED, null));
+      } else {
+        commands.put(
+            name,
+            () -> session.mqscCommand("ALTER", alterQualifier, name, changedParams, null, null));
+        results.put(
+            name, new EnsureResult(EnsureAction.UPDATED, new ArrayList<>(changedParams.keySet())));
+      }
+    }
+
+    // 3. Apply the changes and report every command that failed
+    Map<String, MqRestException> failures = runCommands(commands, executor);
+    if (failures.isEmpty()) {
+      return Collections.unmodifiableMap(results);
+    }
+    Map<String, MqRestException> orderedFailures = new LinkedHashMap<>();
+    for (String name : objects.keySet()) {
+      MqRestException failure = failures.get(name);
+      if (failure != null) {
+        results.remove(name);
+        orderedFailures.put(name, failure);
+      }
+    }
+    throw new MqRestBulkEnsureException(
+        "Failed to ensure " + orderedFailures.keySet(), results, orderedFailures);
+  }
+
+  /** Reads the current state of the requested objects, keyed by object name. */
+  private Map<String, Map<String, Object>> displayCurrent(
+      Map<String, ? extends @Nullable Map<String, Object>> objects) {
+    String mappingQualifier = session.resolveMappingQualifier("DISPLAY", displayQualifier);
+    Set<String> attributeNames = new LinkedHashSet<>();
+    for (Map<String, Object> requestParameters : objects.values()) {
+      if (requestParameters != null) {
+        attributeNames.addAll(requestParameters.keySet());
+      }
+    }
+    List<String> responseParameters =
+        session.ensureResponseParameters(mappingQualifier, attributeNames);
+    String nameKey = session.responseAttributeName(mappingQualifier, displayQualifier);
+
+    String genericName = genericName(objects.keySet());
+    Collection<String> displayNames = genericName != null ? List.of(genericName) : objects.keySet();
+    Map<String, Map<String, Object>> currentByName = new LinkedHashMap<>();
+    for (String displayName : displayNames) {
+      for (Map<String, Object> item : display(displayName, responseParameters)) {
+        Map<String, Object> current = MqRestSession.extractParametersMap(item);
+        currentByName.put(objectName(current, nameKey), current);
+      }
+    }
+    return currentByName;
+  }
+
+  /** Sends one DISPLAY, returning no rows if MQ reports that no object matched. */
+  private List<Map<String, Object>> display(String name, List<String> responseParameters) {
+    try {
+      return session.mqscCommand("DISPLAY", displayQualifier, name, null, responseParameters, null);
+    } catch (MqRestCommandException e) {
+      if (isNotFound(e.getPayload())) {
+        return List.of();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Returns whether an error response says only that no object matched: every failed item, and
+   * there must be at least one, carries a not-found reason code.
+   */
+  static boolean isNotFound(Map<String, Object> payload) {
+    boolean notFound = false;
+    if (payload.get("commandResponse") instanceof List<?> items) {
+      for (Object item : items) {
+        if (item instanceof Map<?, ?> itemMap) {
+          Integer completionCode = MqRestSession.extractOptionalInt(itemMap.get("completionCode"));
+          Integer reasonCode = MqRestSession.extractOptionalInt(itemMap.get("reasonCode"));
+          if (MqRestSession.hasErrorCodes(completionCode, reasonCode)) {
+            if (reasonCode == null || !NOT_FOUND_REASON_CODES.contains(reasonCode)) {
+              return false;
+            }
+            notFound = true;
+          }
+        }
+      }
+    }
+    return notFound;
+  }
+
+  /** Returns the object name a DISPLAY row holds under {@code nameKey}. */
+  private String objectName(Map<String, Object> current, String nameKey) {
+    for (Map.Entry<String, Object> attribute : current.entrySet()) {
+      if (attribute.getKey().equalsIgnoreCase(nameKey)) {
+        return String.valueOf(attribute.getValue()).strip();
+      }
+    }
+    throw new MqRestResponseException(
+        "DISPLAY " + displayQualifier + " response has no " + nameKey + " attribute", null);
+  }
+
+  /**
+   * Returns the MQSC name that selects all the given names: the name itself for a single object,
+   * otherwise the longest common prefix followed by {@code *}, or null if the names share no prefix
+   * and would only be selected by every object of the type.
+   */
+  static @Nullable String genericName(Collection<String> names) {
+    Iterator<String> iterator = names.iterator();
+    String prefix = iterator.next();
+    if (!iterator.hasNext()) {
+      return prefix;
+    }
+    while (iterator.hasNext()) {
+      String name = iterator.next();
+      int length = 0;
+      int limit = Math.min(prefix.length(), name.length());
+      while (length < limit && prefix.charAt(length) == name.charAt(length)) {
+        length++;
+      }
+      prefix = prefix.substring(0, length);
+    }
+    return prefix.isEmpty() ? null : prefix + "*";
+  }
+
+  /**
+   * Runs every command, in parallel on {@code executor} or in order without one, and returns the MQ
+   * REST failure of each object whose command failed.
+   */
+  private static Map<String, MqRestException> runCommands(
+      Map<String, Runnable> commands, @Nullable Executor executor) {
+    Map<String, MqRestException> failures = new ConcurrentHashMap<>();
+    if (executor == null) {
+      commands.forEach((name, command) -> runCommand(name, command, failures));
+      return failures;
+    }
+    List<CompletableFuture<Void>> pending = new ArrayList<>(commands.size());
+    commands.forEach(
+        (name, command) ->
+            pending.add(
+                CompletableFuture.runAsync(() -> runCommand(name, command, failures), executor)));
+    // Wait for every command so none is still running when the outcome is reported
+    CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+    return failures;
+  }
+
+  private static void runCommand(
+      String name, Runnable command, Map<String, MqRestException> failures) {
+    try {
+      command.run();
+    } catch (MqRestException e) {
+      failures.put(name, e);
+    }
+  }
+}
@@ -0,0 +1,302 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import io.github.mqrestadminproject.mq.rest.admin.MqRestSession.Clock;
+import io.github.mqrestadminproject.mq.rest.admin.MqRestSession.ObjectTypeConfig;
+import io.github.mqrestadminproject.mq.rest.admin.MqRestSession.PreparedCommand;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestBulkSyncException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestCommandException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTimeoutException;
+import io.github.mqrestadminproject.mq.rest.admin.sync.SyncConfig;
+import io.github.mqrestadminproject.mq.rest.admin.sync.SyncOperation;
+import io.github.mqrestadminproject.mq.rest.admin.sync.SyncResult;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Starts, stops or restarts many objects of one type and polls their status together.
+ *
+ * <p>The START or STOP commands are sent concurrently through the session's asynchronous path. Each
+ * poll round then sends one status DISPLAY for the longest generic name covering the objects, or
+ * one per object if their names share no prefix, groups the rows by object name, and resolves every
+ * pending object whose rows satisfy the same test the single-object methods apply. Failures are
+ * collected per object and reported together in an {@link MqRestBulkSyncException}.
+ */
+final class BulkSync {
+
+  private final MqRestSession session;
+  private final ObjectTypeConfig config;
+  private final SyncConfig syncConfig;
+
+  BulkSync(MqRestSession session, ObjectTypeConfig config, @Nullable SyncConfig syncConfig) {
+    this.session = session;
+    this.config = config;
+    this.syncConfig = syncConfig != null ? syncConfig : new SyncConfig();
+  }
+
+  /**
+   * Starts or stops many objects and polls their status together.
+   *
+   * @throws MqRestBulkSyncException if any object was rejected, timed out or was left pending by an
+   *     interrupt; it carries the results of the objects that did complete
+   */
+  Map<String, SyncResult> run(Collection<String> names, boolean start) {
+    Map<String, MqRestException> failures = new LinkedHashMap<>();
+    Map<String, SyncResult> resolved = phase(new LinkedHashSet<>(names), start, failures);
+    return outcome(names, resolved, failures, start ? "start" : "stop");
+  }
+
+  /**
+   * Stops many objects with polling, then starts the ones that stopped with polling.
+   *
+   * @throws MqRestBulkSyncException if any object failed either phase; it carries the results of
+   *     the objects that were restarted
+   */
+  Map<String, SyncResult> restart(Collection<String> names) {
+    Map<String, MqRestException> failures = new LinkedHashMap<>();
+    Map<String, SyncResult> stopResults = phase(new LinkedHashSet<>(names), false, failures);
+    Map<String, SyncResult> results = new LinkedHashMap<>();
+    if (Thread.currentThread().isInterrupted()) {
+      // Do not start anything once the caller has asked to stop waiting
+      stopResults.forEach(
+          (name, stopResult) ->
+              failures.put(
+                  name,
+                  new MqRestTimeoutException(
+                      "Interrupted before start of " + name,
+                      name,
+                      "START",
+                      stopResult.elapsedSeconds())));
+    } else {
+      Map<String, SyncResult> startResults = phase(stopResults.keySet(), true, failures);
+      startResults.forEach(
+          (name, startResult) ->
+              results.put(name, MqRestSession.combineRestart(stopResults.get(name), startResult)));
+    }
+    return outcome(names, results, failures, "restart");
+  }
+
+  /**
+   * Runs one phase of a bulk sync and returns the results of the objects that reached the target
+   * state.
+   *
+   * <p>Every START or STOP is sent first, concurrently; an object whose command fails gets that
+   * failure and is not polled. An object's result records the rounds and time until it resolved.
+   * Objects still pending at the timeout, or when the poll is interrupted, get an {@link
+   * MqRestTimeoutException}.
+   */
+  private Map<String, SyncResult> phase(
+      Set<String> names, boolean start, Map<String, MqRestException> failures) {
+    String operation = start ? "START" : "STOP";
+    String action = start ? "start" : "stop";
+    Set<String> pending =
+        issueCommands(
+            names, operation, start ? config.startQualifier() : config.stopQualifier(), failures);
+
+    Map<String, SyncResult> resolved = new LinkedHashMap<>();
+    if (pending.isEmpty()) {
+      return resolved;
+    }
+    Map<String, PreparedCommand> statusCommands = statusCommands(pending);
+    Clock pollClock = session.clock();
+    double startSeconds = pollClock.nowSeconds();
+    int polls = 0;
+    while (true) {
+      try {
+        pollClock.sleep(
+            syncConfig.delayBeforePollSeconds(
+                polls,
+                ThreadLocalRandom.current().nextDouble(),
+                pollClock.nowSeconds() - startSeconds));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failPending(
+            pending,
+            failures,
+            "Interrupted while polling for " + action + " of ",
+            operation,
+            pollClock.nowSeconds() - startSeconds,
+            e);
+        return resolved;
+      }
+
+      List<Map<String, Object>> statusRows = pollStatus(statusCommands, pending);
+      polls++;
+
+      double elapsedSeconds = pollClock.nowSeconds() - startSeconds;
+      SyncOperation outcome = start ? SyncOperation.STARTED : SyncOperation.STOPPED;
+      Map<String, List<Map<String, Object>>> rowsByName = groupByName(statusRows);
+      for (Iterator<String> iterator = pending.iterator(); iterator.hasNext(); ) {
+        String name = iterator.next();
+        if (reachedTarget(rowsByName.getOrDefault(name, List.of()), start)) {
+          resolved.put(name, new SyncResult(outcome, polls, elapsedSeconds));
+          iterator.remove();
+        }
+      }
+      if (pending.isEmpty()) {
+        return resolved;
+      }
+
+      if (elapsedSeconds >= syncConfig.timeoutSeconds()) {
+        failPending(
+            pending,
+            failures,
+            "Timed out waiting for " + action + " of ",
+            operation,
+            elapsedSeconds,
+            null);
+        return resolved;
+      }
+    }
+  }
+
+  /**
+   * Prepares the status DISPLAY for the objects: one for their longest generic name, keyed by that
+   * name, or one per object if they share no prefix.
+   */
+  private Map<String, PreparedCommand> statusCommands(Set<String> names) {
+    String genericName = BulkEnsure.genericName(names);
+    Map<String, PreparedCommand> statusCommands = new LinkedHashMap<>();
+    for (String name : genericName != null ? List.of(genericName) : names) {
+      statusCommands.put(
+          name,
+          session.prepareCommand(
+              "DISPLAY", config.statusQualifier(), name, null, List.of("all"), null));
+    }
+    return statusCommands;
+  }
+
+  /**
+   * Sends one poll round: the generic status DISPLAY, or the DISPLAY of each object still pending.
+   * A failed DISPLAY counts as no status rows.
+   */
+  private List<Map<String, Object>> pollStatus(
+      Map<String, PreparedCommand> statusCommands, Set<String> pending) {
+    List<Map<String, Object>> statusRows = new ArrayList<>();
+    statusCommands.forEach(
+        (name, statusCommand) -> {
+          // A single command covers every object; otherwise each command is for one object
+          if (statusCommands.size() == 1 || pending.contains(name)) {
+            statusRows.addAll(statusRows(statusCommand));
+          }
+        });
+    return statusRows;
+  }
+
+  private List<Map<String, Object>> statusRows(PreparedCommand statusCommand) {
+    try {
+      return session.executeUncached(statusCommand);
+    } catch (MqRestCommandException e) {
+      return List.of();
+    }
+  }
+
+  /**
+   * Sends a START or STOP for every object at once and returns the names whose command was
+   * accepted. The failure of every rejected command is recorded instead.
+   */
+  private Set<String> issueCommands(
+      Set<String> names,
+      String operation,
+      String qualifier,
+      Map<String, MqRestException> failures) {
+    Map<String, CompletableFuture<List<Map<String, Object>>>> sent = new LinkedHashMap<>();
+    for (String name : names) {
+      sent.put(name, session.mqscCommandAsync(operation, qualifier, name, null, null, null));
+    }
+    Set<String> accepted = new LinkedHashSet<>();
+    sent.forEach(
+        (name, reply) -> {
+          try {
+            reply.join();
+            accepted.add(name);
+          } catch (CompletionException e) {
+            if (!(e.getCause() instanceof MqRestException failure)) {
+              throw e;
+            }
+            failures.put(name, failure);
+          }
+        });
+    return accepted;
+  }
+
+  /** Applies the test the single-object methods use to one object's status rows. */
+  private boolean reachedTarget(List<Map<String, Object>> rows, boolean start) {
+    if (start) {
+      return MqRestSession.hasStatus(rows, config.statusKeys(), MqRestSession.RUNNING_VALUES);
+    }
+    return config.emptyMeansStopped() && rows.isEmpty()
+        || MqRestSession.hasStatus(rows, config.statusKeys(), MqRestSession.STOPPED_VALUES);
+  }
+
+  /** Records a timeout failure for every object still pending. */
+  private static void failPending(
+      Set<String> pending,
+      Map<String, MqRestException> failures,
+      String messagePrefix,
+      String operation,
+      double elapsedSeconds,
+      @Nullable InterruptedException cause) {
+    for (String name : pending) {
+      failures.put(
+          name,
+          cause != null
+              ? new MqRestTimeoutException(
+                  messagePrefix + name, name, operation, elapsedSeconds, cause)
+              : new MqRestTimeoutException(messagePrefix + name, name, operation, elapsedSeconds));
+    }
+  }
+
+  /**
+   * Orders bulk results by the given names and returns them, or throws if any object failed.
+   *
+   * @throws MqRestBulkSyncException if failures is not empty
+   */
+  private static Map<String, SyncResult> outcome(
+      Collection<String> names,
+      Map<String, SyncResult> resolved,
+      Map<String, MqRestException> failures,
+      String action) {
+    Map<String, SyncResult> results = new LinkedHashMap<>();
+    Map<String, MqRestException> orderedFailures = new LinkedHashMap<>();
+    for (String name : names) {
+      SyncResult result = resolved.get(name);
+      if (result != null) {
+        results.put(name, result);
+      }
+      MqRestException failure = failures.get(name);
+      if (failure != null) {
+        orderedFailures.put(name, failure);
+      }
+    }
+    if (orderedFailures.isEmpty()) {
+      return results;
+    }
+    throw new MqRestBulkSyncException(
+        "Failed to " + action + " " + orderedFailures.keySet(), results, orderedFailures);
+  }
+
+  private Map<String, List<Map<String, Object>>> groupByName(List<Map<String, Object>> rows) {
+    Map<String, List<Map<String, Object>>> rowsByName = new LinkedHashMap<>();
+    for (Map<String, Object> row : rows) {
+      Map<String, Object> parameters = MqRestSession.extractParametersMap(row);
+      for (String key : config.nameKeys()) {
+        if (parameters.get(key) instanceof String name) {
+          rowsByName.computeIfAbsent(name.strip(), unused -> new ArrayList<>()).add(row);
+          break;
+        }
+      }
+    }
+    return rowsByName;
+  }
+}
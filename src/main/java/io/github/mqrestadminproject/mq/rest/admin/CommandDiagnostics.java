@@ -0,0 +1,31 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import java.util.Collections;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Diagnostic state of one command: the request sent to the MQ REST API and the response it got.
+ *
+ * <p>Handed to the diagnostics consumer of {@link MqRestSession#mqscCommandAsync(String, String,
+ * String, Map, java.util.List, String, java.util.function.Consumer)} once the command completes.
+ * Fields are null for the steps the command did not reach.
+ *
+ * @param commandPayload the command payload sent (unmodifiable), or null if it was never built
+ * @param httpStatus the HTTP status code, or null if no response was received
+ * @param responseText the raw response body, or null if no response was received
+ * @param responsePayload the parsed response payload (unmodifiable), or null if the response was
+ *     not parsed
+ */
+public record CommandDiagnostics(
+    @Nullable Map<String, Object> commandPayload,
+    @Nullable Integer httpStatus,
+    @Nullable String responseText,
+    @Nullable Map<String, Object> responsePayload) {
+
+  /** Wraps the payloads as unmodifiable maps; parsed payloads may hold null values. */
+  public CommandDiagnostics {
+    commandPayload = commandPayload != null ? Collections.unmodifiableMap(commandPayload) : null;
+    responsePayload = responsePayload != null ? Collections.unmodifiableMap(responsePayload) : null;
+  }
+}
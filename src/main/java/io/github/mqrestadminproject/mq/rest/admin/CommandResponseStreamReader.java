@@ -0,0 +1,94 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestResponseException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Incremental reader for {@code runCommandJSON} response bodies.
+ *
+ * <p>Decodes the body bytes with a {@link ResponseJsonDecoder} and hands the {@code parameters}
+ * object of each successful {@code commandResponse} item to a consumer as soon as that item has
+ * been read, so only one item is held in memory at a time. Items that report a non-zero completion
+ * or reason code are not passed on; they are retained, together with every top-level field other
+ * than {@code commandResponse}, in the summary payload returned at the end of the stream. That
+ * summary has the same shape as a full response payload, so it can be checked with {@link
+ * MqRestSession#raiseForCommandErrors}.
+ */
+final class CommandResponseStreamReader {
+
+  private static final String COMMAND_RESPONSE = "commandResponse";
+
+  private CommandResponseStreamReader() {}
+
+  /**
+   * Reads a response body to the end.
+   *
+   * @param body the response body stream, closed when this method returns
+   * @param parametersConsumer receives the parameters of each successful item, in order
+   * @return the summary payload: top-level fields plus any failed {@code commandResponse} items
+   * @throws MqRestResponseException if the body is not a valid response object
+   * @throws IOException if reading the stream fails
+   */
+  static Map<String, Object> read(
+      InputStream body, Consumer<Map<String, Object>> parametersConsumer) throws IOException {
+    try (ResponseJsonDecoder reader = new ResponseJsonDecoder(body)) {
+      if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+        throw new MqRestResponseException("Response is not a JSON object", null);
+      }
+      Map<String, Object> summary = new LinkedHashMap<>();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String name = reader.nextName();
+        if (COMMAND_RESPONSE.equals(name) && reader.peek() != JsonToken.NULL) {
+          summary.put(COMMAND_RESPONSE, readCommandResponse(reader, parametersConsumer));
+        } else {
+          summary.put(name, reader.readValue());
+        }
+      }
+      reader.endObject();
+      return summary;
+    } catch (MalformedJsonException e) {
+      throw new MqRestResponseException("Invalid JSON in response", null, e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Object> readCommandResponse(
+      ResponseJsonDecoder reader, Consumer<Map<String, Object>> parametersConsumer)
+      throws IOException {
+    if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+      throw new MqRestResponseException("commandResponse is not a list", null);
+    }
+    List<Object> failedItems = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+        throw new MqRestResponseException("commandResponse item is not an object", null);
+      }
+      Map<String, Object> item = (Map<String, Object>) reader.readValue();
+      if (isFailed(item)) {
+        failedItems.add(item);
+      } else {
+        Object parameters = item.get("parameters");
+        parametersConsumer.accept(
+            parameters instanceof Map ? (Map<String, Object>) parameters : new LinkedHashMap<>());
+      }
+    }
+    reader.endArray();
+    return failedItems;
+  }
+
+  private static boolean isFailed(Map<String, Object> item) {
+    return MqRestSession.hasErrorCodes(
+        MqRestSession.extractOptionalInt(item.get("completionCode")),
+        MqRestSession.extractOptionalInt(item.get("reasonCode")));
+  }
+}
@@ -0,0 +1,136 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import io.github.mqrestadminproject.mq.rest.admin.MqRestSession.Clock;
+import io.github.mqrestadminproject.mq.rest.admin.MqRestSession.PreparedCommand;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The DISPLAY side of a session: the optional response cache and the coalescing of identical
+ * DISPLAY commands that are in flight at the same time.
+ *
+ * <p>Only raw {@link TransportResponse}s are cached or shared. Every caller parses and maps the
+ * response itself, so each gets its own rows, diagnostic state and exceptions.
+ */
+final class DisplayResponses {
+
+  private final @Nullable ResponseCache cache;
+  private final boolean coalesce;
+  private final Map<Map<String, Object>, CompletableFuture<SharedDisplay>> inFlight =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Outcome of a coalesced DISPLAY as shared with waiting callers: the response, the MQ REST
+   * failure, or neither if the request failed unexpectedly.
+   */
+  private record SharedDisplay(
+      @Nullable TransportResponse response, @Nullable MqRestException failure) {}
+
+  DisplayResponses(@Nullable ResponseCacheConfig cacheConfig, boolean coalesce) {
+    this.cache = cacheConfig != null ? new ResponseCache(cacheConfig) : null;
+    this.coalesce = coalesce;
+  }
+
+  static boolean isDisplay(PreparedCommand prepared) {
+    return "DISPLAY".equals(prepared.payload().get("command"));
+  }
+
+  /** Evicts every cached response. */
+  void clear() {
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+
+  /** Evicts cached DISPLAY responses that a non-DISPLAY command may have made stale. */
+  void invalidate(PreparedCommand prepared) {
+    ResponseCache current = cache;
+    if (current != null && !isDisplay(prepared)) {
+      current.invalidate(prepared.mappingQualifier(), (String) prepared.payload().get("name"));
+    }
+  }
+
+  /**
+   * Returns the processed response of a DISPLAY, from the cache if it holds a live entry and
+   * otherwise from {@code sender}. A response is only cached once {@code processor} has accepted
+   * it, so command errors are never cached.
+   *
+   * @param prepared the DISPLAY command
+   * @param clock the session clock, for cache expiry
+   * @param sender sends the command to the queue manager
+   * @param processor parses and maps a response
+   * @return the processed rows
+   */
+  List<Map<String, Object>> fetch(
+      PreparedCommand prepared,
+      Clock clock,
+      Function<PreparedCommand, TransportResponse> sender,
+      Function<TransportResponse, List<Map<String, Object>>> processor) {
+    ResponseCache current = cache;
+    if (current == null || !current.isCached(prepared.mappingQualifier())) {
+      return processor.apply(send(prepared, sender));
+    }
+
+    double requestSeconds = clock.nowSeconds();
+    TransportResponse cached = current.get(prepared.payload(), requestSeconds);
+    if (cached != null) {
+      return processor.apply(cached);
+    }
+    long generation = current.generation();
+    TransportResponse response = send(prepared, sender);
+    List<Map<String, Object>> rows = processor.apply(response);
+    current.put(
+        prepared.payload(), prepared.mappingQualifier(), response, generation, requestSeconds);
+    return rows;
+  }
+
+  /**
+   * Sends a DISPLAY, sharing the transport call of an identical DISPLAY already in flight when
+   * coalescing is enabled. If the shared call fails with an {@link MqRestException}, every waiting
+   * caller sees that exception; any other failure is not shared, and each waiting caller sends its
+   * own request instead.
+   */
+  private TransportResponse send(
+      PreparedCommand prepared, Function<PreparedCommand, TransportResponse> sender) {
+    if (!coalesce) {
+      return sender.apply(prepared);
+    }
+    Map<String, Object> key = prepared.payload();
+    CompletableFuture<SharedDisplay> leader = new CompletableFuture<>();
+    CompletableFuture<SharedDisplay> running = inFlight.putIfAbsent(key, leader);
+    if (running != null) {
+      return join(running, prepared, sender);
+    }
+    SharedDisplay shared = new SharedDisplay(null, null);
+    try {
+      TransportResponse response = sender.apply(prepared);
+      shared = new SharedDisplay(response, null);
+      return response;
+    } catch (MqRestException e) {
+      shared = new SharedDisplay(null, e);
+      throw e;
+    } finally {
+      inFlight.remove(key, leader);
+      leader.complete(shared);
+    }
+  }
+
+  private static TransportResponse join(
+      CompletableFuture<SharedDisplay> running,
+      PreparedCommand prepared,
+      Function<PreparedCommand, TransportResponse> sender) {
+    SharedDisplay shared = running.join();
+    MqRestException failure = shared.failure();
+    if (failure != null) {
+      // Rethrow the leader's failure, as a caller of a separate request would see it
+      throw failure;
+    }
+    TransportResponse response = shared.response();
+    return response != null ? response : sender.apply(prepared);
+  }
+}
@@ -0,0 +1,102 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import com.google.gson.Gson;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable request payload that encodes itself to JSON once and keeps the bytes.
+ *
+ * <p>The session builds one of these for every command. {@link HttpClientTransport} sends the
+ * cached bytes directly, so a command that is executed repeatedly, such as the status DISPLAY of a
+ * sync poll, is serialized only the first time. Other transports see an ordinary unmodifiable map.
+ *
+ * <p>Encoding writes UTF-8 straight into a per-thread reusable buffer rather than building an
+ * intermediate {@code String}.
+ */
+final class EncodedPayload extends AbstractMap<String, Object> {
+
+  private static final Gson GSON = new Gson();
+
+  /** Buffers that grew beyond this size are dropped after use rather than kept per thread. */
+  private static final int MAX_RETAINED_BUFFER_BYTES = 64 * 1024;
+
+  private static final ThreadLocal<ByteArrayOutputStream> BUFFER =
+      ThreadLocal.withInitial(() -> new ByteArrayOutputStream(1024));
+
+  private final Map<String, Object> payload;
+  private final AtomicReference<byte @Nullable []> json = new AtomicReference<>();
+
+  /**
+   * Wraps a payload map. The map must not be modified afterwards.
+   *
+   * @param payload the JSON-serializable payload
+   */
+  EncodedPayload(Map<String, Object> payload) {
+    super();
+    this.payload = Collections.unmodifiableMap(payload);
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    return payload.entrySet();
+  }
+
+  @Override
+  public @Nullable Object get(Object key) {
+    return payload.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return payload.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return payload.size();
+  }
+
+  /**
+   * Returns the UTF-8 JSON encoding, computing it on first use. The returned array is shared and
+   * must not be modified.
+   *
+   * @return the encoded payload
+   */
+  byte[] json() {
+    byte[] cached = json.get();
+    if (cached == null) {
+      cached = encode(payload);
+      json.set(cached);
+    }
+    return cached;
+  }
+
+  /**
+   * Encodes a payload map as UTF-8 JSON.
+   *
+   * @param payload the JSON-serializable payload
+   * @return the encoded bytes
+   */
+  static byte[] encode(Map<String, Object> payload) {
+    ByteArrayOutputStream buffer = BUFFER.get();
+    buffer.reset();
+    // PrintWriter has no checked exceptions; ByteArrayOutputStream never fails anyway
+    PrintWriter writer = new PrintWriter(new OutputStreamWriter(buffer, StandardCharsets.UTF_8));
+    GSON.toJson(payload, writer);
+    writer.flush();
+    byte[] bytes = buffer.toByteArray();
+    if (buffer.size() > MAX_RETAINED_BUFFER_BYTES) {
+      BUFFER.remove();
+    }
+    return bytes;
+  }
+}
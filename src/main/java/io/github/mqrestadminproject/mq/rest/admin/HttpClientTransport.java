@@ -1,8 +1,8 @@
 package io.github.mqrestadminproject.mq.rest.admin;
 
-import com.google.gson.Gson;
 import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTransportException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpHeaders;
@@ -14,6 +14,11 @@ import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
@@ -25,12 +30,20 @@ import org.jspecify.annotations.Nullable;
  * <p>Mirrors pymqrest's {@code RequestsTransport}. Uses {@link java.net.http.HttpClient} for HTTP
  * communication and Gson for JSON serialization, requiring zero additional runtime dependencies
  * beyond Gson.
+ *
+ * <p>Each {@link HttpClient} keeps its own pool of open connections, so TLS handshakes are only
+ * saved when requests go through the same client. Share one transport between sessions, or build
+ * transports around one shared client with {@link Builder#httpClient}, to reuse connections across
+ * sessions. Use {@link Builder} to choose the client's executor, HTTP version and connect timeout.
+ *
+ * <p>The transport holds no monitors while a request is in flight, so blocking calls made from
+ * virtual threads do not pin their carrier thread.
  */
 public final class HttpClientTransport implements MqRestTransport {
 
-  private final Gson gson = new Gson();
   private final HttpClient client;
-  private @Nullable HttpClient nonVerifyingClient;
+  private final ReentrantLock nonVerifyingClientLock = new ReentrantLock();
+  private final AtomicReference<@Nullable HttpClient> nonVerifyingClient = new AtomicReference<>();
 
   /** Creates a transport with a default TLS-verifying {@link HttpClient}. */
   public HttpClientTransport() {
@@ -43,8 +56,11 @@ public final class HttpClientTransport implements MqRestTransport {
    * @param sslContext the SSL context to use
    */
   public HttpClientTransport(SSLContext sslContext) {
-    Objects.requireNonNull(sslContext, "sslContext");
-    this.client = HttpClient.newBuilder().sslContext(sslContext).build();
+    this(new Builder().sslContext(sslContext));
+  }
+
+  private HttpClientTransport(Builder builder) {
+    this.client = builder.httpClient != null ? builder.httpClient : builder.newHttpClient();
   }
 
   /**
@@ -65,23 +81,69 @@ public final class HttpClientTransport implements MqRestTransport {
       @Nullable Duration timeout,
       boolean verifyTls) {
     HttpClient activeClient = verifyTls ? client : getNonVerifyingClient();
-    String json = gson.toJson(payload);
+    HttpRequest request = buildRequest(url, payload, headers, timeout);
 
-    HttpRequest.Builder requestBuilder =
-        HttpRequest.newBuilder()
-            .uri(URI.create(url))
-            .header("Content-Type", "application/json")
-            .POST(HttpRequest.BodyPublishers.ofString(json));
+    HttpResponse<String> response;
+    try {
+      response = activeClient.send(request, HttpResponse.BodyHandlers.ofString());
+    } catch (IOException e) {
+      throw new MqRestTransportException("HTTP request failed", url, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MqRestTransportException("HTTP request interrupted", url, e);
+    }
 
-    headers.forEach(requestBuilder::header);
+    return toTransportResponse(response);
+  }
 
-    if (timeout != null) {
-      requestBuilder.timeout(timeout);
-    }
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Uses {@link HttpClient#sendAsync}, so no thread is blocked while the request is in flight.
+   * The returned future completes on the {@link HttpClient}'s executor.
+   */
+  @Override
+  @SuppressWarnings("PMD.CloseResource") // HttpClient is managed by this transport, not disposable
+  public CompletableFuture<TransportResponse> postJsonAsync(
+      String url,
+      Map<String, Object> payload,
+      Map<String, String> headers,
+      @Nullable Duration timeout,
+      boolean verifyTls) {
+    HttpClient activeClient = verifyTls ? client : getNonVerifyingClient();
+    HttpRequest request = buildRequest(url, payload, headers, timeout);
 
-    HttpResponse<String> response;
+    return activeClient
+        .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        .handle(
+            (response, error) -> {
+              if (error != null) {
+                throw new MqRestTransportException("HTTP request failed", url, unwrap(error));
+              }
+              return toTransportResponse(response);
+            });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Uses {@link HttpResponse.BodyHandlers#ofInputStream()}, so the body is read from the
+   * connection as the caller consumes it rather than buffered in memory.
+   */
+  @Override
+  @SuppressWarnings("PMD.CloseResource") // HttpClient is managed by this transport, not disposable
+  public TransportStreamResponse postJsonStream(
+      String url,
+      Map<String, Object> payload,
+      Map<String, String> headers,
+      @Nullable Duration timeout,
+      boolean verifyTls) {
+    HttpClient activeClient = verifyTls ? client : getNonVerifyingClient();
+    HttpRequest request = buildRequest(url, payload, headers, timeout);
+
+    HttpResponse<InputStream> response;
     try {
-      response = activeClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
+      response = activeClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
     } catch (IOException e) {
       throw new MqRestTransportException("HTTP request failed", url, e);
     } catch (InterruptedException e) {
@@ -89,16 +151,102 @@ public final class HttpClientTransport implements MqRestTransport {
       throw new MqRestTransportException("HTTP request interrupted", url, e);
     }
 
+    return new TransportStreamResponse(
+        response.statusCode(), response.body(), flattenHeaders(response.headers()));
+  }
+
+  private HttpRequest buildRequest(
+      String url,
+      Map<String, Object> payload,
+      Map<String, String> headers,
+      @Nullable Duration timeout) {
+    // Payloads built by the session carry their encoding; others are encoded straight to bytes
+    byte[] json =
+        payload instanceof EncodedPayload
+            ? ((EncodedPayload) payload).json()
+            : EncodedPayload.encode(payload);
+
+    HttpRequest.Builder requestBuilder =
+        HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(json));
+
+    // Session headers are pre-flattened once; other maps are copied entry by entry
+    if (headers instanceof RequestHeaders) {
+      String[] nameValuePairs = ((RequestHeaders) headers).nameValuePairs();
+      if (nameValuePairs.length > 0) {
+        requestBuilder.headers(nameValuePairs);
+      }
+    } else {
+      headers.forEach(requestBuilder::header);
+    }
+
+    if (timeout != null) {
+      requestBuilder.timeout(timeout);
+    }
+    return requestBuilder.build();
+  }
+
+  private static TransportResponse toTransportResponse(HttpResponse<String> response) {
     return new TransportResponse(
         response.statusCode(), response.body(), flattenHeaders(response.headers()));
   }
 
-  private synchronized HttpClient getNonVerifyingClient() {
-    if (nonVerifyingClient == null) {
-      SSLContext sslContext = createSslContext("TLS");
-      nonVerifyingClient = HttpClient.newBuilder().sslContext(sslContext).build();
+  /**
+   * Strips the {@link CompletionException} wrapper that {@link CompletableFuture} adds around
+   * failures from dependent stages.
+   *
+   * @param error the failure reported by the future
+   * @return the underlying cause
+   */
+  static Throwable unwrap(Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null) {
+      return error.getCause();
+    }
+    return error;
+  }
+
+  /** Returns the TLS-verifying client. Package-private for testing. */
+  HttpClient client() {
+    return client;
+  }
+
+  HttpClient getNonVerifyingClient() {
+    HttpClient existing = nonVerifyingClient.get();
+    if (existing != null) {
+      return existing;
+    }
+    nonVerifyingClientLock.lock();
+    try {
+      existing = nonVerifyingClient.get();
+      if (existing == null) {
+        existing = nonVerifyingCopyOf(client);
+        nonVerifyingClient.set(existing);
+      }
+      return existing;
+    } finally {
+      nonVerifyingClientLock.unlock();
     }
-    return nonVerifyingClient;
+  }
+
+  /**
+   * Creates a client that trusts all certificates but otherwise matches the given client's
+   * executor, HTTP version, connect timeout, redirect policy and proxy.
+   *
+   * @param client the client whose settings to copy
+   * @return the non-verifying client
+   */
+  static HttpClient nonVerifyingCopyOf(HttpClient client) {
+    HttpClient.Builder builder =
+        HttpClient.newBuilder()
+            .sslContext(createSslContext("TLS"))
+            .version(client.version())
+            .followRedirects(client.followRedirects());
+    client.executor().ifPresent(builder::executor);
+    client.connectTimeout().ifPresent(builder::connectTimeout);
+    client.proxy().ifPresent(builder::proxy);
+    return builder.build();
   }
 
   /**
@@ -132,6 +280,110 @@ public final class HttpClientTransport implements MqRestTransport {
     return result;
   }
 
+  /**
+   * Builder for {@link HttpClientTransport}.
+   *
+   * <p>Either pass an existing {@link HttpClient} to {@link #httpClient}, or configure the client
+   * the builder creates; the two cannot be combined. When TLS verification is disabled for a
+   * request, the transport uses a second, trust-all client that copies the first client's executor,
+   * HTTP version, connect timeout, redirect policy and proxy.
+   *
+   * <pre>{@code
+   * HttpClientTransport transport = new HttpClientTransport.Builder()
+   *     .executor(Executors.newVirtualThreadPerTaskExecutor()) // Java 21 or later
+   *     .version(HttpClient.Version.HTTP_1_1)
+   *     .connectTimeout(Duration.ofSeconds(5))
+   *     .build();
+   * }</pre>
+   *
+   * <p>The JDK client pools connections per client and keeps idle connections open for a time set
+   * by the {@code jdk.httpclient.keepalive.timeout} system property (default 1200 seconds); the
+   * pool size is capped by {@code jdk.httpclient.connectionPoolSize}. Both are JVM-wide settings,
+   * so the builder does not change them.
+   */
+  public static final class Builder {
+
+    private @Nullable HttpClient httpClient;
+    private @Nullable SSLContext sslContext;
+    private @Nullable Executor executor;
+    private HttpClient.@Nullable Version version;
+    private @Nullable Duration connectTimeout;
+
+    /**
+     * Uses an existing client, so that several transports share its connections and executor.
+     * Cannot be combined with the other settings.
+     */
+    public Builder httpClient(HttpClient httpClient) {
+      this.httpClient = Objects.requireNonNull(httpClient, "httpClient");
+      return this;
+    }
+
+    /** Sets the SSL context, for example to present a client certificate for mutual TLS. */
+    public Builder sslContext(SSLContext sslContext) {
+      this.sslContext = Objects.requireNonNull(sslContext, "sslContext");
+      return this;
+    }
+
+    /**
+     * Sets the executor the client runs asynchronous tasks and response handling on. Defaults to
+     * the client's own cached thread pool. On Java 21 or later, pass {@code
+     * Executors.newVirtualThreadPerTaskExecutor()} to run them on virtual threads; the caller owns
+     * the executor and shuts it down.
+     */
+    public Builder executor(Executor executor) {
+      this.executor = Objects.requireNonNull(executor, "executor");
+      return this;
+    }
+
+    /**
+     * Sets the preferred HTTP version. Defaults to {@link HttpClient.Version#HTTP_2}, which falls
+     * back to HTTP/1.1 when the server does not support HTTP/2.
+     */
+    public Builder version(HttpClient.Version version) {
+      this.version = Objects.requireNonNull(version, "version");
+      return this;
+    }
+
+    /** Sets the time allowed to establish a connection. Defaults to no limit. */
+    public Builder connectTimeout(Duration connectTimeout) {
+      this.connectTimeout = Objects.requireNonNull(connectTimeout, "connectTimeout");
+      return this;
+    }
+
+    /**
+     * Builds the transport.
+     *
+     * @return the transport
+     * @throws IllegalStateException if {@link #httpClient} is combined with other settings
+     * @throws IllegalArgumentException if the connect timeout is not positive
+     */
+    public HttpClientTransport build() {
+      boolean configured =
+          sslContext != null || executor != null || version != null || connectTimeout != null;
+      if (httpClient != null && configured) {
+        throw new IllegalStateException("httpClient cannot be combined with other client settings");
+      }
+      return new HttpClientTransport(this);
+    }
+
+    private HttpClient newHttpClient() {
+      HttpClient.Builder builder = HttpClient.newBuilder();
+      if (sslContext != null) {
+        builder.sslContext(sslContext);
+      }
+      if (executor != null) {
+        builder.executor(executor);
+      }
+      if (version != null) {
+        builder.version(version);
+      }
+      if (connectTimeout != null) {
+        builder.connectTimeout(connectTimeout);
+      }
+      return builder.build();
+    }
+  }
+
   /**
    * An {@link X509TrustManager} that accepts all certificates. Used when TLS verification is
    * disabled.
@@ -1,16 +1,18 @@
 package io.github.mqrestadminproject.mq.rest.admin;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
 import io.github.mqrestadminproject.mq.rest.admin.auth.BasicAuth;
 import io.github.mqrestadminproject.mq.rest.admin.auth.Credentials;
 import io.github.mqrestadminproject.mq.rest.admin.auth.LtpaAuth;
 import io.github.mqrestadminproject.mq.rest.admin.ensure.EnsureAction;
 import io.github.mqrestadminproject.mq.rest.admin.ensure.EnsureResult;
 import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestAuthException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestBulkEnsureException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestBulkSyncException;
 import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestCommandException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestException;
 import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestResponseException;
 import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTimeoutException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTransportException;
 import io.github.mqrestadminproject.mq.rest.admin.mapping.AttributeMapper;
 import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingData;
 import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingDirection;
@@ -18,13 +20,16 @@ import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingException;
 import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingIssue;
 import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingOverrideMode;
 import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingReason;
+import io.github.mqrestadminproject.mq.rest.admin.mapping.ResponseRowMapper;
 import io.github.mqrestadminproject.mq.rest.admin.sync.SyncConfig;
 import io.github.mqrestadminproject.mq.rest.admin.sync.SyncOperation;
 import io.github.mqrestadminproject.mq.rest.admin.sync.SyncResult;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -32,7 +37,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -70,7 +82,6 @@ public final class MqRestSession {
           Map.entry("CHANNEL", "channel"),
           Map.entry("QMGR", "qmgr"));
 
-  private static final Gson GSON = new Gson();
   private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
 
   static final Set<String> RUNNING_VALUES = Set.of("RUNNING", "running");
@@ -85,46 +96,62 @@ public final class MqRestSession {
   private final @Nullable Duration timeout;
   private final boolean mapAttributes;
   private final boolean mappingStrict;
+  private final boolean lazyResponseMapping;
   private final @Nullable String csrfToken;
   private final MappingData mappingData;
   private final AttributeMapper attributeMapper;
-
+  private final Executor asyncExecutor;
+
+  private final AtomicReference<@Nullable LtpaToken> ltpaToken = new AtomicReference<>();
+  private final AtomicReference<@Nullable CompletableFuture<LtpaToken>> ltpaLoginInFlight =
+      new AtomicReference<>();
+  private final ThreadLocal<Diagnostics> diagnostics = ThreadLocal.withInitial(Diagnostics::new);
+  private final Map<String, ResponseSchema> responseSchemas = new ConcurrentHashMap<>();
+  private final AtomicReference<@Nullable CachedHeaders> cachedHeaders = new AtomicReference<>();
+  private final DisplayResponses displayResponses;
   private Clock clock = new SystemClock();
-  private @Nullable String ltpaCookieName;
-  private @Nullable String ltpaToken;
-  private @Nullable Integer lastHttpStatus;
-  private @Nullable String lastResponseText;
-  private @Nullable Map<String, Object> lastResponsePayload;
-  private @Nullable Map<String, Object> lastCommandPayload;
 
   private static final ObjectTypeConfig CHANNEL_CONFIG =
       new ObjectTypeConfig(
-          "CHANNEL", "CHANNEL", "CHSTATUS", new String[] {"channel_status", "STATUS"}, true);
+          "CHANNEL",
+          "CHANNEL",
+          "CHSTATUS",
+          new String[] {"channel_status", "STATUS"},
+          new String[] {"channel_name", "CHANNEL", "channel"},
+          true);
 
   private static final ObjectTypeConfig LISTENER_CONFIG =
       new ObjectTypeConfig(
-          "LISTENER", "LISTENER", "LSSTATUS", new String[] {"status", "STATUS"}, false);
+          "LISTENER",
+          "LISTENER",
+          "LSSTATUS",
+          new String[] {"status", "STATUS"},
+          new String[] {"listener_name", "LISTENER", "listener"},
+          false);
 
   private static final ObjectTypeConfig SERVICE_CONFIG =
       new ObjectTypeConfig(
-          "SERVICE", "SERVICE", "SVSTATUS", new String[] {"status", "STATUS"}, false);
+          "SERVICE",
+          "SERVICE",
+          "SVSTATUS",
+          new String[] {"status", "STATUS"},
+          new String[] {"service_name", "SERVICE", "service"},
+          false);
 
-  /** Clock abstraction for testability. */
+  /**
+   * Clock abstraction for testability. Implementations hold no per-operation state, so one clock
+   * can serve concurrent sync operations; callers measure elapsed time as the difference between
+   * two {@link #nowSeconds()} readings.
+   */
   interface Clock {
     void sleep(double seconds) throws InterruptedException;
 
-    double elapsedSeconds();
-
-    void reset();
+    /** Returns a monotonic time reading in seconds, with an arbitrary origin. */
+    double nowSeconds();
   }
 
   /** Real clock using System.nanoTime and Thread.sleep. */
   static final class SystemClock implements Clock {
-    private long startNanos;
-
-    SystemClock() {
-      reset();
-    }
 
     @Override
     public void sleep(double seconds) throws InterruptedException {
@@ -132,21 +159,41 @@ public final class MqRestSession {
     }
 
     @Override
-    public double elapsedSeconds() {
-      return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    public double nowSeconds() {
+      return System.nanoTime() / 1_000_000_000.0;
     }
+  }
 
-    @Override
-    public void reset() {
-      startNanos = System.nanoTime();
+  /** LTPA cookie captured from a successful login. */
+  private record LtpaToken(String cookieName, String value) {}
+
+  /** Request headers built for one LTPA token (or for none, with other credentials). */
+  private record CachedHeaders(@Nullable LtpaToken token, Map<String, String> headers) {}
+
+  /** Diagnostic state of the most recent command issued on one thread, or of one async call. */
+  private static final class Diagnostics {
+    private @Nullable Integer httpStatus;
+    private @Nullable String responseText;
+    private @Nullable Map<String, Object> responsePayload;
+    private @Nullable Map<String, Object> commandPayload;
+
+    CommandDiagnostics snapshot() {
+      return new CommandDiagnostics(commandPayload, httpStatus, responseText, responsePayload);
     }
   }
 
-  private record ObjectTypeConfig(
+  /**
+   * A mapped, ready-to-send command payload together with the mapping qualifier needed to map its
+   * response.
+   */
+  record PreparedCommand(Map<String, Object> payload, String mappingQualifier) {}
+
+  record ObjectTypeConfig(
       String startQualifier,
       String stopQualifier,
       String statusQualifier,
       String[] statusKeys,
+      String[] nameKeys,
       boolean emptyMeansStopped) {}
 
   /** Package-private setter for test injection. */
@@ -154,6 +201,10 @@ public final class MqRestSession {
     this.clock = Objects.requireNonNull(clock, "clock");
   }
 
+  Clock clock() {
+    return clock;
+  }
+
   private MqRestSession(Builder builder) {
     this.restBaseUrl = stripTrailingSlashes(builder.restBaseUrl);
     this.qmgrName = builder.qmgrName;
@@ -164,7 +215,11 @@ public final class MqRestSession {
     this.timeout = builder.timeout;
     this.mapAttributes = builder.mapAttributes;
     this.mappingStrict = builder.mappingStrict;
+    this.lazyResponseMapping = builder.lazyResponseMapping;
     this.csrfToken = builder.csrfToken;
+    this.asyncExecutor = builder.asyncExecutor;
+    this.displayResponses =
+        new DisplayResponses(builder.responseCacheConfig, builder.coalesceDisplays);
 
     MappingData data = MappingData.loadDefault();
     if (builder.mappingOverrides != null) {
@@ -172,10 +227,6 @@ public final class MqRestSession {
     }
     this.mappingData = data;
     this.attributeMapper = new AttributeMapper(this.mappingData);
-
-    if (credentials instanceof LtpaAuth ltpaAuth) {
-      performLtpaLogin(ltpaAuth);
-    }
   }
 
   /** Returns the queue manager name. */
@@ -188,30 +239,46 @@ public final class MqRestSession {
     return gatewayQmgr;
   }
 
-  /** Returns the HTTP status code of the last command, or {@code null} before any command. */
+  /**
+   * Returns the HTTP status code of the last command on the calling thread, or {@code null} before
+   * any command.
+   *
+   * <p>Diagnostic state is kept per thread: another thread, including the thread that completes an
+   * async command, does not see it. Use {@link #mqscCommandAsync(String, String, String, Map, List,
+   * String, Consumer)} to receive the diagnostics of one async command wherever it completes.
+   */
   public @Nullable Integer getLastHttpStatus() {
-    return lastHttpStatus;
+    return diagnostics.get().httpStatus;
   }
 
-  /** Returns the raw response text of the last command, or {@code null} before any command. */
+  /**
+   * Returns the raw response text of the last command on the calling thread, or {@code null} before
+   * any command.
+   *
+   * @see #getLastHttpStatus()
+   */
   public @Nullable String getLastResponseText() {
-    return lastResponseText;
+    return diagnostics.get().responseText;
   }
 
   /**
-   * Returns the parsed response payload of the last command, or {@code null} before any command.
-   * The returned map is unmodifiable.
+   * Returns the parsed response payload of the last command on the calling thread, or {@code null}
+   * before any command. The returned map is unmodifiable.
+   *
+   * @see #getLastHttpStatus()
    */
   public @Nullable Map<String, Object> getLastResponsePayload() {
-    return lastResponsePayload;
+    return diagnostics.get().responsePayload;
   }
 
   /**
-   * Returns the command payload sent in the last command, or {@code null} before any command. The
-   * returned map is unmodifiable.
+   * Returns the command payload sent in the last command on the calling thread, or {@code null}
+   * before any command. The returned map is unmodifiable.
+   *
+   * @see #getLastHttpStatus()
    */
   public @Nullable Map<String, Object> getLastCommandPayload() {
-    return lastCommandPayload;
+    return diagnostics.get().commandPayload;
   }
 
   /**
@@ -232,6 +299,395 @@ public final class MqRestSession {
       @Nullable Map<String, Object> requestParameters,
       @Nullable List<String> responseParameters,
       @Nullable String where) {
+    return execute(
+        prepareCommand(command, mqscQualifier, name, requestParameters, responseParameters, where));
+  }
+
+  /**
+   * Prepares an MQSC command for repeated execution.
+   *
+   * <p>Command normalization, mapping qualifier resolution, request, response parameter and WHERE
+   * mapping, and payload building all happen once, here; mapping errors are raised by this method
+   * rather than on execution. The returned command can then be executed any number of times,
+   * optionally with a different object name each time, at the cost of the HTTP round trip and
+   * response processing only. Use it for high-frequency monitoring loops:
+   *
+   * <pre>{@code
+   * PreparedMqscCommand depth =
+   *     session.prepare("DISPLAY", "QLOCAL", null, List.of("current_queue_depth"), null);
+   * for (String queue : queues) {
+   *   List<Map<String, Object>> rows = depth.execute(queue);
+   * }
+   * }</pre>
+   *
+   * @param command the MQSC command (e.g., "DISPLAY")
+   * @param mqscQualifier the MQSC qualifier (e.g., "QUEUE", "QLOCAL")
+   * @param requestParameters request parameters to send, or null
+   * @param responseParameters response parameters to request, or null
+   * @param where a WHERE clause string (e.g., "current_q_depth GT 100"), or null
+   * @return the prepared command, bound to this session
+   * @throws MappingException if strict mapping rejects an attribute
+   */
+  public PreparedMqscCommand prepare(
+      String command,
+      String mqscQualifier,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
+    return new PreparedMqscCommand(
+        this,
+        prepareCommand(command, mqscQualifier, null, requestParameters, responseParameters, where));
+  }
+
+  /**
+   * Evicts every response held by the DISPLAY response cache. Does nothing if the session was built
+   * without one.
+   *
+   * @see Builder#responseCache
+   */
+  public void clearResponseCache() {
+    displayResponses.clear();
+  }
+
+  List<Map<String, Object>> execute(PreparedCommand prepared) {
+    if (!DisplayResponses.isDisplay(prepared)) {
+      try {
+        return executeUncached(prepared);
+      } finally {
+        displayResponses.invalidate(prepared);
+      }
+    }
+    recordCommandPayload(prepared);
+    return displayResponses.fetch(
+        prepared,
+        clock,
+        this::send,
+        response -> processResponse(response, prepared.mappingQualifier(), diagnostics.get()));
+  }
+
+  /** Executes a command without consulting or filling the DISPLAY response cache. */
+  List<Map<String, Object>> executeUncached(PreparedCommand prepared) {
+    recordCommandPayload(prepared);
+    return processResponse(send(prepared), prepared.mappingQualifier(), diagnostics.get());
+  }
+
+  private TransportResponse send(PreparedCommand prepared) {
+    // 8. Execute transport call, re-authenticating once if the LTPA token was rejected
+    String url = buildMqscUrl();
+    LtpaToken token = currentLtpaToken();
+    TransportResponse response =
+        transport.postJson(url, prepared.payload(), buildHeaders(token), timeout, verifyTls);
+    if (isLtpaRejected(token, response.statusCode())) {
+      response =
+          transport.postJson(
+              url, prepared.payload(), buildHeaders(refreshLtpaToken(token)), timeout, verifyTls);
+    }
+    return response;
+  }
+
+  /**
+   * Executes an MQSC command via the MQ REST API without blocking the caller on I/O.
+   *
+   * <p>The request is mapped and built on the calling thread and handed to {@link
+   * MqRestTransport#postJsonAsync}. Response parsing, error detection, and attribute mapping run on
+   * the session's async executor (see {@link Builder#asyncExecutor}) rather than on the transport's
+   * I/O thread. The command is reported by the diagnostic accessors of the thread that called this
+   * method, as soon as it is sent and, with the response, once the returned future has completed;
+   * the async executor's threads keep no diagnostic state, so code that runs when the future
+   * completes sees the command only if it runs on the calling thread. With {@link LtpaAuth}, a
+   * login the command needs first, including the re-login after a rejected token, is sent through
+   * {@code postJsonAsync} as well and shared by concurrent commands. Failures, including mapping
+   * and command errors, complete the returned future exceptionally.
+   *
+   * @param command the MQSC command (e.g., "DISPLAY")
+   * @param mqscQualifier the MQSC qualifier (e.g., "QUEUE", "QLOCAL")
+   * @param name the object name (e.g., queue name), or null
+   * @param requestParameters request parameters to send, or null
+   * @param responseParameters response parameters to request, or null
+   * @param where a WHERE clause string (e.g., "current_q_depth GT 100"), or null
+   * @return a future completed with the list of response parameter objects
+   */
+  public CompletableFuture<List<Map<String, Object>>> mqscCommandAsync(
+      String command,
+      String mqscQualifier,
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
+    return CompletableFuture.supplyAsync(
+            () ->
+                prepareCommand(
+                    command, mqscQualifier, name, requestParameters, responseParameters, where),
+            Runnable::run)
+        .thenCompose(this::executeAsync);
+  }
+
+  /**
+   * Executes an MQSC command like {@link #mqscCommandAsync(String, String, String, Map, List,
+   * String)} and hands the diagnostic state of this command alone to a consumer.
+   *
+   * <p>The consumer is called once, when the command has succeeded or failed and before the
+   * returned future completes, on whichever thread completes the command. The diagnostic accessors
+   * of the calling thread are left as they were.
+   *
+   * @param command the MQSC command (e.g., "DISPLAY")
+   * @param mqscQualifier the MQSC qualifier (e.g., "QUEUE", "QLOCAL")
+   * @param name the object name (e.g., queue name), or null
+   * @param requestParameters request parameters to send, or null
+   * @param responseParameters response parameters to request, or null
+   * @param where a WHERE clause string (e.g., "current_q_depth GT 100"), or null
+   * @param diagnosticsConsumer receives the request and response of this command
+   * @return a future completed with the list of response parameter objects
+   */
+  public CompletableFuture<List<Map<String, Object>>> mqscCommandAsync(
+      String command,
+      String mqscQualifier,
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where,
+      Consumer<CommandDiagnostics> diagnosticsConsumer) {
+    Objects.requireNonNull(diagnosticsConsumer, "diagnosticsConsumer");
+    Diagnostics state = new Diagnostics();
+    return CompletableFuture.supplyAsync(
+            () ->
+                prepareCommand(
+                    command, mqscQualifier, name, requestParameters, responseParameters, where),
+            Runnable::run)
+        .thenCompose(prepared -> executeAsync(prepared, state))
+        .whenComplete((rows, error) -> diagnosticsConsumer.accept(state.snapshot()));
+  }
+
+  CompletableFuture<List<Map<String, Object>>> executeAsync(PreparedCommand prepared) {
+    // Diagnostics belong to the issuing thread, never to the executor thread that processes the
+    // response, which would otherwise retain the last response body indefinitely
+    return executeAsync(prepared, diagnostics.get());
+  }
+
+  private CompletableFuture<List<Map<String, Object>>> executeAsync(
+      PreparedCommand prepared, Diagnostics state) {
+    // The payload is immutable, so it can be shared rather than copied
+    state.commandPayload = prepared.payload();
+    String url = buildMqscUrl();
+    return currentLtpaTokenAsync()
+        .thenCompose(
+            token ->
+                transport
+                    .postJsonAsync(url, prepared.payload(), buildHeaders(token), timeout, verifyTls)
+                    .thenCompose(
+                        response ->
+                            isLtpaRejected(token, response.statusCode())
+                                ? refreshLtpaTokenAsync(token)
+                                    .thenCompose(
+                                        fresh ->
+                                            transport.postJsonAsync(
+                                                url,
+                                                prepared.payload(),
+                                                buildHeaders(fresh),
+                                                timeout,
+                                                verifyTls))
+                                : CompletableFuture.completedFuture(response)))
+        .whenComplete((response, error) -> displayResponses.invalidate(prepared))
+        .thenApplyAsync(
+            response -> processResponse(response, prepared.mappingQualifier(), state),
+            asyncExecutor);
+  }
+
+  /**
+   * Executes an MQSC command via the MQ REST API and streams the response rows to a consumer.
+   *
+   * <p>Intended for DISPLAY commands that return very large result sets. The response body is read
+   * incrementally from {@link MqRestTransport#postJsonStream}; each {@code commandResponse} item is
+   * flattened, mapped, and handed to {@code rowConsumer} as soon as it has been read, so memory use
+   * does not grow with the number of rows. Rows are identical to those {@link #mqscCommand} would
+   * return.
+   *
+   * <p>Because command errors can only be detected once the whole body has been read, rows from
+   * successful items may already have been delivered when an {@link MqRestCommandException} is
+   * thrown. The exception payload, and {@link #getLastResponsePayload()}, contain the top-level
+   * response fields and any failed items only; {@link #getLastResponseText()} is {@code null} after
+   * a streamed command.
+   *
+   * @param command the MQSC command (e.g., "DISPLAY")
+   * @param mqscQualifier the MQSC qualifier (e.g., "QUEUE", "QLOCAL")
+   * @param name the object name (e.g., queue name), or null
+   * @param requestParameters request parameters to send, or null
+   * @param responseParameters response parameters to request, or null
+   * @param where a WHERE clause string (e.g., "current_q_depth GT 100"), or null
+   * @param rowConsumer receives each response parameter object, in response order
+   * @throws MqRestTransportException if the request fails or the body cannot be read
+   */
+  public void mqscCommandStream(
+      String command,
+      String mqscQualifier,
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where,
+      Consumer<Map<String, Object>> rowConsumer) {
+    Objects.requireNonNull(rowConsumer, "rowConsumer");
+    streamCommand(
+        prepareCommand(command, mqscQualifier, name, requestParameters, responseParameters, where),
+        rowConsumer);
+  }
+
+  /**
+   * Executes an MQSC command via the MQ REST API and returns the rows in compact typed form.
+   *
+   * <p>Returns the same attributes as {@link #mqscCommand}, but each row is an {@link MqscRow}
+   * stored against the {@link ResponseSchema} of the command's mapping qualifier instead of a
+   * {@code Map}. The response is read through {@link MqRestTransport#postJsonStream} and each row
+   * is converted as soon as it has been mapped, so the untyped maps are never all held at once. Use
+   * this for large DISPLAY results that are kept in memory or scanned for numeric attributes.
+   *
+   * @param command the MQSC command (e.g., "DISPLAY")
+   * @param mqscQualifier the MQSC qualifier (e.g., "QUEUE", "QLOCAL")
+   * @param name the object name (e.g., queue name), or null
+   * @param requestParameters request parameters to send, or null
+   * @param responseParameters response parameters to request, or null
+   * @param where a WHERE clause string (e.g., "current_q_depth GT 100"), or null
+   * @return the unmodifiable list of rows, in response order
+   * @throws MqRestTransportException if the request fails or the body cannot be read
+   */
+  public List<MqscRow> mqscCommandRows(
+      String command,
+      String mqscQualifier,
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
+    return executeRows(
+        prepareCommand(command, mqscQualifier, name, requestParameters, responseParameters, where));
+  }
+
+  List<MqscRow> executeRows(PreparedCommand prepared) {
+    ResponseSchema schema = responseSchema(prepared.mappingQualifier());
+    List<MqscRow> rows = new ArrayList<>();
+    streamCommand(prepared, row -> rows.add(MqscRow.from(schema, row)));
+    return Collections.unmodifiableList(rows);
+  }
+
+  /**
+   * Executes an MQSC command via the MQ REST API and returns the result in columnar form.
+   *
+   * <p>Returns the same attributes as {@link #mqscCommand}, stored as one array per attribute in an
+   * {@link MqscTable} rather than one map per row. Whole-number attributes become primitive {@code
+   * long[]} columns and attribute names are held once in the qualifier's {@link ResponseSchema}.
+   * The response is read through {@link MqRestTransport#postJsonStream} and each row is appended to
+   * the columns as soon as it has been mapped. Use this for wide sweeps such as {@code DISPLAY
+   * QUEUE(*)} or {@code DISPLAY CONN(*)} that read a few attributes across many rows.
+   *
+   * @param command the MQSC command (e.g., "DISPLAY")
+   * @param mqscQualifier the MQSC qualifier (e.g., "QUEUE", "QLOCAL")
+   * @param name the object name (e.g., queue name), or null
+   * @param requestParameters request parameters to send, or null
+   * @param responseParameters response parameters to request, or null
+   * @param where a WHERE clause string (e.g., "current_q_depth GT 100"), or null
+   * @return the table
+   * @throws MqRestTransportException if the request fails or the body cannot be read
+   */
+  public MqscTable mqscCommandTable(
+      String command,
+      String mqscQualifier,
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
+    return executeTable(
+        prepareCommand(command, mqscQualifier, name, requestParameters, responseParameters, where));
+  }
+
+  MqscTable executeTable(PreparedCommand prepared) {
+    MqscTable.Builder table = new MqscTable.Builder(responseSchema(prepared.mappingQualifier()));
+    streamCommand(prepared, table::add);
+    return table.build();
+  }
+
+  /**
+   * Returns the schema that typed rows of a mapping qualifier are stored against.
+   *
+   * @param mappingQualifier the mapping qualifier (e.g., "queue")
+   * @return the cached schema
+   */
+  ResponseSchema responseSchema(String mappingQualifier) {
+    return responseSchemas.computeIfAbsent(
+        mappingQualifier,
+        qualifier -> ResponseSchema.fromMapping(mappingData, qualifier, mapAttributes));
+  }
+
+  void streamCommand(PreparedCommand prepared, Consumer<Map<String, Object>> rowConsumer) {
+    recordCommandPayload(prepared);
+    String url = buildMqscUrl();
+
+    int statusCode;
+    Map<String, Object> summary;
+    try (TransportStreamResponse response = openStream(url, prepared.payload())) {
+      statusCode = response.statusCode();
+      Diagnostics state = diagnostics.get();
+      state.httpStatus = statusCode;
+      state.responseText = null;
+      summary =
+          CommandResponseStreamReader.read(response.body(), rowEmitter(prepared, rowConsumer));
+    } catch (IOException e) {
+      throw new MqRestTransportException("Failed to read HTTP response", url, e);
+    } finally {
+      displayResponses.invalidate(prepared);
+    }
+    diagnostics.get().responsePayload = Collections.unmodifiableMap(summary);
+
+    raiseForCommandErrors(summary, statusCode);
+  }
+
+  private TransportStreamResponse openStream(String url, Map<String, Object> payload)
+      throws IOException {
+    LtpaToken token = currentLtpaToken();
+    TransportStreamResponse response =
+        transport.postJsonStream(url, payload, buildHeaders(token), timeout, verifyTls);
+    if (isLtpaRejected(token, response.statusCode())) {
+      response.close();
+      response =
+          transport.postJsonStream(
+              url, payload, buildHeaders(refreshLtpaToken(token)), timeout, verifyTls);
+    }
+    return response;
+  }
+
+  /**
+   * Returns the consumer that turns each streamed item's parameters into rows. One row mapper
+   * serves the whole response, so attribute names are upper-cased once and mapping issues are
+   * indexed across the response as in {@link #mqscCommand}; it is checked after every item, so a
+   * strict mapping failure stops the stream before that item's rows are delivered. With lazy
+   * response mapping the raw rows are delivered as read-only mapped views instead.
+   */
+  private Consumer<Map<String, Object>> rowEmitter(
+      PreparedCommand prepared, Consumer<Map<String, Object>> rowConsumer) {
+    String mappingQualifier = prepared.mappingQualifier();
+    boolean lazy = mapAttributes && lazyResponseMapping;
+    ResponseRowMapper rowMapper =
+        mapAttributes && !lazy
+            ? attributeMapper.responseRowMapper(mappingQualifier, mappingStrict)
+            : null;
+    Consumer<Map<String, Object>> sink =
+        lazy
+            ? row -> rowConsumer.accept(attributeMapper.responseView(mappingQualifier, row))
+            : rowConsumer;
+    return parameters -> {
+      List<Map<String, Object>> rows = new ArrayList<>(1);
+      addResponseRows(rows, parameters, rowMapper, false);
+      if (rowMapper != null) {
+        rowMapper.finish();
+      }
+      rows.forEach(sink);
+    };
+  }
+
+  PreparedCommand prepareCommand(
+      String command,
+      String mqscQualifier,
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
 
     // 1. Normalize command/qualifier to uppercase
     String upperCommand = command.toUpperCase(Locale.ROOT);
@@ -268,63 +724,70 @@ public final class MqRestSession {
     Map<String, Object> payload =
         buildCommandPayload(
             upperCommand, upperQualifier, name, requestParameters, responseParameters);
-    lastCommandPayload = Collections.unmodifiableMap(new LinkedHashMap<>(payload));
+    return new PreparedCommand(payload, mappingQualifier);
+  }
 
-    // 8. Execute transport call
-    TransportResponse response =
-        transport.postJson(buildMqscUrl(), payload, buildHeaders(), timeout, verifyTls);
+  private void recordCommandPayload(PreparedCommand prepared) {
+    // The payload is immutable, so it can be shared rather than copied
+    diagnostics.get().commandPayload = prepared.payload();
+  }
+
+  private List<Map<String, Object>> processResponse(
+      TransportResponse response, String mappingQualifier, Diagnostics state) {
 
     // 9. Save response state
-    lastHttpStatus = response.statusCode();
-    lastResponseText = response.body();
+    state.httpStatus = response.statusCode();
+    state.responseText = response.body();
 
     // 10. Parse response JSON
     Map<String, Object> responsePayload = parseResponsePayload(response.body());
-    lastResponsePayload = Collections.unmodifiableMap(new LinkedHashMap<>(responsePayload));
+    state.responsePayload = Collections.unmodifiableMap(new LinkedHashMap<>(responsePayload));
 
     // 11. Check for command errors
     raiseForCommandErrors(responsePayload, response.statusCode());
 
-    // 12. Extract commandResponse
-    List<Map<String, Object>> commandResponse = extractCommandResponse(responsePayload);
-
-    // 13. Extract parameters from each commandResponse item
-    List<Map<String, Object>> parameterObjects = new ArrayList<>();
-    for (Map<String, Object> item : commandResponse) {
-      Object parameters = item.get("parameters");
-      if (parameters instanceof Map) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> parametersMap = (Map<String, Object>) parameters;
-        parameterObjects.add(new LinkedHashMap<>(parametersMap));
-      } else {
-        parameterObjects.add(new LinkedHashMap<>());
-      }
+    // 12-15. Build the rows: extract each item's parameters, flatten nested objects, and
+    // normalize and map response attributes if enabled, in one pass
+    boolean lazy = mapAttributes && lazyResponseMapping;
+    List<Map<String, Object>> rows =
+        responseRows(
+            responsePayload,
+            mapAttributes && !lazy
+                ? attributeMapper.responseRowMapper(mappingQualifier, mappingStrict)
+                : null,
+            !lazy);
+    if (lazy) {
+      rows.replaceAll(row -> attributeMapper.responseView(mappingQualifier, row));
     }
-    commandResponse = parameterObjects;
-
-    // 14. Flatten nested objects
-    commandResponse = flattenNestedObjects(commandResponse);
-
-    // 15. Map response attributes if enabled
-    if (mapAttributes) {
-      commandResponse = normalizeAndMapResponse(commandResponse, mappingQualifier);
-    }
-
-    return commandResponse;
+    return rows;
   }
 
   private String buildMqscUrl() {
     return restBaseUrl + "/admin/action/qmgr/" + qmgrName + "/mqsc";
   }
 
-  private Map<String, String> buildHeaders() {
+  /**
+   * Returns the request headers for a token. Headers only change when the LTPA token does, so the
+   * last set built is reused; the Basic authorization value is therefore encoded once per session.
+   */
+  private Map<String, String> buildHeaders(@Nullable LtpaToken token) {
+    CachedHeaders cached = cachedHeaders.get();
+    if (cached != null && Objects.equals(cached.token(), token)) {
+      return cached.headers();
+    }
+    Map<String, String> headers = new RequestHeaders(createHeaders(token));
+    cachedHeaders.set(new CachedHeaders(token, headers));
+    return headers;
+  }
+
+  private Map<String, String> createHeaders(@Nullable LtpaToken token) {
     Map<String, String> headers = new LinkedHashMap<>();
     headers.put("Accept", "application/json");
     if (credentials instanceof BasicAuth basicAuth) {
       headers.put(
           "Authorization", buildBasicAuthHeader(basicAuth.username(), basicAuth.password()));
-    } else if (ltpaToken != null) {
-      headers.put("Cookie", ltpaCookieName + "=" + ltpaToken);
+    } else if (token != null) {
+      headers.put("Cookie", token.cookieName() + "=" + token.value());
     }
     // CertificateAuth: no auth header needed (mTLS handled by transport)
     if (csrfToken != null) {
@@ -343,20 +806,148 @@ public final class MqRestSession {
     return "Basic " + encoded;
   }
 
-  private void performLtpaLogin(LtpaAuth ltpaAuth) {
+  /**
+   * Returns the LTPA token to send with the next request, logging in first if no token has been
+   * obtained yet. Returns {@code null} for non-LTPA credentials.
+   */
+  private @Nullable LtpaToken currentLtpaToken() {
+    return credentials instanceof LtpaAuth ? obtainLtpaToken() : null;
+  }
+
+  /**
+   * Replaces a token the server rejected. Only the first caller to report a given token logs in
+   * again; callers that arrive after the token was already replaced reuse the new one.
+   */
+  private LtpaToken refreshLtpaToken(@Nullable LtpaToken rejected) {
+    ltpaToken.compareAndSet(rejected, null);
+    return obtainLtpaToken();
+  }
+
+  /**
+   * Asynchronous counterpart of {@link #currentLtpaToken}: completes at once when a token is held
+   * or the credentials are not LTPA, and otherwise logs in through {@link
+   * MqRestTransport#postJsonAsync} without blocking the calling thread.
+   */
+  private CompletableFuture<@Nullable LtpaToken> currentLtpaTokenAsync() {
+    if (!(credentials instanceof LtpaAuth)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return obtainLtpaTokenAsync();
+  }
+
+  /** Asynchronous counterpart of {@link #refreshLtpaToken}. */
+  private CompletableFuture<LtpaToken> refreshLtpaTokenAsync(@Nullable LtpaToken rejected) {
+    ltpaToken.compareAndSet(rejected, null);
+    return obtainLtpaTokenAsync();
+  }
+
+  /**
+   * Returns the held token, or the asynchronous login that will provide one. Concurrent callers,
+   * including synchronous ones, share a single in-flight login.
+   */
+  private CompletableFuture<LtpaToken> obtainLtpaTokenAsync() {
+    LtpaToken token = ltpaToken.get();
+    if (token != null) {
+      return CompletableFuture.completedFuture(token);
+    }
+    CompletableFuture<LtpaToken> login = new CompletableFuture<>();
+    CompletableFuture<LtpaToken> inFlight = ltpaLoginInFlight.compareAndExchange(null, login);
+    if (inFlight != null) {
+      return inFlight;
+    }
     String loginUrl = restBaseUrl + LTPA_LOGIN_PATH;
+    // A transport that throws instead of returning a failed future still fails the login future
+    CompletableFuture.supplyAsync(
+            () ->
+                transport.postJsonAsync(
+                    loginUrl, ltpaLoginPayload(), ltpaLoginHeaders(), timeout, verifyTls),
+            Runnable::run)
+        .thenCompose(response -> response)
+        .thenApplyAsync(response -> acceptLtpaLogin(loginUrl, response), asyncExecutor)
+        .whenComplete((fresh, error) -> finishLtpaLogin(login, fresh, error));
+    return login;
+  }
+
+  /**
+   * Returns the held token, logging in on the calling thread if there is none. A login already in
+   * flight, synchronous or asynchronous, is joined instead of sending another; while this thread
+   * logs in, other callers join its login in turn.
+   */
+  private LtpaToken obtainLtpaToken() {
+    LtpaToken token = ltpaToken.get();
+    if (token != null) {
+      return token;
+    }
+    CompletableFuture<LtpaToken> login = new CompletableFuture<>();
+    CompletableFuture<LtpaToken> inFlight = ltpaLoginInFlight.compareAndExchange(null, login);
+    if (inFlight != null) {
+      return joinLtpaLogin(inFlight);
+    }
+    // Another login may have completed between the token check and claiming the login
+    CompletableFuture.supplyAsync(
+            () -> Objects.requireNonNullElseGet(ltpaToken.get(), this::performLtpaLogin),
+            Runnable::run)
+        .whenComplete((fresh, error) -> finishLtpaLogin(login, fresh, error));
+    return joinLtpaLogin(login);
+  }
+
+  /** Releases the in-flight login and hands its outcome to the callers sharing it. */
+  private void finishLtpaLogin(
+      CompletableFuture<LtpaToken> login, @Nullable LtpaToken fresh, @Nullable Throwable error) {
+    ltpaLoginInFlight.set(null);
+    if (error != null) {
+      login.completeExceptionally(error);
+    } else {
+      login.complete(fresh);
+    }
+  }
+
+  /**
+   * Waits for a login and returns its token, rethrowing an MQ REST failure as it was thrown. Any
+   * other failure is thrown wrapped in a {@link CompletionException}.
+   */
+  @SuppressWarnings("PMD.PreserveStackTrace") // the cause is rethrown with its own stack trace
+  private static LtpaToken joinLtpaLogin(CompletableFuture<LtpaToken> login) {
+    try {
+      return login.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof MqRestException failure) {
+        throw failure;
+      }
+      throw e;
+    }
+  }
+
+  private static boolean isLtpaRejected(@Nullable LtpaToken token, int statusCode) {
+    return token != null && (statusCode == 401 || statusCode == 403);
+  }
+
+  private LtpaToken performLtpaLogin() {
+    String loginUrl = restBaseUrl + LTPA_LOGIN_PATH;
+    TransportResponse response =
+        transport.postJson(loginUrl, ltpaLoginPayload(), ltpaLoginHeaders(), timeout, verifyTls);
+    return acceptLtpaLogin(loginUrl, response);
+  }
+
+  private Map<String, Object> ltpaLoginPayload() {
+    LtpaAuth ltpaAuth = (LtpaAuth) credentials;
     Map<String, Object> payload = new LinkedHashMap<>();
     payload.put("username", ltpaAuth.username());
     payload.put("password", ltpaAuth.password());
+    return payload;
+  }
 
+  private Map<String, String> ltpaLoginHeaders() {
     Map<String, String> headers = new LinkedHashMap<>();
     headers.put("Accept", "application/json");
     if (csrfToken != null) {
       headers.put("ibm-mq-rest-csrf-token", csrfToken);
     }
+    return headers;
+  }
 
-    TransportResponse response = transport.postJson(loginUrl, payload, headers, timeout, verifyTls);
-
+  /** Extracts and stores the token from a login response. */
+  private LtpaToken acceptLtpaLogin(String loginUrl, TransportResponse response) {
     if (response.statusCode() >= 400) {
       throw new MqRestAuthException("LTPA login failed", loginUrl, response.statusCode());
     }
@@ -368,8 +959,9 @@ public final class MqRestSession {
           loginUrl,
           response.statusCode());
     }
-    this.ltpaCookieName = result[0];
-    this.ltpaToken = result[1];
+    LtpaToken token = new LtpaToken(result[0], result[1]);
+    ltpaToken.set(token);
+    return token;
   }
 
   static String[] extractLtpaToken(Map<String, String> headers) {
@@ -429,12 +1021,13 @@ public final class MqRestSession {
       payload.put("name", name);
     }
     if (!parameters.isEmpty()) {
-      payload.put("parameters", new LinkedHashMap<>(parameters));
+      payload.put("parameters", Collections.unmodifiableMap(new LinkedHashMap<>(parameters)));
     }
     if (!responseParameters.isEmpty()) {
-      payload.put("responseParameters", new ArrayList<>(responseParameters));
+      payload.put(
+          "responseParameters", Collections.unmodifiableList(new ArrayList<>(responseParameters)));
     }
-    return payload;
+    return new EncodedPayload(payload);
   }
 
   static List<String> normalizeResponseParameters(
@@ -452,21 +1045,37 @@ public final class MqRestSession {
   }
 
   static Map<String, Object> parseResponsePayload(String text) {
+    Object decoded;
     try {
-      Object decoded = GSON.fromJson(text, Object.class);
-      if (!(decoded instanceof Map)) {
-        throw new MqRestResponseException("Response is not a JSON object", text);
-      }
-      @SuppressWarnings("unchecked")
-      Map<String, Object> result = (Map<String, Object>) decoded;
-      return result;
-    } catch (JsonSyntaxException e) {
+      decoded = ResponseJsonDecoder.decode(text);
+    } catch (IOException e) {
       throw new MqRestResponseException("Invalid JSON in response", text, e);
     }
+    if (!(decoded instanceof Map)) {
+      throw new MqRestResponseException("Response is not a JSON object", text);
+    }
+    @SuppressWarnings("unchecked")
+    Map<String, Object> result = (Map<String, Object>) decoded;
+    return result;
   }
 
+  /**
+   * Builds the rows of a decoded response in a single pass over its {@code commandResponse}.
+   *
+   * <p>Each item's {@code parameters} become one row, or one row per element of a nested {@code
+   * objects} array, merged with the remaining parameters; nested attributes take the place of
+   * shared ones with the same name. With a row mapper, every attribute is normalized and mapped
+   * straight into its row and the mapper is finished; otherwise rows keep the raw attributes.
+   *
+   * @param payload the decoded response
+   * @param rowMapper the response row mapper, or null to leave attributes unmapped
+   * @param copyParameters whether unmapped rows must be copies rather than the decoded maps
+   * @return the rows, in response order
+   * @throws MqRestResponseException if {@code commandResponse} or an item is malformed
+   */
   @SuppressWarnings("unchecked")
-  static List<Map<String, Object>> extractCommandResponse(Map<String, Object> payload) {
+  static List<Map<String, Object>> responseRows(
+      Map<String, Object> payload, @Nullable ResponseRowMapper rowMapper, boolean copyParameters) {
     Object commandResponse = payload.get("commandResponse");
     if (commandResponse == null) {
       return new ArrayList<>();
@@ -474,14 +1083,100 @@ public final class MqRestSession {
     if (!(commandResponse instanceof List)) {
       throw new MqRestResponseException("commandResponse is not a list", null);
     }
-    List<Map<String, Object>> result = new ArrayList<>();
-    for (Object item : (List<Object>) commandResponse) {
+    List<Object> items = (List<Object>) commandResponse;
+    List<Map<String, Object>> rows = new ArrayList<>(items.size());
+    for (Object item : items) {
       if (!(item instanceof Map)) {
         throw new MqRestResponseException("commandResponse item is not an object", null);
       }
-      result.add(new LinkedHashMap<>((Map<String, Object>) item));
+      Object parameters = ((Map<String, Object>) item).get("parameters");
+      addResponseRows(
+          rows,
+          parameters instanceof Map ? (Map<String, Object>) parameters : Map.of(),
+          rowMapper,
+          copyParameters);
     }
-    return result;
+    if (rowMapper != null) {
+      rowMapper.finish();
+    }
+    return rows;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void addResponseRows(
+      List<Map<String, Object>> rows,
+      Map<String, Object> parameters,
+      @Nullable ResponseRowMapper rowMapper,
+      boolean copyParameters) {
+    Object objects = parameters.get("objects");
+    if (!(objects instanceof List)) {
+      rows.add(flatRow(parameters, rowMapper, copyParameters));
+      return;
+    }
+    for (Object nested : (List<Object>) objects) {
+      if (nested instanceof Map) {
+        rows.add(nestedRow(parameters, (Map<String, Object>) nested, rowMapper));
+      }
+    }
+  }
+
+  /** Builds the row of an item without nested {@code objects}. */
+  private static Map<String, Object> flatRow(
+      Map<String, Object> parameters,
+      @Nullable ResponseRowMapper rowMapper,
+      boolean copyParameters) {
+    if (rowMapper == null) {
+      return copyParameters ? new LinkedHashMap<>(parameters) : parameters;
+    }
+    Map<String, Object> row = newRow(parameters.size());
+    rowMapper.beginRow();
+    for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+      rowMapper.put(row, entry.getKey(), entry.getValue());
+    }
+    return row;
+  }
+
+  /** Builds the row of one nested object, merged with the item's shared parameters. */
+  private static Map<String, Object> nestedRow(
+      Map<String, Object> parameters,
+      Map<String, Object> nestedParameters,
+      @Nullable ResponseRowMapper rowMapper) {
+    Map<String, Object> row = newRow(parameters.size() + nestedParameters.size());
+    if (rowMapper != null) {
+      rowMapper.beginRow();
+    }
+    for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+      String name = entry.getKey();
+      if ("objects".equals(name)) {
+        continue;
+      }
+      Object value = nestedParameters.get(name);
+      if (value == null && !nestedParameters.containsKey(name)) {
+        value = entry.getValue();
+      }
+      putAttribute(row, name, value, rowMapper);
+    }
+    for (Map.Entry<String, Object> entry : nestedParameters.entrySet()) {
+      String name = entry.getKey();
+      if ("objects".equals(name) || !parameters.containsKey(name)) {
+        putAttribute(row, name, entry.getValue(), rowMapper);
+      }
+    }
+    return row;
+  }
+
+  private static void putAttribute(
+      Map<String, Object> row, String name, Object value, @Nullable ResponseRowMapper rowMapper) {
+    if (rowMapper != null) {
+      rowMapper.put(row, name, value);
+    } else {
+      row.put(name, value);
+    }
+  }
+
+  /** Returns a row map sized to hold {@code attributeCount} attributes without rehashing. */
+  private static Map<String, Object> newRow(int attributeCount) {
+    return new LinkedHashMap<>((int) Math.ceil(attributeCount / 0.75));
   }
 
   @SuppressWarnings("unchecked")
@@ -522,56 +1217,11 @@ public final class MqRestSession {
     }
   }
 
-  private static boolean hasErrorCodes(
-      @Nullable Integer completionCode, @Nullable Integer reasonCode) {
+  static boolean hasErrorCodes(@Nullable Integer completionCode, @Nullable Integer reasonCode) {
     return (completionCode != null && completionCode != 0)
         || (reasonCode != null && reasonCode != 0);
   }
 
-  @SuppressWarnings("unchecked")
-  static List<Map<String, Object>> flattenNestedObjects(
-      List<Map<String, Object>> parameterObjects) {
-    List<Map<String, Object>> flattened = new ArrayList<>();
-    for (Map<String, Object> item : parameterObjects) {
-      Object objects = item.get("objects");
-      if (objects instanceof List) {
-        Map<String, Object> shared = new LinkedHashMap<>();
-        for (Map.Entry<String, Object> entry : item.entrySet()) {
-          if (!"objects".equals(entry.getKey())) {
-            shared.put(entry.getKey(), entry.getValue());
-          }
-        }
-        for (Object nested : (List<Object>) objects) {
-          if (nested instanceof Map) {
-            Map<String, Object> merged = new LinkedHashMap<>(shared);
-            merged.putAll((Map<String, Object>) nested);
-            flattened.add(merged);
-          }
-        }
-      } else {
-        flattened.add(item);
-      }
-    }
-    return flattened;
-  }
-
-  static Map<String, Object> normalizeResponseAttributes(Map<String, Object> attributes) {
-    Map<String, Object> normalized = new LinkedHashMap<>();
-    for (Map.Entry<String, Object> entry : attributes.entrySet()) {
-      normalized.put(entry.getKey().toUpperCase(Locale.ROOT), entry.getValue());
-    }
-    return normalized;
-  }
-
-  private List<Map<String, Object>> normalizeAndMapResponse(
-      List<Map<String, Object>> commandResponse, String mappingQualifier) {
-    List<Map<String, Object>> normalized = new ArrayList<>();
-    for (Map<String, Object> item : commandResponse) {
-      normalized.add(normalizeResponseAttributes(item));
-    }
-    return attributeMapper.mapResponseList(mappingQualifier, normalized, mappingStrict);
-  }
-
   private List<String> mapResponseParameters(
       String command,
       String mqscQualifier,
@@ -582,20 +1232,13 @@ public final class MqRestSession {
       return responseParameters;
     }
 
-    List<String> macros = mappingData.getResponseParameterMacros(command, mqscQualifier);
-    // Build case-insensitive macro lookup
-    Map<String, String> macroLookup = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-    for (String macro : macros) {
-      macroLookup.put(macro, macro);
-    }
-
     Map<String, String> snakeToMqsc = mappingData.getSnakeToMqscMap(mappingQualifier);
 
     List<MappingIssue> issues = new ArrayList<>();
-    List<String> mapped = new ArrayList<>();
+    List<String> mapped = new ArrayList<>(responseParameters.size());
     for (String param : responseParameters) {
       // Check macros first (case-insensitive)
-      String macroMatch = macroLookup.get(param);
+      String macroMatch = mappingData.resolveResponseParameterMacro(command, mqscQualifier, param);
       if (macroMatch != null) {
         mapped.add(macroMatch);
         continue;
@@ -1955,6 +2598,69 @@ public final class MqRestSession {
 
   // END GENERATED MQSC METHODS
 
+  // ---------------------------------------------------------------------------
+  // Typed DISPLAY methods — compact rows and columnar tables for large results
+  // ---------------------------------------------------------------------------
+
+  /** Executes a DISPLAY CHSTATUS MQSC command and returns compact typed rows. */
+  public List<MqscRow> displayChstatusRows(
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
+    return mqscCommandRows(
+        "DISPLAY", "CHSTATUS", name, requestParameters, responseParameters, where);
+  }
+
+  /** Executes a DISPLAY QSTATUS MQSC command and returns compact typed rows. */
+  public List<MqscRow> displayQstatusRows(
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
+    return mqscCommandRows(
+        "DISPLAY", "QSTATUS", name, requestParameters, responseParameters, where);
+  }
+
+  /** Executes a DISPLAY QUEUE MQSC command and returns compact typed rows. */
+  public List<MqscRow> displayQueueRows(
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
+    return mqscCommandRows(
+        "DISPLAY",
+        "QUEUE",
+        name != null ? name : "*",
+        requestParameters,
+        responseParameters,
+        where);
+  }
+
+  /** Executes a DISPLAY CONN MQSC command and returns the result in columnar form. */
+  public MqscTable displayConnTable(
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
+    return mqscCommandTable("DISPLAY", "CONN", name, requestParameters, responseParameters, where);
+  }
+
+  /** Executes a DISPLAY QUEUE MQSC command and returns the result in columnar form. */
+  public MqscTable displayQueueTable(
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
+    return mqscCommandTable(
+        "DISPLAY",
+        "QUEUE",
+        name != null ? name : "*",
+        requestParameters,
+        responseParameters,
+        where);
+  }
+
   // ---------------------------------------------------------------------------
   // Ensure methods — idempotent upsert operations
   // ---------------------------------------------------------------------------
@@ -1999,10 +2705,15 @@ public final class MqRestSession {
       String defineQualifier,
       String alterQualifier) {
 
-    // 1. Try to DISPLAY the object
+    // 1. Try to DISPLAY the object, requesting only the attributes being compared
+    List<String> responseParameters =
+        ensureResponseParameters(
+            resolveMappingQualifier("DISPLAY", displayQualifier),
+            requestParameters != null ? requestParameters.keySet() : List.of());
     List<Map<String, Object>> currentObjects;
     try {
-      currentObjects = mqscCommand("DISPLAY", displayQualifier, name, null, List.of("all"), null);
+      currentObjects =
+          mqscCommand("DISPLAY", displayQualifier, name, null, responseParameters, null);
     } catch (MqRestCommandException e) {
       currentObjects = List.of();
     }
@@ -2019,26 +2730,66 @@ public final class MqRestSession {
     }
 
     // 4. Compare each desired attribute against current
-    Map<String, Object> current = extractParametersMap(currentObjects.get(0));
-    List<String> changedKeys = new ArrayList<>();
-    Map<String, Object> changedParams = new LinkedHashMap<>();
+    Map<String, Object> changedParams =
+        changedAttributes(requestParameters, extractParametersMap(currentObjects.get(0)));
+
+    // 5. All match → UNCHANGED
+    if (changedParams.isEmpty()) {
+      return new EnsureResult(EnsureAction.UNCHANGED, null);
+    }
+
+    // 6. Some differ → ALTER with only changed attrs
+    mqscCommand("ALTER", alterQualifier, name, changedParams, null, null);
+    return new EnsureResult(EnsureAction.UPDATED, new ArrayList<>(changedParams.keySet()));
+  }
 
+  /**
+   * Returns the desired attributes whose values differ from the current state, in request order.
+   */
+  static Map<String, Object> changedAttributes(
+      Map<String, Object> requestParameters, Map<String, Object> current) {
+    Map<String, Object> changedParams = new LinkedHashMap<>();
     for (Map.Entry<String, Object> entry : requestParameters.entrySet()) {
       Object currentValue = current.get(entry.getKey());
       if (!valuesMatch(entry.getValue(), currentValue)) {
-        changedKeys.add(entry.getKey());
         changedParams.put(entry.getKey(), entry.getValue());
       }
     }
+    return changedParams;
+  }
 
-    // 5. All match → UNCHANGED
-    if (changedKeys.isEmpty()) {
-      return new EnsureResult(EnsureAction.UNCHANGED, null);
+  /**
+   * Returns the response parameters an ensure DISPLAY needs in order to compare the given
+   * attributes.
+   *
+   * <p>When attribute mapping is enabled and every attribute maps to an MQSC name that DISPLAY
+   * returns, only those attributes are requested. Otherwise, including when mapping is disabled and
+   * the names cannot be checked, {@code all} is requested.
+   */
+  List<String> ensureResponseParameters(
+      String mappingQualifier, Collection<String> attributeNames) {
+    if (!mapAttributes) {
+      return List.of("all");
     }
+    Map<String, String> snakeToMqsc = mappingData.getSnakeToMqscMap(mappingQualifier);
+    Map<String, String> responseKeyMap = mappingData.getResponseKeyMap(mappingQualifier);
+    for (String attributeName : attributeNames) {
+      String mqscName = snakeToMqsc.get(attributeName);
+      if (mqscName == null || !attributeName.equals(responseKeyMap.get(mqscName))) {
+        return List.of("all");
+      }
+    }
+    return new ArrayList<>(attributeNames);
+  }
 
-    // 6. Some differ → ALTER with only changed attrs
-    mqscCommand("ALTER", alterQualifier, name, changedParams, null, null);
-    return new EnsureResult(EnsureAction.UPDATED, changedKeys);
+  /**
+   * Returns the key under which a DISPLAY response holds an MQSC attribute: its mapped name when
+   * attribute mapping is enabled, otherwise the MQSC name itself.
+   */
+  String responseAttributeName(String mappingQualifier, String mqscName) {
+    return mapAttributes
+        ? mappingData.getResponseKeyMap(mappingQualifier).getOrDefault(mqscName, mqscName)
+        : mqscName;
   }
 
   /**
@@ -2056,29 +2807,27 @@ public final class MqRestSession {
       return new EnsureResult(EnsureAction.UNCHANGED, null);
     }
 
-    // DISPLAY QMGR
+    // DISPLAY QMGR, requesting only the attributes being compared
     List<Map<String, Object>> currentObjects =
-        mqscCommand("DISPLAY", "QMGR", null, null, List.of("all"), null);
+        mqscCommand(
+            "DISPLAY",
+            "QMGR",
+            null,
+            null,
+            ensureResponseParameters(
+                resolveMappingQualifier("DISPLAY", "QMGR"), requestParameters.keySet()),
+            null);
 
     Map<String, Object> current =
         currentObjects.isEmpty() ? Map.of() : extractParametersMap(currentObjects.get(0));
-    List<String> changedKeys = new ArrayList<>();
-    Map<String, Object> changedParams = new LinkedHashMap<>();
-
-    for (Map.Entry<String, Object> entry : requestParameters.entrySet()) {
-      Object currentValue = current.get(entry.getKey());
-      if (!valuesMatch(entry.getValue(), currentValue)) {
-        changedKeys.add(entry.getKey());
-        changedParams.put(entry.getKey(), entry.getValue());
-      }
-    }
+    Map<String, Object> changedParams = changedAttributes(requestParameters, current);
 
-    if (changedKeys.isEmpty()) {
+    if (changedParams.isEmpty()) {
       return new EnsureResult(EnsureAction.UNCHANGED, null);
     }
 
     mqscCommand("ALTER", "QMGR", null, changedParams, null, null);
-    return new EnsureResult(EnsureAction.UPDATED, changedKeys);
+    return new EnsureResult(EnsureAction.UPDATED, new ArrayList<>(changedParams.keySet()));
   }
 
   /**
@@ -2092,6 +2841,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "QUEUE", "QLOCAL", "QLOCAL");
   }
 
+  /**
+   * Ensures many local queues exist with the desired attributes, reading their current state with a
+   * single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by queue names; a null or empty value only ensures
+   *     the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureQlocals(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "QUEUE", "QLOCAL", "QLOCAL").ensure(objects, executor);
+  }
+
   /**
    * Ensures a remote queue exists with the desired attributes.
    *
@@ -2103,6 +2869,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "QUEUE", "QREMOTE", "QREMOTE");
   }
 
+  /**
+   * Ensures many remote queues exist with the desired attributes, reading their current state with
+   * a single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by queue names; a null or empty value only ensures
+   *     the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureQremotes(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "QUEUE", "QREMOTE", "QREMOTE").ensure(objects, executor);
+  }
+
   /**
    * Ensures an alias queue exists with the desired attributes.
    *
@@ -2114,6 +2897,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "QUEUE", "QALIAS", "QALIAS");
   }
 
+  /**
+   * Ensures many alias queues exist with the desired attributes, reading their current state with a
+   * single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by queue names; a null or empty value only ensures
+   *     the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureQaliases(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "QUEUE", "QALIAS", "QALIAS").ensure(objects, executor);
+  }
+
   /**
    * Ensures a model queue exists with the desired attributes.
    *
@@ -2125,6 +2925,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "QUEUE", "QMODEL", "QMODEL");
   }
 
+  /**
+   * Ensures many model queues exist with the desired attributes, reading their current state with a
+   * single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by queue names; a null or empty value only ensures
+   *     the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureQmodels(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "QUEUE", "QMODEL", "QMODEL").ensure(objects, executor);
+  }
+
   /**
    * Ensures a channel exists with the desired attributes.
    *
@@ -2136,6 +2953,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "CHANNEL", "CHANNEL", "CHANNEL");
   }
 
+  /**
+   * Ensures many channels exist with the desired attributes, reading their current state with a
+   * single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by channel names; a null or empty value only
+   *     ensures the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureChannels(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "CHANNEL", "CHANNEL", "CHANNEL").ensure(objects, executor);
+  }
+
   /**
    * Ensures an authentication information object exists with the desired attributes.
    *
@@ -2147,6 +2981,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "AUTHINFO", "AUTHINFO", "AUTHINFO");
   }
 
+  /**
+   * Ensures many authentication information objects exist with the desired attributes, reading
+   * their current state with a single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by object names; a null or empty value only ensures
+   *     the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureAuthinfos(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "AUTHINFO", "AUTHINFO", "AUTHINFO").ensure(objects, executor);
+  }
+
   /**
    * Ensures a listener exists with the desired attributes.
    *
@@ -2158,6 +3009,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "LISTENER", "LISTENER", "LISTENER");
   }
 
+  /**
+   * Ensures many listeners exist with the desired attributes, reading their current state with a
+   * single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by listener names; a null or empty value only
+   *     ensures the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureListeners(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "LISTENER", "LISTENER", "LISTENER").ensure(objects, executor);
+  }
+
   /**
    * Ensures a namelist exists with the desired attributes.
    *
@@ -2169,6 +3037,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "NAMELIST", "NAMELIST", "NAMELIST");
   }
 
+  /**
+   * Ensures many namelists exist with the desired attributes, reading their current state with a
+   * single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by namelist names; a null or empty value only
+   *     ensures the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureNamelists(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "NAMELIST", "NAMELIST", "NAMELIST").ensure(objects, executor);
+  }
+
   /**
    * Ensures a process exists with the desired attributes.
    *
@@ -2180,6 +3065,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "PROCESS", "PROCESS", "PROCESS");
   }
 
+  /**
+   * Ensures many processes exist with the desired attributes, reading their current state with a
+   * single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by process names; a null or empty value only
+   *     ensures the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureProcesses(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "PROCESS", "PROCESS", "PROCESS").ensure(objects, executor);
+  }
+
   /**
    * Ensures a service exists with the desired attributes.
    *
@@ -2191,6 +3093,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "SERVICE", "SERVICE", "SERVICE");
   }
 
+  /**
+   * Ensures many services exist with the desired attributes, reading their current state with a
+   * single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by service names; a null or empty value only
+   *     ensures the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureServices(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "SERVICE", "SERVICE", "SERVICE").ensure(objects, executor);
+  }
+
   /**
    * Ensures a topic exists with the desired attributes.
    *
@@ -2202,6 +3121,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "TOPIC", "TOPIC", "TOPIC");
   }
 
+  /**
+   * Ensures many topics exist with the desired attributes, reading their current state with a
+   * single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by topic names; a null or empty value only ensures
+   *     the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureTopics(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "TOPIC", "TOPIC", "TOPIC").ensure(objects, executor);
+  }
+
   /**
    * Ensures a subscription exists with the desired attributes.
    *
@@ -2213,6 +3149,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "SUB", "SUB", "SUB");
   }
 
+  /**
+   * Ensures many subscriptions exist with the desired attributes, reading their current state with
+   * a single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by subscription names; a null or empty value only
+   *     ensures the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureSubs(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "SUB", "SUB", "SUB").ensure(objects, executor);
+  }
+
   /**
    * Ensures a storage class exists with the desired attributes.
    *
@@ -2224,6 +3177,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "STGCLASS", "STGCLASS", "STGCLASS");
   }
 
+  /**
+   * Ensures many storage classes exist with the desired attributes, reading their current state
+   * with a single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by storage class names; a null or empty value only
+   *     ensures the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureStgclasses(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "STGCLASS", "STGCLASS", "STGCLASS").ensure(objects, executor);
+  }
+
   /**
    * Ensures a communication information object exists with the desired attributes.
    *
@@ -2235,6 +3205,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "COMMINFO", "COMMINFO", "COMMINFO");
   }
 
+  /**
+   * Ensures many communication information objects exist with the desired attributes, reading their
+   * current state with a single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by object names; a null or empty value only ensures
+   *     the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureComminfos(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "COMMINFO", "COMMINFO", "COMMINFO").ensure(objects, executor);
+  }
+
   /**
    * Ensures a coupling facility structure exists with the desired attributes.
    *
@@ -2246,6 +3233,23 @@ public final class MqRestSession {
     return ensureObject(name, requestParameters, "CFSTRUCT", "CFSTRUCT", "CFSTRUCT");
   }
 
+  /**
+   * Ensures many coupling facility structures exist with the desired attributes, reading their
+   * current state with a single wildcard DISPLAY.
+   *
+   * @param objects the desired attributes keyed by structure names; a null or empty value only
+   *     ensures the object exists
+   * @param executor runs the DEFINE and ALTER commands in parallel, or null to run them in order on
+   *     the calling thread
+   * @return the result for each object, in the iteration order of {@code objects}
+   * @throws MqRestBulkEnsureException if any DEFINE or ALTER fails, once every command has been
+   *     sent; it carries the results of the objects that were ensured
+   */
+  public Map<String, EnsureResult> ensureCfstructs(
+      Map<String, ? extends @Nullable Map<String, Object>> objects, @Nullable Executor executor) {
+    return new BulkEnsure(this, "CFSTRUCT", "CFSTRUCT", "CFSTRUCT").ensure(objects, executor);
+  }
+
   // ---------------------------------------------------------------------------
   // Sync methods — start/stop/restart with polling
   // ---------------------------------------------------------------------------
@@ -2276,38 +3280,47 @@ public final class MqRestSession {
     // Issue START command
     mqscCommand("START", config.startQualifier(), name, null, null, null);
 
-    // Poll for RUNNING status
-    clock.reset();
+    // Poll for RUNNING status, reusing one prepared (and encoded) status command
+    PreparedCommand statusCommand =
+        prepareCommand("DISPLAY", config.statusQualifier(), name, null, List.of("all"), null);
+    Clock pollClock = clock;
+    double startSeconds = pollClock.nowSeconds();
     int polls = 0;
     while (true) {
       try {
-        clock.sleep(syncConfig.pollIntervalSeconds());
+        pollClock.sleep(
+            syncConfig.delayBeforePollSeconds(
+                polls,
+                ThreadLocalRandom.current().nextDouble(),
+                pollClock.nowSeconds() - startSeconds));
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
         throw new MqRestTimeoutException(
             "Interrupted while polling for start of " + name,
             name,
             "START",
-            clock.elapsedSeconds(),
+            pollClock.nowSeconds() - startSeconds,
             e);
       }
 
       List<Map<String, Object>> statusRows;
       try {
-        statusRows =
-            mqscCommand("DISPLAY", config.statusQualifier(), name, null, List.of("all"), null);
+        statusRows = executeUncached(statusCommand);
       } catch (MqRestCommandException e) {
         statusRows = List.of();
       }
       polls++;
 
       if (hasStatus(statusRows, config.statusKeys(), RUNNING_VALUES)) {
-        return new SyncResult(SyncOperation.STARTED, polls, clock.elapsedSeconds());
+        return new SyncResult(SyncOperation.STARTED, polls, pollClock.nowSeconds() - startSeconds);
       }
 
-      if (clock.elapsedSeconds() >= syncConfig.timeoutSeconds()) {
+      if (pollClock.nowSeconds() - startSeconds >= syncConfig.timeoutSeconds()) {
         throw new MqRestTimeoutException(
-            "Timed out waiting for start of " + name, name, "START", clock.elapsedSeconds());
+            "Timed out waiting for start of " + name,
+            name,
+            "START",
+            pollClock.nowSeconds() - startSeconds);
       }
     }
   }
@@ -2316,42 +3329,51 @@ public final class MqRestSession {
     // Issue STOP command
     mqscCommand("STOP", config.stopQualifier(), name, null, null, null);
 
-    // Poll for STOPPED status
-    clock.reset();
+    // Poll for STOPPED status, reusing one prepared (and encoded) status command
+    PreparedCommand statusCommand =
+        prepareCommand("DISPLAY", config.statusQualifier(), name, null, List.of("all"), null);
+    Clock pollClock = clock;
+    double startSeconds = pollClock.nowSeconds();
     int polls = 0;
     while (true) {
       try {
-        clock.sleep(syncConfig.pollIntervalSeconds());
+        pollClock.sleep(
+            syncConfig.delayBeforePollSeconds(
+                polls,
+                ThreadLocalRandom.current().nextDouble(),
+                pollClock.nowSeconds() - startSeconds));
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
         throw new MqRestTimeoutException(
             "Interrupted while polling for stop of " + name,
             name,
             "STOP",
-            clock.elapsedSeconds(),
+            pollClock.nowSeconds() - startSeconds,
             e);
       }
 
       List<Map<String, Object>> statusRows;
       try {
-        statusRows =
-            mqscCommand("DISPLAY", config.statusQualifier(), name, null, List.of("all"), null);
+        statusRows = executeUncached(statusCommand);
       } catch (MqRestCommandException e) {
         statusRows = List.of();
       }
       polls++;
 
       if (config.emptyMeansStopped() && statusRows.isEmpty()) {
-        return new SyncResult(SyncOperation.STOPPED, polls, clock.elapsedSeconds());
+        return new SyncResult(SyncOperation.STOPPED, polls, pollClock.nowSeconds() - startSeconds);
       }
 
       if (hasStatus(statusRows, config.statusKeys(), STOPPED_VALUES)) {
-        return new SyncResult(SyncOperation.STOPPED, polls, clock.elapsedSeconds());
+        return new SyncResult(SyncOperation.STOPPED, polls, pollClock.nowSeconds() - startSeconds);
       }
 
-      if (clock.elapsedSeconds() >= syncConfig.timeoutSeconds()) {
+      if (pollClock.nowSeconds() - startSeconds >= syncConfig.timeoutSeconds()) {
         throw new MqRestTimeoutException(
-            "Timed out waiting for stop of " + name, name, "STOP", clock.elapsedSeconds());
+            "Timed out waiting for stop of " + name,
+            name,
+            "STOP",
+            pollClock.nowSeconds() - startSeconds);
       }
     }
   }
@@ -2359,6 +3381,10 @@ public final class MqRestSession {
   private SyncResult restartObject(String name, ObjectTypeConfig config, SyncConfig syncConfig) {
     SyncResult stopResult = stopAndPoll(name, config, syncConfig);
     SyncResult startResult = startAndPoll(name, config, syncConfig);
+    return combineRestart(stopResult, startResult);
+  }
+
+  static SyncResult combineRestart(SyncResult stopResult, SyncResult startResult) {
     return new SyncResult(
         SyncOperation.RESTARTED,
         stopResult.polls() + startResult.polls(),
@@ -2401,6 +3427,54 @@ public final class MqRestSession {
     return restartObject(name, CHANNEL_CONFIG, config != null ? config : new SyncConfig());
   }
 
+  /**
+   * Starts many channels and polls until each reaches RUNNING status, using one wildcard status
+   * DISPLAY per poll round for all of them.
+   *
+   * @param names the channel names; duplicates are started once
+   * @param config polling configuration, or null for defaults; the timeout applies to the whole
+   *     batch
+   * @return the result for each channel, in the iteration order of {@code names}
+   * @throws MqRestBulkSyncException if any channel is rejected or does not reach RUNNING in time;
+   *     it carries the results of the channels that completed
+   */
+  public Map<String, SyncResult> startChannelsSync(
+      Collection<String> names, @Nullable SyncConfig config) {
+    return new BulkSync(this, CHANNEL_CONFIG, config).run(names, true);
+  }
+
+  /**
+   * Stops many channels and polls until each reaches STOPPED status or has no status, using one
+   * wildcard status DISPLAY per poll round for all of them.
+   *
+   * @param names the channel names; duplicates are stopped once
+   * @param config polling configuration, or null for defaults; the timeout applies to the whole
+   *     batch
+   * @return the result for each channel, in the iteration order of {@code names}
+   * @throws MqRestBulkSyncException if any channel is rejected or does not stop in time; it carries
+   *     the results of the channels that completed
+   */
+  public Map<String, SyncResult> stopChannelsSync(
+      Collection<String> names, @Nullable SyncConfig config) {
+    return new BulkSync(this, CHANNEL_CONFIG, config).run(names, false);
+  }
+
+  /**
+   * Restarts many channels: stops all of them with polling, then starts the stopped ones with
+   * polling.
+   *
+   * @param names the channel names
+   * @param config polling configuration, or null for defaults; the timeout applies to each phase
+   * @return the result for each channel with combined polls and elapsed time, in the iteration
+   *     order of {@code names}
+   * @throws MqRestBulkSyncException if any channel is rejected or times out in either phase; it
+   *     carries the results of the channels that were restarted
+   */
+  public Map<String, SyncResult> restartChannels(
+      Collection<String> names, @Nullable SyncConfig config) {
+    return new BulkSync(this, CHANNEL_CONFIG, config).restart(names);
+  }
+
   /**
    * Starts a listener and polls until it reaches RUNNING status.
    *
@@ -2437,6 +3511,54 @@ public final class MqRestSession {
     return restartObject(name, LISTENER_CONFIG, config != null ? config : new SyncConfig());
   }
 
+  /**
+   * Starts many listeners and polls until each reaches RUNNING status, using one wildcard status
+   * DISPLAY per poll round for all of them.
+   *
+   * @param names the listener names; duplicates are started once
+   * @param config polling configuration, or null for defaults; the timeout applies to the whole
+   *     batch
+   * @return the result for each listener, in the iteration order of {@code names}
+   * @throws MqRestBulkSyncException if any listener is rejected or does not reach RUNNING in time;
+   *     it carries the results of the listeners that completed
+   */
+  public Map<String, SyncResult> startListenersSync(
+      Collection<String> names, @Nullable SyncConfig config) {
+    return new BulkSync(this, LISTENER_CONFIG, config).run(names, true);
+  }
+
+  /**
+   * Stops many listeners and polls until each reaches STOPPED status, using one wildcard status
+   * DISPLAY per poll round for all of them.
+   *
+   * @param names the listener names; duplicates are stopped once
+   * @param config polling configuration, or null for defaults; the timeout applies to the whole
+   *     batch
+   * @return the result for each listener, in the iteration order of {@code names}
+   * @throws MqRestBulkSyncException if any listener is rejected or does not stop in time; it
+   *     carries the results of the listeners that completed
+   */
+  public Map<String, SyncResult> stopListenersSync(
+      Collection<String> names, @Nullable SyncConfig config) {
+    return new BulkSync(this, LISTENER_CONFIG, config).run(names, false);
+  }
+
+  /**
+   * Restarts many listeners: stops all of them with polling, then starts the stopped ones with
+   * polling.
+   *
+   * @param names the listener names
+   * @param config polling configuration, or null for defaults; the timeout applies to each phase
+   * @return the result for each listener with combined polls and elapsed time, in the iteration
+   *     order of {@code names}
+   * @throws MqRestBulkSyncException if any listener is rejected or times out in either phase; it
+   *     carries the results of the listeners that were restarted
+   */
+  public Map<String, SyncResult> restartListeners(
+      Collection<String> names, @Nullable SyncConfig config) {
+    return new BulkSync(this, LISTENER_CONFIG, config).restart(names);
+  }
+
   /**
    * Starts a service and polls until it reaches RUNNING status.
    *
@@ -2473,6 +3595,54 @@ public final class MqRestSession {
     return restartObject(name, SERVICE_CONFIG, config != null ? config : new SyncConfig());
   }
 
+  /**
+   * Starts many services and polls until each reaches RUNNING status, using one wildcard status
+   * DISPLAY per poll round for all of them.
+   *
+   * @param names the service names; duplicates are started once
+   * @param config polling configuration, or null for defaults; the timeout applies to the whole
+   *     batch
+   * @return the result for each service, in the iteration order of {@code names}
+   * @throws MqRestBulkSyncException if any service is rejected or does not reach RUNNING in time;
+   *     it carries the results of the services that completed
+   */
+  public Map<String, SyncResult> startServicesSync(
+      Collection<String> names, @Nullable SyncConfig config) {
+    return new BulkSync(this, SERVICE_CONFIG, config).run(names, true);
+  }
+
+  /**
+   * Stops many services and polls until each reaches STOPPED status, using one wildcard status
+   * DISPLAY per poll round for all of them.
+   *
+   * @param names the service names; duplicates are stopped once
+   * @param config polling configuration, or null for defaults; the timeout applies to the whole
+   *     batch
+   * @return the result for each service, in the iteration order of {@code names}
+   * @throws MqRestBulkSyncException if any service is rejected or does not stop in time; it carries
+   *     the results of the services that completed
+   */
+  public Map<String, SyncResult> stopServicesSync(
+      Collection<String> names, @Nullable SyncConfig config) {
+    return new BulkSync(this, SERVICE_CONFIG, config).run(names, false);
+  }
+
+  /**
+   * Restarts many services: stops all of them with polling, then starts the stopped ones with
+   * polling.
+   *
+   * @param names the service names
+   * @param config polling configuration, or null for defaults; the timeout applies to each phase
+   * @return the result for each service with combined polls and elapsed time, in the iteration
+   *     order of {@code names}
+   * @throws MqRestBulkSyncException if any service is rejected or times out in either phase; it
+   *     carries the results of the services that were restarted
+   */
+  public Map<String, SyncResult> restartServices(
+      Collection<String> names, @Nullable SyncConfig config) {
+    return new BulkSync(this, SERVICE_CONFIG, config).restart(names);
+  }
+
   /** Builder for {@link MqRestSession}. */
   public static final class Builder {
 
@@ -2485,9 +3655,14 @@ public final class MqRestSession {
     private @Nullable Duration timeout = DEFAULT_TIMEOUT;
     private boolean mapAttributes = true;
     private boolean mappingStrict = true;
+    private boolean lazyResponseMapping;
     private @Nullable Map<String, Object> mappingOverrides;
     private MappingOverrideMode mappingOverridesMode = MappingOverrideMode.MERGE;
     private @Nullable String csrfToken = DEFAULT_CSRF_TOKEN;
+    private Executor asyncExecutor = ForkJoinPool.commonPool();
+    private @Nullable ResponseCacheConfig responseCacheConfig;
+    private boolean coalesceDisplays;
+    private boolean eagerLogin;
 
     /**
      * Creates a builder with the required session parameters.
@@ -2538,6 +3713,23 @@ public final class MqRestSession {
       return this;
     }
 
+    /**
+     * Sets whether response rows are mapped as they are read. Defaults to {@code false}.
+     *
+     * <p>When enabled together with attribute mapping, {@link MqRestSession#mqscCommand} and the
+     * methods built on it return read-only rows that keep the raw response attributes and translate
+     * an attribute only when it is looked up. Iterating, sizing or comparing a row maps it in full
+     * once. This saves the mapping of every attribute for callers that read a few attributes of
+     * wide rows. The streaming, row and table variants always map up front.
+     *
+     * <p>Lazy mapping cannot report mapping errors, so it requires permissive mode: {@link
+     * #build()} rejects it unless {@code mappingStrict(false)} is also set.
+     */
+    public Builder lazyResponseMapping(boolean lazyResponseMapping) {
+      this.lazyResponseMapping = lazyResponseMapping;
+      return this;
+    }
+
     /** Sets mapping overrides to apply on top of the default mapping data. */
     public Builder mappingOverrides(@Nullable Map<String, Object> mappingOverrides) {
       this.mappingOverrides =
@@ -2558,15 +3750,77 @@ public final class MqRestSession {
       return this;
     }
 
+    /**
+     * Sets the executor that parses and maps responses for {@link MqRestSession#mqscCommandAsync}.
+     * Defaults to {@link ForkJoinPool#commonPool()}.
+     */
+    public Builder asyncExecutor(Executor asyncExecutor) {
+      this.asyncExecutor = Objects.requireNonNull(asyncExecutor, "asyncExecutor");
+      return this;
+    }
+
+    /**
+     * Enables the DISPLAY response cache. Disabled by default; pass {@code null} to disable it.
+     *
+     * <p>Cached responses are served by {@link MqRestSession#mqscCommand} and the methods built on
+     * it; the async, streaming, row and table variants and the sync status polls always go to the
+     * server. Every non-DISPLAY command the session issues evicts the responses it may have made
+     * stale. Changes made by other clients are only seen once an entry expires.
+     *
+     * @see ResponseCacheConfig
+     */
+    public Builder responseCache(@Nullable ResponseCacheConfig responseCacheConfig) {
+      this.responseCacheConfig = responseCacheConfig;
+      return this;
+    }
+
+    /**
+     * Sets whether concurrent identical DISPLAY commands share one request. Defaults to {@code
+     * false}.
+     *
+     * <p>When enabled, a DISPLAY issued through {@link MqRestSession#mqscCommand} or the methods
+     * built on it while an identical DISPLAY (same payload) is in flight on another thread waits
+     * for that request and uses its response instead of sending its own. Each caller still parses
+     * and maps the shared response, so rows and diagnostic state are per caller. A coalesced result
+     * can predate the waiting call by up to one round trip.
+     */
+    public Builder coalesceDisplays(boolean coalesceDisplays) {
+      this.coalesceDisplays = coalesceDisplays;
+      return this;
+    }
+
+    /**
+     * Sets whether {@link #build()} logs in with {@link LtpaAuth} credentials. Defaults to {@code
+     * false}, in which case the session logs in before its first command.
+     *
+     * <p>Enable it to reject bad credentials or an unreachable server when the session is built
+     * rather than on the first command. It has no effect for other credentials.
+     */
+    public Builder eagerLogin(boolean eagerLogin) {
+      this.eagerLogin = eagerLogin;
+      return this;
+    }
+
     /**
      * Builds the session.
      *
      * @return the configured session
      * @throws NullPointerException if transport has not been set
+     * @throws IllegalArgumentException if lazy response mapping is enabled in strict mapping mode
+     * @throws MqRestAuthException if {@link #eagerLogin(boolean)} is enabled and the LTPA login is
+     *     rejected
      */
     public MqRestSession build() {
       Objects.requireNonNull(transport, "transport");
-      return new MqRestSession(this);
+      if (lazyResponseMapping && mappingStrict) {
+        throw new IllegalArgumentException(
+            "lazyResponseMapping requires mappingStrict(false): strict mapping maps up front");
+      }
+      MqRestSession session = new MqRestSession(this);
+      if (eagerLogin) {
+        session.currentLtpaToken();
+      }
+      return session;
     }
   }
 }
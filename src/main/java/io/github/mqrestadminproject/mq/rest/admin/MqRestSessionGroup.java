@@ -0,0 +1,367 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import io.github.mqrestadminproject.mq.rest.admin.auth.Credentials;
+import io.github.mqrestadminproject.mq.rest.admin.group.GroupResult;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A fixed set of {@link MqRestSession}s, one per queue manager, that run the same operation in
+ * parallel.
+ *
+ * <p>Sessions created by the builder share a single {@link MqRestTransport} (and therefore a single
+ * {@link java.net.http.HttpClient} and its connection pool). Fan-out operations run on an executor
+ * with at most {@link Builder#maxConcurrency} queue managers in flight at once, wait for every
+ * queue manager to finish, and report each one's result or failure separately, so a sweep takes
+ * roughly as long as the slowest queue manager rather than the sum of all of them:
+ *
+ * <pre>{@code
+ * try (MqRestSessionGroup group = new MqRestSessionGroup.Builder(
+ *         "https://host:9443/ibmmq/rest/v2", new BasicAuth("user", "pass"))
+ *     .queueManagers(List.of("QM1", "QM2", "QM3"))
+ *     .maxConcurrency(16)
+ *     .build()) {
+ *   GroupResult<Map<String, Object>> status = group.displayQmstatus();
+ *   status.failures().forEach((qmgr, error) -> System.err.println(qmgr + ": " + error));
+ * }
+ * }</pre>
+ *
+ * <p>The group owns the executor it creates by default and shuts it down on {@link #close()}; an
+ * executor passed to {@link Builder#executor} is left running. Closing waits for the queue managers
+ * already running and rejects any further work.
+ */
+public final class MqRestSessionGroup implements AutoCloseable {
+
+  static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+  private final Map<String, MqRestSession> sessions;
+  private final Executor executor;
+  private final @Nullable ExecutorService ownedExecutor;
+  private final int maxConcurrency;
+  private final AtomicBoolean closed = new AtomicBoolean();
+  private final Set<CompletableFuture<?>> outstanding = ConcurrentHashMap.newKeySet();
+
+  private MqRestSessionGroup(Map<String, MqRestSession> sessions, Builder builder) {
+    this.sessions = Collections.unmodifiableMap(sessions);
+    this.maxConcurrency = builder.maxConcurrency;
+    if (builder.executor != null) {
+      this.executor = builder.executor;
+      this.ownedExecutor = null;
+    } else {
+      ExecutorService pool = Executors.newFixedThreadPool(maxConcurrency, new GroupThreadFactory());
+      this.executor = pool;
+      this.ownedExecutor = pool;
+    }
+  }
+
+  /** Returns the queue manager names in group order. */
+  public List<String> getQmgrNames() {
+    return List.copyOf(sessions.keySet());
+  }
+
+  /** Returns the sessions in group order. */
+  public List<MqRestSession> getSessions() {
+    return List.copyOf(sessions.values());
+  }
+
+  /**
+   * Returns the session for a queue manager.
+   *
+   * @param qmgrName the queue manager name
+   * @return the session, or {@code null} if the queue manager is not in the group
+   */
+  public @Nullable MqRestSession getSession(String qmgrName) {
+    return sessions.get(qmgrName);
+  }
+
+  /** Returns the maximum number of queue managers an operation runs against at once. */
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * Runs an operation against every queue manager in the group, in parallel, and waits for all of
+   * them to finish.
+   *
+   * <p>An exception thrown for one queue manager is recorded in {@link GroupResult#failures()} and
+   * does not affect the others. An {@link Error} is not recorded; once every queue manager has
+   * finished, the first one is rethrown wrapped in a {@link CompletionException}, as {@link
+   * CompletableFuture#join()} would.
+   *
+   * <p>If the group is closed while the operation runs, the queue managers that have not started by
+   * then fail with a {@link RejectedExecutionException}.
+   *
+   * @param <T> the per-queue-manager result type
+   * @param operation the operation to run with each queue manager's session
+   * @return the per-queue-manager results and failures
+   * @throws RejectedExecutionException if the group is closed
+   */
+  public <T> GroupResult<T> execute(Function<? super MqRestSession, ? extends T> operation) {
+    Objects.requireNonNull(operation, "operation");
+    if (closed.get()) {
+      throw new RejectedExecutionException("Session group is closed");
+    }
+    Semaphore permits = new Semaphore(maxConcurrency);
+    Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+    for (Map.Entry<String, MqRestSession> entry : sessions.entrySet()) {
+      MqRestSession session = entry.getValue();
+      CompletableFuture<T> future = new CompletableFuture<>();
+      futures.put(entry.getKey(), future);
+      // Registered before the closed check, so close() either sees this task or it sees closed
+      outstanding.add(future);
+      future.whenComplete((result, error) -> outstanding.remove(future));
+      if (closed.get()) {
+        future.completeExceptionally(new RejectedExecutionException("Session group is closed"));
+        continue;
+      }
+      permits.acquireUninterruptibly();
+      future.whenComplete((result, error) -> permits.release());
+      try {
+        future.completeAsync(() -> operation.apply(session), executor);
+      } catch (RejectedExecutionException e) {
+        future.completeExceptionally(e);
+      }
+    }
+
+    Map<String, T> results = new LinkedHashMap<>();
+    Map<String, RuntimeException> failures = new LinkedHashMap<>();
+    @Nullable CompletionException fatal = null;
+    for (Map.Entry<String, CompletableFuture<T>> entry : futures.entrySet()) {
+      try {
+        results.put(entry.getKey(), entry.getValue().join());
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          failures.put(entry.getKey(), runtimeException);
+        } else if (fatal == null) {
+          fatal = e;
+        }
+      }
+    }
+    if (fatal != null) {
+      throw fatal;
+    }
+    return new GroupResult<>(results, failures);
+  }
+
+  /**
+   * Runs {@link MqRestSession#displayQmgr} against every queue manager.
+   *
+   * @return the QMGR attributes per queue manager
+   */
+  public GroupResult<@Nullable Map<String, Object>> displayQmgr() {
+    return execute(session -> session.displayQmgr(null, null));
+  }
+
+  /**
+   * Runs {@link MqRestSession#displayQmstatus} against every queue manager.
+   *
+   * @return the QMSTATUS attributes per queue manager
+   */
+  public GroupResult<@Nullable Map<String, Object>> displayQmstatus() {
+    return execute(session -> session.displayQmstatus(null, null));
+  }
+
+  /**
+   * Runs {@link MqRestSession#displayQueue} against every queue manager.
+   *
+   * @param name the queue name or generic pattern, or {@code null} for all queues
+   * @param requestParameters request parameters to send, or null
+   * @param responseParameters response parameters to request, or null
+   * @param where a WHERE clause string, or null
+   * @return the matching queues per queue manager
+   */
+  public GroupResult<List<Map<String, Object>>> displayQueue(
+      @Nullable String name,
+      @Nullable Map<String, Object> requestParameters,
+      @Nullable List<String> responseParameters,
+      @Nullable String where) {
+    return execute(
+        session -> session.displayQueue(name, requestParameters, responseParameters, where));
+  }
+
+  /**
+   * Stops the group accepting work, shuts down the executor created by the group, if any, and waits
+   * for the queue managers already running to finish. Queue managers of an operation in progress
+   * that have not started fail with a {@link RejectedExecutionException}. Sessions need no cleanup.
+   * Calling it from an operation the group is running would wait for that operation forever.
+   */
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+    }
+    CompletableFuture.allOf(outstanding.toArray(new CompletableFuture<?>[0]))
+        .handle((result, error) -> result)
+        .join();
+  }
+
+  /** Creates daemon worker threads so an unclosed group does not keep the JVM alive. */
+  private static final class GroupThreadFactory implements ThreadFactory {
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final int pool = POOL_COUNT.incrementAndGet();
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable task) {
+      Thread thread =
+          new Thread(task, "mq-rest-group-" + pool + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  /** Builder for {@link MqRestSessionGroup}. */
+  public static final class Builder {
+
+    private final String restBaseUrl;
+    private final Credentials credentials;
+    private final Map<String, @Nullable MqRestSession> members = new LinkedHashMap<>();
+    private final List<Consumer<MqRestSession.Builder>> sessionOptions = new ArrayList<>();
+    private @Nullable MqRestTransport transport;
+    private @Nullable Executor executor;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * Creates a builder for queue managers reached through one REST endpoint.
+     *
+     * @param restBaseUrl the base URL of the MQ REST API
+     * @param credentials the authentication credentials shared by the group's sessions
+     */
+    public Builder(String restBaseUrl, Credentials credentials) {
+      this.restBaseUrl = Objects.requireNonNull(restBaseUrl, "restBaseUrl");
+      this.credentials = Objects.requireNonNull(credentials, "credentials");
+    }
+
+    /**
+     * Adds a queue manager. Its session is created by {@link #build()} with the group's base URL,
+     * credentials, transport, and session options.
+     *
+     * @throws IllegalArgumentException if the queue manager is already in the group
+     */
+    public Builder queueManager(String qmgrName) {
+      addMember(Objects.requireNonNull(qmgrName, "qmgrName"), null);
+      return this;
+    }
+
+    /**
+     * Adds several queue managers, in iteration order.
+     *
+     * @throws IllegalArgumentException if any queue manager is already in the group
+     */
+    public Builder queueManagers(Collection<String> qmgrNames) {
+      Objects.requireNonNull(qmgrNames, "qmgrNames").forEach(this::queueManager);
+      return this;
+    }
+
+    /**
+     * Adds an existing session, for a queue manager that needs a different endpoint or credentials.
+     * The session is used as is; group transport and session options do not apply to it.
+     *
+     * @throws IllegalArgumentException if the session's queue manager is already in the group
+     */
+    public Builder session(MqRestSession session) {
+      Objects.requireNonNull(session, "session");
+      addMember(session.getQmgrName(), session);
+      return this;
+    }
+
+    /**
+     * Sets the transport shared by the sessions the builder creates. Defaults to a new {@link
+     * HttpClientTransport}.
+     */
+    public Builder transport(MqRestTransport transport) {
+      this.transport = Objects.requireNonNull(transport, "transport");
+      return this;
+    }
+
+    /**
+     * Adds a customization applied to every session builder before {@link
+     * MqRestSession.Builder#build()}, e.g. {@code b -> b.verifyTls(false).timeout(timeout)}.
+     */
+    public Builder sessionOptions(Consumer<MqRestSession.Builder> options) {
+      sessionOptions.add(Objects.requireNonNull(options, "options"));
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of queue managers an operation runs against at once. Defaults to 8.
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      if (maxConcurrency < 1) {
+        throw new IllegalArgumentException("maxConcurrency must be >= 1");
+      }
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Sets the executor that runs per-queue-manager work. Defaults to a group-owned fixed pool of
+     * {@link #maxConcurrency} daemon threads. Concurrency is still limited to {@code
+     * maxConcurrency}.
+     */
+    public Builder executor(Executor executor) {
+      this.executor = Objects.requireNonNull(executor, "executor");
+      return this;
+    }
+
+    private void addMember(String qmgrName, @Nullable MqRestSession session) {
+      if (members.containsKey(qmgrName)) {
+        throw new IllegalArgumentException("Duplicate queue manager: " + qmgrName);
+      }
+      members.put(qmgrName, session);
+    }
+
+    /**
+     * Builds the group, creating a session for each queue manager added by name.
+     *
+     * @return the configured group
+     * @throws IllegalStateException if no queue managers have been added
+     */
+    public MqRestSessionGroup build() {
+      if (members.isEmpty()) {
+        throw new IllegalStateException("At least one queue manager is required");
+      }
+      MqRestTransport sharedTransport = transport;
+      Map<String, MqRestSession> sessions = new LinkedHashMap<>();
+      for (Map.Entry<String, @Nullable MqRestSession> member : members.entrySet()) {
+        MqRestSession session = member.getValue();
+        if (session == null) {
+          if (sharedTransport == null) {
+            sharedTransport = new HttpClientTransport();
+          }
+          MqRestSession.Builder sessionBuilder =
+              new MqRestSession.Builder(restBaseUrl, member.getKey(), credentials)
+                  .transport(sharedTransport);
+          sessionOptions.forEach(options -> options.accept(sessionBuilder));
+          session = sessionBuilder.build();
+        }
+        sessions.put(member.getKey(), session);
+      }
+      return new MqRestSessionGroup(sessions, this);
+    }
+  }
+}
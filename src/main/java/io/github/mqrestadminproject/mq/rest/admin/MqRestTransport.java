@@ -1,7 +1,10 @@
 package io.github.mqrestadminproject.mq.rest.admin;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -11,6 +14,11 @@ import org.jspecify.annotations.Nullable;
  * communication and should throw {@link
  * io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTransportException} for network or
  * connection failures.
+ *
+ * <p>Only {@link #postJson} must be implemented. Transports backed by a non-blocking HTTP client
+ * should also override {@link #postJsonAsync} so that callers can keep many requests in flight
+ * without dedicating a thread to each, and {@link #postJsonStream} so that large responses can be
+ * parsed without buffering the whole body.
  */
 @FunctionalInterface
 public interface MqRestTransport {
@@ -31,4 +39,55 @@ public interface MqRestTransport {
       Map<String, String> headers,
       @Nullable Duration timeout,
       boolean verifyTls);
+
+  /**
+   * Sends a JSON POST request to the MQ REST API without blocking the caller on I/O.
+   *
+   * <p>The default implementation runs {@link #postJson} on the calling thread and returns an
+   * already-completed future, so it blocks exactly as the synchronous method does. Failures are
+   * delivered through the returned future rather than thrown.
+   *
+   * @param url fully-qualified URL to send the request to
+   * @param payload JSON-serializable request body
+   * @param headers HTTP headers to include in the request
+   * @param timeout request timeout, or {@code null} for no timeout
+   * @param verifyTls whether to verify TLS certificates
+   * @return a future completed with the transport response, or exceptionally with a {@link
+   *     io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTransportException}
+   */
+  default CompletableFuture<TransportResponse> postJsonAsync(
+      String url,
+      Map<String, Object> payload,
+      Map<String, String> headers,
+      @Nullable Duration timeout,
+      boolean verifyTls) {
+    return CompletableFuture.supplyAsync(
+        () -> postJson(url, payload, headers, timeout, verifyTls), Runnable::run);
+  }
+
+  /**
+   * Sends a JSON POST request to the MQ REST API and returns the response body unread.
+   *
+   * <p>The default implementation calls {@link #postJson} and wraps the buffered body, so it offers
+   * no memory saving. The caller must close the returned response.
+   *
+   * @param url fully-qualified URL to send the request to
+   * @param payload JSON-serializable request body
+   * @param headers HTTP headers to include in the request
+   * @param timeout request timeout, or {@code null} for no timeout
+   * @param verifyTls whether to verify TLS certificates
+   * @return the transport response with an unread body stream
+   */
+  default TransportStreamResponse postJsonStream(
+      String url,
+      Map<String, Object> payload,
+      Map<String, String> headers,
+      @Nullable Duration timeout,
+      boolean verifyTls) {
+    TransportResponse response = postJson(url, payload, headers, timeout, verifyTls);
+    return new TransportStreamResponse(
+        response.statusCode(),
+        new ByteArrayInputStream(response.body().getBytes(StandardCharsets.UTF_8)),
+        response.headers());
+  }
 }
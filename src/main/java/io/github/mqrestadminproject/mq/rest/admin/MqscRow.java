@@ -0,0 +1,376 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A single DISPLAY response row stored against a shared {@link ResponseSchema}.
+ *
+ * <p>Returned by {@link MqRestSession#mqscCommandRows} and the {@code display*Rows} methods as a
+ * compact alternative to {@code Map<String, Object>} rows. Attribute names are held once in the
+ * schema rather than in every row, and whole-number values (depths, counts, lengths) are stored as
+ * primitive {@code long}s instead of boxed numbers, so {@link #getInt} and {@link #getLong} neither
+ * allocate nor parse. Attributes the schema does not know, such as unmapped attributes in
+ * permissive mode, are kept in a small per-row overflow map and remain readable by name.
+ *
+ * <p>{@link #get} returns whole numbers as {@link Long}. An attribute whose response value is null
+ * is kept: {@link #has} reports it as present, as the source map's {@code containsKey} did, and it
+ * reads as null. Rows are immutable and safe to share between threads.
+ */
+public final class MqscRow {
+
+  /** Marks a slot whose value is held in {@link #numbers}. */
+  private static final Object NUMBER = new Object();
+
+  /** Marks a slot whose attribute is present with a null value. */
+  private static final Object NULL = new Object();
+
+  private static final int[] NO_COLUMNS = new int[0];
+
+  /** Largest magnitude at which every whole {@code double} is exactly representable. */
+  private static final double MAX_EXACT_DOUBLE = 0x1p53;
+
+  private final ResponseSchema schema;
+
+  /** The schema columns present in this row, ascending; slot {@code i} holds column {@code i}. */
+  private final int[] columns;
+
+  private final Object[] values;
+  private final long @Nullable [] numbers;
+  private final Map<String, Object> extras;
+
+  private MqscRow(
+      ResponseSchema schema,
+      int[] columns,
+      Object[] values,
+      long @Nullable [] numbers,
+      Map<String, Object> extras) {
+    this.schema = schema;
+    this.columns = columns;
+    this.values = values;
+    this.numbers = numbers;
+    this.extras = extras;
+  }
+
+  /**
+   * Converts a response attribute map into a row.
+   *
+   * <p>The row's arrays are sized to the attributes it actually has, not to the schema, so a row of
+   * a DISPLAY that requested three response parameters holds three slots even though the
+   * qualifier's schema declares about a hundred columns.
+   *
+   * @param schema the schema to store the attributes against
+   * @param attributes the mapped (or unmapped) response attributes
+   * @return the row
+   */
+  static MqscRow from(ResponseSchema schema, Map<String, Object> attributes) {
+    // Each key packs a column into the high half and the attribute's position into the low half,
+    // so sorting the keys orders the attributes by column
+    long[] keys = new long[attributes.size()];
+    Object[] found = new Object[attributes.size()];
+    int count = 0;
+    Map<String, Object> extras = null;
+    for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+      Object value = entry.getValue();
+      int column = schema.indexOf(entry.getKey());
+      if (column < 0) {
+        if (extras == null) {
+          extras = new LinkedHashMap<>();
+        }
+        extras.put(entry.getKey(), value);
+        continue;
+      }
+      keys[count] = (long) column << 32 | count;
+      found[count] = value != null ? value : NULL;
+      count++;
+    }
+    Arrays.sort(keys, 0, count);
+
+    int[] columns = count > 0 ? new int[count] : NO_COLUMNS;
+    Object[] values = new Object[count];
+    long[] numbers = null;
+    for (int slot = 0; slot < count; slot++) {
+      columns[slot] = (int) (keys[slot] >>> 32);
+      Object value = found[(int) keys[slot]];
+      if (value instanceof Number number && isWholeNumber(number)) {
+        if (numbers == null) {
+          numbers = new long[count];
+        }
+        numbers[slot] = number.longValue();
+        values[slot] = NUMBER;
+      } else {
+        values[slot] = value;
+      }
+    }
+    return new MqscRow(
+        schema,
+        columns,
+        values,
+        numbers,
+        extras != null ? Collections.unmodifiableMap(extras) : Map.of());
+  }
+
+  static boolean isWholeNumber(Number number) {
+    if (number instanceof Long || number instanceof Integer) {
+      return true;
+    }
+    double value = number.doubleValue();
+    return Double.compare(value, Math.rint(value)) == 0 && Math.abs(value) <= MAX_EXACT_DOUBLE;
+  }
+
+  /** Returns the schema this row is stored against. */
+  public ResponseSchema schema() {
+    return schema;
+  }
+
+  /** Returns the number of attributes present in this row. */
+  public int size() {
+    return columns.length + extras.size();
+  }
+
+  /**
+   * Returns whether the row has a value for an attribute.
+   *
+   * @param name the attribute name
+   * @return true if the attribute is present, even with a null value
+   */
+  public boolean has(String name) {
+    int column = schema.indexOf(name);
+    return column >= 0 ? slot(column) >= 0 : extras.containsKey(name);
+  }
+
+  /**
+   * Returns an attribute value.
+   *
+   * @param name the attribute name
+   * @return the value, with whole numbers as {@link Long}, or null if absent
+   */
+  public @Nullable Object get(String name) {
+    int column = schema.indexOf(name);
+    return column >= 0 ? get(column) : extras.get(name);
+  }
+
+  /**
+   * Returns the value of a schema column.
+   *
+   * @param column the column index from {@link ResponseSchema#indexOf}
+   * @return the value, with whole numbers as {@link Long}, or null if absent
+   */
+  public @Nullable Object get(int column) {
+    int slot = slot(column);
+    return slot >= 0 ? valueAt(slot) : null;
+  }
+
+  /**
+   * Returns an attribute value as a string.
+   *
+   * @param name the attribute name
+   * @return the value's string form, or null if absent
+   */
+  public @Nullable String getString(String name) {
+    int column = schema.indexOf(name);
+    if (column >= 0) {
+      return getString(column);
+    }
+    Object value = extras.get(name);
+    return value != null ? value.toString() : null;
+  }
+
+  /**
+   * Returns the value of a schema column as a string.
+   *
+   * @param column the column index from {@link ResponseSchema#indexOf}
+   * @return the value's string form, or null if absent
+   */
+  public @Nullable String getString(int column) {
+    int slot = slot(column);
+    if (slot < 0) {
+      return null;
+    }
+    Object value = valueAt(slot);
+    return value != null ? value.toString() : null;
+  }
+
+  /**
+   * Returns an attribute value as a {@code long}.
+   *
+   * @param name the attribute name
+   * @param defaultValue the value to return if the attribute is absent or not numeric
+   * @return the value
+   */
+  public long getLong(String name, long defaultValue) {
+    int column = schema.indexOf(name);
+    return column >= 0 ? getLong(column, defaultValue) : toLong(extras.get(name), defaultValue);
+  }
+
+  /**
+   * Returns the value of a schema column as a {@code long}.
+   *
+   * @param column the column index from {@link ResponseSchema#indexOf}
+   * @param defaultValue the value to return if the column is absent or not numeric
+   * @return the value
+   */
+  public long getLong(int column, long defaultValue) {
+    int slot = slot(column);
+    if (slot < 0) {
+      return defaultValue;
+    }
+    return values[slot] == NUMBER ? numberAt(slot) : toLong(valueAt(slot), defaultValue);
+  }
+
+  /**
+   * Returns an attribute value as an {@code int}.
+   *
+   * @param name the attribute name
+   * @param defaultValue the value to return if the attribute is absent or not numeric
+   * @return the value
+   * @throws ArithmeticException if the value does not fit in an {@code int}
+   */
+  public int getInt(String name, int defaultValue) {
+    return Math.toIntExact(getLong(name, defaultValue));
+  }
+
+  /**
+   * Returns the value of a schema column as an {@code int}.
+   *
+   * @param column the column index from {@link ResponseSchema#indexOf}
+   * @param defaultValue the value to return if the column is absent or not numeric
+   * @return the value
+   * @throws ArithmeticException if the value does not fit in an {@code int}
+   */
+  public int getInt(int column, int defaultValue) {
+    return Math.toIntExact(getLong(column, defaultValue));
+  }
+
+  /**
+   * Returns an unmodifiable map view of the row.
+   *
+   * <p>Schema columns come first in schema order, followed by overflow attributes in response
+   * order. Whole numbers are returned as {@link Long}.
+   *
+   * @return the map view
+   */
+  public Map<String, Object> asMap() {
+    return new MapView();
+  }
+
+  @Override
+  public boolean equals(@Nullable Object other) {
+    return other instanceof MqscRow row && asMap().equals(row.asMap());
+  }
+
+  @Override
+  public int hashCode() {
+    return asMap().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return asMap().toString();
+  }
+
+  /** Returns the slot holding a schema column, or a negative value if the row lacks it. */
+  private int slot(int column) {
+    return Arrays.binarySearch(columns, column);
+  }
+
+  private @Nullable Object valueAt(int slot) {
+    Object value = values[slot];
+    if (value == NUMBER) {
+      return numberAt(slot);
+    }
+    return value == NULL ? null : value;
+  }
+
+  private long numberAt(int slot) {
+    return Objects.requireNonNull(numbers)[slot];
+  }
+
+  static long toLong(@Nullable Object value, long defaultValue) {
+    if (value instanceof Number number) {
+      return number.longValue();
+    }
+    if (value != null) {
+      try {
+        return Long.parseLong(value.toString().strip());
+      } catch (NumberFormatException e) {
+        return defaultValue;
+      }
+    }
+    return defaultValue;
+  }
+
+  private final class MapView extends AbstractMap<String, Object> {
+
+    MapView() {
+      super();
+    }
+
+    @Override
+    public int size() {
+      return MqscRow.this.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return key instanceof String name && has(name);
+    }
+
+    @Override
+    public @Nullable Object get(Object key) {
+      return key instanceof String name ? MqscRow.this.get(name) : null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public int size() {
+          return MqscRow.this.size();
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+          return new EntryIterator();
+        }
+      };
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+    private final Iterator<Map.Entry<String, Object>> extrasIterator = extras.entrySet().iterator();
+    private int slot;
+
+    EntryIterator() {
+      // Starts at the first column, then walks the overflow attributes
+    }
+
+    @Override
+    public boolean hasNext() {
+      return slot < columns.length || extrasIterator.hasNext();
+    }
+
+    @Override
+    public Map.Entry<String, Object> next() {
+      if (slot < columns.length) {
+        Map.Entry<String, Object> entry =
+            new AbstractMap.SimpleImmutableEntry<>(schema.name(columns[slot]), valueAt(slot));
+        slot++;
+        return entry;
+      }
+      if (!extrasIterator.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return extrasIterator.next();
+    }
+  }
+}
@@ -0,0 +1,424 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Column-oriented DISPLAY result.
+ *
+ * <p>Returned by {@link MqRestSession#mqscCommandTable} and the {@code display*Table} methods for
+ * wide sweeps that read a few attributes across many rows. Instead of one map per row, the table
+ * holds one array per attribute: attribute names live once in the shared {@link ResponseSchema},
+ * columns whose values are all whole numbers are primitive {@code long[]} arrays, and other columns
+ * are plain object arrays. Only attributes that occur in the response get a column.
+ *
+ * <p>Scans read a {@link Column} directly by row index:
+ *
+ * <pre>{@code
+ * MqscTable conns = session.displayConnTable("*", null, null, null);
+ * MqscTable.Column pid = conns.column("process_id");
+ * for (int row = 0; row < conns.rowCount(); row++) {
+ *   long value = pid.getLong(row, 0);
+ * }
+ * }</pre>
+ *
+ * <p>{@link #row} and {@link #asMaps} give read-only {@code Map} views for code that expects map
+ * rows; like {@link MqscRow}, they return whole numbers as {@link Long} and keep attributes whose
+ * response value is null as present with a null value. Tables are immutable and safe to share
+ * between threads.
+ */
+public final class MqscTable {
+
+  private static final long[] NO_LONGS = new long[0];
+
+  private final ResponseSchema schema;
+  private final int rowCount;
+  private final List<Column> columns;
+  private final Map<String, Column> columnsByName;
+
+  private MqscTable(ResponseSchema schema, int rowCount, List<Column> columns) {
+    this.schema = schema;
+    this.rowCount = rowCount;
+    this.columns = List.copyOf(columns);
+    Map<String, Column> lookup = new LinkedHashMap<>();
+    for (Column column : columns) {
+      lookup.put(column.name(), column);
+    }
+    this.columnsByName = Map.copyOf(lookup);
+  }
+
+  /** Returns the schema the table's column names are drawn from. */
+  public ResponseSchema schema() {
+    return schema;
+  }
+
+  /** Returns the number of rows. */
+  public int rowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Returns the columns present in the response.
+   *
+   * <p>Schema columns come first in schema order, followed by attributes the schema does not
+   * declare in the order they first appeared.
+   *
+   * @return the unmodifiable list of columns
+   */
+  public List<Column> columns() {
+    return columns;
+  }
+
+  /**
+   * Returns the column for an attribute.
+   *
+   * @param name the attribute name
+   * @return the column, or null if no row has the attribute
+   */
+  public @Nullable Column column(String name) {
+    return columnsByName.get(name);
+  }
+
+  /**
+   * Returns a read-only map view of one row.
+   *
+   * @param row the row index
+   * @return the map view
+   * @throws IndexOutOfBoundsException if the row is out of range
+   */
+  public Map<String, Object> row(int row) {
+    Objects.checkIndex(row, rowCount);
+    return new RowView(row);
+  }
+
+  /**
+   * Returns a read-only list view of every row as a map.
+   *
+   * @return the list view, backed by the table
+   */
+  public List<Map<String, Object>> asMaps() {
+    return new AbstractList<>() {
+      @Override
+      public Map<String, Object> get(int index) {
+        return row(index);
+      }
+
+      @Override
+      public int size() {
+        return rowCount;
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    return "MqscTable[qualifier="
+        + schema.qualifier()
+        + ", rows="
+        + rowCount
+        + ", columns="
+        + columns.size()
+        + "]";
+  }
+
+  /**
+   * The values of one attribute across all rows of a {@link MqscTable}.
+   *
+   * <p>A column is numeric when every value it holds is a whole number; its values are then stored
+   * in a {@code long[]} and {@link #getLong} reads them without boxing or parsing.
+   */
+  public static final class Column {
+
+    private final String name;
+    private final long @Nullable [] longs;
+    private final @Nullable Object @Nullable [] objects;
+    private final BitSet present;
+    private final BitSet nulls;
+
+    private Column(
+        String name,
+        long @Nullable [] longs,
+        @Nullable Object @Nullable [] objects,
+        BitSet present,
+        BitSet nulls) {
+      this.name = name;
+      this.longs = longs;
+      this.objects = objects;
+      this.present = present;
+      this.nulls = nulls;
+    }
+
+    /** Returns the attribute name. */
+    public String name() {
+      return name;
+    }
+
+    /** Returns whether every value in the column is a whole number. */
+    public boolean isNumeric() {
+      return longs != null;
+    }
+
+    /** Returns the number of rows that have the attribute, including rows where it is null. */
+    public int valueCount() {
+      return present.cardinality();
+    }
+
+    /**
+     * Returns whether a row has the attribute, as the response row's {@code containsKey} did.
+     *
+     * @param row the row index
+     * @return true if the attribute is present, even with a null value
+     */
+    public boolean isPresent(int row) {
+      return present.get(row);
+    }
+
+    /**
+     * Returns the value at a row.
+     *
+     * @param row the row index
+     * @return the value, with whole numbers as {@link Long}, or null if absent
+     */
+    public @Nullable Object get(int row) {
+      if (!present.get(row) || nulls.get(row)) {
+        return null;
+      }
+      return longs != null ? longs[row] : Objects.requireNonNull(objects)[row];
+    }
+
+    /**
+     * Returns the value at a row as a string.
+     *
+     * @param row the row index
+     * @return the value's string form, or null if absent
+     */
+    public @Nullable String getString(int row) {
+      Object value = get(row);
+      return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Returns the value at a row as a {@code long}.
+     *
+     * @param row the row index
+     * @param defaultValue the value to return if the value is absent or not numeric
+     * @return the value
+     */
+    public long getLong(int row, long defaultValue) {
+      if (!present.get(row) || nulls.get(row)) {
+        return defaultValue;
+      }
+      if (longs != null) {
+        return longs[row];
+      }
+      return MqscRow.toLong(Objects.requireNonNull(objects)[row], defaultValue);
+    }
+
+    /**
+     * Returns the value at a row as an {@code int}.
+     *
+     * @param row the row index
+     * @param defaultValue the value to return if the value is absent or not numeric
+     * @return the value
+     * @throws ArithmeticException if the value does not fit in an {@code int}
+     */
+    public int getInt(int row, int defaultValue) {
+      return Math.toIntExact(getLong(row, defaultValue));
+    }
+  }
+
+  /** Accumulates rows into columns; used by the session while a response is read. */
+  static final class Builder {
+
+    private final ResponseSchema schema;
+    private final @Nullable ColumnBuilder[] schemaColumns;
+    private final Map<String, ColumnBuilder> extraColumns = new LinkedHashMap<>();
+    private int rowCount;
+
+    Builder(ResponseSchema schema) {
+      this.schema = schema;
+      this.schemaColumns = new ColumnBuilder[schema.size()];
+    }
+
+    /** Appends one row of mapped (or unmapped) response attributes. */
+    void add(Map<String, Object> attributes) {
+      for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+        Object value = entry.getValue();
+        String name = entry.getKey();
+        int index = schema.indexOf(name);
+        ColumnBuilder column;
+        if (index >= 0) {
+          column = schemaColumns[index];
+          if (column == null) {
+            column = new ColumnBuilder(name);
+            schemaColumns[index] = column;
+          }
+        } else {
+          column = extraColumns.computeIfAbsent(name, ColumnBuilder::new);
+        }
+        column.set(rowCount, value);
+      }
+      rowCount++;
+    }
+
+    MqscTable build() {
+      List<Column> columns = new ArrayList<>();
+      for (ColumnBuilder column : schemaColumns) {
+        if (column != null) {
+          columns.add(column.build(rowCount));
+        }
+      }
+      for (ColumnBuilder column : extraColumns.values()) {
+        columns.add(column.build(rowCount));
+      }
+      return new MqscTable(schema, rowCount, columns);
+    }
+  }
+
+  /**
+   * Growable column that stays in {@code long[]} form until it meets a value that is not a whole
+   * number, then switches to an object array for good.
+   */
+  private static final class ColumnBuilder {
+
+    private final String name;
+    private long @Nullable [] longs = NO_LONGS;
+    private @Nullable Object @Nullable [] objects;
+    private final BitSet present = new BitSet();
+    private final BitSet nulls = new BitSet();
+
+    ColumnBuilder(String name) {
+      this.name = name;
+    }
+
+    void set(int row, @Nullable Object value) {
+      if (value == null) {
+        // Present without a value; the arrays keep their default at this row
+        present.set(row);
+        nulls.set(row);
+        return;
+      }
+      boolean whole = value instanceof Number number && MqscRow.isWholeNumber(number);
+      long[] currentLongs = longs;
+      if (currentLongs != null && whole) {
+        if (row >= currentLongs.length) {
+          currentLongs = Arrays.copyOf(currentLongs, grow(currentLongs.length, row));
+          longs = currentLongs;
+        }
+        currentLongs[row] = ((Number) value).longValue();
+      } else {
+        Object[] currentObjects = objects;
+        if (currentObjects == null) {
+          currentObjects = toObjects(Objects.requireNonNull(currentLongs), row);
+          longs = null;
+        } else if (row >= currentObjects.length) {
+          currentObjects = Arrays.copyOf(currentObjects, grow(currentObjects.length, row));
+        }
+        objects = currentObjects;
+        currentObjects[row] = whole ? ((Number) value).longValue() : value;
+      }
+      present.set(row);
+    }
+
+    private Object[] toObjects(long[] values, int row) {
+      Object[] converted = new Object[Math.max(values.length, grow(values.length, row))];
+      BitSet numbers = (BitSet) present.clone();
+      numbers.andNot(nulls);
+      for (int index = numbers.nextSetBit(0); index >= 0; index = numbers.nextSetBit(index + 1)) {
+        converted[index] = values[index];
+      }
+      return converted;
+    }
+
+    private static int grow(int length, int row) {
+      return Math.max(row + 1, Math.max(16, length + (length >> 1)));
+    }
+
+    Column build(int rowCount) {
+      long[] finalLongs = longs != null ? Arrays.copyOf(longs, rowCount) : null;
+      Object[] finalObjects = objects != null ? Arrays.copyOf(objects, rowCount) : null;
+      return new Column(
+          name, finalLongs, finalObjects, (BitSet) present.clone(), (BitSet) nulls.clone());
+    }
+  }
+
+  private final class RowView extends AbstractMap<String, Object> {
+
+    private final int row;
+
+    RowView(int row) {
+      super();
+      this.row = row;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      Column column = key instanceof String name ? column(name) : null;
+      return column != null && column.isPresent(row);
+    }
+
+    @Override
+    public @Nullable Object get(Object key) {
+      Column column = key instanceof String name ? column(name) : null;
+      return column != null ? column.get(row) : null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public int size() {
+          int size = 0;
+          for (Column column : columns) {
+            if (column.isPresent(row)) {
+              size++;
+            }
+          }
+          return size;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+          return new Iterator<>() {
+            private int next = advance(0);
+
+            private int advance(int from) {
+              int candidate = from;
+              while (candidate < columns.size() && !columns.get(candidate).isPresent(row)) {
+                candidate++;
+              }
+              return candidate;
+            }
+
+            @Override
+            public boolean hasNext() {
+              return next < columns.size();
+            }
+
+            @Override
+            public Map.Entry<String, Object> next() {
+              if (next >= columns.size()) {
+                throw new NoSuchElementException();
+              }
+              Column column = columns.get(next);
+              next = advance(next + 1);
+              return new AbstractMap.SimpleImmutableEntry<>(column.name(), column.get(row));
+            }
+          };
+        }
+      };
+    }
+  }
+}
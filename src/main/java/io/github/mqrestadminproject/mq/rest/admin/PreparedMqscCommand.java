@@ -0,0 +1,145 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import io.github.mqrestadminproject.mq.rest.admin.MqRestSession.PreparedCommand;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An MQSC command that has been mapped and built once for repeated execution.
+ *
+ * <p>Created by {@link MqRestSession#prepare}. Preparing does everything {@link
+ * MqRestSession#mqscCommand} does before the HTTP call — uppercase normalization, mapping qualifier
+ * resolution, request, response parameter and WHERE mapping, and payload building — so each
+ * execution only adds the object name to the prepared payload, sends it, and processes the
+ * response. Results, diagnostics and errors are exactly those of the equivalent {@code
+ * mqscCommand*} call.
+ *
+ * <p>The payload for the most recent object name is kept together with its encoded request body, so
+ * executing repeatedly for the same name, as a polling loop does, re-sends the same bytes.
+ *
+ * <p>Instances are immutable apart from that cache and are safe to share between threads.
+ */
+public final class PreparedMqscCommand {
+
+  private final MqRestSession session;
+  private final PreparedCommand unnamed;
+  private final AtomicReference<@Nullable PreparedCommand> lastNamed = new AtomicReference<>();
+
+  PreparedMqscCommand(MqRestSession session, PreparedCommand unnamed) {
+    this.session = session;
+    this.unnamed = unnamed;
+  }
+
+  /** Returns the normalized MQSC command (e.g., "DISPLAY"). */
+  public String command() {
+    return (String) Objects.requireNonNull(unnamed.payload().get("command"));
+  }
+
+  /** Returns the normalized MQSC qualifier (e.g., "QLOCAL"). */
+  public String qualifier() {
+    return (String) Objects.requireNonNull(unnamed.payload().get("qualifier"));
+  }
+
+  /**
+   * Executes the command without an object name.
+   *
+   * @return list of response parameter objects
+   */
+  public List<Map<String, Object>> execute() {
+    return session.execute(unnamed);
+  }
+
+  /**
+   * Executes the command for an object.
+   *
+   * @param name the object name (e.g., queue name), or null
+   * @return list of response parameter objects
+   * @see MqRestSession#mqscCommand
+   */
+  public List<Map<String, Object>> execute(@Nullable String name) {
+    return session.execute(forName(name));
+  }
+
+  /**
+   * Executes the command for an object without blocking the caller on I/O.
+   *
+   * @param name the object name (e.g., queue name), or null
+   * @return a future completed with the list of response parameter objects
+   * @see MqRestSession#mqscCommandAsync
+   */
+  public CompletableFuture<List<Map<String, Object>>> executeAsync(@Nullable String name) {
+    return session.executeAsync(forName(name));
+  }
+
+  /**
+   * Executes the command for an object and streams the response rows to a consumer.
+   *
+   * @param name the object name (e.g., queue name), or null
+   * @param rowConsumer receives each response parameter object, in response order
+   * @see MqRestSession#mqscCommandStream
+   */
+  public void executeStream(@Nullable String name, Consumer<Map<String, Object>> rowConsumer) {
+    Objects.requireNonNull(rowConsumer, "rowConsumer");
+    session.streamCommand(forName(name), rowConsumer);
+  }
+
+  /**
+   * Executes the command for an object and returns the rows in compact typed form.
+   *
+   * @param name the object name (e.g., queue name), or null
+   * @return the unmodifiable list of rows, in response order
+   * @see MqRestSession#mqscCommandRows
+   */
+  public List<MqscRow> executeRows(@Nullable String name) {
+    return session.executeRows(forName(name));
+  }
+
+  /**
+   * Executes the command for an object and returns the result in columnar form.
+   *
+   * @param name the object name (e.g., queue name), or null
+   * @return the table
+   * @see MqRestSession#mqscCommandTable
+   */
+  public MqscTable executeTable(@Nullable String name) {
+    return session.executeTable(forName(name));
+  }
+
+  @Override
+  public String toString() {
+    return "PreparedMqscCommand[" + command() + " " + qualifier() + "]";
+  }
+
+  PreparedCommand forName(@Nullable String name) {
+    if (name == null || name.isEmpty()) {
+      return unnamed;
+    }
+    PreparedCommand last = lastNamed.get();
+    if (last != null && name.equals(last.payload().get("name"))) {
+      return last;
+    }
+    PreparedCommand named =
+        new PreparedCommand(withName(unnamed.payload(), name), unnamed.mappingQualifier());
+    lastNamed.set(named);
+    return named;
+  }
+
+  /** Copies a prepared payload, adding the name in the position buildCommandPayload puts it. */
+  private static Map<String, Object> withName(Map<String, Object> payload, String name) {
+    Map<String, Object> named = new LinkedHashMap<>(8);
+    for (Map.Entry<String, Object> entry : payload.entrySet()) {
+      named.put(entry.getKey(), entry.getValue());
+      if ("qualifier".equals(entry.getKey())) {
+        named.put("name", name);
+      }
+    }
+    // Nested parameter values are already immutable and are shared, not copied
+    return new EncodedPayload(named);
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable request header set that also keeps its headers as a flat name/value array.
+ *
+ * <p>The session builds one of these per credential state and reuses it for every request, so the
+ * Basic {@code Authorization} value is encoded once rather than per command. {@link
+ * HttpClientTransport} hands {@link #nameValuePairs()} straight to {@code
+ * HttpRequest.Builder.headers}; other transports see an ordinary unmodifiable map.
+ */
+final class RequestHeaders extends AbstractMap<String, String> {
+
+  private final Map<String, String> headers;
+  private final String[] nameValuePairs;
+
+  /**
+   * Copies a header map.
+   *
+   * @param headers the headers, in the order they should be sent
+   */
+  RequestHeaders(Map<String, String> headers) {
+    super();
+    this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+    this.nameValuePairs = new String[this.headers.size() * 2];
+    int index = 0;
+    for (Map.Entry<String, String> entry : this.headers.entrySet()) {
+      nameValuePairs[index] = entry.getKey();
+      nameValuePairs[index + 1] = entry.getValue();
+      index += 2;
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<String, String>> entrySet() {
+    return headers.entrySet();
+  }
+
+  @Override
+  public @Nullable String get(Object key) {
+    return headers.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return headers.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return headers.size();
+  }
+
+  /**
+   * Returns the headers as alternating names and values. The returned array is shared and must not
+   * be modified.
+   *
+   * @return the name/value pairs
+   */
+  @SuppressWarnings("PMD.MethodReturnsInternalArray") // shared to avoid a copy per request
+  String[] nameValuePairs() {
+    return nameValuePairs;
+  }
+}
@@ -0,0 +1,180 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Size-bounded, time-limited cache of DISPLAY responses, keyed by the immutable command payload.
+ *
+ * <p>Entries hold the raw {@link TransportResponse}, so a hit is still parsed and mapped by the
+ * session and callers always receive fresh, mutable rows. Every invalidation advances a generation
+ * counter; a response is only stored if no invalidation happened while its request was in flight,
+ * so a DISPLAY that raced with an ALTER cannot put the pre-ALTER state back into the cache.
+ */
+final class ResponseCache {
+
+  private final ResponseCacheConfig config;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Map<Map<String, Object>, CachedEntry> entries;
+  private long generation;
+
+  ResponseCache(ResponseCacheConfig config) {
+    this.config = Objects.requireNonNull(config, "config");
+    this.entries = new LruEntries(config.maxEntries());
+  }
+
+  /** Returns whether responses of a mapping qualifier are cached at all. */
+  boolean isCached(String mappingQualifier) {
+    return !config.ttl(mappingQualifier).isZero();
+  }
+
+  /** Returns the current generation, to be passed back to {@link #put}. */
+  long generation() {
+    lock.lock();
+    try {
+      return generation;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the cached response for a payload, or null if there is none or it has expired.
+   *
+   * @param payload the command payload
+   * @param nowSeconds the current time
+   * @return the cached response, or null
+   */
+  @Nullable TransportResponse get(Map<String, Object> payload, double nowSeconds) {
+    lock.lock();
+    try {
+      CachedEntry entry = entries.get(payload);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.expiresAtSeconds() <= nowSeconds) {
+        entries.remove(payload);
+        return null;
+      }
+      return entry.response();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stores a response unless an invalidation happened since {@code requestGeneration}.
+   *
+   * @param payload the command payload, which must be immutable
+   * @param mappingQualifier the payload's mapping qualifier
+   * @param response the successful response
+   * @param requestGeneration the generation read before the request was sent
+   * @param requestSeconds the time the request was sent
+   */
+  void put(
+      Map<String, Object> payload,
+      String mappingQualifier,
+      TransportResponse response,
+      long requestGeneration,
+      double requestSeconds) {
+    double ttlSeconds = config.ttl(mappingQualifier).toNanos() / 1e9;
+    if (ttlSeconds <= 0) {
+      return;
+    }
+    lock.lock();
+    try {
+      if (requestGeneration != generation) {
+        return;
+      }
+      entries.put(
+          payload,
+          new CachedEntry(
+              mappingQualifier,
+              (String) payload.get("name"),
+              response,
+              requestSeconds + ttlSeconds));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Evicts the responses a change to an object may have made stale: those of the same mapping
+   * qualifier whose name is the object's, is generic, or is absent. A change without an object name
+   * evicts the whole qualifier.
+   *
+   * @param mappingQualifier the mapping qualifier of the changing command
+   * @param name the object name, or null
+   */
+  void invalidate(String mappingQualifier, @Nullable String name) {
+    lock.lock();
+    try {
+      generation++;
+      Iterator<CachedEntry> iterator = entries.values().iterator();
+      while (iterator.hasNext()) {
+        CachedEntry entry = iterator.next();
+        if (entry.mappingQualifier().equals(mappingQualifier) && affects(name, entry.name())) {
+          iterator.remove();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Evicts every entry. */
+  void clear() {
+    lock.lock();
+    try {
+      generation++;
+      entries.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Returns the number of entries, including expired ones not yet evicted. */
+  int size() {
+    lock.lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static boolean affects(@Nullable String changedName, @Nullable String cachedName) {
+    return changedName == null
+        || cachedName == null
+        || cachedName.indexOf('*') >= 0
+        || cachedName.equals(changedName);
+  }
+
+  private record CachedEntry(
+      String mappingQualifier,
+      @Nullable String name,
+      TransportResponse response,
+      double expiresAtSeconds) {}
+
+  /** Access-ordered map that drops its least recently used entry beyond a maximum size. */
+  private static final class LruEntries extends LinkedHashMap<Map<String, Object>, CachedEntry> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxEntries;
+
+    LruEntries(int maxEntries) {
+      super(16, 0.75f, true);
+      this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Map<String, Object>, CachedEntry> eldest) {
+      return size() > maxEntries;
+    }
+  }
+}
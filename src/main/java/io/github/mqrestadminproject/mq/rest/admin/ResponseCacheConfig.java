@@ -0,0 +1,143 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Configuration for the optional DISPLAY response cache of an {@link MqRestSession}.
+ *
+ * <p>When a session is built with {@link MqRestSession.Builder#responseCache}, the responses of
+ * {@link MqRestSession#mqscCommand} DISPLAY commands, including those issued by the {@code
+ * display*} and {@code ensure*} methods, are kept for a time-to-live chosen per mapping qualifier
+ * (such as {@code "queue"}, {@code "channel"} or {@code "qmgr"}). Identical DISPLAYs within that
+ * time are answered without contacting the server. Any other command the session issues — ALTER,
+ * DEFINE, DELETE, START, STOP and so on — evicts the cached responses of its mapping qualifier for
+ * the same object name, for generic names, and for DISPLAYs without a name.
+ *
+ * <p>A time-to-live of zero disables caching for a qualifier. The least recently used entry is
+ * evicted once {@link #maxEntries()} responses are cached.
+ *
+ * <pre>{@code
+ * ResponseCacheConfig cache = new ResponseCacheConfig.Builder()
+ *     .defaultTtl(Duration.ofSeconds(10))
+ *     .ttl("qstatus", Duration.ZERO)
+ *     .maxEntries(500)
+ *     .build();
+ * }</pre>
+ *
+ * <p>Instances are immutable.
+ */
+public final class ResponseCacheConfig {
+
+  /** Default time-to-live (5 seconds). */
+  public static final Duration DEFAULT_TTL = Duration.ofSeconds(5);
+
+  /** Default maximum number of cached responses (1000). */
+  public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+  private final Duration defaultTtl;
+  private final Map<String, Duration> ttls;
+  private final int maxEntries;
+
+  private ResponseCacheConfig(Builder builder) {
+    this.defaultTtl = builder.defaultTtl;
+    this.ttls = Map.copyOf(builder.ttls);
+    this.maxEntries = builder.maxEntries;
+  }
+
+  /** Returns a configuration with the default TTL and size for every qualifier. */
+  public static ResponseCacheConfig defaults() {
+    return new Builder().build();
+  }
+
+  /** Returns the time-to-live for qualifiers without their own setting. */
+  public Duration defaultTtl() {
+    return defaultTtl;
+  }
+
+  /**
+   * Returns the time-to-live for a mapping qualifier.
+   *
+   * @param mappingQualifier the mapping qualifier (e.g., "queue")
+   * @return the qualifier's TTL, or the default TTL if none was set
+   */
+  public Duration ttl(String mappingQualifier) {
+    return ttls.getOrDefault(mappingQualifier, defaultTtl);
+  }
+
+  /** Returns the maximum number of cached responses. */
+  public int maxEntries() {
+    return maxEntries;
+  }
+
+  @Override
+  public String toString() {
+    return "ResponseCacheConfig[defaultTtl="
+        + defaultTtl
+        + ", ttls="
+        + ttls
+        + ", maxEntries="
+        + maxEntries
+        + "]";
+  }
+
+  /** Builder for {@link ResponseCacheConfig}, starting from the default values. */
+  public static final class Builder {
+    private Duration defaultTtl = DEFAULT_TTL;
+    private final Map<String, Duration> ttls = new LinkedHashMap<>();
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    /**
+     * Sets the time-to-live for qualifiers without their own setting. Defaults to 5 seconds.
+     *
+     * @throws IllegalArgumentException if the TTL is negative
+     */
+    public Builder defaultTtl(Duration defaultTtl) {
+      this.defaultTtl = checkTtl(defaultTtl);
+      return this;
+    }
+
+    /**
+     * Sets the time-to-live for one mapping qualifier; {@link Duration#ZERO} disables caching for
+     * it.
+     *
+     * @param mappingQualifier the mapping qualifier (e.g., "queue", "chstatus")
+     * @param ttl the time-to-live
+     * @throws IllegalArgumentException if the TTL is negative
+     */
+    public Builder ttl(String mappingQualifier, Duration ttl) {
+      Objects.requireNonNull(mappingQualifier, "mappingQualifier");
+      ttls.put(mappingQualifier.toLowerCase(Locale.ROOT), checkTtl(ttl));
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of cached responses. Defaults to 1000.
+     *
+     * @throws IllegalArgumentException if {@code maxEntries} is less than 1
+     */
+    public Builder maxEntries(int maxEntries) {
+      if (maxEntries < 1) {
+        throw new IllegalArgumentException("maxEntries must be >= 1");
+      }
+      this.maxEntries = maxEntries;
+      return this;
+    }
+
+    /** Builds the configuration. */
+    public ResponseCacheConfig build() {
+      return new ResponseCacheConfig(this);
+    }
+
+    private static Duration checkTtl(Duration ttl) {
+      Objects.requireNonNull(ttl, "ttl");
+      if (ttl.isNegative()) {
+        throw new IllegalArgumentException("ttl must be >= 0");
+      }
+      return ttl;
+    }
+  }
+}
@@ -0,0 +1,846 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingData;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Pull decoder for MQ REST API response bodies, reading UTF-8 bytes directly.
+ *
+ * <p>Produces the object model the session works with: {@link LinkedHashMap} objects, {@link
+ * ArrayList} arrays, strings, booleans and nulls. Unlike Gson's {@code Object.class} adapter, whole
+ * numbers are decoded as {@link Integer}, or {@link Long} when they do not fit, and only numbers
+ * with a fraction or an exponent become {@link Double}; completion codes, reason codes, depths and
+ * counts therefore keep their integer type.
+ *
+ * <p>Responses repeat the same attribute names in every row and the same enumerated values (such as
+ * {@code QLOCAL} or {@code RUNNING}) in many of them. Strings found in a fixed dictionary, built
+ * once from the response envelope, common MQSC values and the default mapping's response names and
+ * values, are returned as the dictionary's shared instance without allocating. Other object names
+ * are shared through a small table kept for the duration of one decode, so each distinct name is
+ * allocated once per response. Other values are allocated as usual.
+ *
+ * <p>The grammar is strict JSON: a single top-level value, no comments, no unquoted strings. Syntax
+ * errors and premature end of input are reported as {@link MalformedJsonException}.
+ */
+final class ResponseJsonDecoder implements Closeable {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  /** Longest string looked up in the dictionary; longer values are never shared. */
+  private static final int MAX_SHARED_LENGTH = 64;
+
+  /** Maximum number of names shared per decode, beyond those in the dictionary. */
+  private static final int MAX_DECODE_NAMES = 512;
+
+  /** Most digits a whole number can have and still be accumulated in a long without overflow. */
+  private static final int MAX_LONG_DIGITS = 18;
+
+  private static final int EMPTY_ARRAY = 1;
+  private static final int NONEMPTY_ARRAY = 2;
+  private static final int EMPTY_OBJECT = 3;
+  private static final int DANGLING_NAME = 4;
+  private static final int NONEMPTY_OBJECT = 5;
+  private static final int EMPTY_DOCUMENT = 6;
+  private static final int NONEMPTY_DOCUMENT = 7;
+
+  private static final int PEEKED_NONE = 0;
+  private static final int PEEKED_BEGIN_OBJECT = 1;
+  private static final int PEEKED_END_OBJECT = 2;
+  private static final int PEEKED_BEGIN_ARRAY = 3;
+  private static final int PEEKED_END_ARRAY = 4;
+  private static final int PEEKED_TRUE = 5;
+  private static final int PEEKED_FALSE = 6;
+  private static final int PEEKED_NULL = 7;
+  private static final int PEEKED_STRING = 8;
+  private static final int PEEKED_NAME = 9;
+  private static final int PEEKED_NUMBER = 10;
+  private static final int PEEKED_EOF = 11;
+
+  /** Names of the response envelope, which appear in every response. */
+  private static final List<String> ENVELOPE_NAMES =
+      List.of(
+          "commandResponse",
+          "completionCode",
+          "reasonCode",
+          "overallCompletionCode",
+          "overallReasonCode",
+          "parameters",
+          "objects",
+          "message",
+          "error",
+          "msgId",
+          "explanation",
+          "action",
+          "type",
+          "");
+
+  /**
+   * Enumerated MQSC values that DISPLAY responses repeat across rows; the mapping tables hold only
+   * the few values they translate.
+   */
+  private static final List<String> ENUMERATED_VALUES =
+      List.of(
+          "YES",
+          "NO",
+          "ENABLED",
+          "DISABLED",
+          "NONE",
+          "DEF",
+          "QMGR",
+          "ALL",
+          "QLOCAL",
+          "QALIAS",
+          "QREMOTE",
+          "QMODEL",
+          "QCLUSTER",
+          "PREDEFINED",
+          "PERMDYN",
+          "TEMPDYN",
+          "SHAREDYN",
+          "NORMAL",
+          "XMITQ",
+          "SHARED",
+          "EXCL",
+          "FIFO",
+          "PRIORITY",
+          "PERSISTENT",
+          "NOTFIXED",
+          "FIRST",
+          "EVERY",
+          "DEPTH",
+          "HIGH",
+          "LOW",
+          "ON",
+          "OFF",
+          "SDR",
+          "SVR",
+          "RCVR",
+          "RQSTR",
+          "SVRCONN",
+          "CLNTCONN",
+          "CLUSSDR",
+          "CLUSRCVR",
+          "AMQP",
+          "MQTT",
+          "TCP",
+          "RUNNING",
+          "STOPPED",
+          "STOPPING",
+          "STARTING",
+          "RETRYING",
+          "BINDING",
+          "INITIALIZING",
+          "PAUSED",
+          "REQUESTING",
+          "SWITCHING",
+          "INACTIVE",
+          "ACTIVE",
+          "CONN",
+          "HANDLE",
+          "QUEUE",
+          "CHANNEL",
+          "OUTPUT",
+          "INPUT",
+          "BROWSE",
+          "INQUIRE",
+          "SET");
+
+  private static final StringTable DICTIONARY = buildDictionary(dictionaryStrings());
+
+  private final InputStream in;
+  private byte[] buffer;
+  private int pos;
+  private int limit;
+  private int[] stack = new int[32];
+  private int stackSize;
+  private int peeked = PEEKED_NONE;
+  private final StringTable names = new StringTable(MAX_DECODE_NAMES);
+
+  /**
+   * Creates a decoder that reads a body from a stream as it is consumed.
+   *
+   * @param in the UTF-8 encoded body, closed by {@link #close}
+   */
+  ResponseJsonDecoder(InputStream in) {
+    this.in = in;
+    this.buffer = new byte[BUFFER_SIZE];
+    push(EMPTY_DOCUMENT);
+  }
+
+  /**
+   * Decodes a complete body holding a single JSON value.
+   *
+   * <p>The text is encoded to UTF-8 a buffer at a time as the decoder reads it, so no encoded copy
+   * of the whole body is made.
+   *
+   * @param body the body text
+   * @return the decoded value
+   * @throws IOException if the body is not a single valid JSON value, as a {@link
+   *     MalformedJsonException}
+   */
+  static @Nullable Object decode(CharSequence body) throws IOException {
+    try (ResponseJsonDecoder decoder = new ResponseJsonDecoder(new Utf8Encoding(body))) {
+      Object value = decoder.readValue();
+      // Fails unless only whitespace follows the value
+      decoder.peek();
+      return value;
+    }
+  }
+
+  /**
+   * Returns the type of the next token without consuming it.
+   *
+   * @return the next token type
+   * @throws IOException if the input is malformed or cannot be read
+   */
+  JsonToken peek() throws IOException {
+    int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+    return switch (p) {
+      case PEEKED_BEGIN_OBJECT -> JsonToken.BEGIN_OBJECT;
+      case PEEKED_END_OBJECT -> JsonToken.END_OBJECT;
+      case PEEKED_BEGIN_ARRAY -> JsonToken.BEGIN_ARRAY;
+      case PEEKED_END_ARRAY -> JsonToken.END_ARRAY;
+      case PEEKED_TRUE, PEEKED_FALSE -> JsonToken.BOOLEAN;
+      case PEEKED_NULL -> JsonToken.NULL;
+      case PEEKED_STRING -> JsonToken.STRING;
+      case PEEKED_NAME -> JsonToken.NAME;
+      case PEEKED_NUMBER -> JsonToken.NUMBER;
+      default -> JsonToken.END_DOCUMENT;
+    };
+  }
+
+  /** Returns whether the current array or object has another element. */
+  boolean hasNext() throws IOException {
+    int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+    return p != PEEKED_END_OBJECT && p != PEEKED_END_ARRAY && p != PEEKED_EOF;
+  }
+
+  /** Consumes the start of an object. */
+  void beginObject() throws IOException {
+    expect(PEEKED_BEGIN_OBJECT, "Expected an object");
+    push(EMPTY_OBJECT);
+  }
+
+  /** Consumes the end of the current object. */
+  void endObject() throws IOException {
+    expect(PEEKED_END_OBJECT, "Expected end of object");
+    stackSize--;
+  }
+
+  /** Consumes the start of an array. */
+  void beginArray() throws IOException {
+    expect(PEEKED_BEGIN_ARRAY, "Expected an array");
+    push(EMPTY_ARRAY);
+  }
+
+  /** Consumes the end of the current array. */
+  void endArray() throws IOException {
+    expect(PEEKED_END_ARRAY, "Expected end of array");
+    stackSize--;
+  }
+
+  /**
+   * Consumes the next object member name.
+   *
+   * @return the name, shared with earlier occurrences in the same body
+   */
+  String nextName() throws IOException {
+    expect(PEEKED_NAME, "Expected a name");
+    return readString(true);
+  }
+
+  /**
+   * Consumes the next value, with all of its nested values.
+   *
+   * @return the decoded value
+   */
+  @Nullable Object readValue() throws IOException {
+    int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+    switch (p) {
+      case PEEKED_BEGIN_OBJECT -> {
+        Map<String, Object> map = new LinkedHashMap<>();
+        beginObject();
+        while (hasNext()) {
+          String name = nextName();
+          map.put(name, readValue());
+        }
+        endObject();
+        return map;
+      }
+      case PEEKED_BEGIN_ARRAY -> {
+        List<Object> list = new ArrayList<>();
+        beginArray();
+        while (hasNext()) {
+          list.add(readValue());
+        }
+        endArray();
+        return list;
+      }
+      case PEEKED_STRING -> {
+        peeked = PEEKED_NONE;
+        return readString(false);
+      }
+      case PEEKED_NUMBER -> {
+        peeked = PEEKED_NONE;
+        return readNumber();
+      }
+      case PEEKED_TRUE -> {
+        peeked = PEEKED_NONE;
+        return Boolean.TRUE;
+      }
+      case PEEKED_FALSE -> {
+        peeked = PEEKED_NONE;
+        return Boolean.FALSE;
+      }
+      case PEEKED_NULL -> {
+        peeked = PEEKED_NONE;
+        return null;
+      }
+      default -> throw syntaxError("Expected a value");
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  private void expect(int expected, String message) throws IOException {
+    int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+    if (p != expected) {
+      throw syntaxError(message);
+    }
+    peeked = PEEKED_NONE;
+  }
+
+  private void push(int scope) {
+    if (stackSize == stack.length) {
+      stack = Arrays.copyOf(stack, stackSize * 2);
+    }
+    stack[stackSize] = scope;
+    stackSize++;
+  }
+
+  /** Reads the separators before the next token and classifies it. */
+  private int doPeek() throws IOException {
+    int scope = stack[stackSize - 1];
+    int token;
+    if (scope == EMPTY_ARRAY || scope == NONEMPTY_ARRAY) {
+      token = peekInArray(scope);
+    } else if (scope == EMPTY_OBJECT || scope == NONEMPTY_OBJECT) {
+      token = peekInObject(scope);
+    } else if (scope == DANGLING_NAME) {
+      stack[stackSize - 1] = NONEMPTY_OBJECT;
+      if (nextNonWhitespace() != ':') {
+        throw syntaxError("Expected ':'");
+      }
+      token = peekValue(nextNonWhitespace());
+    } else if (scope == EMPTY_DOCUMENT) {
+      stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+      token = peekValue(nextNonWhitespace());
+    } else if (skipWhitespace()) {
+      token = PEEKED_EOF;
+    } else {
+      throw syntaxError("Expected end of document");
+    }
+    peeked = token;
+    return token;
+  }
+
+  private int peekInArray(int scope) throws IOException {
+    stack[stackSize - 1] = NONEMPTY_ARRAY;
+    int c = nextNonWhitespace();
+    if (c == ']') {
+      return PEEKED_END_ARRAY;
+    }
+    if (scope == NONEMPTY_ARRAY) {
+      if (c != ',') {
+        throw syntaxError("Unterminated array");
+      }
+      c = nextNonWhitespace();
+    }
+    return peekValue(c);
+  }
+
+  private int peekInObject(int scope) throws IOException {
+    stack[stackSize - 1] = DANGLING_NAME;
+    int c = nextNonWhitespace();
+    if (c == '}') {
+      return PEEKED_END_OBJECT;
+    }
+    if (scope == NONEMPTY_OBJECT) {
+      if (c != ',') {
+        throw syntaxError("Unterminated object");
+      }
+      c = nextNonWhitespace();
+    }
+    if (c != '"') {
+      throw syntaxError("Expected name");
+    }
+    return PEEKED_NAME;
+  }
+
+  /** Classifies the value starting with the given byte, which has been consumed. */
+  private int peekValue(int c) throws IOException {
+    return switch (c) {
+      case '"' -> PEEKED_STRING;
+      case '{' -> PEEKED_BEGIN_OBJECT;
+      case '[' -> PEEKED_BEGIN_ARRAY;
+      case 't' -> literal("rue", PEEKED_TRUE);
+      case 'f' -> literal("alse", PEEKED_FALSE);
+      case 'n' -> literal("ull", PEEKED_NULL);
+      default -> {
+        if (c != '-' && (c < '0' || c > '9')) {
+          throw syntaxError("Unexpected character");
+        }
+        // Leave the first byte for readNumber
+        pos--;
+        yield PEEKED_NUMBER;
+      }
+    };
+  }
+
+  private int literal(String rest, int token) throws IOException {
+    int length = rest.length();
+    if (!ensure(length)) {
+      throw syntaxError("Unexpected end of input");
+    }
+    for (int index = 0; index < length; index++) {
+      if (buffer[pos + index] != rest.charAt(index)) {
+        throw syntaxError("Unexpected character");
+      }
+    }
+    pos += length;
+    return token;
+  }
+
+  /** Consumes whitespace and returns the next byte, which must exist. */
+  private int nextNonWhitespace() throws IOException {
+    if (skipWhitespace()) {
+      throw syntaxError("Unexpected end of input");
+    }
+    byte b = buffer[pos];
+    pos++;
+    return b;
+  }
+
+  /**
+   * Consumes whitespace.
+   *
+   * @return true if the input ended
+   */
+  private boolean skipWhitespace() throws IOException {
+    while (true) {
+      if (pos == limit && !ensure(1)) {
+        return true;
+      }
+      byte b = buffer[pos];
+      if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+        return false;
+      }
+      pos++;
+    }
+  }
+
+  /**
+   * Makes at least {@code count} unread bytes available in the buffer, reading more of the stream
+   * and moving the unread bytes to the start of the buffer as needed.
+   *
+   * @return false if the input ends first
+   */
+  private boolean ensure(int count) throws IOException {
+    if (limit - pos >= count) {
+      return true;
+    }
+    int unread = limit - pos;
+    if (count > buffer.length) {
+      byte[] grown = new byte[Math.max(count, buffer.length * 2)];
+      System.arraycopy(buffer, pos, grown, 0, unread);
+      buffer = grown;
+    } else if (pos > 0) {
+      System.arraycopy(buffer, pos, buffer, 0, unread);
+    }
+    pos = 0;
+    limit = unread;
+    while (limit < count) {
+      int read = in.read(buffer, limit, buffer.length - limit);
+      if (read < 0) {
+        return false;
+      }
+      limit += read;
+    }
+    return true;
+  }
+
+  /** Reads the rest of a string whose opening quote has been consumed. */
+  private String readString(boolean name) throws IOException {
+    boolean ascii = true;
+    boolean escaped = false;
+    int length = 0;
+    int hash = 0;
+    for (byte b = stringByte(length); b != '"'; b = stringByte(length)) {
+      if (b == '\\') {
+        escaped = true;
+        length++;
+        // The escaped byte must exist and never closes the string
+        stringByte(length);
+      } else if (b < 0) {
+        ascii = false;
+      }
+      hash = 31 * hash + b;
+      length++;
+    }
+    int start = pos;
+    pos += length + 1;
+
+    if (escaped) {
+      return unescape(start, length);
+    }
+    if (!ascii) {
+      return new String(buffer, start, length, StandardCharsets.UTF_8);
+    }
+    return asciiString(start, length, hash, name);
+  }
+
+  /** Returns the byte at the given offset into the current string, reading more as needed. */
+  private byte stringByte(int offset) throws IOException {
+    if (pos + offset == limit && !ensure(offset + 1)) {
+      throw syntaxError("Unterminated string");
+    }
+    return buffer[pos + offset];
+  }
+
+  /** Returns an unescaped ASCII string, shared through the dictionary or the name table. */
+  private String asciiString(int start, int length, int hash, boolean name) {
+    if (length <= MAX_SHARED_LENGTH) {
+      String shared = DICTIONARY.get(buffer, start, length, hash);
+      if (shared != null) {
+        return shared;
+      }
+      if (name) {
+        return names.intern(buffer, start, length, hash);
+      }
+    }
+    return new String(buffer, start, length, StandardCharsets.ISO_8859_1);
+  }
+
+  private String unescape(int start, int length) throws MalformedJsonException {
+    StringBuilder builder = new StringBuilder(length);
+    int end = start + length;
+    int segment = start;
+    int index = start;
+    while (index < end) {
+      if (buffer[index] != '\\') {
+        index++;
+        continue;
+      }
+      // Escapes never occur inside a multi-byte UTF-8 sequence, so each segment decodes whole
+      builder.append(new String(buffer, segment, index - segment, StandardCharsets.UTF_8));
+      index = appendEscape(builder, index + 1, end);
+      segment = index;
+    }
+    builder.append(new String(buffer, segment, end - segment, StandardCharsets.UTF_8));
+    return builder.toString();
+  }
+
+  /**
+   * Appends the character of the escape sequence whose backslash precedes {@code index}.
+   *
+   * @return the index after the escape sequence
+   */
+  private int appendEscape(StringBuilder builder, int index, int end)
+      throws MalformedJsonException {
+    byte escape = buffer[index];
+    switch (escape) {
+      case '"', '\\', '/' -> builder.append((char) escape);
+      case 'b' -> builder.append('\b');
+      case 'f' -> builder.append('\f');
+      case 'n' -> builder.append('\n');
+      case 'r' -> builder.append('\r');
+      case 't' -> builder.append('\t');
+      case 'u' -> {
+        builder.append(hexEscape(index + 1, end));
+        return index + 5;
+      }
+      default -> throw syntaxError("Invalid escape sequence");
+    }
+    return index + 1;
+  }
+
+  /** Decodes the four hex digits of a {@code \\u} escape starting at {@code index}. */
+  private char hexEscape(int index, int end) throws MalformedJsonException {
+    if (index + 4 > end) {
+      throw syntaxError("Malformed Unicode escape");
+    }
+    int code = 0;
+    for (int digit = index; digit < index + 4; digit++) {
+      int value = Character.digit(buffer[digit], 16);
+      if (value < 0) {
+        throw syntaxError("Malformed Unicode escape");
+      }
+      code = (code << 4) | value;
+    }
+    return (char) code;
+  }
+
+  /** Reads a number starting at the current position. */
+  private Number readNumber() throws IOException {
+    int start = pos;
+    int end = start + numberLength();
+    pos = end;
+
+    boolean negative = buffer[start] == '-';
+    int digitsStart = negative ? start + 1 : start;
+    // A leading zero is a whole integer part; any digits after it are rejected below
+    int index =
+        digitsStart < end && buffer[digitsStart] == '0'
+            ? digitsStart + 1
+            : skipDigits(digitsStart, end);
+    if (index == digitsStart) {
+      throw syntaxError("Malformed number");
+    }
+    if (index == end) {
+      return wholeNumber(start, digitsStart, end, negative);
+    }
+    if (buffer[index] == '.') {
+      index = skipRequiredDigits(index + 1, end);
+    }
+    if (index < end && (buffer[index] == 'e' || buffer[index] == 'E')) {
+      index = skipExponent(index + 1, end);
+    }
+    if (index != end) {
+      throw syntaxError("Malformed number");
+    }
+    return Double.parseDouble(new String(buffer, start, end - start, StandardCharsets.ISO_8859_1));
+  }
+
+  /** Returns the number of bytes from the current position that can be part of a number. */
+  private int numberLength() throws IOException {
+    int length = 0;
+    while ((pos + length < limit || ensure(length + 1)) && isNumberByte(buffer[pos + length])) {
+      length++;
+    }
+    return length;
+  }
+
+  private static boolean isNumberByte(byte b) {
+    return b >= '0' && b <= '9' || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+  }
+
+  private int skipExponent(int index, int end) throws MalformedJsonException {
+    int digitsStart =
+        index < end && (buffer[index] == '+' || buffer[index] == '-') ? index + 1 : index;
+    return skipRequiredDigits(digitsStart, end);
+  }
+
+  private int skipRequiredDigits(int index, int end) throws MalformedJsonException {
+    int digitsEnd = skipDigits(index, end);
+    if (digitsEnd == index) {
+      throw syntaxError("Malformed number");
+    }
+    return digitsEnd;
+  }
+
+  private int skipDigits(int index, int end) {
+    while (index < end && buffer[index] >= '0' && buffer[index] <= '9') {
+      index++;
+    }
+    return index;
+  }
+
+  private Number wholeNumber(int start, int digitsStart, int end, boolean negative) {
+    long value;
+    if (end - digitsStart <= MAX_LONG_DIGITS) {
+      value = 0;
+      for (int index = digitsStart; index < end; index++) {
+        value = value * 10 + buffer[index] - '0';
+      }
+      if (negative) {
+        value = -value;
+      }
+    } else {
+      String text = new String(buffer, start, end - start, StandardCharsets.ISO_8859_1);
+      try {
+        value = Long.parseLong(text);
+      } catch (NumberFormatException e) {
+        return Double.parseDouble(text);
+      }
+    }
+    if (value == (int) value) {
+      return (int) value;
+    }
+    return value;
+  }
+
+  private MalformedJsonException syntaxError(String message) {
+    return new MalformedJsonException(message + " at byte " + pos);
+  }
+
+  private static Set<String> dictionaryStrings() {
+    Set<String> strings = new LinkedHashSet<>(ENVELOPE_NAMES);
+    strings.addAll(ENUMERATED_VALUES);
+    for (String string : MappingData.loadDefault().getResponseVocabulary()) {
+      strings.add(string);
+      strings.add(string.toLowerCase(Locale.ROOT));
+    }
+    return strings;
+  }
+
+  /**
+   * Builds a dictionary of the given distinct strings, leaving out those that are not ASCII or are
+   * longer than {@link #MAX_SHARED_LENGTH}. Package-private for testing.
+   */
+  static StringTable buildDictionary(Set<String> strings) {
+    StringTable table = new StringTable(strings.size());
+    for (String string : strings) {
+      byte[] bytes = string.getBytes(StandardCharsets.ISO_8859_1);
+      if (bytes.length <= MAX_SHARED_LENGTH
+          && StandardCharsets.US_ASCII.newEncoder().canEncode(string)) {
+        table.put(bytes, string);
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Open-addressing table of ASCII strings looked up by their bytes, so a match costs no
+   * allocation. Hashes are {@link String#hashCode} of the decoded string.
+   */
+  static final class StringTable {
+
+    private final byte[][] keys;
+    private final String[] values;
+    private final int mask;
+    private final int capacity;
+    private int size;
+
+    StringTable(int capacity) {
+      int slots = Integer.highestOneBit(Math.max(capacity, 8) * 2 - 1) * 2;
+      this.keys = new byte[slots][];
+      this.values = new String[slots];
+      this.mask = slots - 1;
+      this.capacity = capacity;
+    }
+
+    @Nullable String get(byte[] bytes, int start, int length, int hash) {
+      for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+        byte[] key = keys[slot];
+        if (key == null) {
+          return null;
+        }
+        if (Arrays.equals(key, 0, key.length, bytes, start, start + length)) {
+          return values[slot];
+        }
+      }
+    }
+
+    /** Returns the shared string for the bytes, adding it while the table has room. */
+    String intern(byte[] bytes, int start, int length, int hash) {
+      int slot = spread(hash) & mask;
+      for (byte[] key = keys[slot]; key != null; key = keys[slot]) {
+        if (Arrays.equals(key, 0, key.length, bytes, start, start + length)) {
+          return values[slot];
+        }
+        slot = (slot + 1) & mask;
+      }
+      String value = new String(bytes, start, length, StandardCharsets.ISO_8859_1);
+      if (size < capacity) {
+        keys[slot] = Arrays.copyOfRange(bytes, start, start + length);
+        values[slot] = value;
+        size++;
+      }
+      return value;
+    }
+
+    /** Adds a key that is not yet in the table. */
+    void put(byte[] key, String value) {
+      int slot = spread(value.hashCode()) & mask;
+      while (keys[slot] != null) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      values[slot] = value;
+      size++;
+    }
+
+    private static int spread(int hash) {
+      return hash ^ (hash >>> 16);
+    }
+  }
+
+  /**
+   * The UTF-8 encoding of a character sequence, produced as it is read. Unpaired surrogates are
+   * replaced, as {@link String#getBytes} does.
+   */
+  static final class Utf8Encoding extends InputStream {
+
+    /** Room for the longest encoding of one code point. */
+    private static final int MAX_CHAR_BYTES = 4;
+
+    private final CharBuffer chars;
+    private final CharsetEncoder encoder =
+        StandardCharsets.UTF_8
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer pending = ByteBuffer.allocate(MAX_CHAR_BYTES).flip();
+
+    Utf8Encoding(CharSequence text) {
+      super();
+      this.chars = CharBuffer.wrap(text);
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] one = new byte[1];
+      return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      Objects.checkFromIndexSize(offset, length, bytes.length);
+      if (length == 0) {
+        return 0;
+      }
+      ByteBuffer out = ByteBuffer.wrap(bytes, offset, length);
+      drainPending(out);
+      if (out.hasRemaining() && chars.hasRemaining()) {
+        encoder.encode(chars, out, true);
+        if (out.position() == offset) {
+          // The next character does not fit: encode it aside and hand out what fits
+          pending.clear();
+          encoder.encode(chars, pending, true);
+          pending.flip();
+          drainPending(out);
+        }
+      }
+      int count = out.position() - offset;
+      return count == 0 ? -1 : count;
+    }
+
+    private void drainPending(ByteBuffer out) {
+      while (pending.hasRemaining() && out.hasRemaining()) {
+        out.put(pending.get());
+      }
+    }
+  }
+}
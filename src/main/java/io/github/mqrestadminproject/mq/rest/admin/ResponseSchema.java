@@ -0,0 +1,88 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingData;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Ordered attribute dictionary shared by every {@link MqscRow} of a mapping qualifier.
+ *
+ * <p>The columns are the attributes that {@code mapping-data.json} declares for the qualifier's
+ * DISPLAY responses, in declaration order: the snake_case names when the session maps attributes,
+ * or the MQSC names when it does not. A session builds each schema once and reuses it for every
+ * typed result of that qualifier, so column indexes are stable and callers in hot loops can resolve
+ * them once with {@link #indexOf} and read rows by index.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ */
+public final class ResponseSchema {
+
+  private final String qualifier;
+  private final List<String> names;
+  private final Map<String, Integer> indexes;
+
+  ResponseSchema(String qualifier, Collection<String> names) {
+    this.qualifier = Objects.requireNonNull(qualifier, "qualifier");
+    this.names = List.copyOf(new LinkedHashSet<>(names));
+    Map<String, Integer> lookup = new HashMap<>();
+    for (int column = 0; column < this.names.size(); column++) {
+      lookup.put(this.names.get(column), column);
+    }
+    this.indexes = Map.copyOf(lookup);
+  }
+
+  /**
+   * Builds the schema for a qualifier from its {@code response_key_map}.
+   *
+   * @param mappingData the mapping data to read
+   * @param qualifier the mapping qualifier (e.g., "queue")
+   * @param mapped true for snake_case column names, false for MQSC column names
+   * @return the schema, empty if the qualifier is unknown
+   */
+  static ResponseSchema fromMapping(MappingData mappingData, String qualifier, boolean mapped) {
+    Map<String, String> responseKeyMap = mappingData.getResponseKeyMap(qualifier);
+    return new ResponseSchema(
+        qualifier, mapped ? responseKeyMap.values() : responseKeyMap.keySet());
+  }
+
+  /** Returns the mapping qualifier this schema describes (e.g., "queue"). */
+  public String qualifier() {
+    return qualifier;
+  }
+
+  /** Returns the number of columns. */
+  public int size() {
+    return names.size();
+  }
+
+  /** Returns the unmodifiable column names, in column order. */
+  public List<String> names() {
+    return names;
+  }
+
+  /**
+   * Returns the name of a column.
+   *
+   * @param column the column index
+   * @return the attribute name
+   * @throws IndexOutOfBoundsException if the column is out of range
+   */
+  public String name(int column) {
+    return names.get(column);
+  }
+
+  /**
+   * Returns the column index of an attribute.
+   *
+   * @param name the attribute name
+   * @return the column index, or -1 if the attribute is not part of the schema
+   */
+  public int indexOf(String name) {
+    Integer column = indexes.get(name);
+    return column != null ? column : -1;
+  }
+}
@@ -0,0 +1,34 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Response from an MQ REST API transport operation whose body has not yet been read.
+ *
+ * <p>Returned by {@link MqRestTransport#postJsonStream} so that large responses can be parsed
+ * incrementally. The caller owns the body stream and must {@link #close()} the response when done.
+ * Headers are defensively copied to guarantee unmodifiability.
+ *
+ * @param statusCode the HTTP status code
+ * @param body the unread response body, never null
+ * @param headers the response headers, never null, unmodifiable
+ */
+public record TransportStreamResponse(int statusCode, InputStream body, Map<String, String> headers)
+    implements Closeable {
+
+  /** Validates non-null fields and defensively copies headers. */
+  public TransportStreamResponse {
+    Objects.requireNonNull(body, "body");
+    headers = Map.copyOf(Objects.requireNonNull(headers, "headers"));
+  }
+
+  /** Closes the response body stream. */
+  @Override
+  public void close() throws IOException {
+    body.close();
+  }
+}
@@ -5,8 +5,9 @@ import java.util.Objects;
 /**
  * LTPA authentication credentials for the MQ REST API.
  *
- * <p>Mirrors pymqrest's {@code LTPAAuth} frozen dataclass. The session performs a login POST at
- * construction time and stores the {@code LtpaToken2} cookie for subsequent requests.
+ * <p>Mirrors pymqrest's {@code LTPAAuth} frozen dataclass. The session performs a login POST before
+ * its first command and stores the {@code LtpaToken2} cookie for subsequent requests, logging in
+ * again if the cookie is rejected.
  *
  * @param username the username for LTPA login, never null
  * @param password the password for LTPA login, never null
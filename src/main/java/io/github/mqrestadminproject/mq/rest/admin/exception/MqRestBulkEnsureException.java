@@ -0,0 +1,69 @@
+package io.github.mqrestadminproject.mq.rest.admin.exception;
+
+import io.github.mqrestadminproject.mq.rest.admin.ensure.EnsureResult;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Thrown when a bulk ensure could not apply the DEFINE or ALTER of every object.
+ *
+ * <p>Every command the bulk ensure needed was sent, so the objects in {@link #getResults()} are in
+ * their desired state: unchanged, or created or updated by a command that succeeded. Every other
+ * object has the {@link MqRestException} of its rejected DEFINE or ALTER in {@link #getFailures()}.
+ * The cause is the first failure.
+ */
+public final class MqRestBulkEnsureException extends MqRestException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Map<String, EnsureResult> results;
+  private final Map<String, MqRestException> failures;
+
+  /**
+   * Creates a bulk ensure exception.
+   *
+   * @param message description of the failure
+   * @param results the results of the objects that were ensured (copied, order preserved)
+   * @param failures the failure of each object that was not ensured (copied, order preserved); must
+   *     not be empty
+   * @throws IllegalArgumentException if failures is empty
+   */
+  public MqRestBulkEnsureException(
+      String message, Map<String, EnsureResult> results, Map<String, MqRestException> failures) {
+    super(message, firstFailure(failures));
+    this.results =
+        Collections.unmodifiableMap(
+            new LinkedHashMap<>(Objects.requireNonNull(results, "results")));
+    this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+  }
+
+  private static MqRestException firstFailure(Map<String, MqRestException> failures) {
+    Objects.requireNonNull(failures, "failures");
+    if (failures.isEmpty()) {
+      throw new IllegalArgumentException("failures must not be empty");
+    }
+    return failures.values().iterator().next();
+  }
+
+  /**
+   * Returns the results of the objects that were ensured, in the order the names were given. The
+   * returned map is unmodifiable.
+   *
+   * @return an unmodifiable map of object name to result
+   */
+  public Map<String, EnsureResult> getResults() {
+    return results;
+  }
+
+  /**
+   * Returns the failure of each object that was not ensured, in the order the names were given. The
+   * returned map is unmodifiable.
+   *
+   * @return an unmodifiable map of object name to failure
+   */
+  public Map<String, MqRestException> getFailures() {
+    return failures;
+  }
+}
@@ -0,0 +1,69 @@
+package io.github.mqrestadminproject.mq.rest.admin.exception;
+
+import io.github.mqrestadminproject.mq.rest.admin.sync.SyncResult;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Thrown when a bulk start, stop or restart does not complete for every object.
+ *
+ * <p>Objects that did complete keep their result in {@link #getResults()}. Every other object has
+ * its failure in {@link #getFailures()}: the {@link MqRestException} of a rejected START or STOP,
+ * or an {@link MqRestTimeoutException} if it did not reach its target state in time or polling was
+ * interrupted. The cause is the first failure.
+ */
+public final class MqRestBulkSyncException extends MqRestException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Map<String, SyncResult> results;
+  private final Map<String, MqRestException> failures;
+
+  /**
+   * Creates a bulk sync exception.
+   *
+   * @param message description of the failure
+   * @param results the results of the objects that completed (copied, order preserved)
+   * @param failures the failure of each object that did not complete (copied, order preserved);
+   *     must not be empty
+   * @throws IllegalArgumentException if failures is empty
+   */
+  public MqRestBulkSyncException(
+      String message, Map<String, SyncResult> results, Map<String, MqRestException> failures) {
+    super(message, firstFailure(failures));
+    this.results =
+        Collections.unmodifiableMap(
+            new LinkedHashMap<>(Objects.requireNonNull(results, "results")));
+    this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+  }
+
+  private static MqRestException firstFailure(Map<String, MqRestException> failures) {
+    Objects.requireNonNull(failures, "failures");
+    if (failures.isEmpty()) {
+      throw new IllegalArgumentException("failures must not be empty");
+    }
+    return failures.values().iterator().next();
+  }
+
+  /**
+   * Returns the results of the objects that completed, in the order the names were given. The
+   * returned map is unmodifiable.
+   *
+   * @return an unmodifiable map of object name to result
+   */
+  public Map<String, SyncResult> getResults() {
+    return results;
+  }
+
+  /**
+   * Returns the failure of each object that did not complete, in the order the names were given.
+   * The returned map is unmodifiable.
+   *
+   * @return an unmodifiable map of object name to failure
+   */
+  public Map<String, MqRestException> getFailures() {
+    return failures;
+  }
+}
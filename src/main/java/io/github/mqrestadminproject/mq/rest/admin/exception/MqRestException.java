@@ -10,7 +10,9 @@ public sealed class MqRestException extends RuntimeException
         MqRestResponseException,
         MqRestAuthException,
         MqRestCommandException,
-        MqRestTimeoutException {
+        MqRestTimeoutException,
+        MqRestBulkSyncException,
+        MqRestBulkEnsureException {
 
   private static final long serialVersionUID = 1L;
 
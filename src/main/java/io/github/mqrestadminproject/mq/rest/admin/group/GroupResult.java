@@ -0,0 +1,42 @@
+package io.github.mqrestadminproject.mq.rest.admin.group;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-queue-manager outcome of an operation run across a session group.
+ *
+ * <p>Every queue manager in the group appears in exactly one of the two maps. Both maps are keyed
+ * by queue manager name and iterate in the group's queue manager order. Result values may be {@code
+ * null} when the operation itself returns {@code null} (e.g. {@code displayQmstatus} with no
+ * response object).
+ *
+ * @param <T> the per-queue-manager result type
+ * @param results successful results by queue manager name, unmodifiable
+ * @param failures exceptions by queue manager name, unmodifiable
+ */
+public record GroupResult<T>(Map<String, T> results, Map<String, RuntimeException> failures) {
+
+  /**
+   * Creates a group result.
+   *
+   * @param results successful results by queue manager name (must not be null)
+   * @param failures exceptions by queue manager name (must not be null)
+   * @throws NullPointerException if either map is null
+   */
+  public GroupResult {
+    results =
+        Collections.unmodifiableMap(
+            new LinkedHashMap<>(Objects.requireNonNull(results, "results")));
+    failures =
+        Collections.unmodifiableMap(
+            new LinkedHashMap<>(Objects.requireNonNull(failures, "failures")));
+  }
+
+  /** Returns {@code true} if the operation succeeded on every queue manager. */
+  public boolean allSucceeded() {
+    return failures.isEmpty();
+  }
+}
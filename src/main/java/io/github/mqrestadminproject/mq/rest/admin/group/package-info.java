@@ -0,0 +1,2 @@
+/** Result types for operations fanned out across a group of queue managers. */
+package io.github.mqrestadminproject.mq.rest.admin.group;
@@ -1,5 +1,6 @@
 package io.github.mqrestadminproject.mq.rest.admin.mapping;
 
+import io.github.mqrestadminproject.mq.rest.admin.mapping.QualifierMapping.KeyValueTarget;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -109,31 +110,51 @@ public final class AttributeMapper {
     return result;
   }
 
+  /**
+   * Returns a mapper that maps response rows attribute by attribute while the caller builds them.
+   *
+   * @param qualifier the qualifier (e.g., "queue")
+   * @param strict if true, {@link ResponseRowMapper#finish} throws on mapping issues
+   * @return a new row mapper for one response
+   */
+  public ResponseRowMapper responseRowMapper(String qualifier, boolean strict) {
+    return new ResponseRowMapper(qualifier, data.getQualifierMapping(qualifier), strict);
+  }
+
+  /**
+   * Returns a read-only view of response attributes that maps names and values as they are read.
+   *
+   * <p>The view holds the raw attributes, whose names may be in any case, and presents the same
+   * entries that {@link #mapResponseAttributes} would return in permissive mode for the upper-cased
+   * attributes. {@link Map#get} and {@link Map#containsKey} translate only the requested attribute,
+   * through a precomputed reverse lookup; iterating, sizing or comparing the view maps every
+   * attribute once and keeps the result. Mapping issues are not reported.
+   *
+   * @param qualifier the qualifier (e.g., "queue")
+   * @param attributes the raw response attributes, which must not be modified afterwards
+   * @return the lazily mapped view
+   */
+  public Map<String, Object> responseView(String qualifier, Map<String, Object> attributes) {
+    return new LazyResponseAttributes(
+        this, qualifier, data.getQualifierMapping(qualifier), attributes);
+  }
+
   private Map<String, Object> mapAttributes(
       String qualifier,
       Map<String, Object> attributes,
       MappingDirection direction,
       @Nullable Integer objectIndex,
       List<MappingIssue> issues) {
-    Map<String, Object> qualifierData = data.getQualifierData(qualifier);
-    if (qualifierData == null) {
+    QualifierMapping qualifierMapping = data.getQualifierMapping(qualifier);
+    if (qualifierMapping == null) {
       issues.add(
           new MappingIssue(
               direction, MappingReason.UNKNOWN_QUALIFIER, qualifier, null, objectIndex, qualifier));
       return new LinkedHashMap<>(attributes);
     }
-    Map<String, String> keyMap =
-        getStringMap(
-            qualifierData,
-            direction == MappingDirection.REQUEST ? "request_key_map" : "response_key_map");
-    Map<String, Object> valueMap =
-        getNestedMap(
-            qualifierData,
-            direction == MappingDirection.REQUEST ? "request_value_map" : "response_value_map");
-    Map<String, Object> keyValueMap =
-        direction == MappingDirection.REQUEST
-            ? getNestedMap(qualifierData, "request_key_value_map")
-            : Map.of();
+    Map<String, String> keyMap = qualifierMapping.keyMap(direction);
+    Map<String, Map<String, String>> valueMap = qualifierMapping.valueMap(direction);
+    Map<String, Map<String, KeyValueTarget>> keyValueMap = qualifierMapping.keyValueMap(direction);
 
     Map<String, Object> result = new LinkedHashMap<>();
 
@@ -142,15 +163,13 @@ public final class AttributeMapper {
       Object attrValue = entry.getValue();
 
       // Layer 1: Key-value map (request only)
-      if (keyValueMap.containsKey(attrName)) {
-        if (attrValue instanceof String) {
-          Object mapped = mapKeyValue(keyValueMap, attrName, (String) attrValue);
-          if (mapped != null) {
-            @SuppressWarnings("unchecked")
-            Map<String, String> target = (Map<String, String>) mapped;
-            result.put(target.get("key"), target.get("value"));
-            continue;
-          }
+      Map<String, KeyValueTarget> keyValueTargets = keyValueMap.get(attrName);
+      if (keyValueTargets != null) {
+        KeyValueTarget target =
+            attrValue instanceof String ? keyValueTargets.get((String) attrValue) : null;
+        if (target != null) {
+          result.put(target.key(), target.value());
+          continue;
         }
         // Unknown value in key-value map
         issues.add(
@@ -166,108 +185,84 @@ public final class AttributeMapper {
       }
 
       // Layer 2: Key map
-      if (!keyMap.containsKey(attrName)) {
+      String mappedKey = keyMap.get(attrName);
+      if (mappedKey == null) {
         issues.add(
             new MappingIssue(
                 direction, MappingReason.UNKNOWN_KEY, attrName, attrValue, objectIndex, qualifier));
         result.put(attrName, attrValue);
         continue;
       }
-      String mappedKey = keyMap.get(attrName);
 
       // Layer 3: Value map
       Object mappedValue =
-          mapValue(valueMap, attrName, attrValue, direction, issues, objectIndex, qualifier);
+          mapValue(
+              valueMap.get(attrName),
+              attrName,
+              attrValue,
+              direction,
+              issues,
+              objectIndex,
+              qualifier);
       result.put(mappedKey, mappedValue);
     }
 
     return result;
   }
 
+  /**
+   * Translates one attribute value, recording unknown values in {@code issues} when it is not null.
+   */
   @SuppressWarnings("unchecked")
-  private static @Nullable Object mapKeyValue(
-      Map<String, Object> keyValueMap, String attrName, String attrValue) {
-    Object attrEntry = keyValueMap.get(attrName);
-    if (!(attrEntry instanceof Map)) {
-      return null;
-    }
-    Map<String, Object> valueMappings = (Map<String, Object>) attrEntry;
-    Object target = valueMappings.get(attrValue);
-    return target instanceof Map ? target : null;
-  }
-
-  @SuppressWarnings("unchecked")
-  private static Object mapValue(
-      Map<String, Object> valueMap,
+  static Object mapValue(
+      @Nullable Map<String, String> valueMappings,
       String attrName,
       Object attrValue,
       MappingDirection direction,
-      List<MappingIssue> issues,
+      @Nullable List<MappingIssue> issues,
       @Nullable Integer objectIndex,
       String qualifier) {
-    if (!valueMap.containsKey(attrName)) {
-      return attrValue;
-    }
-    Object mappingEntry = valueMap.get(attrName);
-    if (!(mappingEntry instanceof Map)) {
+    if (valueMappings == null) {
       return attrValue;
     }
-    Map<String, String> valueMappings = (Map<String, String>) mappingEntry;
 
     if (attrValue instanceof String) {
-      String mapped = valueMappings.get(attrValue);
-      if (mapped != null) {
-        return mapped;
-      }
-      issues.add(
-          new MappingIssue(
-              direction, MappingReason.UNKNOWN_VALUE, attrName, attrValue, objectIndex, qualifier));
-      return attrValue;
+      return mapString(
+          valueMappings, attrName, attrValue, direction, issues, objectIndex, qualifier);
     }
     if (attrValue instanceof List) {
       List<Object> listValue = (List<Object>) attrValue;
       List<Object> mappedList = new ArrayList<>();
       for (Object element : listValue) {
-        if (element instanceof String) {
-          String mapped = valueMappings.get(element);
-          if (mapped != null) {
-            mappedList.add(mapped);
-          } else {
-            issues.add(
-                new MappingIssue(
-                    direction,
-                    MappingReason.UNKNOWN_VALUE,
-                    attrName,
-                    element,
-                    objectIndex,
-                    qualifier));
-            mappedList.add(element);
-          }
-        } else {
-          mappedList.add(element);
-        }
+        mappedList.add(
+            element instanceof String
+                ? mapString(
+                    valueMappings, attrName, element, direction, issues, objectIndex, qualifier)
+                : element);
       }
       return mappedList;
     }
     return attrValue;
   }
 
-  @SuppressWarnings("unchecked")
-  private static Map<String, String> getStringMap(Map<String, Object> data, String key) {
-    Object value = data.get(key);
-    if (value instanceof Map) {
-      Map<String, String> result = new LinkedHashMap<>();
-      for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
-        result.put(entry.getKey(), String.valueOf(entry.getValue()));
-      }
-      return result;
+  /** Translates one string value, recording it in {@code issues} when the map does not know it. */
+  private static Object mapString(
+      Map<String, String> valueMappings,
+      String attrName,
+      Object value,
+      MappingDirection direction,
+      @Nullable List<MappingIssue> issues,
+      @Nullable Integer objectIndex,
+      String qualifier) {
+    String mapped = valueMappings.get(value);
+    if (mapped != null) {
+      return mapped;
     }
-    return Map.of();
-  }
-
-  @SuppressWarnings("unchecked")
-  private static Map<String, Object> getNestedMap(Map<String, Object> data, String key) {
-    Object value = data.get(key);
-    return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    if (issues != null) {
+      issues.add(
+          new MappingIssue(
+              direction, MappingReason.UNKNOWN_VALUE, attrName, value, objectIndex, qualifier));
+    }
+    return value;
   }
 }
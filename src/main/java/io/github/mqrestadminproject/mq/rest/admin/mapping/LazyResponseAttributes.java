@@ -0,0 +1,147 @@
+package io.github.mqrestadminproject.mq.rest.admin.mapping;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Read-only response row that keeps the raw MQSC attributes and maps them as they are read.
+ *
+ * <p>Presents the same entries as {@link AttributeMapper#mapResponseAttributes} in permissive mode
+ * applied to the upper-cased raw attributes: mapped names with mapped values, and unknown
+ * attributes under their upper-case MQSC name. A lookup by name resolves the MQSC attribute through
+ * the qualifier's precomputed reverse map and translates only that value, so reading a few
+ * attributes of a wide row costs a few lookups instead of a full mapping. Anything that needs every
+ * entry (iteration, {@code size}, {@code equals}, {@code toString}) maps the row once and keeps the
+ * result.
+ *
+ * <p>Raw attribute names are matched without regard to case. Rows from the MQ REST API use one case
+ * per name, which is looked up directly; other names are found through an upper-case index built on
+ * first need.
+ */
+final class LazyResponseAttributes extends AbstractMap<String, Object> {
+
+  /** Marks a missing attribute, since attribute values may be null. */
+  private static final Object ABSENT = new Object();
+
+  private final AttributeMapper mapper;
+  private final String qualifier;
+  private final @Nullable QualifierMapping mapping;
+  private final Map<String, Object> raw;
+  private final AtomicReference<@Nullable Map<String, Object>> upperCaseIndex =
+      new AtomicReference<>();
+  private final AtomicReference<@Nullable Map<String, Object>> mapped = new AtomicReference<>();
+
+  LazyResponseAttributes(
+      AttributeMapper mapper,
+      String qualifier,
+      @Nullable QualifierMapping mapping,
+      Map<String, Object> raw) {
+    super();
+    this.mapper = mapper;
+    this.qualifier = qualifier;
+    this.mapping = mapping;
+    this.raw = raw;
+  }
+
+  @Override
+  public @Nullable Object get(Object key) {
+    Object value = lookup(key);
+    return value == ABSENT ? null : value;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return lookup(key) != ABSENT;
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    return mapped().entrySet();
+  }
+
+  private @Nullable Object lookup(Object key) {
+    if (!(key instanceof String name)) {
+      return ABSENT;
+    }
+    QualifierMapping qualifierMapping = mapping;
+    Map<String, Object> alreadyMapped = mapped.get();
+    if (alreadyMapped != null
+        || qualifierMapping != null && qualifierMapping.isAmbiguousResponseName(name)) {
+      Map<String, Object> entries = alreadyMapped != null ? alreadyMapped : mapped();
+      Object value = entries.get(name);
+      return value != null || entries.containsKey(name) ? value : ABSENT;
+    }
+    if (qualifierMapping != null) {
+      String attribute = qualifierMapping.responseKeyFor(name);
+      if (attribute != null) {
+        Object value = rawValue(attribute);
+        if (value == null || value == ABSENT) {
+          return value;
+        }
+        return AttributeMapper.mapValue(
+            qualifierMapping.valueMap(MappingDirection.RESPONSE).get(attribute),
+            attribute,
+            value,
+            MappingDirection.RESPONSE,
+            null,
+            null,
+            qualifier);
+      }
+      // Mapped attributes are only found under their mapped name
+      if (qualifierMapping.keyMap(MappingDirection.RESPONSE).containsKey(name)) {
+        return ABSENT;
+      }
+    }
+    // Unknown attributes keep their upper-case MQSC name
+    return name.equals(name.toUpperCase(Locale.ROOT)) ? rawValue(name) : ABSENT;
+  }
+
+  private @Nullable Object rawValue(String upperCaseName) {
+    Object value = raw.get(upperCaseName);
+    if (value != null || raw.containsKey(upperCaseName)) {
+      return value;
+    }
+    String lowerCaseName = upperCaseName.toLowerCase(Locale.ROOT);
+    value = raw.get(lowerCaseName);
+    if (value != null || raw.containsKey(lowerCaseName)) {
+      return value;
+    }
+    Map<String, Object> index = upperCaseIndex();
+    value = index.get(upperCaseName);
+    return value != null || index.containsKey(upperCaseName) ? value : ABSENT;
+  }
+
+  private Map<String, Object> upperCaseIndex() {
+    Map<String, Object> index = upperCaseIndex.get();
+    if (index == null) {
+      index = upperCased();
+      upperCaseIndex.set(index);
+    }
+    return index;
+  }
+
+  private Map<String, Object> mapped() {
+    Map<String, Object> entries = mapped.get();
+    if (entries == null) {
+      entries =
+          Collections.unmodifiableMap(
+              mapper.mapResponseAttributes(qualifier, upperCaseIndex(), false));
+      mapped.set(entries);
+    }
+    return entries;
+  }
+
+  private Map<String, Object> upperCased() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    for (Map.Entry<String, Object> entry : raw.entrySet()) {
+      result.put(entry.getKey().toUpperCase(Locale.ROOT), entry.getValue());
+    }
+    return result;
+  }
+}
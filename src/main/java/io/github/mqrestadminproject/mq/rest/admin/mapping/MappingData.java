@@ -8,18 +8,30 @@ import java.io.Reader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import org.jspecify.annotations.Nullable;
 
 /**
  * Mapping data for attribute translation between snake_case and MQSC parameter names.
  *
- * <p>Wraps a structured map loaded from JSON (via Gson). Provides typed accessors for {@link
- * AttributeMapper} and supports override merging via {@link MappingOverrideMode}.
+ * <p>Wraps a structured map loaded from JSON (via Gson). The raw tree is compiled once, at
+ * construction, into immutable per-command and per-qualifier lookup tables that back the typed
+ * accessors used by {@link AttributeMapper} and the session. Supports override merging via {@link
+ * MappingOverrideMode}; every override produces a new instance and leaves its base unchanged.
+ *
+ * <p>The built-in mapping is parsed once per JVM and shared by every caller of {@link
+ * #loadDefault()}. A {@link MappingOverrideMode#MERGE} override is a thin layer over its base: it
+ * copies only the top-level sections, references the base's entries for everything it does not
+ * override, and recompiles only the commands and qualifiers it changes.
  *
  * <p>The JSON structure mirrors pymqrest's {@code MAPPING_DATA} dictionary, containing {@code
  * commands} (command-to-qualifier lookup) and {@code qualifiers} (per-qualifier mapping sub-maps).
@@ -32,19 +44,57 @@ public final class MappingData {
   private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
 
   private final Map<String, Object> data;
+  private final Map<String, CommandMapping> commandMappings;
+  private final Map<String, QualifierMapping> qualifierMappings;
+
+  /**
+   * Precompiled entry of the {@code commands} section.
+   *
+   * @param qualifier the mapping qualifier, or null if absent
+   * @param macros the response parameter macros in declaration order
+   * @param macroLookup case-insensitive macro lookup returning the declared macro name
+   */
+  private record CommandMapping(
+      @Nullable String qualifier, List<String> macros, Map<String, String> macroLookup) {}
+
+  /** Lazily parses the built-in resource on first use. */
+  private static final class DefaultHolder {
+    static final MappingData INSTANCE = loadFromResource(RESOURCE_NAME);
+  }
 
   private MappingData(Map<String, Object> data) {
     this.data = data;
+    this.commandMappings = compileCommands(getCommandsMap());
+    this.qualifierMappings = compileQualifiers(getQualifiersMap());
+  }
+
+  private MappingData(
+      Map<String, Object> data,
+      MappingData base,
+      Set<String> changedCommands,
+      Set<String> changedQualifiers) {
+    this.data = data;
+    this.commandMappings =
+        recompile(
+            base.commandMappings, getCommandsMap(), changedCommands, MappingData::compileCommand);
+    this.qualifierMappings =
+        recompile(
+            base.qualifierMappings,
+            getQualifiersMap(),
+            changedQualifiers,
+            MappingData::compileQualifier);
   }
 
   /**
-   * Loads the default mapping data from the classpath resource.
+   * Returns the default mapping data from the classpath resource.
+   *
+   * <p>The resource is parsed on the first call; every call returns the same immutable instance.
    *
    * @return mapping data loaded from the built-in resource file
    * @throws IllegalStateException if the resource cannot be found
    */
   public static MappingData loadDefault() {
-    return loadFromResource(RESOURCE_NAME);
+    return DefaultHolder.INSTANCE;
   }
 
   /**
@@ -125,18 +175,8 @@ public final class MappingData {
    * @return the qualifier name, or null if the command is unknown
    */
   public @Nullable String getQualifierForCommand(String command) {
-    Map<String, Object> commands = getCommandsMap();
-    if (commands == null) {
-      return null;
-    }
-    Object entry = commands.get(command);
-    if (entry instanceof Map) {
-      @SuppressWarnings("unchecked")
-      Map<String, Object> commandMap = (Map<String, Object>) entry;
-      Object qualifier = commandMap.get("qualifier");
-      return qualifier instanceof String ? (String) qualifier : null;
-    }
-    return null;
+    CommandMapping commandMapping = commandMappings.get(command);
+    return commandMapping != null ? commandMapping.qualifier() : null;
   }
 
   /**
@@ -148,69 +188,78 @@ public final class MappingData {
    *
    * @param command the MQSC command (e.g., "DISPLAY")
    * @param qualifier the MQSC qualifier (e.g., "QUEUE")
-   * @return the list of macro names, or an empty list if the command is unknown or has no macros
+   * @return the unmodifiable list of macro names, or an empty list if the command is unknown or has
+   *     no macros
    */
-  @SuppressWarnings("unchecked")
   public List<String> getResponseParameterMacros(String command, String qualifier) {
-    Map<String, Object> commands = getCommandsMap();
-    if (commands == null) {
-      return List.of();
-    }
-    String commandKey = command + " " + qualifier;
-    Object entry = commands.get(commandKey);
-    if (!(entry instanceof Map)) {
-      return List.of();
-    }
-    Map<String, Object> commandMap = (Map<String, Object>) entry;
-    Object macros = commandMap.get("response_parameter_macros");
-    if (!(macros instanceof List)) {
-      return List.of();
-    }
-    List<String> result = new ArrayList<>();
-    for (Object item : (List<Object>) macros) {
-      if (item instanceof String) {
-        result.add((String) item);
-      }
-    }
-    return result;
+    CommandMapping commandMapping = commandMappings.get(command + " " + qualifier);
+    return commandMapping != null ? commandMapping.macros() : List.of();
   }
 
   /**
-   * Builds a combined snake_case-to-MQSC lookup map for the given qualifier.
+   * Resolves a response parameter against the command's macros, ignoring case.
+   *
+   * @param command the MQSC command (e.g., "DISPLAY")
+   * @param qualifier the MQSC qualifier (e.g., "QUEUE")
+   * @param parameter the requested response parameter (e.g., "clusinfo")
+   * @return the macro name as declared in the mapping data, or null if the parameter is not a macro
+   */
+  public @Nullable String resolveResponseParameterMacro(
+      String command, String qualifier, String parameter) {
+    CommandMapping commandMapping = commandMappings.get(command + " " + qualifier);
+    return commandMapping != null ? commandMapping.macroLookup().get(parameter) : null;
+  }
+
+  /**
+   * Returns the combined snake_case-to-MQSC lookup map for the given qualifier.
    *
    * <p>Inverts the {@code response_key_map} (MQSC→snake becomes snake→MQSC) and overlays the {@code
    * request_key_map} (snake→MQSC takes precedence). This is used by the session to map WHERE
-   * keywords and response parameter names from user-friendly snake_case to MQSC names.
+   * keywords and response parameter names from user-friendly snake_case to MQSC names. The map is
+   * built once when the mapping data is created.
    *
    * @param qualifier the qualifier name (e.g., "queue")
-   * @return the combined map, or an empty map if the qualifier is unknown
+   * @return the unmodifiable combined map, or an empty map if the qualifier is unknown
    */
-  @SuppressWarnings("unchecked")
   public Map<String, String> getSnakeToMqscMap(String qualifier) {
-    Map<String, Object> qualifierData = getQualifierData(qualifier);
-    if (qualifierData == null) {
-      return Map.of();
-    }
-    Map<String, String> result = new LinkedHashMap<>();
-    // Start with inverted response_key_map (MQSC→snake → snake→MQSC)
-    Object responseKeyMap = qualifierData.get("response_key_map");
-    if (responseKeyMap instanceof Map) {
-      for (Map.Entry<String, Object> entry : ((Map<String, Object>) responseKeyMap).entrySet()) {
-        if (entry.getValue() instanceof String) {
-          result.put((String) entry.getValue(), entry.getKey());
-        }
-      }
-    }
-    // Overlay with request_key_map (snake→MQSC, takes precedence)
-    Object requestKeyMap = qualifierData.get("request_key_map");
-    if (requestKeyMap instanceof Map) {
-      for (Map.Entry<String, Object> entry : ((Map<String, Object>) requestKeyMap).entrySet()) {
-        if (entry.getValue() instanceof String) {
-          result.put(entry.getKey(), (String) entry.getValue());
-        }
+    QualifierMapping qualifierMapping = qualifierMappings.get(qualifier);
+    return qualifierMapping != null ? qualifierMapping.snakeToMqscMap() : Map.of();
+  }
+
+  /**
+   * Returns the response attribute name map (MQSC→snake_case) for a qualifier.
+   *
+   * <p>The keys are the MQSC attributes the mapping knows a DISPLAY can return for the qualifier.
+   * The session uses this to decide whether an attribute can be requested by name.
+   *
+   * @param qualifier the qualifier name (e.g., "queue")
+   * @return the unmodifiable response key map, or an empty map if the qualifier is unknown
+   */
+  public Map<String, String> getResponseKeyMap(String qualifier) {
+    QualifierMapping qualifierMapping = qualifierMappings.get(qualifier);
+    return qualifierMapping != null ? qualifierMapping.keyMap(MappingDirection.RESPONSE) : Map.of();
+  }
+
+  /**
+   * Returns every MQSC attribute name and attribute value the response mappings know, across all
+   * qualifiers.
+   *
+   * <p>These are the strings a response is made of: the keys of each {@code response_key_map} and
+   * the keys of each {@code response_value_map} entry. The JSON decoder uses them as its dictionary
+   * of shared strings.
+   *
+   * @return the unmodifiable set of response names and values
+   */
+  public Set<String> getResponseVocabulary() {
+    Set<String> vocabulary = new HashSet<>();
+    for (QualifierMapping qualifierMapping : qualifierMappings.values()) {
+      vocabulary.addAll(qualifierMapping.keyMap(MappingDirection.RESPONSE).keySet());
+      for (Map<String, String> values :
+          qualifierMapping.valueMap(MappingDirection.RESPONSE).values()) {
+        vocabulary.addAll(values.keySet());
       }
     }
-    return result;
+    return Collections.unmodifiableSet(vocabulary);
   }
 
   /**
@@ -229,6 +278,16 @@ public final class MappingData {
     return entry instanceof Map ? (Map<String, Object>) entry : null;
   }
 
+  /**
+   * Returns the precompiled lookup tables for the given qualifier.
+   *
+   * @param qualifier the qualifier name (e.g., "queue")
+   * @return the compiled qualifier mapping, or null if the qualifier is unknown
+   */
+  @Nullable QualifierMapping getQualifierMapping(String qualifier) {
+    return qualifierMappings.get(qualifier);
+  }
+
   /**
    * Returns whether the given qualifier exists in the mapping data.
    *
@@ -236,7 +295,7 @@ public final class MappingData {
    * @return true if the qualifier exists, false otherwise
    */
   public boolean hasQualifier(String qualifier) {
-    return getQualifierData(qualifier) != null;
+    return qualifierMappings.containsKey(qualifier);
   }
 
   @SuppressWarnings("unchecked")
@@ -251,6 +310,94 @@ public final class MappingData {
     return qualifiers instanceof Map ? (Map<String, Object>) qualifiers : null;
   }
 
+  private static Map<String, CommandMapping> compileCommands(
+      @Nullable Map<String, Object> commands) {
+    if (commands == null) {
+      return Map.of();
+    }
+    Map<String, CommandMapping> result = new HashMap<>();
+    for (Map.Entry<String, Object> entry : commands.entrySet()) {
+      CommandMapping commandMapping = compileCommand(entry.getValue());
+      if (commandMapping != null) {
+        result.put(entry.getKey(), commandMapping);
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static @Nullable CommandMapping compileCommand(@Nullable Object entry) {
+    if (!(entry instanceof Map)) {
+      return null;
+    }
+    Map<String, Object> commandMap = (Map<String, Object>) entry;
+    Object qualifier = commandMap.get("qualifier");
+    List<String> macros = new ArrayList<>();
+    Map<String, String> macroLookup = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    if (commandMap.get("response_parameter_macros") instanceof List) {
+      for (Object item : (List<Object>) commandMap.get("response_parameter_macros")) {
+        if (item instanceof String macro) {
+          macros.add(macro);
+          macroLookup.put(macro, macro);
+        }
+      }
+    }
+    return new CommandMapping(
+        qualifier instanceof String ? (String) qualifier : null,
+        List.copyOf(macros),
+        Collections.unmodifiableMap(macroLookup));
+  }
+
+  private static Map<String, QualifierMapping> compileQualifiers(
+      @Nullable Map<String, Object> qualifiers) {
+    if (qualifiers == null) {
+      return Map.of();
+    }
+    Map<String, QualifierMapping> result = new HashMap<>();
+    for (Map.Entry<String, Object> entry : qualifiers.entrySet()) {
+      QualifierMapping qualifierMapping = compileQualifier(entry.getValue());
+      if (qualifierMapping != null) {
+        result.put(entry.getKey(), qualifierMapping);
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static @Nullable QualifierMapping compileQualifier(@Nullable Object entry) {
+    return entry instanceof Map ? QualifierMapping.compile((Map<String, Object>) entry) : null;
+  }
+
+  /**
+   * Copies a base instance's compiled table, recompiling only the changed keys of its section.
+   *
+   * @param compiled the base's compiled table
+   * @param section the merged raw section, which is present whenever keys changed
+   * @param changedKeys the keys the override touched
+   * @param compiler compiles one raw entry, returning null for malformed entries
+   * @return the unmodifiable compiled table
+   */
+  private static <T> Map<String, T> recompile(
+      Map<String, T> compiled,
+      @Nullable Map<String, Object> section,
+      Set<String> changedKeys,
+      Function<@Nullable Object, @Nullable T> compiler) {
+    if (changedKeys.isEmpty()) {
+      return compiled;
+    }
+    Map<String, Object> changedSection = Objects.requireNonNull(section, "section");
+    Map<String, T> result = new HashMap<>(compiled);
+    for (String key : changedKeys) {
+      T entry = compiler.apply(changedSection.get(key));
+      if (entry != null) {
+        result.put(key, entry);
+      } else {
+        result.remove(key);
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
   private static void validateTopLevelKeys(Map<String, Object> map) {
     for (String key : map.keySet()) {
       if (!VALID_TOP_LEVEL_KEYS.contains(key)) {
@@ -289,33 +436,40 @@ public final class MappingData {
   }
 
   private MappingData applyMerge(Map<String, Object> overrides) {
-    Map<String, Object> merged = deepCopy(data);
-    mergeSection(merged, overrides, "commands");
-    mergeSection(merged, overrides, "qualifiers");
-    return new MappingData(merged);
+    Map<String, Object> merged = new LinkedHashMap<>(data);
+    Set<String> changedCommands = mergeSection(merged, overrides, "commands");
+    Set<String> changedQualifiers = mergeSection(merged, overrides, "qualifiers");
+    return new MappingData(merged, this, changedCommands, changedQualifiers);
   }
 
+  /**
+   * Merges one override section into a shallow copy of the base section. Base entries that are not
+   * overridden are shared, not copied, so they must never be mutated.
+   *
+   * @return the keys of the section the override touched
+   */
   @SuppressWarnings("unchecked")
-  private static void mergeSection(
+  private static Set<String> mergeSection(
       Map<String, Object> base, Map<String, Object> overrides, String section) {
     Object overrideSection = overrides.get(section);
     if (!(overrideSection instanceof Map)) {
-      return;
+      return Set.of();
     }
     Map<String, Object> overrideMap = (Map<String, Object>) overrideSection;
     Object baseSection = base.get(section);
     if (!(baseSection instanceof Map)) {
       base.put(section, deepCopy(overrideMap));
-      return;
+      return overrideMap.keySet();
     }
-    Map<String, Object> baseMap = (Map<String, Object>) baseSection;
+    Map<String, Object> baseMap = new LinkedHashMap<>((Map<String, Object>) baseSection);
+    base.put(section, baseMap);
     for (Map.Entry<String, Object> entry : overrideMap.entrySet()) {
       String key = entry.getKey();
       Object overrideValue = entry.getValue();
       Object baseValue = baseMap.get(key);
       if (baseValue instanceof Map && overrideValue instanceof Map) {
         Map<String, Object> mergedSub = new LinkedHashMap<>((Map<String, Object>) baseValue);
-        mergedSub.putAll((Map<String, Object>) overrideValue);
+        mergedSub.putAll(deepCopy((Map<String, Object>) overrideValue));
         baseMap.put(key, mergedSub);
       } else {
         baseMap.put(
@@ -325,6 +479,7 @@ public final class MappingData {
                 : overrideValue);
       }
     }
+    return overrideMap.keySet();
   }
 
   @SuppressWarnings("unchecked")
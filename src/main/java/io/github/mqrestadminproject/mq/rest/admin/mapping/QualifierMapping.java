@@ -0,0 +1,193 @@
+package io.github.mqrestadminproject.mq.rest.admin.mapping;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Precompiled, immutable lookup tables for a single mapping qualifier.
+ *
+ * <p>Built once by {@link MappingData} from the raw qualifier entry of the mapping JSON so that
+ * {@link AttributeMapper} and the session can translate keys and values without re-reading and
+ * re-copying the untyped Gson tree on every call.
+ */
+final class QualifierMapping {
+
+  private final Map<String, String> requestKeyMap;
+  private final Map<String, String> responseKeyMap;
+  private final Map<String, Map<String, String>> requestValueMap;
+  private final Map<String, Map<String, String>> responseValueMap;
+  private final Map<String, Map<String, KeyValueTarget>> requestKeyValueMap;
+  private final Map<String, String> snakeToMqscMap;
+  private final Map<String, String> responseKeyInverse;
+  private final Set<String> ambiguousResponseNames;
+
+  /**
+   * Target of a request key-value mapping: a synthetic attribute value that expands to a new MQSC
+   * key and value (e.g. {@code replace=yes} becomes {@code REPLACE=YES}).
+   *
+   * @param key the MQSC parameter name
+   * @param value the MQSC parameter value
+   */
+  record KeyValueTarget(String key, Object value) {}
+
+  private QualifierMapping(Map<String, Object> qualifierData) {
+    this.requestKeyMap = compileKeyMap(qualifierData.get("request_key_map"));
+    this.responseKeyMap = compileKeyMap(qualifierData.get("response_key_map"));
+    this.requestValueMap = compileValueMap(qualifierData.get("request_value_map"));
+    this.responseValueMap = compileValueMap(qualifierData.get("response_value_map"));
+    this.requestKeyValueMap = compileKeyValueMap(qualifierData.get("request_key_value_map"));
+    this.snakeToMqscMap =
+        compileSnakeToMqscMap(
+            qualifierData.get("response_key_map"), qualifierData.get("request_key_map"));
+    Map<String, String> inverse = new HashMap<>();
+    Set<String> ambiguous = new HashSet<>();
+    for (Map.Entry<String, String> entry : responseKeyMap.entrySet()) {
+      if (inverse.putIfAbsent(entry.getValue(), entry.getKey()) != null) {
+        ambiguous.add(entry.getValue());
+      }
+    }
+    ambiguous.forEach(inverse::remove);
+    this.responseKeyInverse = Collections.unmodifiableMap(inverse);
+    this.ambiguousResponseNames = Collections.unmodifiableSet(ambiguous);
+  }
+
+  /**
+   * Compiles the raw qualifier entry from the mapping JSON.
+   *
+   * @param qualifierData the raw qualifier map (e.g. the value of {@code qualifiers.queue})
+   * @return the compiled lookup tables
+   */
+  static QualifierMapping compile(Map<String, Object> qualifierData) {
+    return new QualifierMapping(qualifierData);
+  }
+
+  /** Returns the attribute name map for the given direction. */
+  Map<String, String> keyMap(MappingDirection direction) {
+    return direction == MappingDirection.REQUEST ? requestKeyMap : responseKeyMap;
+  }
+
+  /** Returns the per-attribute value maps for the given direction. */
+  Map<String, Map<String, String>> valueMap(MappingDirection direction) {
+    return direction == MappingDirection.REQUEST ? requestValueMap : responseValueMap;
+  }
+
+  /** Returns the key-value maps for the given direction (always empty for responses). */
+  Map<String, Map<String, KeyValueTarget>> keyValueMap(MappingDirection direction) {
+    return direction == MappingDirection.REQUEST ? requestKeyValueMap : Map.of();
+  }
+
+  /**
+   * Returns the combined snake_case-to-MQSC map: the inverted {@code response_key_map} overlaid
+   * with the {@code request_key_map}.
+   */
+  Map<String, String> snakeToMqscMap() {
+    return snakeToMqscMap;
+  }
+
+  /**
+   * Returns the MQSC attribute that the {@code response_key_map} maps to a name, or null if no
+   * attribute does or several do.
+   *
+   * @param mappedName the mapped attribute name (e.g. {@code current_queue_depth})
+   * @return the MQSC attribute name (e.g. {@code CURDEPTH}), or null
+   */
+  @Nullable String responseKeyFor(String mappedName) {
+    return responseKeyInverse.get(mappedName);
+  }
+
+  /** Returns whether several MQSC attributes map to the same response name. */
+  boolean isAmbiguousResponseName(String mappedName) {
+    return ambiguousResponseNames.contains(mappedName);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, String> compileKeyMap(@Nullable Object raw) {
+    if (!(raw instanceof Map)) {
+      return Map.of();
+    }
+    Map<String, String> result = new LinkedHashMap<>();
+    for (Map.Entry<String, Object> entry : ((Map<String, Object>) raw).entrySet()) {
+      result.put(entry.getKey(), String.valueOf(entry.getValue()));
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Map<String, String>> compileValueMap(@Nullable Object raw) {
+    if (!(raw instanceof Map)) {
+      return Map.of();
+    }
+    Map<String, Map<String, String>> result = new LinkedHashMap<>();
+    for (Map.Entry<String, Object> entry : ((Map<String, Object>) raw).entrySet()) {
+      if (entry.getValue() instanceof Map) {
+        result.put(entry.getKey(), compileKeyMap(entry.getValue()));
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Map<String, KeyValueTarget>> compileKeyValueMap(@Nullable Object raw) {
+    if (!(raw instanceof Map)) {
+      return Map.of();
+    }
+    Map<String, Map<String, KeyValueTarget>> result = new LinkedHashMap<>();
+    for (Map.Entry<String, Object> entry : ((Map<String, Object>) raw).entrySet()) {
+      // A non-map entry still marks the attribute as key-value mapped, with no valid values
+      Map<String, KeyValueTarget> targets = new LinkedHashMap<>();
+      if (entry.getValue() instanceof Map) {
+        for (Map.Entry<String, Object> valueEntry :
+            ((Map<String, Object>) entry.getValue()).entrySet()) {
+          KeyValueTarget target = compileKeyValueTarget(valueEntry.getValue());
+          if (target != null) {
+            targets.put(valueEntry.getKey(), target);
+          }
+        }
+      }
+      result.put(entry.getKey(), Collections.unmodifiableMap(targets));
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static @Nullable KeyValueTarget compileKeyValueTarget(@Nullable Object raw) {
+    if (!(raw instanceof Map)) {
+      return null;
+    }
+    Map<String, Object> target = (Map<String, Object>) raw;
+    Object key = target.get("key");
+    Object value = target.get("value");
+    if (key instanceof String keyString && value != null) {
+      return new KeyValueTarget(keyString, value);
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, String> compileSnakeToMqscMap(
+      @Nullable Object responseKeyMap, @Nullable Object requestKeyMap) {
+    Map<String, String> result = new LinkedHashMap<>();
+    // Start with inverted response_key_map (MQSC→snake → snake→MQSC)
+    if (responseKeyMap instanceof Map) {
+      for (Map.Entry<String, Object> entry : ((Map<String, Object>) responseKeyMap).entrySet()) {
+        if (entry.getValue() instanceof String) {
+          result.put((String) entry.getValue(), entry.getKey());
+        }
+      }
+    }
+    // Overlay with request_key_map (snake→MQSC, takes precedence)
+    if (requestKeyMap instanceof Map) {
+      for (Map.Entry<String, Object> entry : ((Map<String, Object>) requestKeyMap).entrySet()) {
+        if (entry.getValue() instanceof String) {
+          result.put(entry.getKey(), (String) entry.getValue());
+        }
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+}
@@ -0,0 +1,121 @@
+package io.github.mqrestadminproject.mq.rest.admin.mapping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Maps the rows of one response attribute by attribute, as a caller walks the decoded response.
+ *
+ * <p>Produces the same rows, issues and exceptions as {@link AttributeMapper#mapResponseList}
+ * applied to rows whose attribute names were upper-cased first, without building the upper-cased
+ * rows: each attribute is normalized, mapped and written straight into the caller's row.
+ * Upper-cased names are cached for the lifetime of the mapper, since the rows of a response share
+ * their attribute names.
+ *
+ * <p>Obtained from {@link AttributeMapper#responseRowMapper}; an instance maps one response on one
+ * thread.
+ *
+ * <pre>{@code
+ * ResponseRowMapper rowMapper = mapper.responseRowMapper("queue", true);
+ * for (Map<String, Object> attributes : rawRows) {
+ *   Map<String, Object> row = new LinkedHashMap<>();
+ *   rowMapper.beginRow();
+ *   attributes.forEach((name, value) -> rowMapper.put(row, name, value));
+ *   rows.add(row);
+ * }
+ * rowMapper.finish();
+ * }</pre>
+ */
+public final class ResponseRowMapper {
+
+  private final String qualifier;
+  private final @Nullable QualifierMapping qualifierMapping;
+  private final Map<String, String> keyMap;
+  private final Map<String, Map<String, String>> valueMap;
+  private final boolean strict;
+  private final Map<String, String> upperCaseNames = new HashMap<>();
+  private final List<MappingIssue> issues = new ArrayList<>();
+  private int objectIndex = -1;
+
+  ResponseRowMapper(String qualifier, @Nullable QualifierMapping qualifierMapping, boolean strict) {
+    this.qualifier = qualifier;
+    this.qualifierMapping = qualifierMapping;
+    this.keyMap =
+        qualifierMapping != null ? qualifierMapping.keyMap(MappingDirection.RESPONSE) : Map.of();
+    this.valueMap =
+        qualifierMapping != null ? qualifierMapping.valueMap(MappingDirection.RESPONSE) : Map.of();
+    this.strict = strict;
+  }
+
+  /** Starts the next row, which issues are attributed to until the next call. */
+  public void beginRow() {
+    objectIndex++;
+    if (qualifierMapping == null) {
+      issues.add(
+          new MappingIssue(
+              MappingDirection.RESPONSE,
+              MappingReason.UNKNOWN_QUALIFIER,
+              qualifier,
+              null,
+              objectIndex,
+              qualifier));
+    }
+  }
+
+  /**
+   * Maps one response attribute of the current row and puts it into {@code row}.
+   *
+   * @param row the row being built
+   * @param attributeName the MQSC attribute name, in any case
+   * @param value the attribute value
+   */
+  public void put(Map<String, Object> row, String attributeName, Object value) {
+    String name = upperCaseNames.computeIfAbsent(attributeName, ResponseRowMapper::upperCase);
+    if (qualifierMapping == null) {
+      row.put(name, value);
+      return;
+    }
+    String mappedName = keyMap.get(name);
+    if (mappedName == null) {
+      issues.add(
+          new MappingIssue(
+              MappingDirection.RESPONSE,
+              MappingReason.UNKNOWN_KEY,
+              name,
+              value,
+              objectIndex,
+              qualifier));
+      row.put(name, value);
+      return;
+    }
+    row.put(
+        mappedName,
+        AttributeMapper.mapValue(
+            valueMap.get(name),
+            name,
+            value,
+            MappingDirection.RESPONSE,
+            issues,
+            objectIndex,
+            qualifier));
+  }
+
+  /**
+   * Completes the response.
+   *
+   * @throws MappingException if the mapper is strict and any attribute could not be mapped
+   */
+  public void finish() {
+    if (strict && !issues.isEmpty()) {
+      throw new MappingException(issues);
+    }
+  }
+
+  private static String upperCase(String name) {
+    return name.toUpperCase(Locale.ROOT);
+  }
+}
@@ -5,26 +5,67 @@ import java.io.Serializable;
 /**
  * Configuration for sync polling operations.
  *
- * <p>Controls the timeout and polling interval for sync methods that wait for an object to reach a
- * target state.
+ * <p>Controls the timeout and polling schedule for sync methods that wait for an object to reach a
+ * target state. The first status check happens after {@code initialDelaySeconds}; each later check
+ * waits {@code pollIntervalSeconds} multiplied by {@code backoffMultiplier} once per earlier wait,
+ * capped at {@code maxPollIntervalSeconds}. Every delay is then spread by up to {@code jitter} (a
+ * fraction of the delay) in either direction so that many concurrent sync calls do not poll in
+ * lockstep.
+ *
+ * <p>The defaults check immediately and then back off from a short interval, so objects that change
+ * state quickly are detected quickly and slow ones are polled less often. The two-argument
+ * constructor keeps the fixed schedule of earlier releases: sleep {@code pollIntervalSeconds}
+ * before every check.
  *
  * <p>Mirrors pymqrest's {@code SyncConfig}.
+ *
+ * @param timeoutSeconds the maximum time to wait in seconds
+ * @param pollIntervalSeconds the delay before the second check in seconds
+ * @param initialDelaySeconds the delay before the first check in seconds
+ * @param backoffMultiplier the factor applied to the interval after each check
+ * @param maxPollIntervalSeconds the upper bound for the interval before jitter, in seconds
+ * @param jitter the fraction by which each delay is randomly lengthened or shortened
  */
-public record SyncConfig(double timeoutSeconds, double pollIntervalSeconds)
+public record SyncConfig(
+    double timeoutSeconds,
+    double pollIntervalSeconds,
+    double initialDelaySeconds,
+    double backoffMultiplier,
+    double maxPollIntervalSeconds,
+    double jitter)
     implements Serializable {
 
   /** Default timeout in seconds (30). */
   public static final double DEFAULT_TIMEOUT_SECONDS = 30.0;
 
-  /** Default poll interval in seconds (1). */
+  /**
+   * Poll interval in seconds (1) of the fixed schedule used by earlier releases. Pass it to the
+   * two-argument constructor to keep that schedule.
+   */
   public static final double DEFAULT_POLL_INTERVAL_SECONDS = 1.0;
 
+  /** Default delay before the second check in seconds (0.25), the start of the backoff. */
+  public static final double DEFAULT_INITIAL_POLL_INTERVAL_SECONDS = 0.25;
+
+  /** Default delay before the first check in seconds (0, check immediately). */
+  public static final double DEFAULT_INITIAL_DELAY_SECONDS = 0.0;
+
+  /** Default backoff multiplier (2). */
+  public static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0;
+
+  /** Default maximum poll interval in seconds (5). */
+  public static final double DEFAULT_MAX_POLL_INTERVAL_SECONDS = 5.0;
+
+  /** Default jitter fraction (0.1). */
+  public static final double DEFAULT_JITTER = 0.1;
+
   /**
-   * Creates a sync configuration with the specified timeout and poll interval.
+   * Creates a sync configuration.
    *
-   * @param timeoutSeconds the maximum time to wait in seconds (must be &gt; 0)
-   * @param pollIntervalSeconds the interval between polls in seconds (must be &gt; 0)
-   * @throws IllegalArgumentException if either value is not positive
+   * @throws IllegalArgumentException if {@code timeoutSeconds} or {@code pollIntervalSeconds} is
+   *     not positive, {@code initialDelaySeconds} is negative, {@code backoffMultiplier} is less
+   *     than 1, {@code maxPollIntervalSeconds} is less than {@code pollIntervalSeconds}, or {@code
+   *     jitter} is outside [0, 1)
    */
   public SyncConfig {
     if (timeoutSeconds <= 0) {
@@ -33,10 +74,134 @@ public record SyncConfig(double timeoutSeconds, double pollIntervalSeconds)
     if (pollIntervalSeconds <= 0) {
       throw new IllegalArgumentException("pollIntervalSeconds must be > 0");
     }
+    if (initialDelaySeconds < 0) {
+      throw new IllegalArgumentException("initialDelaySeconds must be >= 0");
+    }
+    if (backoffMultiplier < 1) {
+      throw new IllegalArgumentException("backoffMultiplier must be >= 1");
+    }
+    if (maxPollIntervalSeconds < pollIntervalSeconds) {
+      throw new IllegalArgumentException("maxPollIntervalSeconds must be >= pollIntervalSeconds");
+    }
+    if (jitter < 0 || jitter >= 1) {
+      throw new IllegalArgumentException("jitter must be >= 0 and < 1");
+    }
+  }
+
+  /**
+   * Creates a fixed-interval sync configuration that sleeps {@code pollIntervalSeconds} before
+   * every check, without backoff or jitter.
+   *
+   * @param timeoutSeconds the maximum time to wait in seconds (must be &gt; 0)
+   * @param pollIntervalSeconds the interval between polls in seconds (must be &gt; 0)
+   * @throws IllegalArgumentException if either value is not positive
+   */
+  public SyncConfig(double timeoutSeconds, double pollIntervalSeconds) {
+    this(timeoutSeconds, pollIntervalSeconds, pollIntervalSeconds, 1.0, pollIntervalSeconds, 0.0);
   }
 
-  /** Creates a sync configuration with default values (30s timeout, 1s poll interval). */
+  /**
+   * Creates a sync configuration with default values: 30s timeout, an immediate first check, then
+   * intervals starting at 0.25s and doubling up to 5s, with 10% jitter.
+   */
   public SyncConfig() {
-    this(DEFAULT_TIMEOUT_SECONDS, DEFAULT_POLL_INTERVAL_SECONDS);
+    this(
+        DEFAULT_TIMEOUT_SECONDS,
+        DEFAULT_INITIAL_POLL_INTERVAL_SECONDS,
+        DEFAULT_INITIAL_DELAY_SECONDS,
+        DEFAULT_BACKOFF_MULTIPLIER,
+        DEFAULT_MAX_POLL_INTERVAL_SECONDS,
+        DEFAULT_JITTER);
+  }
+
+  /**
+   * Returns the delay before a status check, never longer than the time left before the timeout, so
+   * the last check happens when the timeout expires rather than up to one interval later.
+   *
+   * @param pollIndex the zero-based index of the check about to be made
+   * @param random a uniformly distributed value in [0, 1) used to apply the jitter
+   * @param elapsedSeconds the time already spent waiting, in seconds
+   * @return the delay in seconds
+   */
+  public double delayBeforePollSeconds(int pollIndex, double random, double elapsedSeconds) {
+    double delay =
+        pollIndex == 0
+            ? initialDelaySeconds
+            : Math.min(
+                pollIntervalSeconds * Math.pow(backoffMultiplier, pollIndex - 1.0),
+                maxPollIntervalSeconds);
+    double remaining = Math.max(0, timeoutSeconds - elapsedSeconds);
+    return Math.min(delay * (1 + jitter * (2 * random - 1)), remaining);
+  }
+
+  /**
+   * Builder for {@link SyncConfig}, starting from the default values.
+   *
+   * <pre>{@code
+   * SyncConfig config = new SyncConfig.Builder()
+   *     .timeoutSeconds(120)
+   *     .maxPollIntervalSeconds(10)
+   *     .build();
+   * }</pre>
+   */
+  public static final class Builder {
+    private double timeoutSeconds = DEFAULT_TIMEOUT_SECONDS;
+    private double pollIntervalSeconds = DEFAULT_INITIAL_POLL_INTERVAL_SECONDS;
+    private double initialDelaySeconds = DEFAULT_INITIAL_DELAY_SECONDS;
+    private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+    private double maxPollIntervalSeconds = DEFAULT_MAX_POLL_INTERVAL_SECONDS;
+    private double jitter = DEFAULT_JITTER;
+
+    /** Sets the maximum time to wait in seconds. */
+    public Builder timeoutSeconds(double timeoutSeconds) {
+      this.timeoutSeconds = timeoutSeconds;
+      return this;
+    }
+
+    /** Sets the delay before the second check in seconds. */
+    public Builder pollIntervalSeconds(double pollIntervalSeconds) {
+      this.pollIntervalSeconds = pollIntervalSeconds;
+      return this;
+    }
+
+    /** Sets the delay before the first check in seconds (0 checks immediately). */
+    public Builder initialDelaySeconds(double initialDelaySeconds) {
+      this.initialDelaySeconds = initialDelaySeconds;
+      return this;
+    }
+
+    /** Sets the factor applied to the interval after each check (1 disables backoff). */
+    public Builder backoffMultiplier(double backoffMultiplier) {
+      this.backoffMultiplier = backoffMultiplier;
+      return this;
+    }
+
+    /** Sets the upper bound for the interval before jitter, in seconds. */
+    public Builder maxPollIntervalSeconds(double maxPollIntervalSeconds) {
+      this.maxPollIntervalSeconds = maxPollIntervalSeconds;
+      return this;
+    }
+
+    /** Sets the jitter fraction (0 disables jitter). */
+    public Builder jitter(double jitter) {
+      this.jitter = jitter;
+      return this;
+    }
+
+    /**
+     * Builds the sync configuration.
+     *
+     * @return the configuration
+     * @throws IllegalArgumentException if the values are invalid
+     */
+    public SyncConfig build() {
+      return new SyncConfig(
+          timeoutSeconds,
+          pollIntervalSeconds,
+          initialDelaySeconds,
+          backoffMultiplier,
+          maxPollIntervalSeconds,
+          jitter);
+    }
   }
 }
@@ -0,0 +1,141 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestResponseException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CommandResponseStreamReaderTest {
+
+  private final List<Map<String, Object>> consumed = new ArrayList<>();
+
+  private Map<String, Object> read(String json) throws IOException {
+    InputStream body = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    return CommandResponseStreamReader.read(body, consumed::add);
+  }
+
+  @Test
+  void passesParametersOfEachItemInOrder() throws IOException {
+    Map<String, Object> summary =
+        read(
+            "{\"commandResponse\":["
+                + "{\"completionCode\":0,\"reasonCode\":0,\"parameters\":{\"queue\":\"Q1\"}},"
+                + "{\"completionCode\":0,\"reasonCode\":0,\"parameters\":{\"queue\":\"Q2\"}}],"
+                + "\"overallCompletionCode\":0,\"overallReasonCode\":0}");
+
+    assertThat(consumed).containsExactly(Map.of("queue", "Q1"), Map.of("queue", "Q2"));
+    assertThat(summary)
+        .containsEntry("overallCompletionCode", 0)
+        .containsEntry("overallReasonCode", 0)
+        .containsEntry("commandResponse", List.of());
+  }
+
+  @Test
+  void itemWithoutParametersYieldsEmptyMap() throws IOException {
+    read("{\"commandResponse\":[{\"completionCode\":0},{\"parameters\":\"scalar\"}]}");
+
+    assertThat(consumed).containsExactly(Map.of(), Map.of());
+  }
+
+  @Test
+  void failedItemsAreRetainedInSummaryAndNotConsumed() throws IOException {
+    Map<String, Object> summary =
+        read(
+            "{\"overallCompletionCode\":2,\"overallReasonCode\":3008,\"commandResponse\":["
+                + "{\"completionCode\":0,\"parameters\":{\"queue\":\"Q1\"}},"
+                + "{\"completionCode\":2,\"reasonCode\":2085,\"message\":[\"not found\"]},"
+                + "{\"reasonCode\":4,\"parameters\":{\"queue\":\"Q3\"}}]}");
+
+    assertThat(consumed).containsExactly(Map.of("queue", "Q1"));
+    assertThat(summary.get("commandResponse"))
+        .asList()
+        .containsExactly(
+            Map.of("completionCode", 2, "reasonCode", 2085, "message", List.of("not found")),
+            Map.of("reasonCode", 4, "parameters", Map.of("queue", "Q3")));
+  }
+
+  @Test
+  void readsAllJsonValueTypes() throws IOException {
+    read(
+        "{\"commandResponse\":[{\"parameters\":"
+            + "{\"s\":\"text\",\"n\":1.5,\"t\":true,\"f\":false,\"z\":null,"
+            + "\"a\":[1,\"x\",null],\"o\":{\"k\":\"v\"}}}]}");
+
+    Map<String, Object> row = consumed.get(0);
+    assertThat(row)
+        .containsEntry("s", "text")
+        .containsEntry("n", 1.5)
+        .containsEntry("t", true)
+        .containsEntry("f", false)
+        .containsEntry("z", null)
+        .containsEntry("a", Arrays.asList(1, "x", null))
+        .containsEntry("o", Map.of("k", "v"));
+    assertThat(row.keySet()).containsExactly("s", "n", "t", "f", "z", "a", "o");
+  }
+
+  @Test
+  void nullCommandResponseIsKeptAsNull() throws IOException {
+    Map<String, Object> summary = read("{\"commandResponse\":null}");
+
+    assertThat(summary).containsEntry("commandResponse", null);
+    assertThat(consumed).isEmpty();
+  }
+
+  @Test
+  void missingCommandResponseReturnsTopLevelFields() throws IOException {
+    Map<String, Object> summary = read("{\"overallCompletionCode\":0}");
+
+    assertThat(summary).containsOnlyKeys("overallCompletionCode");
+  }
+
+  @Test
+  void nonObjectResponseThrows() {
+    assertThatThrownBy(() -> read("[1,2,3]"))
+        .isInstanceOf(MqRestResponseException.class)
+        .hasMessage("Response is not a JSON object");
+  }
+
+  @Test
+  void nonListCommandResponseThrows() {
+    assertThatThrownBy(() -> read("{\"commandResponse\":\"oops\"}"))
+        .isInstanceOf(MqRestResponseException.class)
+        .hasMessage("commandResponse is not a list");
+  }
+
+  @Test
+  void nonObjectItemThrows() {
+    assertThatThrownBy(() -> read("{\"commandResponse\":[42]}"))
+        .isInstanceOf(MqRestResponseException.class)
+        .hasMessage("commandResponse item is not an object");
+  }
+
+  @Test
+  void malformedJsonThrows() {
+    assertThatThrownBy(() -> read("{\"commandResponse\":[{\"parameters\":{\"q\" \"x\"}}]}"))
+        .isInstanceOf(MqRestResponseException.class)
+        .hasMessage("Invalid JSON in response");
+  }
+
+  @Test
+  void truncatedJsonThrows() {
+    assertThatThrownBy(() -> read("{\"commandResponse\":[{\"parameters\":{"))
+        .isInstanceOf(MqRestResponseException.class)
+        .hasMessage("Invalid JSON in response");
+  }
+
+  @Test
+  void emptyBodyThrows() {
+    assertThatThrownBy(() -> read(""))
+        .isInstanceOf(MqRestResponseException.class)
+        .hasMessage("Invalid JSON in response");
+  }
+}
@@ -0,0 +1,72 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.Gson;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EncodedPayloadTest {
+
+  private static final Gson GSON = new Gson();
+
+  private static Map<String, Object> samplePayload() {
+    Map<String, Object> payload = new LinkedHashMap<>();
+    payload.put("type", "runCommandJSON");
+    payload.put("command", "DISPLAY");
+    payload.put("qualifier", "QLOCAL");
+    payload.put("name", "Q.é中");
+    payload.put("responseParameters", List.of("CURDEPTH", "MAXDEPTH"));
+    payload.put("parameters", Map.of("MAXDEPTH", 5000));
+    return payload;
+  }
+
+  @Test
+  void encodesSameJsonAsGson() {
+    Map<String, Object> payload = samplePayload();
+
+    byte[] json = EncodedPayload.encode(payload);
+
+    assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo(GSON.toJson(payload));
+  }
+
+  @Test
+  void jsonIsEncodedOnceAndCached() {
+    EncodedPayload payload = new EncodedPayload(samplePayload());
+
+    byte[] first = payload.json();
+
+    assertThat(payload.json()).isSameAs(first);
+    assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo(GSON.toJson(samplePayload()));
+  }
+
+  @Test
+  void behavesAsUnmodifiableMap() {
+    EncodedPayload payload = new EncodedPayload(samplePayload());
+
+    assertThat(payload).isEqualTo(samplePayload());
+    assertThat(payload).containsEntry("command", "DISPLAY").hasSize(6);
+    assertThatThrownBy(() -> payload.put("command", "ALTER"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void largePayloadRoundTrips() {
+    Map<String, Object> parameters = new HashMap<>();
+    for (int index = 0; index < 10_000; index++) {
+      parameters.put("PARAM" + index, "value-" + index);
+    }
+    Map<String, Object> payload = Map.of("command", "DEFINE", "parameters", parameters);
+
+    byte[] large = EncodedPayload.encode(payload);
+    byte[] small = EncodedPayload.encode(Map.of("command", "DISPLAY"));
+
+    assertThat(new String(large, StandardCharsets.UTF_8)).isEqualTo(GSON.toJson(payload));
+    assertThat(new String(small, StandardCharsets.UTF_8)).isEqualTo("{\"command\":\"DISPLAY\"}");
+  }
+}
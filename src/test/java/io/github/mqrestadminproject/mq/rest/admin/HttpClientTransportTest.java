@@ -2,23 +2,40 @@ package io.github.mqrestadminproject.mq.rest.admin;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.sun.net.httpserver.HttpServer;
+import io.github.mqrestadminproject.mq.rest.admin.auth.BasicAuth;
 import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTransportException;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.PrintStream;
 import java.net.InetSocketAddress;
 import java.net.http.HttpClient;
 import java.net.http.HttpHeaders;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.net.ssl.SSLContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -106,6 +123,39 @@ class HttpClientTransportTest {
       assertThat(capturedHeader[0]).isEqualTo("custom-value");
     }
 
+    @Test
+    void forwardsPrebuiltHeaders() throws IOException {
+      final String[] capturedHeaders = {null, null};
+      server.createContext(
+          "/",
+          exchange -> {
+            capturedHeaders[0] = exchange.getRequestHeaders().getFirst("Accept");
+            capturedHeaders[1] = exchange.getRequestHeaders().getFirst("X-Custom");
+            exchange.sendResponseHeaders(200, 0);
+            exchange.getResponseBody().close();
+          });
+      server.start();
+
+      Map<String, String> headers = new LinkedHashMap<>();
+      headers.put("Accept", "application/json");
+      headers.put("X-Custom", "custom-value");
+      HttpClientTransport transport = new HttpClientTransport();
+      transport.postJson(baseUrl + "/test", Map.of(), new RequestHeaders(headers), null, true);
+
+      assertThat(capturedHeaders).containsExactly("application/json", "custom-value");
+    }
+
+    @Test
+    void acceptsEmptyPrebuiltHeaders() {
+      startServer(200, "{}");
+
+      HttpClientTransport transport = new HttpClientTransport();
+      TransportResponse response =
+          transport.postJson(baseUrl + "/test", Map.of(), new RequestHeaders(Map.of()), null, true);
+
+      assertThat(response.statusCode()).isEqualTo(200);
+    }
+
     @Test
     void returnsResponseStatusCode() {
       startServer(201, "{}");
@@ -269,6 +319,167 @@ class HttpClientTransportTest {
     }
   }
 
+  @Nested
+  class PostJsonAsync {
+
+    @Test
+    void returnsResponseFromServer() {
+      startServer(201, "{\"ok\":true}", Map.of("X-Test", "yes"));
+
+      HttpClientTransport transport = new HttpClientTransport();
+      TransportResponse response =
+          transport
+              .postJsonAsync(baseUrl + "/test", Map.of("key", "value"), Map.of(), null, true)
+              .join();
+
+      assertThat(response.statusCode()).isEqualTo(201);
+      assertThat(response.body()).isEqualTo("{\"ok\":true}");
+      assertThat(response.headers()).containsEntry("x-test", "yes");
+    }
+
+    @Test
+    void sendsBodyHeadersAndTimeout() {
+      final String[] captured = {null, null};
+      server.createContext(
+          "/",
+          exchange -> {
+            captured[0] = new String(exchange.getRequestBody().readAllBytes());
+            captured[1] = exchange.getRequestHeaders().getFirst("X-Custom");
+            exchange.sendResponseHeaders(200, 0);
+            exchange.getResponseBody().close();
+          });
+      server.start();
+
+      HttpClientTransport transport = new HttpClientTransport();
+      transport
+          .postJsonAsync(
+              baseUrl + "/test",
+              Map.of("key", "value"),
+              Map.of("X-Custom", "custom-value"),
+              Duration.ofSeconds(5),
+              true)
+          .join();
+
+      assertThat(captured[0]).isEqualTo("{\"key\":\"value\"}");
+      assertThat(captured[1]).isEqualTo("custom-value");
+    }
+
+    @Test
+    void usesNonVerifyingClientWhenVerifyTlsFalse() {
+      startServer(200, "{}");
+
+      HttpClientTransport transport = new HttpClientTransport();
+      TransportResponse response =
+          transport.postJsonAsync(baseUrl + "/test", Map.of(), Map.of(), null, false).join();
+
+      assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void connectionRefusedCompletesExceptionally() {
+      HttpClientTransport transport = new HttpClientTransport();
+
+      assertThat(
+              transport.postJsonAsync(
+                  "http://localhost:1/unreachable", Map.of(), Map.of(), null, true))
+          .failsWithin(Duration.ofSeconds(10))
+          .withThrowableOfType(ExecutionException.class)
+          .havingCause()
+          .isInstanceOf(MqRestTransportException.class)
+          .withMessageContaining("HTTP request failed")
+          .withCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void unwrapStripsCompletionException() {
+      IOException cause = new IOException("boom");
+
+      assertThat(HttpClientTransport.unwrap(new CompletionException(cause))).isSameAs(cause);
+    }
+
+    @Test
+    void unwrapKeepsCompletionExceptionWithoutCause() {
+      CompletionException error = new CompletionException("no cause", null);
+
+      assertThat(HttpClientTransport.unwrap(error)).isSameAs(error);
+    }
+
+    @Test
+    void unwrapKeepsOtherThrowables() {
+      IOException error = new IOException("boom");
+
+      assertThat(HttpClientTransport.unwrap(error)).isSameAs(error);
+    }
+  }
+
+  @Nested
+  class PostJsonStream {
+
+    @Test
+    void returnsUnreadBodyStream() throws IOException {
+      startServer(200, "{\"ok\":true}", Map.of("X-Test", "yes"));
+
+      HttpClientTransport transport = new HttpClientTransport();
+      try (TransportStreamResponse response =
+          transport.postJsonStream(
+              baseUrl + "/test", Map.of("key", "value"), Map.of(), Duration.ofSeconds(5), true)) {
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers()).containsEntry("x-test", "yes");
+        assertThat(new String(response.body().readAllBytes(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"ok\":true}");
+      }
+    }
+
+    @Test
+    void usesNonVerifyingClientWhenVerifyTlsFalse() throws IOException {
+      startServer(200, "{}");
+
+      HttpClientTransport transport = new HttpClientTransport();
+      try (TransportStreamResponse response =
+          transport.postJsonStream(baseUrl + "/test", Map.of(), Map.of(), null, false)) {
+        assertThat(response.statusCode()).isEqualTo(200);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void wrapsIoExceptionInTransportException() throws IOException, InterruptedException {
+      HttpClient mockClient = mock(HttpClient.class);
+      when(mockClient.send(any(), any(HttpResponse.BodyHandler.class)))
+          .thenThrow(new IOException("connection reset"));
+
+      HttpClientTransport transport = new HttpClientTransport(mockClient);
+
+      assertThatThrownBy(
+              () ->
+                  transport.postJsonStream("http://localhost/test", Map.of(), Map.of(), null, true))
+          .isInstanceOf(MqRestTransportException.class)
+          .hasMessageContaining("HTTP request failed")
+          .hasCauseInstanceOf(IOException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void wrapsInterruptedExceptionAndResetsFlag() throws IOException, InterruptedException {
+      HttpClient mockClient = mock(HttpClient.class);
+      when(mockClient.send(any(), any(HttpResponse.BodyHandler.class)))
+          .thenThrow(new InterruptedException("interrupted"));
+
+      HttpClientTransport transport = new HttpClientTransport(mockClient);
+
+      assertThatThrownBy(
+              () ->
+                  transport.postJsonStream("http://localhost/test", Map.of(), Map.of(), null, true))
+          .isInstanceOf(MqRestTransportException.class)
+          .hasMessageContaining("HTTP request interrupted")
+          .hasCauseInstanceOf(InterruptedException.class);
+
+      assertThat(Thread.currentThread().isInterrupted()).isTrue();
+      // Clear the interrupt flag for test cleanup
+      Thread.interrupted();
+    }
+  }
+
   @Nested
   class FlattenHeadersTest {
 
@@ -381,4 +592,246 @@ class HttpClientTransportTest {
           .hasMessageContaining("sslContext");
     }
   }
+
+  @Nested
+  class BuilderTest {
+
+    @Test
+    void defaultBuilderCreatesWorkingTransport() {
+      startServer(200, "{}");
+
+      HttpClientTransport transport = new HttpClientTransport.Builder().build();
+      TransportResponse response =
+          transport.postJson(baseUrl + "/test", Map.of(), Map.of(), null, true);
+
+      assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void appliesClientSettings() {
+      Executor executor = Runnable::run;
+
+      HttpClientTransport transport =
+          new HttpClientTransport.Builder()
+              .executor(executor)
+              .version(HttpClient.Version.HTTP_1_1)
+              .connectTimeout(Duration.ofSeconds(3))
+              .build();
+
+      assertThat(transport.client().executor()).contains(executor);
+      assertThat(transport.client().version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+      assertThat(transport.client().connectTimeout()).contains(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void appliesSslContext() {
+      SSLContext context = HttpClientTransport.createSslContext("TLS");
+
+      HttpClientTransport transport = new HttpClientTransport.Builder().sslContext(context).build();
+
+      assertThat(transport.client().sslContext()).isSameAs(context);
+    }
+
+    @Test
+    void customExecutorRunsAsyncRequests() throws Exception {
+      startServer(200, "{}");
+      AtomicInteger tasks = new AtomicInteger();
+      ExecutorService pool = Executors.newSingleThreadExecutor();
+      try {
+        Executor counting =
+            task -> {
+              tasks.incrementAndGet();
+              pool.execute(task);
+            };
+        HttpClientTransport transport =
+            new HttpClientTransport.Builder().executor(counting).build();
+
+        TransportResponse response =
+            transport.postJsonAsync(baseUrl + "/test", Map.of(), Map.of(), null, true).get();
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(tasks.get()).isPositive();
+      } finally {
+        pool.shutdownNow();
+      }
+    }
+
+    @Test
+    void sharedClientIsUsedAsIs() {
+      HttpClient shared = HttpClient.newHttpClient();
+
+      HttpClientTransport first = new HttpClientTransport.Builder().httpClient(shared).build();
+      HttpClientTransport second = new HttpClientTransport.Builder().httpClient(shared).build();
+
+      assertThat(first.client()).isSameAs(shared);
+      assertThat(second.client()).isSameAs(shared);
+    }
+
+    @Test
+    void sharedClientCannotBeCombinedWithSettings() {
+      HttpClientTransport.Builder builder =
+          new HttpClientTransport.Builder()
+              .httpClient(HttpClient.newHttpClient())
+              .version(HttpClient.Version.HTTP_1_1);
+
+      assertThatThrownBy(builder::build)
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("httpClient cannot be combined with other client settings");
+    }
+
+    @Test
+    void nonPositiveConnectTimeoutRejected() {
+      HttpClientTransport.Builder builder =
+          new HttpClientTransport.Builder().connectTimeout(Duration.ZERO);
+
+      assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nonVerifyingClientCopiesSettings() {
+      Executor executor = Runnable::run;
+      HttpClientTransport transport =
+          new HttpClientTransport.Builder()
+              .executor(executor)
+              .version(HttpClient.Version.HTTP_1_1)
+              .connectTimeout(Duration.ofSeconds(3))
+              .build();
+
+      HttpClient nonVerifying = transport.getNonVerifyingClient();
+
+      assertThat(nonVerifying).isNotSameAs(transport.client());
+      assertThat(nonVerifying).isSameAs(transport.getNonVerifyingClient());
+      assertThat(nonVerifying.executor()).contains(executor);
+      assertThat(nonVerifying.version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+      assertThat(nonVerifying.connectTimeout()).contains(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void nullSettingsThrowNullPointerException() {
+      HttpClientTransport.Builder builder = new HttpClientTransport.Builder();
+
+      assertThatThrownBy(() -> builder.httpClient(null)).hasMessage("httpClient");
+      assertThatThrownBy(() -> builder.sslContext(null)).hasMessage("sslContext");
+      assertThatThrownBy(() -> builder.executor(null)).hasMessage("executor");
+      assertThatThrownBy(() -> builder.version(null)).hasMessage("version");
+      assertThatThrownBy(() -> builder.connectTimeout(null)).hasMessage("connectTimeout");
+    }
+  }
+
+  @Nested
+  class VirtualThreads {
+
+    private static final String QUEUE_RESPONSE =
+        "{\"overallCompletionCode\":0,\"overallReasonCode\":0,"
+            + "\"commandResponse\":[{\"completionCode\":0,\"reasonCode\":0,"
+            + "\"parameters\":{\"queue\":\"Q1\",\"CURDEPTH\":3}}]}";
+
+    @Test
+    void nonVerifyingClientIsCreatedOnceUnderContention() throws Exception {
+      HttpClientTransport transport = new HttpClientTransport();
+      ExecutorService tasks = newTaskExecutor();
+      try {
+        List<Future<HttpClient>> clients = new ArrayList<>();
+        for (int index = 0; index < 50; index++) {
+          clients.add(tasks.submit(transport::getNonVerifyingClient));
+        }
+
+        Set<HttpClient> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<HttpClient> client : clients) {
+          distinct.add(client.get(10, TimeUnit.SECONDS));
+        }
+        assertThat(distinct).hasSize(1);
+      } finally {
+        tasks.shutdownNow();
+      }
+    }
+
+    @Test
+    void manyConcurrentSessionsShareOneTransport() throws Exception {
+      ExecutorService handlers = Executors.newFixedThreadPool(8);
+      server.setExecutor(handlers);
+      startServer(200, QUEUE_RESPONSE);
+      ExecutorService tasks = newTaskExecutor();
+      try {
+        displayQueueFromManySessions(new HttpClientTransport(), tasks);
+      } finally {
+        tasks.shutdownNow();
+        handlers.shutdownNow();
+      }
+    }
+
+    /**
+     * Runs the shared-transport sweep on virtual threads, with the client's own work on virtual
+     * threads too, and fails if the JVM reports a pinned carrier thread. Runs on Java 21 or later
+     * with {@code -Djdk.tracePinnedThreads=full}, as the virtual-threads CI job does.
+     */
+    @Test
+    void sessionsOnVirtualThreadsDoNotPinCarrierThreads() throws Exception {
+      assumeTrue(System.getProperty("jdk.tracePinnedThreads") != null);
+      Optional<ExecutorService> virtualThreads = newVirtualThreadExecutor();
+      assumeTrue(virtualThreads.isPresent());
+      ExecutorService tasks = virtualThreads.get();
+      ExecutorService clientExecutor = newVirtualThreadExecutor().orElseThrow();
+      ExecutorService handlers = Executors.newFixedThreadPool(8);
+      server.setExecutor(handlers);
+      startServer(200, QUEUE_RESPONSE);
+      HttpClientTransport transport =
+          new HttpClientTransport.Builder().executor(clientExecutor).build();
+      ByteArrayOutputStream traces = new ByteArrayOutputStream();
+      PrintStream stdout = System.out;
+      System.setOut(new PrintStream(traces, true, StandardCharsets.UTF_8));
+      try {
+        displayQueueFromManySessions(transport, tasks);
+      } finally {
+        System.setOut(stdout);
+        tasks.shutdownNow();
+        clientExecutor.shutdownNow();
+        handlers.shutdownNow();
+      }
+
+      // The JVM prints the stack of a pinned virtual thread, marking the frame that pins it
+      assertThat(traces.toString(StandardCharsets.UTF_8)).doesNotContain("<==");
+    }
+
+    private void displayQueueFromManySessions(HttpClientTransport transport, ExecutorService tasks)
+        throws Exception {
+      List<Future<List<Map<String, Object>>>> results = new ArrayList<>();
+      for (int index = 0; index < 200; index++) {
+        boolean verifyTls = index % 2 == 0;
+        results.add(
+            tasks.submit(
+                () ->
+                    new MqRestSession.Builder(
+                            baseUrl + "/ibmmq/rest/v2", "QM1", new BasicAuth("user", "pass"))
+                        .transport(transport)
+                        .verifyTls(verifyTls)
+                        .build()
+                        .displayQueue("Q1", null, null, null)));
+      }
+
+      for (Future<List<Map<String, Object>>> result : results) {
+        assertThat(result.get(30, TimeUnit.SECONDS))
+            .singleElement()
+            .satisfies(row -> assertThat(row).containsEntry("queue_name", "Q1"));
+      }
+    }
+
+    /** Uses virtual threads where the JVM has them, and a platform pool otherwise. */
+    private ExecutorService newTaskExecutor() {
+      return newVirtualThreadExecutor().orElseGet(() -> Executors.newFixedThreadPool(32));
+    }
+
+    /**
+     * Returns a virtual-thread-per-task executor on Java 21 or later, which tests compile below.
+     */
+    private Optional<ExecutorService> newVirtualThreadExecutor() {
+      try {
+        return Optional.of(
+            (ExecutorService)
+                Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+      } catch (ReflectiveOperationException e) {
+        return Optional.empty();
+      }
+    }
+  }
 }
@@ -1,11 +1,13 @@
 package io.github.mqrestadminproject.mq.rest.admin;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,8 +15,19 @@ import static org.mockito.Mockito.when;
 import io.github.mqrestadminproject.mq.rest.admin.auth.BasicAuth;
 import io.github.mqrestadminproject.mq.rest.admin.ensure.EnsureAction;
 import io.github.mqrestadminproject.mq.rest.admin.ensure.EnsureResult;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestBulkEnsureException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestCommandException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestResponseException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTransportException;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -208,6 +221,17 @@ class MqRestSessionEnsureTest {
       // Only DISPLAY called
       verify(transport, times(1)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
     }
+
+    @Test
+    void numericAttributeMatchingIntegerReturnsUnchanged() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectResponse("\"MAXDEPTH\":5000"));
+
+      EnsureResult result = session.ensureQlocal("Q1", Map.of("MAXDEPTH", 5000));
+
+      assertThat(result.action()).isEqualTo(EnsureAction.UNCHANGED);
+      verify(transport, times(1)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
   }
 
   @Nested
@@ -765,6 +789,449 @@ class MqRestSessionEnsureTest {
     }
   }
 
+  // ---------------------------------------------------------------------------
+  // Bulk ensure tests
+  // ---------------------------------------------------------------------------
+
+  // ---------------------------------------------------------------------------
+  // Response parameter narrowing tests
+  // ---------------------------------------------------------------------------
+
+  @Nested
+  class ResponseParameterNarrowing {
+
+    private MqRestSession mappedSession() {
+      return new MqRestSession.Builder(BASE_URL, QMGR, new BasicAuth("user", "pass"))
+          .transport(transport)
+          .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> firstPayload(int calls) {
+      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport, times(calls))
+          .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
+      return payloadCaptor.getAllValues().get(0);
+    }
+
+    @Test
+    void ensureRequestsOnlyComparedAttributes() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectResponse("\"queue\":\"Q1\",\"descr\":\"x\""));
+
+      EnsureResult result = mappedSession().ensureQlocal("Q1", Map.of("description", "x"));
+
+      assertThat(result.action()).isEqualTo(EnsureAction.UNCHANGED);
+      assertThat(firstPayload(1)).containsEntry("responseParameters", List.of("DESCR"));
+    }
+
+    @Test
+    void ensureWithoutAttributesRequestsNoResponseParameters() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectResponse("\"queue\":\"Q1\""));
+
+      EnsureResult result = mappedSession().ensureQlocal("Q1", null);
+
+      assertThat(result.action()).isEqualTo(EnsureAction.UNCHANGED);
+      assertThat(firstPayload(1)).doesNotContainKey("responseParameters");
+    }
+
+    @Test
+    void ensureFallsBackToAllForRequestOnlyAttributes() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectResponse("\"queue\":\"Q1\",\"descr\":\"x\""));
+
+      mappedSession().ensureQlocal("Q1", Map.of("description", "x", "like", "MODEL.Q"));
+
+      assertThat(firstPayload(2)).containsEntry("responseParameters", List.of("all"));
+    }
+
+    @Test
+    void ensureQmgrRequestsOnlyComparedAttributes() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectResponse("\"descr\":\"x\""));
+
+      EnsureResult result = mappedSession().ensureQmgr(Map.of("description", "x"));
+
+      assertThat(result.action()).isEqualTo(EnsureAction.UNCHANGED);
+      assertThat(firstPayload(1)).containsEntry("responseParameters", List.of("DESCR"));
+    }
+
+    @Test
+    void unmappedEnsureRequestsAll() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectResponse("\"DESCR\":\"x\""));
+
+      session.ensureQlocal("Q1", Map.of("DESCR", "x"));
+
+      assertThat(firstPayload(1)).containsEntry("responseParameters", List.of("all"));
+    }
+  }
+
+  /** A bulk ensure method with the DISPLAY and DEFINE qualifiers it should use. */
+  private record BulkCase(
+      BiFunction<Map<String, Map<String, Object>>, @Nullable Executor, Map<String, EnsureResult>>
+          method,
+      String display,
+      String define) {}
+
+  @Nested
+  class BulkEnsureMethods {
+
+    private TransportResponse objectsResponse(String... paramsJson) {
+      StringBuilder items = new StringBuilder();
+      for (String params : paramsJson) {
+        if (items.length() > 0) {
+          items.append(',');
+        }
+        items.append("{\"parameters\":{").append(params).append("}}");
+      }
+      return new TransportResponse(
+          200,
+          "{\"overallCompletionCode\":0,\"overallReasonCode\":0,\"commandResponse\":["
+              + items
+              + "]}",
+          Map.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> sentPayloads(int calls) {
+      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport, times(calls))
+          .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
+      return payloadCaptor.getAllValues();
+    }
+
+    private Map<String, @Nullable Map<String, Object>> threeQueues() {
+      Map<String, @Nullable Map<String, Object>> objects = new LinkedHashMap<>();
+      objects.put("APP.Q1", Map.of("MAXDEPTH", "5000"));
+      objects.put("APP.Q2", Map.of("DESCR", "new", "MAXDEPTH", "10"));
+      objects.put("APP.Q3", null);
+      return objects;
+    }
+
+    @Test
+    void emptyInputSendsNothing() {
+      Map<String, EnsureResult> results = session.ensureQlocals(Map.of(), null);
+
+      assertThat(results).isEmpty();
+      verify(transport, never()).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void oneWildcardDisplayThenOnlyNeededCommands() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              objectsResponse(
+                  "\"queue\":\"APP.Q1\",\"MAXDEPTH\":\"5000\"",
+                  "\"queue\":\"APP.Q2\",\"DESCR\":\"old\",\"MAXDEPTH\":\"10\"",
+                  "\"queue\":\"APP.OTHER\""))
+          .thenReturn(emptyResponse());
+
+      Map<String, EnsureResult> results = session.ensureQlocals(threeQueues(), null);
+
+      assertThat(results.keySet()).containsExactly("APP.Q1", "APP.Q2", "APP.Q3");
+      assertThat(results.get("APP.Q1").action()).isEqualTo(EnsureAction.UNCHANGED);
+      assertThat(results.get("APP.Q2").action()).isEqualTo(EnsureAction.UPDATED);
+      assertThat(results.get("APP.Q2").changed()).containsExactly("DESCR");
+      assertThat(results.get("APP.Q3").action()).isEqualTo(EnsureAction.CREATED);
+
+      List<Map<String, Object>> payloads = sentPayloads(3);
+      assertThat(payloads.get(0))
+          .containsEntry("command", "DISPLAY")
+          .containsEntry("qualifier", "QUEUE")
+          .containsEntry("name", "APP.Q*");
+      assertThat(payloads.get(1))
+          .containsEntry("command", "ALTER")
+          .containsEntry("qualifier", "QLOCAL")
+          .containsEntry("name", "APP.Q2")
+          .containsEntry("parameters", Map.of("DESCR", "new"));
+      assertThat(payloads.get(2))
+          .containsEntry("command", "DEFINE")
+          .containsEntry("qualifier", "QLOCAL")
+          .containsEntry("name", "APP.Q3")
+          .doesNotContainKey("parameters");
+    }
+
+    @Test
+    void existingObjectWithoutParametersIsUnchanged() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectsResponse("\"QUEUE\":\"Q1\""));
+      Map<String, @Nullable Map<String, Object>> objects = new LinkedHashMap<>();
+      objects.put("Q1", null);
+
+      Map<String, EnsureResult> results = session.ensureQlocals(objects, null);
+
+      assertThat(results.get("Q1").action()).isEqualTo(EnsureAction.UNCHANGED);
+      assertThat(sentPayloads(1).get(0)).containsEntry("name", "Q1");
+    }
+
+    private TransportResponse itemErrorResponse(String... itemsJson) {
+      return new TransportResponse(
+          200,
+          "{\"overallCompletionCode\":2,\"overallReasonCode\":3008,\"commandResponse\":["
+              + String.join(",", itemsJson)
+              + "]}",
+          Map.of());
+    }
+
+    @Test
+    void rowWithoutNameIsRejectedBeforeAnyChange() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectsResponse("\"DESCR\":\"x\""));
+
+      assertThatThrownBy(() -> session.ensureQlocals(Map.of("Q1", Map.of()), null))
+          .isInstanceOf(MqRestResponseException.class)
+          .hasMessage("DISPLAY QUEUE response has no QUEUE attribute");
+      sentPayloads(1);
+    }
+
+    @Test
+    void notFoundDisplayMeansNoObjectExists() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(itemErrorResponse("{\"completionCode\":2,\"reasonCode\":2085}"))
+          .thenReturn(emptyResponse());
+
+      Map<String, EnsureResult> results = session.ensureQlocals(threeQueues(), null);
+
+      assertThat(results.values())
+          .extracting(EnsureResult::action)
+          .containsOnly(EnsureAction.CREATED);
+      assertThat(sentPayloads(4))
+          .extracting(p -> p.get("command"))
+          .containsExactly("DISPLAY", "DEFINE", "DEFINE", "DEFINE");
+    }
+
+    @Test
+    void otherDisplayErrorIsThrownBeforeAnyChange() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(errorResponse());
+
+      assertThatThrownBy(() -> session.ensureQlocals(threeQueues(), null))
+          .isInstanceOf(MqRestCommandException.class);
+      sentPayloads(1);
+    }
+
+    @Test
+    void partialDisplayErrorIsThrownBeforeAnyChange() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              itemErrorResponse(
+                  "{\"completionCode\":2,\"reasonCode\":2085}",
+                  "{\"completionCode\":2,\"reasonCode\":2035}"));
+
+      assertThatThrownBy(() -> session.ensureQlocals(threeQueues(), null))
+          .isInstanceOf(MqRestCommandException.class);
+      sentPayloads(1);
+    }
+
+    @Test
+    void notFoundNeedsEveryFailedItemToBeNotFound() {
+      assertThat(
+              BulkEnsure.isNotFound(
+                  Map.of(
+                      "commandResponse",
+                      List.of(
+                          "not an item",
+                          Map.of("completionCode", 0, "reasonCode", 0),
+                          Map.of("completionCode", 2, "reasonCode", 3047)))))
+          .isTrue();
+      assertThat(
+              BulkEnsure.isNotFound(
+                  Map.of("commandResponse", List.of(Map.of("completionCode", 2)))))
+          .isFalse();
+      assertThat(BulkEnsure.isNotFound(Map.of("commandResponse", List.of()))).isFalse();
+      assertThat(BulkEnsure.isNotFound(Map.of())).isFalse();
+    }
+
+    @Test
+    void namesWithoutCommonPrefixAreDisplayedOneByOne() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectsResponse("\"QUEUE\":\"A.Q\""))
+          .thenReturn(itemErrorResponse("{\"completionCode\":2,\"reasonCode\":2085}"))
+          .thenReturn(emptyResponse());
+      Map<String, @Nullable Map<String, Object>> objects = new LinkedHashMap<>();
+      objects.put("A.Q", null);
+      objects.put("B.Q", null);
+
+      Map<String, EnsureResult> results = session.ensureQlocals(objects, null);
+
+      assertThat(results.get("A.Q").action()).isEqualTo(EnsureAction.UNCHANGED);
+      assertThat(results.get("B.Q").action()).isEqualTo(EnsureAction.CREATED);
+      assertThat(sentPayloads(3))
+          .extracting(p -> p.get("command") + " " + p.get("name"))
+          .containsExactly("DISPLAY A.Q", "DISPLAY B.Q", "DEFINE B.Q");
+    }
+
+    @Test
+    void executorRunsTheCommands() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse());
+      AtomicInteger submitted = new AtomicInteger();
+      Executor executor =
+          command -> {
+            submitted.incrementAndGet();
+            command.run();
+          };
+
+      session.ensureQlocals(threeQueues(), executor);
+
+      assertThat(submitted).hasValue(3);
+      sentPayloads(4);
+    }
+
+    @Test
+    void parallelFailuresAreReportedPerObjectAfterAllCommandsFinish() {
+      MqRestTransportException first = new MqRestTransportException("first", "url");
+      MqRestTransportException second = new MqRestTransportException("second", "url");
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectsResponse("\"QUEUE\":\"APP.Q1\",\"MAXDEPTH\":\"5000\""))
+          .thenThrow(first)
+          .thenThrow(second);
+
+      assertThatThrownBy(() -> session.ensureQlocals(threeQueues(), Runnable::run))
+          .isInstanceOfSatisfying(
+              MqRestBulkEnsureException.class,
+              e -> {
+                assertThat(e).hasMessage("Failed to ensure [APP.Q2, APP.Q3]").hasCause(first);
+                assertThat(e.getResults().keySet()).containsExactly("APP.Q1");
+                assertThat(e.getFailures())
+                    .containsExactly(Map.entry("APP.Q2", first), Map.entry("APP.Q3", second));
+              });
+      sentPayloads(3);
+    }
+
+    @Test
+    void sequentialFailureDoesNotStopLaterCommands() {
+      MqRestTransportException failure = new MqRestTransportException("down", "url");
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse())
+          .thenThrow(failure)
+          .thenReturn(emptyResponse());
+
+      assertThatThrownBy(() -> session.ensureQlocals(threeQueues(), null))
+          .isInstanceOfSatisfying(
+              MqRestBulkEnsureException.class,
+              e -> {
+                assertThat(e.getResults().keySet()).containsExactly("APP.Q2", "APP.Q3");
+                assertThat(e.getFailures()).containsExactly(Map.entry("APP.Q1", failure));
+              });
+      sentPayloads(4);
+    }
+
+    @Test
+    void unexpectedCommandFailureIsNotReportedPerObject() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse())
+          .thenThrow(new IllegalStateException("bug"))
+          .thenReturn(emptyResponse());
+
+      assertThatThrownBy(() -> session.ensureQlocals(threeQueues(), Runnable::run))
+          .isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(IllegalStateException.class);
+      sentPayloads(4);
+    }
+
+    @Test
+    void unmappedSessionRequestsAllAttributes() {
+      session.ensureQlocals(Map.of("Q1", Map.of("DESCR", "x")), null);
+
+      assertThat(sentPayloads(2).get(0)).containsEntry("responseParameters", List.of("all"));
+    }
+
+    @Test
+    void mappedSessionRequestsOnlyComparedAttributes() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(objectsResponse("\"queue\":\"Q1\",\"descr\":\"x\",\"maxdepth\":\"9\""));
+      MqRestSession mapped =
+          new MqRestSession.Builder(BASE_URL, QMGR, new BasicAuth("user", "pass"))
+              .transport(transport)
+              .build();
+
+      Map<String, EnsureResult> results =
+          mapped.ensureQlocals(
+              Map.of("Q1", Map.of("description", "x", "max_queue_depth", "9")), null);
+
+      assertThat(results.get("Q1").action()).isEqualTo(EnsureAction.UNCHANGED);
+      assertThat(sentPayloads(1).get(0))
+          .extractingByKey("responseParameters")
+          .asInstanceOf(InstanceOfAssertFactories.LIST)
+          .containsExactlyInAnyOrder("DESCR", "MAXDEPTH");
+    }
+
+    @Test
+    void mappedSessionFallsBackToAllForRequestOnlyAttributes() {
+      MqRestSession mapped =
+          new MqRestSession.Builder(BASE_URL, QMGR, new BasicAuth("user", "pass"))
+              .transport(transport)
+              .build();
+
+      mapped.ensureQlocals(Map.of("Q1", Map.of("description", "x", "like", "MODEL.Q")), null);
+
+      assertThat(sentPayloads(2).get(0)).containsEntry("responseParameters", List.of("all"));
+    }
+
+    @Test
+    void mappedSessionFallsBackToAllForUnknownAttributes() {
+      MqRestSession mapped =
+          new MqRestSession.Builder(BASE_URL, QMGR, new BasicAuth("user", "pass"))
+              .transport(transport)
+              .mappingStrict(false)
+              .build();
+
+      mapped.ensureQlocals(Map.of("Q1", Map.of("no_such_attribute", "x")), null);
+
+      assertThat(sentPayloads(2).get(0)).containsEntry("responseParameters", List.of("all"));
+    }
+
+    @Test
+    void eachObjectTypeUsesItsQualifiers() {
+      List<BulkCase> cases =
+          List.of(
+              new BulkCase(session::ensureQlocals, "QUEUE", "QLOCAL"),
+              new BulkCase(session::ensureQremotes, "QUEUE", "QREMOTE"),
+              new BulkCase(session::ensureQaliases, "QUEUE", "QALIAS"),
+              new BulkCase(session::ensureQmodels, "QUEUE", "QMODEL"),
+              new BulkCase(session::ensureChannels, "CHANNEL", "CHANNEL"),
+              new BulkCase(session::ensureAuthinfos, "AUTHINFO", "AUTHINFO"),
+              new BulkCase(session::ensureListeners, "LISTENER", "LISTENER"),
+              new BulkCase(session::ensureNamelists, "NAMELIST", "NAMELIST"),
+              new BulkCase(session::ensureProcesses, "PROCESS", "PROCESS"),
+              new BulkCase(session::ensureServices, "SERVICE", "SERVICE"),
+              new BulkCase(session::ensureTopics, "TOPIC", "TOPIC"),
+              new BulkCase(session::ensureSubs, "SUB", "SUB"),
+              new BulkCase(session::ensureStgclasses, "STGCLASS", "STGCLASS"),
+              new BulkCase(session::ensureComminfos, "COMMINFO", "COMMINFO"),
+              new BulkCase(session::ensureCfstructs, "CFSTRUCT", "CFSTRUCT"));
+
+      for (BulkCase bulkCase : cases) {
+        bulkCase.method().apply(Map.of("OBJ1", Map.of()), null);
+      }
+
+      List<Map<String, Object>> payloads = sentPayloads(cases.size() * 2);
+      for (int i = 0; i < cases.size(); i++) {
+        assertThat(payloads.get(i * 2)).containsEntry("qualifier", cases.get(i).display());
+        assertThat(payloads.get(i * 2 + 1)).containsEntry("qualifier", cases.get(i).define());
+      }
+    }
+
+    @Test
+    void genericNameOfSingleObjectIsTheName() {
+      assertThat(BulkEnsure.genericName(List.of("APP.Q1"))).isEqualTo("APP.Q1");
+    }
+
+    @Test
+    void genericNameUsesLongestCommonPrefix() {
+      assertThat(BulkEnsure.genericName(List.of("APP.IN", "APP.INPUT", "APP.OUT")))
+          .isEqualTo("APP.*");
+    }
+
+    @Test
+    void genericNameWithoutCommonPrefixIsNull() {
+      assertThat(BulkEnsure.genericName(List.of("A.Q", "B.Q"))).isNull();
+    }
+  }
+
   @Nested
   class ExtractParametersMap {
 
@@ -0,0 +1,360 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.mqrestadminproject.mq.rest.admin.auth.BasicAuth;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTransportException;
+import io.github.mqrestadminproject.mq.rest.admin.group.GroupResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class MqRestSessionGroupTest {
+
+  private static final String BASE_URL = "https://host:9443/ibmmq/rest/v2";
+  private static final BasicAuth AUTH = new BasicAuth("user", "pass");
+
+  /** Answers each request with the queue manager name taken from the URL. */
+  private static final MqRestTransport ECHO_TRANSPORT =
+      (url, payload, headers, timeout, verifyTls) -> {
+        String qmgr = url.replaceAll(".*/qmgr/([^/]+)/mqsc$", "$1");
+        if (qmgr.startsWith("DOWN")) {
+          throw new MqRestTransportException("HTTP request failed", url);
+        }
+        return new TransportResponse(
+            200,
+            "{\"overallCompletionCode\":0,\"overallReasonCode\":0,\"commandResponse\":"
+                + "[{\"parameters\":{\"QMNAME\":\""
+                + qmgr
+                + "\",\"STATUS\":\"RUNNING\"}}]}",
+            Map.of());
+      };
+
+  private static MqRestSessionGroup.Builder builder(String... qmgrNames) {
+    return new MqRestSessionGroup.Builder(BASE_URL, AUTH)
+        .transport(ECHO_TRANSPORT)
+        .queueManagers(List.of(qmgrNames));
+  }
+
+  @Nested
+  class Building {
+
+    @Test
+    void createsSessionsInOrder() {
+      try (MqRestSessionGroup group = builder("QM2", "QM1", "QM3").build()) {
+        assertThat(group.getQmgrNames()).containsExactly("QM2", "QM1", "QM3");
+        assertThat(group.getSessions())
+            .extracting(MqRestSession::getQmgrName)
+            .containsExactly("QM2", "QM1", "QM3");
+        assertThat(group.getSession("QM1").getQmgrName()).isEqualTo("QM1");
+        assertThat(group.getSession("QM9")).isNull();
+        assertThat(group.getMaxConcurrency()).isEqualTo(MqRestSessionGroup.DEFAULT_MAX_CONCURRENCY);
+      }
+    }
+
+    @Test
+    void appliesSessionOptionsToCreatedSessions() {
+      try (MqRestSessionGroup group =
+          builder("QM1").sessionOptions(b -> b.gatewayQmgr("GW")).build()) {
+        assertThat(group.getSession("QM1").getGatewayQmgr()).isEqualTo("GW");
+      }
+    }
+
+    @Test
+    void acceptsExistingSessionsUnchanged() {
+      MqRestSession existing =
+          new MqRestSession.Builder("https://other:9443/ibmmq/rest/v2", "QMX", AUTH)
+              .transport(ECHO_TRANSPORT)
+              .build();
+
+      try (MqRestSessionGroup group =
+          new MqRestSessionGroup.Builder(BASE_URL, AUTH)
+              .session(existing)
+              .sessionOptions(b -> b.gatewayQmgr("GW"))
+              .build()) {
+        assertThat(group.getSession("QMX")).isSameAs(existing);
+        assertThat(existing.getGatewayQmgr()).isNull();
+      }
+    }
+
+    @Test
+    void defaultTransportIsSharedHttpClientTransport() {
+      try (MqRestSessionGroup group =
+          new MqRestSessionGroup.Builder(BASE_URL, AUTH)
+              .queueManager("QM1")
+              .queueManager("QM2")
+              .build()) {
+        assertThat(group.getSessions()).hasSize(2);
+      }
+    }
+
+    @Test
+    void duplicateQueueManagerThrows() {
+      MqRestSessionGroup.Builder builder = builder("QM1");
+
+      assertThatThrownBy(() -> builder.queueManager("QM1"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Duplicate queue manager: QM1");
+    }
+
+    @Test
+    void emptyGroupThrows() {
+      assertThatThrownBy(() -> new MqRestSessionGroup.Builder(BASE_URL, AUTH).build())
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("At least one queue manager is required");
+    }
+
+    @Test
+    void maxConcurrencyBelowOneThrows() {
+      assertThatThrownBy(() -> builder("QM1").maxConcurrency(0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("maxConcurrency must be >= 1");
+    }
+
+    @Test
+    void nullArgumentsThrowNullPointerException() {
+      MqRestSessionGroup.Builder builder = builder("QM1");
+
+      assertThatThrownBy(() -> new MqRestSessionGroup.Builder(null, AUTH))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("restBaseUrl");
+      assertThatThrownBy(() -> new MqRestSessionGroup.Builder(BASE_URL, null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("credentials");
+      assertThatThrownBy(() -> builder.queueManager(null)).hasMessage("qmgrName");
+      assertThatThrownBy(() -> builder.queueManagers(null)).hasMessage("qmgrNames");
+      assertThatThrownBy(() -> builder.session(null)).hasMessage("session");
+      assertThatThrownBy(() -> builder.transport(null)).hasMessage("transport");
+      assertThatThrownBy(() -> builder.sessionOptions(null)).hasMessage("options");
+      assertThatThrownBy(() -> builder.executor(null)).hasMessage("executor");
+    }
+  }
+
+  @Nested
+  class Execute {
+
+    @Test
+    void collectsResultsAndFailuresPerQueueManager() {
+      try (MqRestSessionGroup group = builder("QM1", "DOWN1", "QM2").build()) {
+        GroupResult<String> result = group.execute(MqRestSession::getQmgrName);
+        GroupResult<Map<String, Object>> status = group.displayQmstatus();
+
+        assertThat(result.results())
+            .containsExactly(
+                Map.entry("QM1", "QM1"), Map.entry("DOWN1", "DOWN1"), Map.entry("QM2", "QM2"));
+        assertThat(status.results().keySet()).containsExactly("QM1", "QM2");
+        assertThat(status.results().get("QM2")).containsEntry("queue_manager_name", "QM2");
+        assertThat(status.failures()).containsOnlyKeys("DOWN1");
+        assertThat(status.failures().get("DOWN1")).isInstanceOf(MqRestTransportException.class);
+        assertThat(status.allSucceeded()).isFalse();
+      }
+    }
+
+    @Test
+    void displayConveniencesReturnPerQueueManagerResults() {
+      try (MqRestSessionGroup group =
+          builder("QM1", "QM2").sessionOptions(b -> b.mappingStrict(false)).build()) {
+        GroupResult<Map<String, Object>> qmgr = group.displayQmgr();
+        GroupResult<List<Map<String, Object>>> queues =
+            group.displayQueue("APP.*", null, null, null);
+
+        assertThat(qmgr.allSucceeded()).isTrue();
+        assertThat(qmgr.results().get("QM1")).containsEntry("queue_manager_name", "QM1");
+        assertThat(queues.results().get("QM2")).hasSize(1);
+      }
+    }
+
+    @Test
+    void runsQueueManagersInParallel() {
+      CyclicBarrier barrier = new CyclicBarrier(3);
+
+      try (MqRestSessionGroup group = builder("QM1", "QM2", "QM3").maxConcurrency(3).build()) {
+        GroupResult<Integer> result =
+            group.execute(
+                session -> {
+                  try {
+                    return barrier.await(10, TimeUnit.SECONDS);
+                  } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                    throw new IllegalStateException("not parallel", e);
+                  }
+                });
+
+        assertThat(result.allSucceeded()).isTrue();
+        assertThat(result.results().values()).containsExactlyInAnyOrder(0, 1, 2);
+      }
+    }
+
+    @Test
+    void limitsQueueManagersInFlight() {
+      AtomicInteger inFlight = new AtomicInteger();
+      AtomicInteger maxInFlight = new AtomicInteger();
+      ExecutorService executor = Executors.newCachedThreadPool();
+
+      try (MqRestSessionGroup group =
+          builder("QM1", "QM2", "QM3", "QM4", "QM5", "QM6")
+              .maxConcurrency(2)
+              .executor(executor)
+              .build()) {
+        GroupResult<String> result =
+            group.execute(
+                session -> {
+                  maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                  try {
+                    Thread.sleep(20);
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                  inFlight.decrementAndGet();
+                  return session.getQmgrName();
+                });
+
+        assertThat(result.results()).hasSize(6);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void defaultExecutorUsesNamedDaemonThreads() {
+      List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+      try (MqRestSessionGroup group = builder("QM1", "QM2").build()) {
+        group.execute(
+            session -> {
+              threads.add(Thread.currentThread());
+              return null;
+            });
+      }
+
+      assertThat(threads)
+          .allSatisfy(
+              thread -> {
+                assertThat(thread.isDaemon()).isTrue();
+                assertThat(thread.getName()).startsWith("mq-rest-group-");
+              });
+    }
+
+    @Test
+    void errorsAreRethrownAfterAllQueueManagersFinish() {
+      List<String> visited = Collections.synchronizedList(new ArrayList<>());
+
+      try (MqRestSessionGroup group = builder("QM1", "QM2", "QM3").build()) {
+        assertThatThrownBy(
+                () ->
+                    group.execute(
+                        session -> {
+                          visited.add(session.getQmgrName());
+                          if (!"QM3".equals(session.getQmgrName())) {
+                            throw new AssertionError("fatal " + session.getQmgrName());
+                          }
+                          return session.getQmgrName();
+                        }))
+            .isInstanceOf(CompletionException.class)
+            .cause()
+            .isInstanceOf(AssertionError.class)
+            .hasMessage("fatal QM1");
+      }
+      assertThat(visited).containsExactlyInAnyOrder("QM1", "QM2", "QM3");
+    }
+
+    @Test
+    void nullOperationThrowsNullPointerException() {
+      try (MqRestSessionGroup group = builder("QM1").build()) {
+        assertThatThrownBy(() -> group.execute(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("operation");
+      }
+    }
+  }
+
+  @Nested
+  class Closing {
+
+    private void awaitWaiting(Thread thread) {
+      while (thread.getState() != Thread.State.WAITING) {
+        Thread.onSpinWait();
+      }
+    }
+
+    @Test
+    void closeShutsDownOwnedExecutor() {
+      MqRestSessionGroup group = builder("QM1").build();
+      group.close();
+      group.close();
+
+      assertThatThrownBy(() -> group.execute(MqRestSession::getQmgrName))
+          .isInstanceOf(RejectedExecutionException.class)
+          .hasMessage("Session group is closed");
+    }
+
+    @Test
+    void closeLeavesCallerExecutorRunning() {
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+        MqRestSessionGroup group = builder("QM1").executor(executor).build();
+        group.close();
+
+        assertThat(executor.isShutdown()).isFalse();
+        assertThatThrownBy(() -> group.execute(MqRestSession::getQmgrName))
+            .isInstanceOf(RejectedExecutionException.class);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void closeWaitsForRunningQueueManagersAndRejectsTheRest() throws Exception {
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      MqRestSessionGroup group = builder("QM1", "QM2", "QM3").maxConcurrency(1).build();
+      List<GroupResult<String>> outcome = Collections.synchronizedList(new ArrayList<>());
+      Thread sweep =
+          new Thread(
+              () ->
+                  outcome.add(
+                      group.execute(
+                          session -> {
+                            started.countDown();
+                            try {
+                              release.await();
+                            } catch (InterruptedException e) {
+                              Thread.currentThread().interrupt();
+                            }
+                            return session.getQmgrName();
+                          })));
+      sweep.start();
+      started.await();
+      // QM1 is running and QM2 waits for its permit
+      awaitWaiting(sweep);
+
+      Thread closer = new Thread(group::close);
+      closer.start();
+      awaitWaiting(closer);
+      assertThat(closer.isAlive()).isTrue();
+      release.countDown();
+      closer.join();
+      sweep.join();
+
+      GroupResult<String> result = outcome.get(0);
+      assertThat(result.results()).containsExactly(Map.entry("QM1", "QM1"));
+      assertThat(result.failures().keySet()).containsExactly("QM2", "QM3");
+      assertThat(result.failures().values())
+          .allSatisfy(error -> assertThat(error).isInstanceOf(RejectedExecutionException.class));
+    }
+  }
+}
@@ -6,18 +6,24 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.github.mqrestadminproject.mq.rest.admin.auth.BasicAuth;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestBulkSyncException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestCommandException;
 import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTimeoutException;
 import io.github.mqrestadminproject.mq.rest.admin.sync.SyncConfig;
 import io.github.mqrestadminproject.mq.rest.admin.sync.SyncOperation;
 import io.github.mqrestadminproject.mq.rest.admin.sync.SyncResult;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -39,21 +45,16 @@ class MqRestSessionSyncTest {
 
   /** Fake clock that advances time instantly on sleep() calls. */
   static final class FakeClock implements MqRestSession.Clock {
-    private double elapsed;
+    private double now = 1000.0;
 
     @Override
     public void sleep(double seconds) throws InterruptedException {
-      elapsed += seconds;
+      now += seconds;
     }
 
     @Override
-    public double elapsedSeconds() {
-      return elapsed;
-    }
-
-    @Override
-    public void reset() {
-      elapsed = 0;
+    public double nowSeconds() {
+      return now;
     }
   }
 
@@ -211,6 +212,60 @@ class MqRestSessionSyncTest {
       assertThat(result.polls()).isEqualTo(3);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollsReuseOneStatusPayload() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse())
+          .thenReturn(statusResponse("channel_status", "RETRYING"))
+          .thenReturn(statusResponse("channel_status", "RETRYING"))
+          .thenReturn(statusResponse("channel_status", "RUNNING"));
+
+      session.startChannelSync("MY.CHANNEL", new SyncConfig(10.0, 0.5));
+
+      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport, times(4))
+          .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
+      List<Map<String, Object>> payloads = payloadCaptor.getAllValues();
+      assertThat(payloads.get(1)).containsEntry("qualifier", "CHSTATUS");
+      assertThat(payloads.get(2)).isSameAs(payloads.get(1));
+      assertThat(payloads.get(3)).isSameAs(payloads.get(1));
+    }
+
+    @Test
+    void defaultConfigChecksImmediately() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse())
+          .thenReturn(statusResponse("channel_status", "RUNNING"));
+
+      SyncResult result = session.startChannelSync("MY.CHANNEL", null);
+
+      assertThat(result.polls()).isEqualTo(1);
+      assertThat(result.elapsedSeconds()).isZero();
+    }
+
+    @Test
+    void backoffLengthensTheIntervalBetweenChecks() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse())
+          .thenReturn(statusResponse("channel_status", "RETRYING"))
+          .thenReturn(statusResponse("channel_status", "RETRYING"))
+          .thenReturn(statusResponse("channel_status", "RETRYING"))
+          .thenReturn(statusResponse("channel_status", "RUNNING"));
+      SyncConfig config =
+          new SyncConfig.Builder()
+              .pollIntervalSeconds(0.5)
+              .maxPollIntervalSeconds(1.5)
+              .jitter(0)
+              .build();
+
+      SyncResult result = session.startChannelSync("MY.CHANNEL", config);
+
+      // Checks at 0, 0.5, 1.5 (0.5 + 1.0), and 3.0 (capped at 1.5)
+      assertThat(result.polls()).isEqualTo(4);
+      assertThat(result.elapsedSeconds()).isEqualTo(3.0);
+    }
+
     @Test
     void statusCommandErrorTreatedAsNotReady() {
       // Call 1: START → empty
@@ -317,6 +372,18 @@ class MqRestSessionSyncTest {
               });
     }
 
+    @Test
+    void lastPollIsMadeWhenTimeoutExpires() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse())
+          .thenReturn(statusResponse("channel_status", "RETRYING"));
+
+      // Fixed 1s interval: polls at 1s and 2s, then a final poll after 0.5s rather than 1s
+      assertThatThrownBy(() -> session.startChannelSync("MY.CHANNEL", new SyncConfig(2.5, 1.0)))
+          .isInstanceOfSatisfying(
+              MqRestTimeoutException.class, ex -> assertThat(ex.getElapsed()).isEqualTo(2.5));
+    }
+
     @Test
     void stopPollingNeverSeesTargetThrowsTimeout() {
       // STOP + repeated RUNNING polls
@@ -698,23 +765,18 @@ class MqRestSessionSyncTest {
   class SystemClockTest {
 
     @Test
-    void elapsedSecondsAfterResetIsNearZero() {
-      MqRestSession.SystemClock clock = new MqRestSession.SystemClock();
-      assertThat(clock.elapsedSeconds()).isLessThan(1.0);
-    }
-
-    @Test
-    void resetResetsElapsed() {
+    void nowSecondsIsMonotonic() {
       MqRestSession.SystemClock clock = new MqRestSession.SystemClock();
-      clock.reset();
-      assertThat(clock.elapsedSeconds()).isLessThan(1.0);
+      double first = clock.nowSeconds();
+      assertThat(clock.nowSeconds()).isGreaterThanOrEqualTo(first);
     }
 
     @Test
-    void sleepAdvancesElapsed() throws InterruptedException {
+    void sleepAdvancesNow() throws InterruptedException {
       MqRestSession.SystemClock clock = new MqRestSession.SystemClock();
+      double start = clock.nowSeconds();
       clock.sleep(0.01); // 10ms
-      assertThat(clock.elapsedSeconds()).isGreaterThan(0);
+      assertThat(clock.nowSeconds() - start).isGreaterThan(0);
     }
   }
 
@@ -736,12 +798,9 @@ class MqRestSessionSyncTest {
             }
 
             @Override
-            public double elapsedSeconds() {
+            public double nowSeconds() {
               return 1.5;
             }
-
-            @Override
-            public void reset() {}
           };
       session.setClock(interruptingClock);
 
@@ -769,12 +828,9 @@ class MqRestSessionSyncTest {
             }
 
             @Override
-            public double elapsedSeconds() {
+            public double nowSeconds() {
               return 2.0;
             }
-
-            @Override
-            public void reset() {}
           };
       session.setClock(interruptingClock);
 
@@ -906,4 +962,440 @@ class MqRestSessionSyncTest {
       assertThat(result.operation()).isEqualTo(SyncOperation.RESTARTED);
     }
   }
+
+  @Nested
+  class BulkSync {
+
+    @BeforeEach
+    void sendAsyncCommandsThroughPostJson() {
+      lenient()
+          .when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenAnswer(
+              invocation ->
+                  CompletableFuture.supplyAsync(
+                      () ->
+                          transport.postJson(
+                              invocation.getArgument(0),
+                              invocation.getArgument(1),
+                              invocation.getArgument(2),
+                              invocation.getArgument(3),
+                              invocation.getArgument(4)),
+                      Runnable::run));
+    }
+
+    private TransportResponse rowsResponse(String nameKey, String... nameStatusPairs) {
+      StringBuilder items = new StringBuilder();
+      for (int index = 0; index < nameStatusPairs.length; index += 2) {
+        if (items.length() > 0) {
+          items.append(',');
+        }
+        items
+            .append("{\"parameters\":{\"")
+            .append(nameKey)
+            .append("\":\"")
+            .append(nameStatusPairs[index])
+            .append("\",\"STATUS\":\"")
+            .append(nameStatusPairs[index + 1])
+            .append("\"}}");
+      }
+      return new TransportResponse(
+          200,
+          "{\"overallCompletionCode\":0,\"overallReasonCode\":0,\"commandResponse\":["
+              + items
+              + "]}",
+          Map.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> sentPayloads(int count) {
+      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport, times(count))
+          .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
+      return payloadCaptor.getAllValues();
+    }
+
+    @Test
+    void startChannelsResolvesEachChannelIndependently() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse(), emptyResponse(), emptyResponse())
+          .thenReturn(rowsResponse("CHANNEL", "CH1", "RUNNING", "CH2", "RETRYING"))
+          .thenReturn(
+              rowsResponse("CHANNEL", "CH1", "RUNNING", "CH2", "RUNNING", "CH3", "RUNNING"));
+
+      Map<String, SyncResult> results =
+          session.startChannelsSync(List.of("CH3", "CH1", "CH2"), new SyncConfig(10.0, 0.5));
+
+      assertThat(results).containsOnlyKeys("CH3", "CH1", "CH2");
+      assertThat(results.keySet()).containsExactly("CH3", "CH1", "CH2");
+      assertThat(results.get("CH1").polls()).isEqualTo(1);
+      assertThat(results.get("CH2").polls()).isEqualTo(2);
+      assertThat(results.get("CH3").polls()).isEqualTo(2);
+      assertThat(results.values())
+          .allSatisfy(result -> assertThat(result.operation()).isEqualTo(SyncOperation.STARTED));
+      List<Map<String, Object>> payloads = sentPayloads(5);
+      assertThat(payloads.subList(0, 3))
+          .allSatisfy(payload -> assertThat(payload).containsEntry("command", "START"));
+      assertThat(payloads.subList(3, 5))
+          .allSatisfy(
+              payload ->
+                  assertThat(payload)
+                      .containsEntry("command", "DISPLAY")
+                      .containsEntry("qualifier", "CHSTATUS")
+                      .containsEntry("name", "CH*"));
+    }
+
+    @Test
+    void namesWithoutCommonPrefixArePolledOneByOne() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse(), emptyResponse())
+          .thenReturn(rowsResponse("CHANNEL", "A.CH", "RUNNING"))
+          .thenReturn(rowsResponse("CHANNEL", "B.CH", "RETRYING"))
+          .thenReturn(rowsResponse("CHANNEL", "B.CH", "RUNNING"));
+
+      Map<String, SyncResult> results =
+          session.startChannelsSync(List.of("A.CH", "B.CH"), new SyncConfig(10.0, 0.5));
+
+      assertThat(results.get("A.CH").polls()).isEqualTo(1);
+      assertThat(results.get("B.CH").polls()).isEqualTo(2);
+      assertThat(sentPayloads(5).subList(2, 5))
+          .extracting(payload -> payload.get("command") + " " + payload.get("name"))
+          .containsExactly("DISPLAY A.CH", "DISPLAY B.CH", "DISPLAY B.CH");
+    }
+
+    @Test
+    void commandsAreSentBeforeAnyReplyIsAwaited() {
+      CompletableFuture<TransportResponse> firstReply = new CompletableFuture<>();
+      doReturn(firstReply)
+          .doAnswer(
+              invocation -> {
+                firstReply.complete(emptyResponse());
+                return CompletableFuture.completedFuture(emptyResponse());
+              })
+          .when(transport)
+          .postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(rowsResponse("CHANNEL", "CH1", "RUNNING", "CH2", "RUNNING"));
+
+      assertThat(session.startChannelsSync(List.of("CH1", "CH2"), null))
+          .containsOnlyKeys("CH1", "CH2");
+    }
+
+    @Test
+    void unexpectedCommandFailureIsNotReportedPerObject() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenThrow(new IllegalStateException("bug"));
+
+      assertThatThrownBy(() -> session.startChannelsSync(List.of("CH1"), null))
+          .isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void stopChannelsTreatsMissingStatusAsStopped() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse(), emptyResponse())
+          .thenReturn(rowsResponse("CHANNEL", "CH1", "STOPPED", "CH2", "STOPPING"))
+          .thenReturn(emptyResponse());
+
+      Map<String, SyncResult> results =
+          session.stopChannelsSync(List.of("CH1", "CH2"), new SyncConfig(10.0, 0.5));
+
+      assertThat(results.get("CH1").polls()).isEqualTo(1);
+      assertThat(results.get("CH2").polls()).isEqualTo(2);
+      assertThat(results.get("CH2").operation()).isEqualTo(SyncOperation.STOPPED);
+    }
+
+    @Test
+    void duplicateNamesAreCommandedOnce() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse())
+          .thenReturn(rowsResponse("CHANNEL", "CH1", "RUNNING"));
+
+      Map<String, SyncResult> results =
+          session.startChannelsSync(List.of("CH1", "CH1"), new SyncConfig(10.0, 0.5));
+
+      assertThat(results).containsOnlyKeys("CH1");
+      sentPayloads(2);
+    }
+
+    @Test
+    void failedStatusPollCountsAsNoRows() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse())
+          .thenReturn(errorResponse());
+
+      Map<String, SyncResult> results =
+          session.stopChannelsSync(List.of("CH1"), new SyncConfig(10.0, 0.5));
+
+      assertThat(results.get("CH1").operation()).isEqualTo(SyncOperation.STOPPED);
+      assertThat(results.get("CH1").polls()).isEqualTo(1);
+    }
+
+    @Test
+    void statusRowsWithoutNameAreIgnored() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse())
+          .thenReturn(rowsResponse("CONNAME", "CH1", "RUNNING"))
+          .thenReturn(rowsResponse("CHANNEL", "CH1", "RUNNING"));
+
+      Map<String, SyncResult> results =
+          session.startChannelsSync(List.of("CH1"), new SyncConfig(10.0, 0.5));
+
+      assertThat(results.get("CH1").polls()).isEqualTo(2);
+    }
+
+    @Test
+    void channelBulkWrappersDefaultTheirConfig() {
+      stubEveryObjectReachesTarget("CHANNEL", "CH1");
+      List<String> names = List.of("CH1");
+
+      assertThat(session.stopChannelsSync(names, null)).containsOnlyKeys("CH1");
+      assertThat(session.startChannelsSync(names, null)).containsOnlyKeys("CH1");
+      assertThat(session.restartChannels(names, null)).containsOnlyKeys("CH1");
+    }
+
+    @Test
+    void restartListenersUsesGivenConfig() {
+      stubEveryObjectReachesTarget("LISTENER", "LIS1");
+
+      assertThat(session.restartListeners(List.of("LIS1"), new SyncConfig(10.0, 0.5)))
+          .hasEntrySatisfying(
+              "LIS1", result -> assertThat(result.operation()).isEqualTo(SyncOperation.RESTARTED));
+    }
+
+    /** Answers START and STOP with success and each status DISPLAY with the last target. */
+    private void stubEveryObjectReachesTarget(String nameKey, String... names) {
+      String[] status = {"STOPPED"};
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenAnswer(
+              invocation -> {
+                Map<String, Object> payload = invocation.getArgument(1);
+                Object command = payload.get("command");
+                if ("DISPLAY".equals(command)) {
+                  String[] pairs = new String[names.length * 2];
+                  for (int index = 0; index < names.length; index++) {
+                    pairs[index * 2] = names[index];
+                    pairs[index * 2 + 1] = status[0];
+                  }
+                  return rowsResponse(nameKey, pairs);
+                }
+                status[0] = "START".equals(command) ? "RUNNING" : "STOPPED";
+                return emptyResponse();
+              });
+    }
+
+    private MqRestSession.Clock interruptingClock(int sleepsBeforeInterrupt) {
+      return new MqRestSession.Clock() {
+        private int sleeps;
+
+        @Override
+        public void sleep(double seconds) throws InterruptedException {
+          if (sleeps++ >= sleepsBeforeInterrupt) {
+            throw new InterruptedException("test interrupt");
+          }
+        }
+
+        @Override
+        public double nowSeconds() {
+          return 1.0;
+        }
+      };
+    }
+
+    @Test
+    void timeoutKeepsResolvedResultsAndReportsEachPendingChannel() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse(), emptyResponse(), emptyResponse())
+          .thenReturn(rowsResponse("CHANNEL", "CH1", "RUNNING", "CH2", "RETRYING"));
+
+      assertThatThrownBy(
+              () ->
+                  session.startChannelsSync(List.of("CH1", "CH2", "CH3"), new SyncConfig(1.0, 0.5)))
+          .isInstanceOfSatisfying(
+              MqRestBulkSyncException.class,
+              e -> {
+                assertThat(e).hasMessage("Failed to start [CH2, CH3]");
+                assertThat(e.getResults()).containsOnlyKeys("CH1");
+                assertThat(e.getResults().get("CH1").operation()).isEqualTo(SyncOperation.STARTED);
+                assertThat(e.getFailures().keySet()).containsExactly("CH2", "CH3");
+                assertThat(e.getFailures().get("CH3"))
+                    .isInstanceOfSatisfying(
+                        MqRestTimeoutException.class,
+                        timeout -> {
+                          assertThat(timeout.getName()).isEqualTo("CH3");
+                          assertThat(timeout.getOperation()).isEqualTo("START");
+                          assertThat(timeout).hasMessage("Timed out waiting for start of CH3");
+                        });
+                assertThat(e.getCause()).isSameAs(e.getFailures().get("CH2"));
+              });
+    }
+
+    @Test
+    void rejectedStartIsReportedAndNotPolled() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(errorResponse(), emptyResponse())
+          .thenReturn(rowsResponse("CHANNEL", "CH2", "RUNNING"));
+
+      assertThatThrownBy(
+              () -> session.startChannelsSync(List.of("CH1", "CH2"), new SyncConfig(10.0, 0.5)))
+          .isInstanceOfSatisfying(
+              MqRestBulkSyncException.class,
+              e -> {
+                assertThat(e.getResults()).containsOnlyKeys("CH2");
+                assertThat(e.getResults().get("CH2").polls()).isEqualTo(1);
+                assertThat(e.getFailures()).containsOnlyKeys("CH1");
+                assertThat(e.getFailures().get("CH1")).isInstanceOf(MqRestCommandException.class);
+              });
+      sentPayloads(3);
+    }
+
+    @Test
+    void interruptReportsEveryPendingChannel() {
+      session.setClock(interruptingClock(0));
+
+      assertThatThrownBy(
+              () -> session.stopChannelsSync(List.of("CH1", "CH2"), new SyncConfig(10.0, 0.5)))
+          .isInstanceOfSatisfying(
+              MqRestBulkSyncException.class,
+              e -> {
+                assertThat(e.getResults()).isEmpty();
+                assertThat(e.getFailures().values())
+                    .allSatisfy(
+                        failure ->
+                            assertThat(failure)
+                                .isInstanceOf(MqRestTimeoutException.class)
+                                .hasMessageContaining("Interrupted while polling for stop of")
+                                .hasCauseInstanceOf(InterruptedException.class));
+                assertThat(e.getFailures()).containsOnlyKeys("CH1", "CH2");
+              });
+
+      assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    void restartDoesNotStartAfterInterrupt() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse(), emptyResponse())
+          .thenReturn(rowsResponse("CHANNEL", "CH1", "STOPPED", "CH2", "STOPPING"));
+      session.setClock(interruptingClock(1));
+
+      assertThatThrownBy(
+              () -> session.restartChannels(List.of("CH1", "CH2"), new SyncConfig(10.0, 0.5)))
+          .isInstanceOfSatisfying(
+              MqRestBulkSyncException.class,
+              e -> {
+                assertThat(e).hasMessage("Failed to restart [CH1, CH2]");
+                assertThat(e.getResults()).isEmpty();
+                assertThat(e.getFailures().get("CH1"))
+                    .isInstanceOf(MqRestTimeoutException.class)
+                    .hasMessage("Interrupted before start of CH1");
+                assertThat(e.getFailures().get("CH2"))
+                    .hasMessage("Interrupted while polling for stop of CH2");
+              });
+
+      assertThat(Thread.interrupted()).isTrue();
+      assertThat(sentPayloads(3))
+          .noneSatisfy(payload -> assertThat(payload).containsEntry("command", "START"));
+    }
+
+    @Test
+    void restartSkipsStartForChannelThatDidNotStop() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(errorResponse(), emptyResponse())
+          .thenReturn(emptyResponse(), emptyResponse())
+          .thenReturn(rowsResponse("CHANNEL", "CH2", "RUNNING"));
+
+      assertThatThrownBy(
+              () -> session.restartChannels(List.of("CH1", "CH2"), new SyncConfig(10.0, 0.5)))
+          .isInstanceOfSatisfying(
+              MqRestBulkSyncException.class,
+              e -> {
+                assertThat(e.getResults()).containsOnlyKeys("CH2");
+                assertThat(e.getResults().get("CH2").operation())
+                    .isEqualTo(SyncOperation.RESTARTED);
+                assertThat(e.getFailures()).containsOnlyKeys("CH1");
+              });
+      List<Map<String, Object>> payloads = sentPayloads(5);
+      assertThat(payloads.get(3)).containsEntry("command", "START").containsEntry("name", "CH2");
+    }
+
+    @Test
+    void listenerBulkWrappersReachTheirTargets() {
+      stubEveryObjectReachesTarget("LISTENER", "LIS1", "LIS2");
+      List<String> names = List.of("LIS1", "LIS2");
+      SyncConfig config = new SyncConfig(10.0, 0.5);
+
+      assertThat(session.stopListenersSync(names, config).values())
+          .extracting(SyncResult::operation)
+          .containsOnly(SyncOperation.STOPPED);
+      assertThat(session.startListenersSync(names, config).values())
+          .extracting(SyncResult::operation)
+          .containsOnly(SyncOperation.STARTED);
+      assertThat(session.restartListeners(names, null).values())
+          .extracting(SyncResult::operation)
+          .containsExactly(SyncOperation.RESTARTED, SyncOperation.RESTARTED);
+    }
+
+    @Test
+    void serviceBulkWrappersReachTheirTargets() {
+      stubEveryObjectReachesTarget("SERVICE", "SVC1");
+      List<String> names = List.of("SVC1");
+      SyncConfig config = new SyncConfig(10.0, 0.5);
+
+      assertThat(session.startServicesSync(names, config))
+          .hasEntrySatisfying(
+              "SVC1", result -> assertThat(result.operation()).isEqualTo(SyncOperation.STARTED));
+      assertThat(session.stopServicesSync(names, config))
+          .hasEntrySatisfying(
+              "SVC1", result -> assertThat(result.operation()).isEqualTo(SyncOperation.STOPPED));
+      assertThat(session.restartServices(names, config))
+          .hasEntrySatisfying(
+              "SVC1", result -> assertThat(result.operation()).isEqualTo(SyncOperation.RESTARTED));
+      assertThat(session.startServicesSync(names, null)).containsOnlyKeys("SVC1");
+    }
+
+    @Test
+    void restartChannelsCombinesPhases() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse(), emptyResponse(), emptyResponse())
+          .thenReturn(emptyResponse(), emptyResponse())
+          .thenReturn(rowsResponse("CHANNEL", "CH1", "RUNNING", "CH2", "RUNNING"));
+
+      Map<String, SyncResult> results =
+          session.restartChannels(List.of("CH1", "CH2"), new SyncConfig(10.0, 0.5));
+
+      assertThat(results.values())
+          .allSatisfy(
+              result -> {
+                assertThat(result.operation()).isEqualTo(SyncOperation.RESTARTED);
+                assertThat(result.polls()).isEqualTo(2);
+              });
+      List<Map<String, Object>> payloads = sentPayloads(6);
+      assertThat(payloads.get(0)).containsEntry("command", "STOP");
+      assertThat(payloads.get(3)).containsEntry("command", "START");
+    }
+
+    @Test
+    void listenersAndServicesUseTheirStatusQualifiers() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(emptyResponse())
+          .thenReturn(rowsResponse("LISTENER", "LIS1", "RUNNING"))
+          .thenReturn(emptyResponse())
+          .thenReturn(rowsResponse("SERVICE", "SVC1", "STOPPED"));
+
+      assertThat(session.startListenersSync(List.of("LIS1"), null)).containsOnlyKeys("LIS1");
+      assertThat(session.stopServicesSync(List.of("SVC1"), null)).containsOnlyKeys("SVC1");
+
+      List<Map<String, Object>> payloads = sentPayloads(4);
+      assertThat(payloads.get(1)).containsEntry("qualifier", "LSSTATUS");
+      assertThat(payloads.get(3)).containsEntry("qualifier", "SVSTATUS");
+    }
+
+    @Test
+    void emptyNamesReturnsEmptyResult() {
+      assertThat(session.stopListenersSync(List.of(), null)).isEmpty();
+      assertThat(session.restartServices(List.of(), null)).isEmpty();
+      verify(transport, never()).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+  }
 }
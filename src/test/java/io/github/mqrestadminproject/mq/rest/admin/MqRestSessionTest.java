@@ -6,8 +6,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.github.mqrestadminproject.mq.rest.admin.auth.BasicAuth;
@@ -16,12 +19,28 @@ import io.github.mqrestadminproject.mq.rest.admin.auth.LtpaAuth;
 import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestAuthException;
 import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestCommandException;
 import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestResponseException;
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTransportException;
+import io.github.mqrestadminproject.mq.rest.admin.mapping.AttributeMapper;
 import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingException;
 import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingOverrideMode;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +53,8 @@ class MqRestSessionTest {
 
   private static final String BASE_URL = "https://host:9443/ibmmq/rest/v2";
   private static final String QMGR = "QM1";
+  private static final String LOGIN_URL = BASE_URL + "/login";
+  private static final String MQSC_URL = BASE_URL + "/admin/action/qmgr/QM1/mqsc";
 
   @Mock private MqRestTransport transport;
 
@@ -139,15 +160,63 @@ class MqRestSessionTest {
   @Nested
   class LtpaLogin {
 
+    private TransportResponse loginResponse(String token) {
+      return successResponseWithHeaders(
+          "{}", Map.of("Set-Cookie", "LtpaToken2=" + token + "; Path=/"));
+    }
+
+    private MqRestSession asyncLtpaSession(Executor asyncExecutor) {
+      return new MqRestSession.Builder(BASE_URL, QMGR, new LtpaAuth("user", "pass"))
+          .transport(transport)
+          .mapAttributes(false)
+          .asyncExecutor(asyncExecutor)
+          .build();
+    }
+
+    private MqRestSession ltpaSession() {
+      return new MqRestSession.Builder(BASE_URL, QMGR, new LtpaAuth("user", "pass"))
+          .transport(transport)
+          .mapAttributes(false)
+          .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> sentCookies(int calls) {
+      ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport, times(calls))
+          .postJson(anyString(), anyMap(), headersCaptor.capture(), any(), anyBoolean());
+      List<String> cookies = new ArrayList<>();
+      for (Map<String, String> headers : headersCaptor.getAllValues()) {
+        cookies.add(headers.getOrDefault("Cookie", "-"));
+      }
+      return cookies;
+    }
+
     @Test
-    void ltpaAuthPerformsLoginAtConstruction() {
+    void ltpaAuthDefersLoginUntilFirstCommand() {
+      MqRestSession session = ltpaSession();
+      verifyNoInteractions(transport);
+
       when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
-          .thenReturn(
-              successResponseWithHeaders("{}", Map.of("Set-Cookie", "LtpaToken2=abc123; Path=/")));
+          .thenReturn(loginResponse("abc123"))
+          .thenReturn(successResponse(emptyCommandResponse()));
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+
+      ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
+      verify(transport, times(2))
+          .postJson(urlCaptor.capture(), anyMap(), anyMap(), any(), anyBoolean());
+      assertThat(urlCaptor.getAllValues().get(0)).isEqualTo(BASE_URL + "/login");
+    }
+
+    @Test
+    void ltpaAuthPerformsLoginAtConstructionWhenEager() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(loginResponse("abc123"));
 
       MqRestSession session =
           new MqRestSession.Builder(BASE_URL, QMGR, new LtpaAuth("user", "pass"))
               .transport(transport)
+              .eagerLogin(true)
               .build();
 
       assertThat(session).isNotNull();
@@ -156,16 +225,38 @@ class MqRestSessionTest {
       assertThat(urlCaptor.getValue()).isEqualTo(BASE_URL + "/login");
     }
 
+    @Test
+    void eagerLoginFailsBuildOnHttpError() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(new TransportResponse(401, "Unauthorized", Map.of()));
+      MqRestSession.Builder builder =
+          new MqRestSession.Builder(BASE_URL, QMGR, new LtpaAuth("user", "pass"))
+              .transport(transport)
+              .eagerLogin(true);
+
+      assertThatThrownBy(builder::build)
+          .isInstanceOf(MqRestAuthException.class)
+          .hasMessageContaining("LTPA login failed");
+    }
+
+    @Test
+    void eagerLoginHasNoEffectWithoutLtpaAuth() {
+      new MqRestSession.Builder(BASE_URL, QMGR, new BasicAuth("user", "pass"))
+          .transport(transport)
+          .eagerLogin(true)
+          .build();
+
+      verifyNoInteractions(transport);
+    }
+
     @Test
     void ltpaLoginFailsOnHttpError() {
       when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
           .thenReturn(new TransportResponse(401, "Unauthorized", Map.of()));
 
-      assertThatThrownBy(
-              () ->
-                  new MqRestSession.Builder(BASE_URL, QMGR, new LtpaAuth("user", "pass"))
-                      .transport(transport)
-                      .build())
+      MqRestSession session = ltpaSession();
+
+      assertThatThrownBy(() -> session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null))
           .isInstanceOf(MqRestAuthException.class)
           .hasMessageContaining("LTPA login failed");
     }
@@ -175,15 +266,403 @@ class MqRestSessionTest {
       when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
           .thenReturn(successResponse("{}"));
 
-      assertThatThrownBy(
-              () ->
-                  new MqRestSession.Builder(BASE_URL, QMGR, new LtpaAuth("user", "pass"))
-                      .transport(transport)
-                      .build())
+      MqRestSession session = ltpaSession();
+
+      assertThatThrownBy(() -> session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null))
           .isInstanceOf(MqRestAuthException.class)
           .hasMessageContaining("LtpaToken2");
     }
 
+    @Test
+    void loginIsReusedAcrossCommands() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(loginResponse("tok1"))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session = ltpaSession();
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+
+      assertThat(sentCookies(3)).containsExactly("-", "LtpaToken2=tok1", "LtpaToken2=tok1");
+    }
+
+    @Test
+    void rejectedTokenTriggersSingleReloginAndRetry() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(loginResponse("tok1"))
+          .thenReturn(new TransportResponse(401, "{}", Map.of()))
+          .thenReturn(loginResponse("tok2"))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session = ltpaSession();
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+
+      assertThat(sentCookies(4)).containsExactly("-", "LtpaToken2=tok1", "-", "LtpaToken2=tok2");
+      assertThat(session.getLastHttpStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void headersAreRebuiltOnlyWhenTokenChanges() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(loginResponse("tok1"))
+          .thenReturn(successResponse(emptyCommandResponse()))
+          .thenReturn(new TransportResponse(401, "{}", Map.of()))
+          .thenReturn(loginResponse("tok2"))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session = ltpaSession();
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+
+      ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport, times(5))
+          .postJson(anyString(), anyMap(), headersCaptor.capture(), any(), anyBoolean());
+      List<Map<String, String>> headers = headersCaptor.getAllValues();
+      // 0: login, 1: tok1, 2: tok1 (rejected), 3: login, 4: tok2
+      assertThat(headers.get(2)).isSameAs(headers.get(1));
+      assertThat(headers.get(4)).isNotSameAs(headers.get(1));
+      assertThat(headers.get(4)).containsEntry("Cookie", "LtpaToken2=tok2");
+    }
+
+    @Test
+    void forbiddenResponseAlsoTriggersRelogin() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(loginResponse("tok1"))
+          .thenReturn(new TransportResponse(403, "{}", Map.of()))
+          .thenReturn(loginResponse("tok2"))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session = ltpaSession();
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+
+      assertThat(sentCookies(4)).last().isEqualTo("LtpaToken2=tok2");
+    }
+
+    @Test
+    void retryHappensAtMostOnce() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(loginResponse("tok1"))
+          .thenReturn(new TransportResponse(401, "{}", Map.of()))
+          .thenReturn(loginResponse("tok2"))
+          .thenReturn(new TransportResponse(401, "{}", Map.of()));
+
+      MqRestSession session = ltpaSession();
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+
+      assertThat(sentCookies(4)).hasSize(4);
+      assertThat(session.getLastHttpStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void basicAuthRejectionIsNotRetried() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(new TransportResponse(401, "{}", Map.of()));
+
+      MqRestSession session = buildSessionNoMapping();
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+
+      verify(transport).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void asyncCommandRetriesWithFreshToken() {
+      when(transport.postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(loginResponse("tok1")))
+          .thenReturn(CompletableFuture.completedFuture(loginResponse("tok2")));
+      when(transport.postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(new TransportResponse(401, "{}", Map.of())))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(emptyCommandResponse())));
+
+      MqRestSession session = asyncLtpaSession(Runnable::run);
+      session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null).join();
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport, times(2))
+          .postJsonAsync(eq(MQSC_URL), anyMap(), headersCaptor.capture(), any(), anyBoolean());
+      assertThat(headersCaptor.getAllValues().get(1)).containsEntry("Cookie", "LtpaToken2=tok2");
+      assertThat(session.getLastHttpStatus()).isEqualTo(200);
+      verify(transport, never()).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void asyncCommandWithoutRejectionSendsOnce() {
+      when(transport.postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(loginResponse("tok1")));
+      when(transport.postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(emptyCommandResponse())));
+
+      asyncLtpaSession(Runnable::run)
+          .mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null)
+          .join();
+
+      verify(transport).postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void asyncCommandReusesHeldToken() {
+      when(transport.postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(loginResponse("tok1")));
+      when(transport.postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(emptyCommandResponse())));
+      MqRestSession session = asyncLtpaSession(Runnable::run);
+
+      session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null).join();
+      session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null).join();
+
+      verify(transport).postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean());
+      verify(transport, times(2))
+          .postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void asyncLoginDoesNotBlockCallerAndIsSharedByConcurrentCommands() {
+      CompletableFuture<TransportResponse> login = new CompletableFuture<>();
+      when(transport.postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(login);
+      when(transport.postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(emptyCommandResponse())));
+
+      MqRestSession session = asyncLtpaSession(Runnable::run);
+      CompletableFuture<List<Map<String, Object>>> first =
+          session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null);
+      CompletableFuture<List<Map<String, Object>>> second =
+          session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null);
+
+      assertThat(first).isNotDone();
+      assertThat(second).isNotDone();
+      verify(transport, never()).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+      login.complete(loginResponse("tok1"));
+
+      assertThat(first.join()).isEmpty();
+      assertThat(second.join()).isEmpty();
+      verify(transport).postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean());
+      verify(transport, times(2))
+          .postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void asyncLoginParsesResponseOnAsyncExecutor() {
+      when(transport.postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(loginResponse("tok1")));
+      List<Runnable> submitted = new ArrayList<>();
+
+      CompletableFuture<List<Map<String, Object>>> future =
+          asyncLtpaSession(submitted::add)
+              .mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null);
+
+      assertThat(future).isNotDone();
+      assertThat(submitted).hasSize(1);
+      verify(transport, never())
+          .postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void asyncLoginFailureCompletesExceptionally() {
+      when(transport.postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              CompletableFuture.completedFuture(new TransportResponse(401, "{}", Map.of())));
+
+      CompletableFuture<List<Map<String, Object>>> future =
+          asyncLtpaSession(Runnable::run)
+              .mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null);
+
+      assertThatThrownBy(future::join)
+          .isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(MqRestAuthException.class);
+      verify(transport, never())
+          .postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void asyncLoginThrowingTransportIsRetriedOnNextCommand() {
+      when(transport.postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenThrow(new MqRestTransportException("HTTP request failed", LOGIN_URL))
+          .thenReturn(CompletableFuture.completedFuture(loginResponse("tok1")));
+      when(transport.postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(emptyCommandResponse())));
+      MqRestSession session = asyncLtpaSession(Runnable::run);
+
+      assertThatThrownBy(
+              () -> session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null).join())
+          .isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(MqRestTransportException.class);
+      assertThat(session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null).join())
+          .isEmpty();
+      verify(transport, times(2))
+          .postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    /** Runs a synchronous command on a new thread and returns once that thread is waiting. */
+    private CompletableFuture<List<Map<String, Object>>> syncCommandWaiting(MqRestSession session) {
+      CompletableFuture<List<Map<String, Object>>> result = new CompletableFuture<>();
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  result.complete(session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null));
+                } catch (RuntimeException e) {
+                  result.completeExceptionally(e);
+                }
+              });
+      thread.start();
+      while (thread.getState() != Thread.State.WAITING && !result.isDone()) {
+        Thread.onSpinWait();
+      }
+      return result;
+    }
+
+    @Test
+    void syncCommandJoinsAsyncLoginInFlight() {
+      CompletableFuture<TransportResponse> login = new CompletableFuture<>();
+      when(transport.postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(login);
+      when(transport.postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(emptyCommandResponse())));
+      when(transport.postJson(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(emptyCommandResponse()));
+      MqRestSession session = asyncLtpaSession(Runnable::run);
+
+      CompletableFuture<List<Map<String, Object>>> async =
+          session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null);
+      CompletableFuture<List<Map<String, Object>>> sync = syncCommandWaiting(session);
+      assertThat(sync).isNotDone();
+      login.complete(loginResponse("tok1"));
+
+      assertThat(async.join()).isEmpty();
+      assertThat(sync.join()).isEmpty();
+      verify(transport).postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean());
+      verify(transport, never()).postJson(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void asyncCommandJoinsSyncLoginInFlight() throws InterruptedException {
+      CountDownLatch loggingIn = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      when(transport.postJson(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenAnswer(
+              invocation -> {
+                loggingIn.countDown();
+                release.await();
+                return loginResponse("tok1");
+              });
+      when(transport.postJson(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(emptyCommandResponse()));
+      when(transport.postJsonAsync(eq(MQSC_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(emptyCommandResponse())));
+      MqRestSession session = asyncLtpaSession(Runnable::run);
+
+      CompletableFuture<List<Map<String, Object>>> sync =
+          CompletableFuture.supplyAsync(
+              () -> session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null));
+      loggingIn.await();
+      CompletableFuture<List<Map<String, Object>>> async =
+          session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null);
+      assertThat(async).isNotDone();
+      release.countDown();
+
+      assertThat(sync.join()).isEmpty();
+      assertThat(async.join()).isEmpty();
+      verify(transport).postJson(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean());
+      verify(transport, never())
+          .postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void syncCommandRethrowsFailureOfJoinedLogin() {
+      CompletableFuture<TransportResponse> login = new CompletableFuture<>();
+      when(transport.postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(login);
+      MqRestSession session = asyncLtpaSession(Runnable::run);
+
+      CompletableFuture<List<Map<String, Object>>> async =
+          session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null);
+      CompletableFuture<List<Map<String, Object>>> sync = syncCommandWaiting(session);
+      login.complete(new TransportResponse(401, "{}", Map.of()));
+
+      assertThatThrownBy(sync::join).hasCauseInstanceOf(MqRestAuthException.class);
+      assertThatThrownBy(async::join).hasCauseInstanceOf(MqRestAuthException.class);
+      verify(transport, never()).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void syncCommandRethrowsCheckedFailureOfJoinedLoginWrapped() {
+      CompletableFuture<TransportResponse> login = new CompletableFuture<>();
+      when(transport.postJsonAsync(eq(LOGIN_URL), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(login);
+      MqRestSession session = asyncLtpaSession(Runnable::run);
+
+      session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null);
+      CompletableFuture<List<Map<String, Object>>> sync = syncCommandWaiting(session);
+      login.completeExceptionally(new IOException("connection reset"));
+
+      assertThatThrownBy(sync::join)
+          .isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void streamedCommandRetriesWithFreshToken() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(loginResponse("tok1"))
+          .thenReturn(loginResponse("tok2"));
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              new TransportStreamResponse(403, new ByteArrayInputStream(new byte[0]), Map.of()))
+          .thenReturn(
+              new TransportStreamResponse(
+                  200,
+                  new ByteArrayInputStream(emptyCommandResponse().getBytes(StandardCharsets.UTF_8)),
+                  Map.of()));
+
+      MqRestSession session = ltpaSession();
+      session.mqscCommandStream("DISPLAY", "QUEUE", "*", null, null, null, row -> {});
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport, times(2))
+          .postJsonStream(anyString(), anyMap(), headersCaptor.capture(), any(), anyBoolean());
+      assertThat(headersCaptor.getAllValues().get(1)).containsEntry("Cookie", "LtpaToken2=tok2");
+      assertThat(session.getLastHttpStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void concurrentFirstCommandsShareOneLogin() throws Exception {
+      MqRestSession session = ltpaSession();
+      CountDownLatch secondStarted = new CountDownLatch(1);
+      Thread[] waiter = new Thread[1];
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenAnswer(
+              invocation -> {
+                if (!invocation.getArgument(0, String.class).endsWith("/login")) {
+                  return successResponse(emptyCommandResponse());
+                }
+                // Hold the login until the other thread is parked joining it
+                secondStarted.await();
+                while (waiter[0].getState() != Thread.State.WAITING) {
+                  Thread.onSpinWait();
+                }
+                return loginResponse("tok1");
+              });
+
+      Thread first =
+          new Thread(() -> session.mqscCommand("DISPLAY", "QUEUE", "Q1", null, null, null));
+      waiter[0] = new Thread(() -> session.mqscCommand("DISPLAY", "QUEUE", "Q2", null, null, null));
+      first.start();
+      // Let the first thread reach the login before starting the second
+      while (first.getState() != Thread.State.WAITING) {
+        Thread.onSpinWait();
+      }
+      waiter[0].start();
+      secondStarted.countDown();
+      first.join();
+      waiter[0].join();
+
+      assertThat(sentCookies(3))
+          .containsExactlyInAnyOrder("-", "LtpaToken2=tok1", "LtpaToken2=tok1");
+    }
+
     @Test
     void basicAuthSkipsLogin() {
       MqRestSession session = basicBuilder().build();
@@ -205,18 +684,21 @@ class MqRestSessionTest {
     void ltpaLoginSendsCsrfTokenInHeaders() {
       when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
           .thenReturn(
-              successResponseWithHeaders("{}", Map.of("Set-Cookie", "LtpaToken2=tok; Path=/")));
+              successResponseWithHeaders("{}", Map.of("Set-Cookie", "LtpaToken2=tok; Path=/")))
+          .thenReturn(successResponse(emptyCommandResponse()));
 
       new MqRestSession.Builder(BASE_URL, QMGR, new LtpaAuth("user", "pass"))
           .transport(transport)
           .csrfToken("mytoken")
-          .build();
+          .build()
+          .mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
 
       @SuppressWarnings("unchecked")
       ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
-      verify(transport)
+      verify(transport, times(2))
           .postJson(anyString(), anyMap(), headersCaptor.capture(), any(), anyBoolean());
-      assertThat(headersCaptor.getValue()).containsEntry("ibm-mq-rest-csrf-token", "mytoken");
+      assertThat(headersCaptor.getAllValues().get(0))
+          .containsEntry("ibm-mq-rest-csrf-token", "mytoken");
     }
   }
 
@@ -239,6 +721,25 @@ class MqRestSessionTest {
       assertThat(headersCaptor.getValue().get("Authorization")).startsWith("Basic ");
     }
 
+    @Test
+    void basicAuthHeadersAreBuiltOncePerSession() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session = buildSessionNoMapping();
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport, times(2))
+          .postJson(anyString(), anyMap(), headersCaptor.capture(), any(), anyBoolean());
+      List<Map<String, String>> headers = headersCaptor.getAllValues();
+      assertThat(headers.get(1)).isSameAs(headers.get(0));
+      assertThatThrownBy(() -> headers.get(0).put("Accept", "text/plain"))
+          .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     void ltpaAuthIncludesCookieHeader() {
       // First call: LTPA login
@@ -264,6 +765,30 @@ class MqRestSessionTest {
       assertThat(commandHeaders).containsEntry("Cookie", "LtpaToken2=tok123");
     }
 
+    @Test
+    void ltpaCookieIsVisibleToOtherThreads() throws InterruptedException {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              successResponseWithHeaders("{}", Map.of("Set-Cookie", "LtpaToken2=tok123; Path=/")))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session =
+          new MqRestSession.Builder(BASE_URL, QMGR, new LtpaAuth("user", "pass"))
+              .transport(transport)
+              .mapAttributes(false)
+              .build();
+      Thread other =
+          new Thread(() -> session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null));
+      other.start();
+      other.join();
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport, times(2))
+          .postJson(anyString(), anyMap(), headersCaptor.capture(), any(), anyBoolean());
+      assertThat(headersCaptor.getAllValues().get(1)).containsEntry("Cookie", "LtpaToken2=tok123");
+    }
+
     @Test
     void certificateAuthOmitsAuthHeader() {
       when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
@@ -433,59 +958,570 @@ class MqRestSessionTest {
       MqRestSession session = buildSessionNoMapping();
       session.mqscCommand("DISPLAY", "QUEUE", "Q1", null, null, null);
 
-      @SuppressWarnings("unchecked")
-      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
-      verify(transport)
-          .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
-      @SuppressWarnings("unchecked")
-      List<String> respParams = (List<String>) payloadCaptor.getValue().get("responseParameters");
-      assertThat(respParams).containsExactly("all");
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport)
+          .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
+      @SuppressWarnings("unchecked")
+      List<String> respParams = (List<String>) payloadCaptor.getValue().get("responseParameters");
+      assertThat(respParams).containsExactly("all");
+    }
+
+    @Test
+    void nonDisplayWithNullResponseParamsOmitsField() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session = buildSessionNoMapping();
+      session.mqscCommand("ALTER", "QUEUE", "Q1", null, null, null);
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport)
+          .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
+      assertThat(payloadCaptor.getValue()).doesNotContainKey("responseParameters");
+    }
+
+    @Test
+    void commandUrlIsCorrect() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session = buildSessionNoMapping();
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+
+      ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
+      verify(transport).postJson(urlCaptor.capture(), anyMap(), anyMap(), any(), anyBoolean());
+      assertThat(urlCaptor.getValue()).isEqualTo(BASE_URL + "/admin/action/qmgr/QM1/mqsc");
+    }
+
+    @Test
+    void commandPayloadHasCorrectType() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session = buildSessionNoMapping();
+      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport)
+          .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
+      assertThat(payloadCaptor.getValue())
+          .containsEntry("type", "runCommandJSON")
+          .containsEntry("command", "DISPLAY")
+          .containsEntry("qualifier", "QUEUE");
+    }
+  }
+
+  @Nested
+  class MqscCommandAsync {
+
+    @Test
+    void completesWithMappedResponse() {
+      when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              CompletableFuture.completedFuture(
+                  successResponse(commandResponseWithParams("\"MAXDEPTH\":5000"))));
+
+      MqRestSession session = basicBuilder().build();
+      List<Map<String, Object>> result =
+          session.mqscCommandAsync("DISPLAY", "QUEUE", "Q1", null, null, null).join();
+
+      assertThat(result).hasSize(1);
+      assertThat(result.get(0)).containsEntry("max_queue_depth", 5000);
+    }
+
+    @Test
+    void recordsDiagnosticsForCallingThreadOnly() throws Exception {
+      String body = commandResponseWithParams("\"MAXDEPTH\":5000");
+      when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(body)));
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+        MqRestSession session = basicBuilder().asyncExecutor(executor).build();
+        session.mqscCommandAsync("DISPLAY", "QUEUE", "Q1", null, null, null).join();
+
+        assertThat(session.getLastHttpStatus()).isEqualTo(200);
+        assertThat(session.getLastResponseText()).isEqualTo(body);
+        assertThat(session.getLastResponsePayload()).containsKey("commandResponse");
+        assertThat(session.getLastCommandPayload()).containsEntry("name", "Q1");
+        assertThat(executor.submit(session::getLastResponseText).get()).isNull();
+        assertThat(executor.submit(session::getLastCommandPayload).get()).isNull();
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void passesDiagnosticsOfOwnCallToConsumer() throws Exception {
+      String body = commandResponseWithParams("\"MAXDEPTH\":5000");
+      when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(body)));
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+        MqRestSession session = basicBuilder().asyncExecutor(executor).build();
+        List<CommandDiagnostics> received = new ArrayList<>();
+
+        session.mqscCommandAsync("DISPLAY", "QUEUE", "Q1", null, null, null, received::add).join();
+
+        assertThat(received).hasSize(1);
+        CommandDiagnostics diagnostics = received.get(0);
+        assertThat(diagnostics.httpStatus()).isEqualTo(200);
+        assertThat(diagnostics.responseText()).isEqualTo(body);
+        assertThat(diagnostics.responsePayload()).containsKey("commandResponse");
+        assertThat(diagnostics.commandPayload()).containsEntry("name", "Q1");
+        assertThat(session.getLastCommandPayload()).isNull();
+        assertThat(session.getLastHttpStatus()).isNull();
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void passesDiagnosticsToConsumerWhenCommandFails() {
+      String body =
+          "{\"overallCompletionCode\":2,\"overallReasonCode\":3008,\"commandResponse\":[]}";
+      when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(body)));
+      MqRestSession session = buildSessionNoMapping();
+      List<CommandDiagnostics> received = new ArrayList<>();
+
+      CompletableFuture<List<Map<String, Object>>> future =
+          session.mqscCommandAsync("DISPLAY", "QUEUE", "Q1", null, null, null, received::add);
+
+      assertThatThrownBy(future::join).hasCauseInstanceOf(MqRestCommandException.class);
+      assertThat(received).hasSize(1);
+      assertThat(received.get(0).responseText()).isEqualTo(body);
+      assertThat(received.get(0).commandPayload()).containsEntry("command", "DISPLAY");
+    }
+
+    @Test
+    void passesEmptyDiagnosticsToConsumerWhenCommandCannotBePrepared() {
+      MqRestSession session = basicBuilder().build();
+      List<CommandDiagnostics> received = new ArrayList<>();
+
+      CompletableFuture<List<Map<String, Object>>> future =
+          session.mqscCommandAsync(
+              "ALTER", "QLOCAL", "Q1", Map.of("no_such_attribute", 1), null, null, received::add);
+
+      assertThatThrownBy(future::join).hasCauseInstanceOf(MappingException.class);
+      assertThat(received).containsExactly(new CommandDiagnostics(null, null, null, null));
+      verifyNoInteractions(transport);
+    }
+
+    @Test
+    void rejectsNullDiagnosticsConsumer() {
+      MqRestSession session = basicBuilder().build();
+
+      assertThatThrownBy(
+              () -> session.mqscCommandAsync("DISPLAY", "QUEUE", "Q1", null, null, null, null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("diagnosticsConsumer");
+    }
+
+    @Test
+    void sendsSamePayloadAsSynchronousCommand() {
+      when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(emptyCommandResponse())));
+
+      MqRestSession session = buildSessionNoMapping();
+      session
+          .mqscCommandAsync("ALTER", "QLOCAL", "Q1", Map.of("MAXDEPTH", 5000), null, null)
+          .join();
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(transport)
+          .postJsonAsync(
+              eq(BASE_URL + "/admin/action/qmgr/QM1/mqsc"),
+              payloadCaptor.capture(),
+              anyMap(),
+              any(),
+              anyBoolean());
+      assertThat(payloadCaptor.getValue())
+          .containsEntry("command", "ALTER")
+          .containsEntry("qualifier", "QLOCAL")
+          .containsEntry("name", "Q1");
+    }
+
+    @Test
+    void processesResponseOnAsyncExecutor() {
+      when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(CompletableFuture.completedFuture(successResponse(emptyCommandResponse())));
+      List<Runnable> submitted = new ArrayList<>();
+
+      MqRestSession session =
+          basicBuilder().mapAttributes(false).asyncExecutor(submitted::add).build();
+      CompletableFuture<List<Map<String, Object>>> future =
+          session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null);
+
+      assertThat(future).isNotDone();
+      assertThat(submitted).hasSize(1);
+      submitted.get(0).run();
+      assertThat(future.join()).isEmpty();
+    }
+
+    @Test
+    void commandErrorCompletesExceptionally() {
+      when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              CompletableFuture.completedFuture(
+                  successResponse(
+                      "{\"overallCompletionCode\":2,\"overallReasonCode\":3008,"
+                          + "\"commandResponse\":[]}")));
+
+      MqRestSession session = buildSessionNoMapping();
+
+      assertThatThrownBy(
+              () -> session.mqscCommandAsync("DISPLAY", "QUEUE", null, null, null, null).join())
+          .isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(MqRestCommandException.class);
+    }
+
+    @Test
+    void mappingErrorCompletesExceptionallyWithoutSending() {
+      MqRestSession session = basicBuilder().build();
+
+      CompletableFuture<List<Map<String, Object>>> future =
+          session.mqscCommandAsync(
+              "ALTER", "QLOCAL", "Q1", Map.of("no_such_attribute", 1), null, null);
+
+      assertThatThrownBy(future::join)
+          .isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(MappingException.class);
+      verify(transport, never())
+          .postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void transportFailurePropagates() {
+      when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              CompletableFuture.failedFuture(
+                  new MqRestTransportException("HTTP request failed", BASE_URL)));
+
+      MqRestSession session = buildSessionNoMapping();
+
+      assertThatThrownBy(
+              () -> session.mqscCommandAsync("DISPLAY", "QUEUE", "Q1", null, null, null).join())
+          .isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(MqRestTransportException.class);
+      assertThat(session.getLastCommandPayload()).containsEntry("name", "Q1");
+    }
+
+    @Test
+    void builderRejectsNullAsyncExecutor() {
+      assertThatThrownBy(() -> basicBuilder().asyncExecutor(null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("asyncExecutor");
+    }
+  }
+
+  @Nested
+  class MqscCommandStream {
+
+    private static final String TWO_QUEUES =
+        "{\"commandResponse\":["
+            + "{\"completionCode\":0,\"reasonCode\":0,"
+            + "\"parameters\":{\"queue\":\"Q1\",\"MAXDEPTH\":5000}},"
+            + "{\"completionCode\":0,\"reasonCode\":0,"
+            + "\"parameters\":{\"queue\":\"Q2\",\"MAXDEPTH\":10}}],"
+            + "\"overallCompletionCode\":0,\"overallReasonCode\":0}";
+
+    private TransportStreamResponse streamResponse(String body) {
+      return new TransportStreamResponse(
+          200, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), Map.of());
+    }
+
+    @Test
+    void streamsSameRowsAsMqscCommand() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(TWO_QUEUES));
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(streamResponse(TWO_QUEUES));
+
+      MqRestSession session = basicBuilder().build();
+      List<Map<String, Object>> expected =
+          session.mqscCommand("DISPLAY", "QUEUE", "*", null, null, null);
+      List<Map<String, Object>> streamed = new ArrayList<>();
+      session.mqscCommandStream("DISPLAY", "QUEUE", "*", null, null, null, streamed::add);
+
+      assertThat(streamed).isEqualTo(expected);
+      assertThat(streamed.get(0)).containsEntry("queue_name", "Q1");
+      assertThat(streamed.get(1)).containsEntry("max_queue_depth", 10);
+    }
+
+    @Test
+    void flattensNestedObjectsWithoutMapping() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              streamResponse(
+                  "{\"commandResponse\":[{\"parameters\":{\"conn\":\"C1\","
+                      + "\"objects\":[{\"objname\":\"A\"},{\"objname\":\"B\"}]}}],"
+                      + "\"overallCompletionCode\":0,\"overallReasonCode\":0}"));
+
+      MqRestSession session = buildSessionNoMapping();
+      List<Map<String, Object>> streamed = new ArrayList<>();
+      session.mqscCommandStream("DISPLAY", "CONN", "*", null, null, null, streamed::add);
+
+      assertThat(streamed)
+          .containsExactly(
+              Map.of("conn", "C1", "objname", "A"), Map.of("conn", "C1", "objname", "B"));
+    }
+
+    @Test
+    void strictMappingFailureIndexedAcrossResponseStopsStream() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              streamResponse(
+                  "{\"commandResponse\":["
+                      + "{\"parameters\":{\"queue\":\"Q1\"}},"
+                      + "{\"parameters\":{\"queue\":\"Q2\",\"UNKNOWNATTR\":\"x\"}},"
+                      + "{\"parameters\":{\"queue\":\"Q3\"}}],"
+                      + "\"overallCompletionCode\":0,\"overallReasonCode\":0}"));
+
+      MqRestSession session = basicBuilder().build();
+      List<Map<String, Object>> streamed = new ArrayList<>();
+
+      assertThatThrownBy(
+              () ->
+                  session.mqscCommandStream(
+                      "DISPLAY", "QUEUE", "*", null, null, null, streamed::add))
+          .isInstanceOfSatisfying(
+              MappingException.class,
+              e -> assertThat(e.getIssues().get(0).objectIndex()).isEqualTo(1));
+      assertThat(streamed).containsExactly(Map.of("queue_name", "Q1"));
+    }
+
+    @Test
+    void lazyResponseMappingStreamsReadOnlyViews() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(TWO_QUEUES));
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(streamResponse(TWO_QUEUES));
+
+      MqRestSession session = basicBuilder().mappingStrict(false).lazyResponseMapping(true).build();
+      List<Map<String, Object>> expected =
+          session.mqscCommand("DISPLAY", "QUEUE", "*", null, null, null);
+      List<Map<String, Object>> streamed = new ArrayList<>();
+      session.mqscCommandStream("DISPLAY", "QUEUE", "*", null, null, null, streamed::add);
+
+      assertThat(streamed).isEqualTo(expected);
+      assertThat(streamed.get(1).get("max_queue_depth")).isEqualTo(10);
+      assertThatThrownBy(() -> streamed.get(0).put("queue_name", "Q9"))
+          .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void commandErrorThrownAfterSuccessfulRowsDelivered() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              streamResponse(
+                  "{\"commandResponse\":["
+                      + "{\"completionCode\":0,\"parameters\":{\"queue\":\"Q1\"}},"
+                      + "{\"completionCode\":2,\"reasonCode\":2085}],"
+                      + "\"overallCompletionCode\":2,\"overallReasonCode\":3008}"));
+
+      MqRestSession session = buildSessionNoMapping();
+      List<Map<String, Object>> streamed = new ArrayList<>();
+
+      assertThatThrownBy(
+              () ->
+                  session.mqscCommandStream(
+                      "DISPLAY", "QUEUE", "*", null, null, null, streamed::add))
+          .isInstanceOf(MqRestCommandException.class)
+          .hasMessageContaining("overallReasonCode=3008");
+      assertThat(streamed).containsExactly(Map.of("queue", "Q1"));
+      assertThat(session.getLastResponsePayload())
+          .containsEntry("overallReasonCode", 3008)
+          .containsEntry(
+              "commandResponse", List.of(Map.of("completionCode", 2, "reasonCode", 2085)));
+    }
+
+    @Test
+    void recordsStatusAndClearsResponseText() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(emptyCommandResponse()));
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(streamResponse(emptyCommandResponse()));
+
+      MqRestSession session = buildSessionNoMapping();
+      session.mqscCommand("DISPLAY", "QUEUE", "*", null, null, null);
+      session.mqscCommandStream("DISPLAY", "QUEUE", "*", null, null, null, row -> {});
+
+      assertThat(session.getLastHttpStatus()).isEqualTo(200);
+      assertThat(session.getLastResponseText()).isNull();
+      assertThat(session.getLastResponsePayload()).containsEntry("overallCompletionCode", 0);
+      assertThat(session.getLastCommandPayload()).containsEntry("name", "*");
+    }
+
+    @Test
+    void readFailureThrowsTransportException() {
+      InputStream failing =
+          new InputStream() {
+            @Override
+            public int read() throws IOException {
+              throw new IOException("connection reset");
+            }
+          };
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(new TransportStreamResponse(200, failing, Map.of()));
+
+      MqRestSession session = buildSessionNoMapping();
+
+      assertThatThrownBy(
+              () -> session.mqscCommandStream("DISPLAY", "QUEUE", "*", null, null, null, row -> {}))
+          .isInstanceOf(MqRestTransportException.class)
+          .hasMessage("Failed to read HTTP response")
+          .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void nullConsumerThrowsNullPointerException() {
+      MqRestSession session = buildSessionNoMapping();
+
+      assertThatThrownBy(
+              () -> session.mqscCommandStream("DISPLAY", "QUEUE", "*", null, null, null, null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("rowConsumer");
+    }
+  }
+
+  @Nested
+  class TypedResults {
+
+    private static final String TWO_QUEUES =
+        "{\"commandResponse\":["
+            + "{\"completionCode\":0,\"reasonCode\":0,"
+            + "\"parameters\":{\"queue\":\"Q1\",\"CURDEPTH\":12,\"MAXDEPTH\":5000}},"
+            + "{\"completionCode\":0,\"reasonCode\":0,"
+            + "\"parameters\":{\"queue\":\"Q2\",\"CURDEPTH\":0,\"MAXDEPTH\":10}}],"
+            + "\"overallCompletionCode\":0,\"overallReasonCode\":0}";
+
+    private TransportStreamResponse streamResponse(String body) {
+      return new TransportStreamResponse(
+          200, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), Map.of());
+    }
+
+    @Test
+    void rowsHoldSameAttributesAsMqscCommand() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(streamResponse(TWO_QUEUES));
+
+      MqRestSession session = basicBuilder().build();
+      List<MqscRow> rows = session.displayQueueRows(null, null, null, null);
+
+      assertThat(rows).hasSize(2);
+      assertThat(rows.get(0).getString("queue_name")).isEqualTo("Q1");
+      assertThat(rows.get(0).getInt("current_queue_depth", -1)).isEqualTo(12);
+      assertThat(rows.get(1).getLong("max_queue_depth", -1)).isEqualTo(10L);
+      assertThat(rows.get(1).asMap())
+          .containsOnlyKeys("queue_name", "current_queue_depth", "max_queue_depth");
+      assertThat(session.getLastCommandPayload()).containsEntry("name", "*");
+    }
+
+    @Test
+    void rowsShareOneSchemaPerQualifier() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(streamResponse(TWO_QUEUES), streamResponse(TWO_QUEUES));
+
+      MqRestSession session = basicBuilder().build();
+      List<MqscRow> first = session.mqscCommandRows("DISPLAY", "QLOCAL", "*", null, null, null);
+      List<MqscRow> second = session.displayQueueRows("*", null, null, null);
+
+      assertThat(first.get(0).schema()).isSameAs(first.get(1).schema());
+      assertThat(first.get(0).schema()).isSameAs(second.get(0).schema());
+      assertThat(first.get(0).schema().qualifier()).isEqualTo("queue");
+    }
+
+    @Test
+    void unmappedRowsUseMqscNames() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(streamResponse(TWO_QUEUES));
+
+      MqRestSession session = buildSessionNoMapping();
+      List<MqscRow> rows = session.mqscCommandRows("DISPLAY", "QUEUE", "*", null, null, null);
+
+      assertThat(rows.get(0).getInt("CURDEPTH", -1)).isEqualTo(12);
+      assertThat(rows.get(0).get("queue")).isEqualTo("Q1");
+    }
+
+    @Test
+    void statusRowMethodsDispatchExpectedQualifier() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              streamResponse(emptyCommandResponse()), streamResponse(emptyCommandResponse()));
+
+      MqRestSession session = basicBuilder().build();
+
+      assertThat(session.displayQstatusRows("Q1", null, null, null)).isEmpty();
+      assertThat(session.getLastCommandPayload()).containsEntry("qualifier", "QSTATUS");
+      assertThat(session.displayChstatusRows("CH1", null, null, null)).isEmpty();
+      assertThat(session.getLastCommandPayload()).containsEntry("qualifier", "CHSTATUS");
+    }
+
+    @Test
+    void tableHoldsSameValuesAsRows() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(streamResponse(TWO_QUEUES), streamResponse(TWO_QUEUES));
+
+      MqRestSession session = basicBuilder().build();
+      List<MqscRow> rows = session.displayQueueRows(null, null, null, null);
+      MqscTable table = session.displayQueueTable(null, null, null, null);
+
+      assertThat(table.rowCount()).isEqualTo(2);
+      assertThat(table.schema()).isSameAs(rows.get(0).schema());
+      assertThat(table.column("current_queue_depth").isNumeric()).isTrue();
+      assertThat(table.column("max_queue_depth").getLong(0, -1)).isEqualTo(5000L);
+      assertThat(table.asMaps()).containsExactly(rows.get(0).asMap(), rows.get(1).asMap());
+      assertThat(session.getLastCommandPayload()).containsEntry("name", "*");
     }
 
     @Test
-    void nonDisplayWithNullResponseParamsOmitsField() {
-      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
-          .thenReturn(successResponse(emptyCommandResponse()));
+    void queueTableUsesGivenName() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(streamResponse(TWO_QUEUES));
 
-      MqRestSession session = buildSessionNoMapping();
-      session.mqscCommand("ALTER", "QUEUE", "Q1", null, null, null);
+      MqRestSession session = basicBuilder().build();
+      MqscTable table = session.displayQueueTable("Q1", null, null, null);
 
-      @SuppressWarnings("unchecked")
-      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
-      verify(transport)
-          .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
-      assertThat(payloadCaptor.getValue()).doesNotContainKey("responseParameters");
+      assertThat(table.rowCount()).isEqualTo(2);
+      assertThat(session.getLastCommandPayload()).containsEntry("name", "Q1");
     }
 
     @Test
-    void commandUrlIsCorrect() {
-      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
-          .thenReturn(successResponse(emptyCommandResponse()));
+    void connTableFlattensNestedObjects() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              streamResponse(
+                  "{\"commandResponse\":[{\"parameters\":{\"conn\":\"C1\","
+                      + "\"objects\":[{\"objname\":\"A\"},{\"objname\":\"B\"}]}}],"
+                      + "\"overallCompletionCode\":0,\"overallReasonCode\":0}"));
 
       MqRestSession session = buildSessionNoMapping();
-      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
+      MqscTable table = session.displayConnTable("*", null, null, null);
 
-      ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
-      verify(transport).postJson(urlCaptor.capture(), anyMap(), anyMap(), any(), anyBoolean());
-      assertThat(urlCaptor.getValue()).isEqualTo(BASE_URL + "/admin/action/qmgr/QM1/mqsc");
+      assertThat(table.rowCount()).isEqualTo(2);
+      assertThat(table.column("objname").getString(1)).isEqualTo("B");
+      assertThat(table.column("conn").getString(1)).isEqualTo("C1");
+      assertThat(session.getLastCommandPayload()).containsEntry("qualifier", "CONN");
     }
 
     @Test
-    void commandPayloadHasCorrectType() {
-      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
-          .thenReturn(successResponse(emptyCommandResponse()));
+    void commandErrorDiscardsRows() {
+      when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              streamResponse(
+                  "{\"commandResponse\":["
+                      + "{\"completionCode\":0,\"parameters\":{\"queue\":\"Q1\"}},"
+                      + "{\"completionCode\":2,\"reasonCode\":2085}],"
+                      + "\"overallCompletionCode\":2,\"overallReasonCode\":3008}"));
 
       MqRestSession session = buildSessionNoMapping();
-      session.mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
 
-      @SuppressWarnings("unchecked")
-      ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
-      verify(transport)
-          .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
-      assertThat(payloadCaptor.getValue())
-          .containsEntry("type", "runCommandJSON")
-          .containsEntry("command", "DISPLAY")
-          .containsEntry("qualifier", "QUEUE");
+      assertThatThrownBy(() -> session.mqscCommandRows("DISPLAY", "QUEUE", "*", null, null, null))
+          .isInstanceOf(MqRestCommandException.class);
     }
   }
 
@@ -555,6 +1591,53 @@ class MqRestSessionTest {
           .containsEntry("qualifier", "QUEUE")
           .containsEntry("name", "Q1");
     }
+
+    @Test
+    void stateIsConfinedToCallingThread() throws InterruptedException {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session = buildSessionNoMapping();
+      session.mqscCommand("DISPLAY", "QUEUE", "Q1", null, null, null);
+
+      List<@Nullable Integer> seen = new ArrayList<>();
+      Thread other = new Thread(() -> seen.add(session.getLastHttpStatus()));
+      other.start();
+      other.join();
+
+      assertThat(seen).containsExactly((Integer) null);
+      assertThat(session.getLastHttpStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void concurrentCommandsRecordTheirOwnState() throws Exception {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(emptyCommandResponse()));
+
+      MqRestSession session = buildSessionNoMapping();
+      int threads = 8;
+      CountDownLatch ready = new CountDownLatch(threads);
+      ExecutorService pool = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<Object>> names = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          String queueName = "Q" + i;
+          names.add(
+              pool.submit(
+                  () -> {
+                    ready.countDown();
+                    ready.await();
+                    session.mqscCommand("DISPLAY", "QUEUE", queueName, null, null, null);
+                    return session.getLastCommandPayload().get("name");
+                  }));
+        }
+        for (int i = 0; i < threads; i++) {
+          assertThat(names.get(i).get()).isEqualTo("Q" + i);
+        }
+      } finally {
+        pool.shutdownNow();
+      }
+    }
   }
 
   @Nested
@@ -732,7 +1815,8 @@ class MqRestSessionTest {
       item.put("type", "queue");
       item.put("objects", List.of(Map.of("name", "Q1"), Map.of("name", "Q2")));
 
-      List<Map<String, Object>> result = MqRestSession.flattenNestedObjects(List.of(item));
+      List<Map<String, Object>> result =
+          MqRestSession.responseRows(responseWithParameters(item), null, true);
 
       assertThat(result).hasSize(2);
       assertThat(result.get(0)).containsEntry("type", "queue").containsEntry("name", "Q1");
@@ -740,6 +1824,129 @@ class MqRestSessionTest {
       // Verify "objects" key is removed
       assertThat(result.get(0)).doesNotContainKey("objects");
     }
+
+    @Test
+    void nestedAttributesReplaceSharedOnesInPlace() {
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("conn", "C1");
+      item.put("objects", List.of(Map.of("extra", "x"), Map.of("conn", "C2")));
+      item.put("channel", "CH1");
+
+      List<Map<String, Object>> result =
+          MqRestSession.responseRows(responseWithParameters(item), null, true);
+
+      assertThat(result.get(0))
+          .containsExactly(
+              Map.entry("conn", "C1"), Map.entry("channel", "CH1"), Map.entry("extra", "x"));
+      assertThat(result.get(1))
+          .containsExactly(Map.entry("conn", "C2"), Map.entry("channel", "CH1"));
+    }
+
+    @Test
+    void nestedNullReplacesSharedValue() {
+      Map<String, Object> nested = new LinkedHashMap<>();
+      nested.put("conn", null);
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("conn", "C1");
+      item.put("objects", List.of(nested));
+
+      List<Map<String, Object>> result =
+          MqRestSession.responseRows(responseWithParameters(item), null, true);
+
+      assertThat(result)
+          .singleElement()
+          .satisfies(row -> assertThat(row).containsEntry("conn", null));
+    }
+
+    @Test
+    void nestedObjectsAttributeIsKept() {
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("conn", "C1");
+      item.put("objects", List.of(Map.of("objects", "inner"), "not an object"));
+
+      List<Map<String, Object>> result =
+          MqRestSession.responseRows(responseWithParameters(item), null, true);
+
+      assertThat(result)
+          .singleElement()
+          .satisfies(
+              row ->
+                  assertThat(row)
+                      .containsExactly(Map.entry("conn", "C1"), Map.entry("objects", "inner")));
+    }
+
+    @Test
+    void itemsWithEmptyOrMissingParametersGiveEmptyRows() {
+      Map<String, Object> payload =
+          Map.of(
+              "commandResponse",
+              List.of(Map.of("parameters", Map.of()), Map.of("completionCode", 0)));
+
+      assertThat(MqRestSession.responseRows(payload, null, true))
+          .containsExactly(Map.of(), Map.of());
+      assertThat(
+              MqRestSession.responseRows(
+                  payload, new AttributeMapper().responseRowMapper("queue", true), true))
+          .containsExactly(Map.of(), Map.of());
+    }
+
+    @Test
+    void mappedRowsAreFlattenedNormalizedAndMapped() {
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("conn", "C1");
+      item.put("objects", List.of(Map.of("OBJNAME", "Q1"), Map.of("objname", "Q2")));
+
+      List<Map<String, Object>> result =
+          MqRestSession.responseRows(
+              responseWithParameters(item),
+              new AttributeMapper().responseRowMapper("conn", true),
+              true);
+
+      assertThat(result).hasSize(2);
+      assertThat(result.get(0))
+          .containsExactly(Map.entry("connection_id", "C1"), Map.entry("object_name", "Q1"));
+      assertThat(result.get(1))
+          .containsExactly(Map.entry("connection_id", "C1"), Map.entry("object_name", "Q2"));
+    }
+
+    @Test
+    void mappingIssuesIndexFlattenedRows() {
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("conn", "C1");
+      item.put("objects", List.of(Map.of("objname", "Q1"), Map.of("unknownattr", "x")));
+
+      assertThatThrownBy(
+              () ->
+                  MqRestSession.responseRows(
+                      responseWithParameters(item),
+                      new AttributeMapper().responseRowMapper("conn", true),
+                      true))
+          .isInstanceOfSatisfying(
+              MappingException.class,
+              e ->
+                  assertThat(e.getIssues())
+                      .singleElement()
+                      .satisfies(
+                          issue -> {
+                            assertThat(issue.attributeName()).isEqualTo("UNKNOWNATTR");
+                            assertThat(issue.objectIndex()).isEqualTo(1);
+                          }));
+    }
+
+    @Test
+    void unmappedRowsCopyParametersOnlyWhenAsked() {
+      Map<String, Object> parameters = new LinkedHashMap<>(Map.of("queue", "Q1"));
+      Map<String, Object> payload = responseWithParameters(parameters);
+
+      assertThat(MqRestSession.responseRows(payload, null, true).get(0))
+          .isEqualTo(parameters)
+          .isNotSameAs(parameters);
+      assertThat(MqRestSession.responseRows(payload, null, false).get(0)).isSameAs(parameters);
+    }
+
+    private Map<String, Object> responseWithParameters(Map<String, Object> parameters) {
+      return Map.of("commandResponse", List.of(Map.of("parameters", parameters)));
+    }
   }
 
   @Nested
@@ -797,11 +2004,84 @@ class MqRestSessionTest {
 
     @Test
     void responseNormalizationUppercasesKeys() {
-      Map<String, Object> attrs = Map.of("maxdepth", 5000, "CurDepth", 100);
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              successResponse(commandResponseWithParams("\"maxdepth\":5000,\"CurDepth\":100")));
+
+      MqRestSession session = basicBuilder().build();
+      List<Map<String, Object>> result =
+          session.mqscCommand("DISPLAY", "QUEUE", "Q1", null, null, null);
+
+      assertThat(result.get(0))
+          .containsEntry("max_queue_depth", 5000)
+          .containsEntry("current_queue_depth", 100);
+    }
+  }
+
+  @Nested
+  class LazyResponseMapping {
+
+    private static final String QUEUE_ROWS =
+        "{\"overallCompletionCode\":0,\"overallReasonCode\":0,\"commandResponse\":["
+            + "{\"parameters\":{\"queue\":\"Q1\",\"maxdepth\":5000,\"UNKNOWNATTR\":\"x\"}},"
+            + "{\"parameters\":{\"queue\":\"Q2\",\"maxdepth\":10}}]}";
+
+    @Test
+    void lazyRowsEqualEagerRows() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(QUEUE_ROWS));
+      MqRestSession eager = basicBuilder().mappingStrict(false).build();
+      MqRestSession lazy = basicBuilder().mappingStrict(false).lazyResponseMapping(true).build();
+
+      List<Map<String, Object>> eagerRows =
+          eager.mqscCommand("DISPLAY", "QUEUE", "*", null, null, null);
+      List<Map<String, Object>> lazyRows =
+          lazy.mqscCommand("DISPLAY", "QUEUE", "*", null, null, null);
+
+      assertThat(lazyRows.get(0).get("max_queue_depth")).isEqualTo(5000);
+      assertThat(lazyRows.get(0).get("UNKNOWNATTR")).isEqualTo("x");
+      assertThat(lazyRows.get(1).get("queue_name")).isEqualTo("Q2");
+      assertThat(lazyRows).isEqualTo(eagerRows);
+    }
+
+    @Test
+    void lazyRowsAreReadOnly() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(QUEUE_ROWS));
+      MqRestSession session = basicBuilder().mappingStrict(false).lazyResponseMapping(true).build();
+
+      Map<String, Object> row =
+          session.mqscCommand("DISPLAY", "QUEUE", "*", null, null, null).get(0);
 
-      Map<String, Object> normalized = MqRestSession.normalizeResponseAttributes(attrs);
+      assertThatThrownBy(() -> row.put("queue_name", "Q3"))
+          .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void rejectedInStrictMode() {
+      MqRestSession.Builder builder = basicBuilder().lazyResponseMapping(true);
+
+      assertThatThrownBy(builder::build)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("mappingStrict(false)");
+    }
+
+    @Test
+    void ignoredWithoutAttributeMapping() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(QUEUE_ROWS));
+      MqRestSession session =
+          basicBuilder()
+              .mapAttributes(false)
+              .mappingStrict(false)
+              .lazyResponseMapping(true)
+              .build();
 
-      assertThat(normalized).containsKey("MAXDEPTH").containsKey("CURDEPTH");
+      List<Map<String, Object>> rows =
+          session.mqscCommand("DISPLAY", "QUEUE", "*", null, null, null);
+
+      assertThat(rows.get(0)).containsEntry("queue", "Q1").containsEntry("maxdepth", 5000);
+      rows.get(0).put("extra", "y");
     }
   }
 
@@ -1423,18 +2703,20 @@ class MqRestSessionTest {
     void ltpaLoginWithNullCsrfTokenOmitsCsrfHeader() {
       when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
           .thenReturn(
-              successResponseWithHeaders("{}", Map.of("Set-Cookie", "LtpaToken2=tok; Path=/")));
+              successResponseWithHeaders("{}", Map.of("Set-Cookie", "LtpaToken2=tok; Path=/")))
+          .thenReturn(successResponse(emptyCommandResponse()));
 
       new MqRestSession.Builder(BASE_URL, QMGR, new LtpaAuth("user", "pass"))
           .transport(transport)
           .csrfToken(null)
-          .build();
+          .build()
+          .mqscCommand("DISPLAY", "QUEUE", null, null, null, null);
 
       @SuppressWarnings("unchecked")
       ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
-      verify(transport)
+      verify(transport, times(2))
           .postJson(anyString(), anyMap(), headersCaptor.capture(), any(), anyBoolean());
-      assertThat(headersCaptor.getValue()).doesNotContainKey("ibm-mq-rest-csrf-token");
+      assertThat(headersCaptor.getAllValues().get(0)).doesNotContainKey("ibm-mq-rest-csrf-token");
     }
 
     @Test
@@ -1463,7 +2745,9 @@ class MqRestSessionTest {
       item.put("shared", "val");
       item.put("objects", List.of("not_a_map", Map.of("key", "value")));
 
-      List<Map<String, Object>> result = MqRestSession.flattenNestedObjects(List.of(item));
+      List<Map<String, Object>> result =
+          MqRestSession.responseRows(
+              Map.of("commandResponse", List.of(Map.of("parameters", item))), null, true);
 
       assertThat(result).hasSize(1);
       assertThat(result.get(0)).containsEntry("shared", "val").containsEntry("key", "value");
@@ -1539,4 +2823,330 @@ class MqRestSessionTest {
           .hasMessageContaining("overallReasonCode");
     }
   }
+
+  @Nested
+  class ResponseCaching {
+
+    private final MqRestSessionSyncTest.FakeClock clock = new MqRestSessionSyncTest.FakeClock();
+
+    private MqRestSession cachingSession() {
+      MqRestSession session = basicBuilder().responseCache(ResponseCacheConfig.defaults()).build();
+      session.setClock(clock);
+      return session;
+    }
+
+    private void stubQueueResponse() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(commandResponseWithParams("\"CURDEPTH\":3")));
+    }
+
+    @Test
+    void identicalDisplayIsServedFromCache() {
+      stubQueueResponse();
+      MqRestSession session = cachingSession();
+
+      List<Map<String, Object>> first = session.displayQueue("Q1", null, null, null);
+      first.get(0).put("scribble", true);
+      List<Map<String, Object>> second = session.displayQueue("Q1", null, null, null);
+
+      verify(transport, times(1)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+      assertThat(second).containsExactly(Map.of("current_queue_depth", 3));
+      assertThat(session.getLastCommandPayload()).containsEntry("name", "Q1");
+    }
+
+    @Test
+    void differentDisplaysAreCachedSeparately() {
+      stubQueueResponse();
+      MqRestSession session = cachingSession();
+
+      session.displayQueue("Q1", null, null, null);
+      session.displayQueue("Q2", null, null, null);
+      session.displayQueue("Q1", null, List.of("current_queue_depth"), null);
+
+      verify(transport, times(3)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void alterOnSameObjectInvalidates() {
+      stubQueueResponse();
+      MqRestSession session = cachingSession();
+
+      session.displayQueue("Q1", null, null, null);
+      session.alterQlocal("Q1", Map.of("max_queue_depth", 10), null);
+      session.displayQueue("Q1", null, null, null);
+
+      verify(transport, times(3)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void changeToOtherObjectKeepsEntry() {
+      stubQueueResponse();
+      MqRestSession session = cachingSession();
+
+      session.displayQueue("Q1", null, null, null);
+      session.deleteQlocal("Q2", null, null);
+      session.displayQueue("Q1", null, null, null);
+
+      verify(transport, times(2)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void cacheHitReturnsFreshRowsWithoutSending() {
+      stubQueueResponse();
+      MqRestSession session = cachingSession();
+
+      List<Map<String, Object>> first = session.displayQueue("Q1", null, null, null);
+      List<Map<String, Object>> second = session.displayQueue("Q1", null, null, null);
+
+      verify(transport, times(1)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+      assertThat(second).isEqualTo(first).isNotSameAs(first);
+      assertThat(second.get(0)).isNotSameAs(first.get(0));
+    }
+
+    @Test
+    void alterOnMatchingNameInvalidatesWildcardDisplay() {
+      stubQueueResponse();
+      MqRestSession session = cachingSession();
+
+      session.displayQueue("Q*", null, null, null);
+      session.alterQlocal("Q1", Map.of("max_queue_depth", 10), null);
+      session.displayQueue("Q*", null, null, null);
+
+      verify(transport, times(3)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void asyncDisplayKeepsCachedEntries() {
+      stubQueueResponse();
+      when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              CompletableFuture.completedFuture(
+                  successResponse(commandResponseWithParams("\"CURDEPTH\":3"))));
+      MqRestSession session = cachingSession();
+
+      session.displayQueue("Q1", null, null, null);
+      session.mqscCommandAsync("DISPLAY", "QUEUE", "Q1", null, null, null).join();
+      session.displayQueue("Q1", null, null, null);
+
+      verify(transport, times(1)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void qualifierWithZeroTtlIsNotCached() {
+      stubQueueResponse();
+      MqRestSession session =
+          basicBuilder()
+              .responseCache(new ResponseCacheConfig.Builder().ttl("queue", Duration.ZERO).build())
+              .build();
+
+      session.displayQueue("Q1", null, null, null);
+      session.displayQueue("Q1", null, null, null);
+
+      verify(transport, times(2)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void entryExpiresAfterTtl() throws InterruptedException {
+      stubQueueResponse();
+      MqRestSession session = cachingSession();
+
+      session.displayQueue("Q1", null, null, null);
+      clock.sleep(ResponseCacheConfig.DEFAULT_TTL.toSeconds() + 1.0);
+      session.displayQueue("Q1", null, null, null);
+
+      verify(transport, times(2)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void commandErrorsAreNotCached() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(
+              successResponse(
+                  "{\"overallCompletionCode\":2,\"overallReasonCode\":3008,"
+                      + "\"commandResponse\":[]}"));
+      MqRestSession session = cachingSession();
+
+      for (int attempt = 0; attempt < 2; attempt++) {
+        assertThatThrownBy(() -> session.displayQueue("Q1", null, null, null))
+            .isInstanceOf(MqRestCommandException.class);
+      }
+
+      verify(transport, times(2)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void clearResponseCacheEvictsEverything() {
+      stubQueueResponse();
+      MqRestSession session = cachingSession();
+
+      session.displayQueue("Q1", null, null, null);
+      session.clearResponseCache();
+      session.displayQueue("Q1", null, null, null);
+
+      verify(transport, times(2)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void cacheIsDisabledByDefault() {
+      stubQueueResponse();
+      MqRestSession session = basicBuilder().build();
+
+      session.displayQueue("Q1", null, null, null);
+      session.displayQueue("Q1", null, null, null);
+      session.clearResponseCache();
+
+      verify(transport, times(2)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+  }
+
+  @Nested
+  class DisplayCoalescing {
+
+    private static final String CHSTATUS_BODY =
+        "{\"overallCompletionCode\":0,\"overallReasonCode\":0,"
+            + "\"commandResponse\":[{\"parameters\":"
+            + "{\"CHANNEL\":\"CH1\",\"STATUS\":\"RUNNING\"}}]}";
+
+    private List<Thread> startDisplays(
+        MqRestSession session, int count, List<List<Map<String, Object>>> results) {
+      List<Thread> threads = new ArrayList<>();
+      for (int index = 0; index < count; index++) {
+        Thread thread =
+            new Thread(() -> results.add(session.displayChstatus("*", null, null, null)));
+        threads.add(thread);
+        thread.start();
+      }
+      return threads;
+    }
+
+    @Test
+    void concurrentIdenticalDisplaysShareOneRequest() throws InterruptedException {
+      CountDownLatch leaderSending = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenAnswer(
+              invocation -> {
+                leaderSending.countDown();
+                release.await();
+                return successResponse(CHSTATUS_BODY);
+              });
+      MqRestSession session = basicBuilder().coalesceDisplays(true).build();
+      List<List<Map<String, Object>>> results = Collections.synchronizedList(new ArrayList<>());
+
+      List<Thread> leader = startDisplays(session, 1, results);
+      leaderSending.await();
+      List<Thread> followers = startDisplays(session, 3, results);
+      // Release the response only once every follower is parked on the in-flight request
+      for (Thread follower : followers) {
+        while (follower.getState() != Thread.State.WAITING) {
+          Thread.onSpinWait();
+        }
+      }
+      release.countDown();
+      for (Thread thread : leader) {
+        thread.join();
+      }
+      for (Thread thread : followers) {
+        thread.join();
+      }
+
+      verify(transport, times(1)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+      assertThat(results).hasSize(4);
+      assertThat(results).allSatisfy(rows -> assertThat(rows).isEqualTo(results.get(0)));
+      // Each caller maps the shared response itself and gets its own rows
+      assertThat(results.get(1).get(0)).isNotSameAs(results.get(0).get(0));
+    }
+
+    /** Runs displays on new threads, collecting what each one throws. */
+    private List<Thread> startFailingDisplays(
+        MqRestSession session, int count, List<Throwable> failures) {
+      List<Thread> threads = new ArrayList<>();
+      for (int index = 0; index < count; index++) {
+        Thread thread =
+            new Thread(
+                () -> {
+                  try {
+                    session.displayChstatus("*", null, null, null);
+                  } catch (RuntimeException | Error e) {
+                    failures.add(e);
+                  }
+                });
+        threads.add(thread);
+        thread.start();
+      }
+      return threads;
+    }
+
+    /**
+     * Runs a leader whose request fails and one follower that waits for it, then returns what the
+     * two threads threw. Later requests succeed.
+     */
+    private List<Throwable> coalescedFailures(MqRestSession session, Throwable failure)
+        throws InterruptedException {
+      CountDownLatch leaderSending = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenAnswer(
+              invocation -> {
+                leaderSending.countDown();
+                release.await();
+                throw failure;
+              })
+          .thenReturn(successResponse(CHSTATUS_BODY));
+      List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+
+      List<Thread> threads = new ArrayList<>(startFailingDisplays(session, 1, failures));
+      leaderSending.await();
+      List<Thread> followers = startFailingDisplays(session, 1, failures);
+      for (Thread follower : followers) {
+        while (follower.getState() != Thread.State.WAITING) {
+          Thread.onSpinWait();
+        }
+      }
+      threads.addAll(followers);
+      release.countDown();
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      return failures;
+    }
+
+    @Test
+    void concurrentCallersShareTheLeadersException() throws InterruptedException {
+      MqRestSession session = basicBuilder().coalesceDisplays(true).build();
+      MqRestCommandException failure =
+          new MqRestCommandException("command failed", Map.of("overallReasonCode", 3008), 200);
+
+      List<Throwable> failures = coalescedFailures(session, failure);
+
+      assertThat(failures).hasSize(2).allSatisfy(thrown -> assertThat(thrown).isSameAs(failure));
+      // The failed request is no longer in flight, so the next DISPLAY is sent again
+      assertThat(session.displayChstatus("*", null, null, null)).hasSize(1);
+      verify(transport, times(2)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void unexpectedLeaderFailureIsNotShared() throws InterruptedException {
+      MqRestSession session = basicBuilder().coalesceDisplays(true).build();
+      AssertionError failure = new AssertionError("transport broke");
+
+      List<Throwable> failures = coalescedFailures(session, failure);
+
+      // Only the leader sees the error; the follower sent its own request instead
+      assertThat(failures).containsExactly(failure);
+      verify(transport, times(2)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+
+    @Test
+    void sequentialDisplaysAreNotCoalesced() {
+      when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+          .thenReturn(successResponse(CHSTATUS_BODY));
+      MqRestSession session = basicBuilder().coalesceDisplays(true).build();
+
+      session.displayChstatus("*", null, null, null);
+      session.displayChstatus("*", null, null, null);
+
+      verify(transport, times(2)).postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean());
+    }
+  }
 }
@@ -2,8 +2,13 @@ package io.github.mqrestadminproject.mq.rest.admin;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.mqrestadminproject.mq.rest.admin.exception.MqRestTransportException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.Test;
 
 class MqRestTransportTest {
@@ -24,4 +29,48 @@ class MqRestTransportTest {
     assertThat(response.statusCode()).isEqualTo(200);
     assertThat(response.body()).isEqualTo("{}");
   }
+
+  @Test
+  void defaultPostJsonAsyncDelegatesToPostJson() {
+    MqRestTransport transport =
+        (url, payload, headers, timeout, verifyTls) -> new TransportResponse(201, url, Map.of());
+
+    CompletableFuture<TransportResponse> future =
+        transport.postJsonAsync("https://localhost/mqsc", Map.of(), Map.of(), null, true);
+
+    assertThat(future).isCompleted();
+    assertThat(future.join().statusCode()).isEqualTo(201);
+    assertThat(future.join().body()).isEqualTo("https://localhost/mqsc");
+  }
+
+  @Test
+  void defaultPostJsonAsyncCompletesExceptionallyOnFailure() {
+    MqRestTransport transport =
+        (url, payload, headers, timeout, verifyTls) -> {
+          throw new MqRestTransportException("HTTP request failed", url);
+        };
+
+    CompletableFuture<TransportResponse> future =
+        transport.postJsonAsync("https://localhost/mqsc", Map.of(), Map.of(), null, true);
+
+    assertThat(future)
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(MqRestTransportException.class);
+  }
+
+  @Test
+  void defaultPostJsonStreamWrapsBufferedBody() throws IOException {
+    MqRestTransport transport =
+        (url, payload, headers, timeout, verifyTls) ->
+            new TransportResponse(200, "{\"ok\":true}", Map.of("X-Test", "yes"));
+
+    try (TransportStreamResponse response =
+        transport.postJsonStream("https://localhost/mqsc", Map.of(), Map.of(), null, true)) {
+      assertThat(response.statusCode()).isEqualTo(200);
+      assertThat(response.headers()).containsEntry("X-Test", "yes");
+      assertThat(new String(response.body().readAllBytes(), StandardCharsets.UTF_8))
+          .isEqualTo("{\"ok\":true}");
+    }
+  }
 }
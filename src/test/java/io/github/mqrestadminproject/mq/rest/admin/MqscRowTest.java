@@ -0,0 +1,254 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MqscRowTest {
+
+  private static final ResponseSchema SCHEMA =
+      new ResponseSchema("queue", List.of("queue_name", "current_queue_depth", "max_queue_depth"));
+
+  private static MqscRow row(Map<String, Object> attributes) {
+    return MqscRow.from(SCHEMA, attributes);
+  }
+
+  @Test
+  void wholeNumbersAreStoredAsLongs() {
+    MqscRow row = row(Map.of("current_queue_depth", 42.0, "max_queue_depth", 5000L));
+
+    assertThat(row.getInt("current_queue_depth", -1)).isEqualTo(42);
+    assertThat(row.getLong("max_queue_depth", -1)).isEqualTo(5000L);
+    assertThat(row.get("current_queue_depth")).isEqualTo(42L);
+    assertThat(row.getString("current_queue_depth")).isEqualTo("42");
+  }
+
+  @Test
+  void fractionalNumbersAreKeptAsIs() {
+    MqscRow row = row(Map.of("current_queue_depth", 1.5));
+
+    assertThat(row.get("current_queue_depth")).isEqualTo(1.5);
+    assertThat(row.getLong("current_queue_depth", -1)).isEqualTo(1L);
+  }
+
+  @Test
+  void numericStringsAreParsed() {
+    MqscRow row = row(Map.of("current_queue_depth", " 17 ", "queue_name", "Q1"));
+
+    assertThat(row.getInt("current_queue_depth", -1)).isEqualTo(17);
+    assertThat(row.getInt("queue_name", -1)).isEqualTo(-1);
+  }
+
+  @Test
+  void absentAttributesUseDefaults() {
+    MqscRow row = row(Map.of("queue_name", "Q1"));
+
+    assertThat(row.has("current_queue_depth")).isFalse();
+    assertThat(row.get("current_queue_depth")).isNull();
+    assertThat(row.getString("current_queue_depth")).isNull();
+    assertThat(row.getInt("current_queue_depth", 7)).isEqualTo(7);
+    assertThat(row.has("unknown")).isFalse();
+    assertThat(row.getLong("unknown", 9)).isEqualTo(9);
+  }
+
+  @Test
+  void columnAccessorsMatchNameAccessors() {
+    MqscRow row = row(Map.of("queue_name", "Q1", "max_queue_depth", 10.0));
+    int depthColumn = SCHEMA.indexOf("max_queue_depth");
+
+    assertThat(row.getInt(depthColumn, -1)).isEqualTo(10);
+    assertThat(row.get(depthColumn)).isEqualTo(10L);
+    assertThat(row.getString(SCHEMA.indexOf("queue_name"))).isEqualTo("Q1");
+  }
+
+  @Test
+  void unknownAttributesGoToOverflow() {
+    MqscRow row = row(Map.of("queue_name", "Q1", "CUSTOM", "x", "CUSTOMNUM", "12"));
+
+    assertThat(row.has("CUSTOM")).isTrue();
+    assertThat(row.get("CUSTOM")).isEqualTo("x");
+    assertThat(row.getString("CUSTOM")).isEqualTo("x");
+    assertThat(row.getInt("CUSTOMNUM", -1)).isEqualTo(12);
+    assertThat(row.size()).isEqualTo(3);
+  }
+
+  @Test
+  void asMapListsSchemaColumnsThenOverflow() {
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("EXTRA", "e");
+    attributes.put("max_queue_depth", 10.0);
+    attributes.put("queue_name", "Q1");
+    MqscRow row = row(attributes);
+
+    Map<String, Object> view = row.asMap();
+
+    assertThat(view.keySet()).containsExactly("queue_name", "max_queue_depth", "EXTRA");
+    assertThat(view).containsEntry("max_queue_depth", 10L).hasSize(3);
+    assertThat(view.get("queue_name")).isEqualTo("Q1");
+    assertThat(view.containsKey("current_queue_depth")).isFalse();
+    assertThatThrownBy(() -> view.put("queue_name", "Q2"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void nullValuesArePresentAndReadAsNull() {
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("queue_name", null);
+    attributes.put("unknown", null);
+    MqscRow row = row(attributes);
+
+    assertThat(row.size()).isEqualTo(2);
+    assertThat(row.has("queue_name")).isTrue();
+    assertThat(row.has("unknown")).isTrue();
+    assertThat(row.get("queue_name")).isNull();
+    assertThat(row.getString("queue_name")).isNull();
+    assertThat(row.getString("unknown")).isNull();
+    assertThat(row.getLong("queue_name", 7)).isEqualTo(7);
+    assertThat(row.getInt("unknown", 8)).isEqualTo(8);
+    assertThat(row.asMap()).isEqualTo(attributes);
+    assertThat(row.asMap().keySet()).containsExactly("queue_name", "unknown");
+  }
+
+  @Test
+  void getIntRejectsValuesOutsideIntRange() {
+    MqscRow row = row(Map.of("current_queue_depth", 1L << 32));
+
+    assertThat(row.getLong("current_queue_depth", 0)).isEqualTo(1L << 32);
+    assertThatThrownBy(() -> row.getInt("current_queue_depth", 0))
+        .isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> row.getInt(SCHEMA.indexOf("current_queue_depth"), 0))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void equalityFollowsContent() {
+    MqscRow first = row(Map.of("queue_name", "Q1", "max_queue_depth", 10.0));
+    MqscRow second = row(Map.of("max_queue_depth", 10L, "queue_name", "Q1"));
+
+    assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+    assertThat(first).isNotEqualTo(row(Map.of("queue_name", "Q2")));
+    assertThat(first.toString()).contains("queue_name=Q1");
+  }
+
+  @Test
+  void numberAndObjectSlotsAreReadByColumn() {
+    MqscRow row = row(Map.of("queue_name", "Q1", "current_queue_depth", 3));
+    int nameColumn = SCHEMA.indexOf("queue_name");
+    int depthColumn = SCHEMA.indexOf("current_queue_depth");
+
+    assertThat(row.get(nameColumn)).isEqualTo("Q1");
+    assertThat(row.getString(depthColumn)).isEqualTo("3");
+    assertThat(row.getLong(depthColumn, -1)).isEqualTo(3L);
+    assertThat(row.getLong(nameColumn, -1)).isEqualTo(-1L);
+    assertThat(row.getInt(depthColumn, -1)).isEqualTo(3);
+  }
+
+  @Test
+  void absentColumnsUseDefaults() {
+    MqscRow row = row(Map.of("queue_name", "Q1"));
+    int depthColumn = SCHEMA.indexOf("max_queue_depth");
+
+    assertThat(row.get(depthColumn)).isNull();
+    assertThat(row.getString(depthColumn)).isNull();
+    assertThat(row.getLong(depthColumn, 4)).isEqualTo(4L);
+    assertThat(row.getInt(depthColumn, 5)).isEqualTo(5);
+    assertThat(row.get(SCHEMA.indexOf("unknown"))).isNull();
+  }
+
+  @Test
+  void overflowAttributesReadByName() {
+    MqscRow row = row(Map.of("CUSTOMNUM", 12L, "CUSTOMTEXT", "abc"));
+
+    assertThat(row.getLong("CUSTOMNUM", -1)).isEqualTo(12L);
+    assertThat(row.getString("CUSTOMNUM")).isEqualTo("12");
+    assertThat(row.getLong("CUSTOMTEXT", -1)).isEqualTo(-1L);
+    assertThat(row.getString("MISSING")).isNull();
+    assertThat(row.get("MISSING")).isNull();
+  }
+
+  @Test
+  void nonWholeAndNonFiniteNumbersAreKeptAsObjects() {
+    MqscRow row =
+        row(
+            Map.of(
+                "queue_name", Double.NaN,
+                "current_queue_depth", 0x1p60,
+                "max_queue_depth", Double.POSITIVE_INFINITY));
+
+    assertThat(row.get("queue_name")).isEqualTo(Double.NaN);
+    assertThat(row.get("current_queue_depth")).isEqualTo(0x1p60);
+    assertThat(row.get("max_queue_depth")).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(MqscRow.isWholeNumber(Integer.valueOf(3))).isTrue();
+    assertThat(MqscRow.isWholeNumber(0x1p53)).isTrue();
+    assertThat(MqscRow.isWholeNumber(-0.0)).isTrue();
+    assertThat(MqscRow.isWholeNumber(2.5)).isFalse();
+  }
+
+  @Test
+  void rowHoldsOnlyPresentAttributesOfWideSchema() {
+    List<String> names =
+        IntStream.range(0, 100).mapToObj(i -> "attr_" + i).collect(Collectors.toList());
+    ResponseSchema wide = new ResponseSchema("queue", names);
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("attr_90", 9L);
+    attributes.put("attr_5", "five");
+    attributes.put("attr_42", 42);
+
+    MqscRow row = MqscRow.from(wide, attributes);
+
+    assertThat(row.size()).isEqualTo(3);
+    assertThat(row.asMap().keySet()).containsExactly("attr_5", "attr_42", "attr_90");
+    assertThat(row.getLong(wide.indexOf("attr_42"), -1)).isEqualTo(42L);
+    assertThat(row.getString(wide.indexOf("attr_5"))).isEqualTo("five");
+    assertThat(row.has("attr_6")).isFalse();
+    assertThat(row.get(wide.indexOf("attr_91"))).isNull();
+  }
+
+  @Test
+  void emptyRowHasNoEntries() {
+    MqscRow row = row(Map.of());
+
+    assertThat(row.size()).isZero();
+    assertThat(row.has("queue_name")).isFalse();
+    assertThat(row.asMap()).isEmpty();
+    assertThat(row.schema()).isSameAs(SCHEMA);
+  }
+
+  @Test
+  void iteratorThrowsWhenExhausted() {
+    MqscRow row = row(Map.of("queue_name", "Q1", "EXTRA", "e"));
+    Iterator<Map.Entry<String, Object>> entries = row.asMap().entrySet().iterator();
+
+    assertThat(entries.next()).isEqualTo(Map.entry("queue_name", "Q1"));
+    assertThat(entries.next()).isEqualTo(Map.entry("EXTRA", "e"));
+    assertThat(entries.hasNext()).isFalse();
+    assertThatThrownBy(entries::next).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void mapViewIgnoresNonStringKeys() {
+    Map<String, Object> view = row(Map.of("queue_name", "Q1")).asMap();
+
+    assertThat(view.containsKey(1)).isFalse();
+    assertThat(view.get(1)).isNull();
+    assertThat(view.entrySet()).hasSize(1);
+  }
+
+  @Test
+  void equalsRequiresRow() {
+    MqscRow row = row(Map.of("queue_name", "Q1"));
+
+    assertThat(row).isNotEqualTo(Map.of("queue_name", "Q1"));
+    assertThat(row).isEqualTo(row);
+    assertThat(row.hashCode()).isEqualTo(Map.of("queue_name", "Q1").hashCode());
+    assertThat(row).hasToString("{queue_name=Q1}");
+  }
+}
@@ -0,0 +1,231 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class MqscTableTest {
+
+  private static final ResponseSchema SCHEMA =
+      new ResponseSchema("queue", List.of("queue_name", "current_queue_depth", "max_queue_depth"));
+
+  private static MqscTable table(List<Map<String, Object>> rows) {
+    MqscTable.Builder builder = new MqscTable.Builder(SCHEMA);
+    rows.forEach(builder::add);
+    return builder.build();
+  }
+
+  @Test
+  void wholeNumberColumnsAreNumeric() {
+    MqscTable table =
+        table(
+            List.of(
+                Map.of("queue_name", "Q1", "current_queue_depth", 3.0),
+                Map.of("queue_name", "Q2", "current_queue_depth", 4L)));
+
+    MqscTable.Column depth = table.column("current_queue_depth");
+
+    assertThat(table.rowCount()).isEqualTo(2);
+    assertThat(depth).isNotNull();
+    assertThat(depth.isNumeric()).isTrue();
+    assertThat(depth.getLong(0, -1)).isEqualTo(3L);
+    assertThat(depth.getInt(1, -1)).isEqualTo(4);
+    assertThat(depth.get(1)).isEqualTo(4L);
+    assertThat(depth.getString(0)).isEqualTo("3");
+    assertThat(table.column("queue_name").isNumeric()).isFalse();
+  }
+
+  @Test
+  void columnSwitchesToObjectsOnFirstNonWholeValue() {
+    MqscTable table =
+        table(
+            List.of(
+                Map.of("current_queue_depth", 1.0),
+                Map.of("current_queue_depth", 2.0),
+                Map.of("current_queue_depth", "n/a")));
+
+    MqscTable.Column depth = table.column("current_queue_depth");
+
+    assertThat(depth.isNumeric()).isFalse();
+    assertThat(depth.get(0)).isEqualTo(1L);
+    assertThat(depth.getLong(1, -1)).isEqualTo(2L);
+    assertThat(depth.get(2)).isEqualTo("n/a");
+    assertThat(depth.getLong(2, -1)).isEqualTo(-1L);
+  }
+
+  @Test
+  void missingValuesAreAbsent() {
+    MqscTable table =
+        table(
+            List.of(
+                Map.of("queue_name", "Q1"), Map.of("queue_name", "Q2", "max_queue_depth", 9.0)));
+
+    MqscTable.Column maxDepth = table.column("max_queue_depth");
+
+    assertThat(maxDepth.isPresent(0)).isFalse();
+    assertThat(maxDepth.get(0)).isNull();
+    assertThat(maxDepth.getString(0)).isNull();
+    assertThat(maxDepth.getLong(0, 7)).isEqualTo(7L);
+    assertThat(maxDepth.valueCount()).isEqualTo(1);
+    assertThat(table.column("current_queue_depth")).isNull();
+  }
+
+  @Test
+  void columnsFollowSchemaOrderThenFirstAppearance() {
+    Map<String, Object> first = new LinkedHashMap<>();
+    first.put("EXTRA2", "x");
+    first.put("max_queue_depth", 1.0);
+    Map<String, Object> second = new LinkedHashMap<>();
+    second.put("EXTRA1", "y");
+    second.put("queue_name", "Q2");
+
+    MqscTable table = table(List.of(first, second));
+
+    assertThat(table.columns())
+        .extracting(MqscTable.Column::name)
+        .containsExactly("queue_name", "max_queue_depth", "EXTRA2", "EXTRA1");
+    assertThat(table.schema()).isSameAs(SCHEMA);
+  }
+
+  @Test
+  void columnsGrowPastInitialCapacity() {
+    MqscTable.Builder builder = new MqscTable.Builder(SCHEMA);
+    for (int row = 0; row < 1000; row++) {
+      builder.add(Map.of("current_queue_depth", (double) row));
+    }
+    builder.add(Map.of("current_queue_depth", "last"));
+
+    MqscTable table = builder.build();
+    MqscTable.Column depth = table.column("current_queue_depth");
+
+    assertThat(table.rowCount()).isEqualTo(1001);
+    assertThat(depth.getLong(999, -1)).isEqualTo(999L);
+    assertThat(depth.get(1000)).isEqualTo("last");
+  }
+
+  @Test
+  void rowViewsExposePresentValues() {
+    MqscTable table =
+        table(
+            List.of(
+                Map.of("queue_name", "Q1", "max_queue_depth", 10.0),
+                Map.of("queue_name", "Q2", "CUSTOM", "c")));
+
+    Map<String, Object> row = table.row(1);
+
+    assertThat(row).containsOnly(Map.entry("queue_name", "Q2"), Map.entry("CUSTOM", "c"));
+    assertThat(row.containsKey("max_queue_depth")).isFalse();
+    assertThat(row.get("max_queue_depth")).isNull();
+    assertThat(table.asMaps())
+        .containsExactly(
+            Map.of("queue_name", "Q1", "max_queue_depth", 10L),
+            Map.of("queue_name", "Q2", "CUSTOM", "c"));
+    assertThatThrownBy(() -> row.put("queue_name", "Q3"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> table.row(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void emptyTableHasNoColumns() {
+    MqscTable table = table(List.of());
+
+    assertThat(table.rowCount()).isZero();
+    assertThat(table.columns()).isEmpty();
+    assertThat(table.asMaps()).isEmpty();
+    assertThat(table.toString()).isEqualTo("MqscTable[qualifier=queue, rows=0, columns=0]");
+  }
+
+  @Test
+  void nullValuesArePresentAndReadAsNull() {
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("queue_name", "Q1");
+    attributes.put("max_queue_depth", null);
+    attributes.put("extra", null);
+
+    MqscTable table = table(List.of(attributes, Map.of("max_queue_depth", 5000)));
+
+    MqscTable.Column depth = table.column("max_queue_depth");
+    assertThat(depth).isNotNull();
+    assertThat(depth.isNumeric()).isTrue();
+    assertThat(depth.valueCount()).isEqualTo(2);
+    assertThat(depth.isPresent(0)).isTrue();
+    assertThat(depth.get(0)).isNull();
+    assertThat(depth.getString(0)).isNull();
+    assertThat(depth.getLong(0, 7)).isEqualTo(7);
+    assertThat(depth.get(1)).isEqualTo(5000L);
+    assertThat(table.row(0)).isEqualTo(attributes);
+    assertThat(table.row(1)).containsOnlyKeys("max_queue_depth");
+  }
+
+  @Test
+  void nullsSurviveSwitchToObjectColumn() {
+    MqscTable.Builder builder = new MqscTable.Builder(SCHEMA);
+    builder.add(Map.of("current_queue_depth", 1));
+    Map<String, Object> nullDepth = new LinkedHashMap<>();
+    nullDepth.put("current_queue_depth", null);
+    for (int row = 1; row < 40; row++) {
+      builder.add(nullDepth);
+    }
+    builder.add(Map.of("current_queue_depth", "deep"));
+
+    MqscTable.Column depth = builder.build().column("current_queue_depth");
+
+    assertThat(depth).isNotNull();
+    assertThat(depth.isNumeric()).isFalse();
+    assertThat(depth.get(0)).isEqualTo(1L);
+    assertThat(depth.get(39)).isNull();
+    assertThat(depth.isPresent(39)).isTrue();
+    assertThat(depth.get(40)).isEqualTo("deep");
+  }
+
+  @Test
+  void getIntRejectsValuesOutsideIntRange() {
+    MqscTable.Column depth =
+        table(List.of(Map.of("current_queue_depth", 1L << 32))).column("current_queue_depth");
+
+    assertThat(depth).isNotNull();
+    assertThat(depth.getLong(0, 0)).isEqualTo(1L << 32);
+    assertThatThrownBy(() -> depth.getInt(0, 0)).isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void objectColumnGrowsAndKeepsWholeNumbersAsLongs() {
+    MqscTable.Builder builder = new MqscTable.Builder(SCHEMA);
+    builder.add(Map.of("current_queue_depth", 0.5));
+    for (int row = 1; row < 100; row++) {
+      builder.add(Map.of("current_queue_depth", row));
+    }
+
+    MqscTable.Column depth = builder.build().column("current_queue_depth");
+
+    assertThat(depth.isNumeric()).isFalse();
+    assertThat(depth.get(0)).isEqualTo(0.5);
+    assertThat(depth.get(99)).isEqualTo(99L);
+    assertThat(depth.getInt(42, -1)).isEqualTo(42);
+  }
+
+  @Test
+  void rowViewIgnoresNonStringKeys() {
+    Map<String, Object> row = table(List.of(Map.of("queue_name", "Q1"))).row(0);
+
+    assertThat(row.containsKey(1)).isFalse();
+    assertThat(row.get(1)).isNull();
+    assertThat(row.containsKey("queue_name")).isTrue();
+  }
+
+  @Test
+  void rowIteratorThrowsWhenExhausted() {
+    Iterator<Map.Entry<String, Object>> entries =
+        table(List.of(Map.of("queue_name", "Q1"))).row(0).entrySet().iterator();
+
+    assertThat(entries.next()).isEqualTo(Map.entry("queue_name", "Q1"));
+    assertThat(entries.hasNext()).isFalse();
+    assertThatThrownBy(entries::next).isInstanceOf(NoSuchElementException.class);
+  }
+}
@@ -0,0 +1,194 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.github.mqrestadminproject.mq.rest.admin.auth.BasicAuth;
+import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PreparedMqscCommandTest {
+
+  private static final String BASE_URL = "https://host:9443/ibmmq/rest/v2";
+  private static final String QMGR = "QM1";
+
+  private static final String ONE_QUEUE =
+      "{\"overallCompletionCode\":0,\"overallReasonCode\":0,"
+          + "\"commandResponse\":[{\"completionCode\":0,\"reasonCode\":0,"
+          + "\"parameters\":{\"queue\":\"Q1\",\"CURDEPTH\":12}}]}";
+
+  @Mock private MqRestTransport transport;
+
+  private MqRestSession buildSession() {
+    return new MqRestSession.Builder(BASE_URL, QMGR, new BasicAuth("user", "pass"))
+        .transport(transport)
+        .build();
+  }
+
+  private TransportResponse queueResponse() {
+    return new TransportResponse(200, ONE_QUEUE, Map.of());
+  }
+
+  private TransportStreamResponse queueStream() {
+    return new TransportStreamResponse(
+        200, new ByteArrayInputStream(ONE_QUEUE.getBytes(StandardCharsets.UTF_8)), Map.of());
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Map<String, Object>> sentPayloads(int count) {
+    ArgumentCaptor<Map<String, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(transport, times(count))
+        .postJson(anyString(), payloadCaptor.capture(), anyMap(), any(), anyBoolean());
+    return payloadCaptor.getAllValues();
+  }
+
+  @Test
+  void prepareNormalizesAndMapsOnce() {
+    MqRestSession session = buildSession();
+
+    PreparedMqscCommand prepared =
+        session.prepare(
+            "display", "qlocal", null, List.of("current_queue_depth"), "current_queue_depth GT 5");
+
+    assertThat(prepared.command()).isEqualTo("DISPLAY");
+    assertThat(prepared.qualifier()).isEqualTo("QLOCAL");
+    assertThat(prepared).hasToString("PreparedMqscCommand[DISPLAY QLOCAL]");
+    verifyNoInteractions(transport);
+  }
+
+  @Test
+  void executeMatchesMqscCommandPayloadAndResult() {
+    when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+        .thenReturn(queueResponse(), queueResponse());
+    MqRestSession session = buildSession();
+    PreparedMqscCommand prepared =
+        session.prepare("DISPLAY", "QLOCAL", null, List.of("current_queue_depth"), null);
+
+    List<Map<String, Object>> direct =
+        session.mqscCommand("DISPLAY", "QLOCAL", "Q1", null, List.of("current_queue_depth"), null);
+    List<Map<String, Object>> viaPrepared = prepared.execute("Q1");
+
+    assertThat(viaPrepared).isEqualTo(direct);
+    List<Map<String, Object>> payloads = sentPayloads(2);
+    assertThat(payloads.get(1)).isEqualTo(payloads.get(0));
+    assertThat(new ArrayList<>(payloads.get(1).keySet()))
+        .containsExactlyElementsOf(payloads.get(0).keySet());
+    assertThat(payloads.get(1)).containsEntry("responseParameters", List.of("CURDEPTH"));
+    assertThat(session.getLastCommandPayload()).isSameAs(payloads.get(1));
+  }
+
+  @Test
+  void executeVariesOnlyTheName() {
+    when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+        .thenReturn(queueResponse());
+    MqRestSession session = buildSession();
+    PreparedMqscCommand prepared =
+        session.prepare("DISPLAY", "QLOCAL", null, null, "current_queue_depth GT 5");
+
+    prepared.execute("Q1");
+    prepared.execute("Q2");
+    prepared.execute();
+
+    List<Map<String, Object>> payloads = sentPayloads(3);
+    assertThat(payloads.get(0)).containsEntry("name", "Q1");
+    assertThat(payloads.get(1)).containsEntry("name", "Q2");
+    assertThat(payloads.get(2)).doesNotContainKey("name");
+    assertThat(payloads)
+        .allSatisfy(
+            payload ->
+                assertThat(payload).containsEntry("parameters", Map.of("WHERE", "CURDEPTH GT 5")));
+  }
+
+  @Test
+  void repeatedNameReusesPayload() {
+    when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+        .thenReturn(queueResponse());
+    MqRestSession session = buildSession();
+    PreparedMqscCommand prepared = session.prepare("DISPLAY", "QLOCAL", null, null, null);
+
+    prepared.execute("Q1");
+    prepared.execute("Q1");
+
+    List<Map<String, Object>> payloads = sentPayloads(2);
+    assertThat(payloads.get(1)).isSameAs(payloads.get(0));
+  }
+
+  @Test
+  void nullAndEmptyNamesShareTheUnnamedPayload() {
+    when(transport.postJson(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+        .thenReturn(queueResponse());
+    MqRestSession session = buildSession();
+    PreparedMqscCommand prepared = session.prepare("DISPLAY", "QLOCAL", null, null, null);
+
+    prepared.execute(null);
+    prepared.execute("");
+
+    List<Map<String, Object>> payloads = sentPayloads(2);
+    assertThat(payloads.get(0)).doesNotContainKey("name");
+    assertThat(payloads.get(1)).isSameAs(payloads.get(0));
+  }
+
+  @Test
+  void mappingErrorsAreRaisedByPrepare() {
+    MqRestSession session =
+        new MqRestSession.Builder(BASE_URL, QMGR, new BasicAuth("user", "pass"))
+            .transport(transport)
+            .mappingStrict(true)
+            .build();
+
+    assertThatThrownBy(
+            () -> session.prepare("DISPLAY", "QUEUE", null, List.of("unknown_param"), null))
+        .isInstanceOf(MappingException.class);
+    verifyNoInteractions(transport);
+  }
+
+  @Test
+  void executeAsyncCompletesWithMappedRows() {
+    when(transport.postJsonAsync(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+        .thenReturn(CompletableFuture.completedFuture(queueResponse()));
+    MqRestSession session = buildSession();
+    PreparedMqscCommand prepared = session.prepare("DISPLAY", "QLOCAL", null, null, null);
+
+    List<Map<String, Object>> rows = prepared.executeAsync("Q1").join();
+
+    assertThat(rows).singleElement().satisfies(row -> assertThat(row).containsKey("queue_name"));
+  }
+
+  @Test
+  void typedExecutionsStreamTheResponse() {
+    when(transport.postJsonStream(anyString(), anyMap(), anyMap(), any(), anyBoolean()))
+        .thenReturn(queueStream(), queueStream(), queueStream());
+    MqRestSession session = buildSession();
+    PreparedMqscCommand prepared = session.prepare("DISPLAY", "QLOCAL", null, null, null);
+
+    List<MqscRow> rows = prepared.executeRows("Q1");
+    MqscTable table = prepared.executeTable("Q1");
+    List<Map<String, Object>> streamed = new ArrayList<>();
+    prepared.executeStream("Q1", streamed::add);
+
+    assertThat(rows.get(0).getInt("current_queue_depth", -1)).isEqualTo(12);
+    assertThat(table.rowCount()).isEqualTo(1);
+    assertThat(streamed)
+        .singleElement()
+        .satisfies(row -> assertThat(row).containsKey("queue_name"));
+  }
+}
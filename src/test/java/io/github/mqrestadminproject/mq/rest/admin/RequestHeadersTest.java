@@ -0,0 +1,58 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RequestHeadersTest {
+
+  private static Map<String, String> sampleHeaders() {
+    Map<String, String> headers = new LinkedHashMap<>();
+    headers.put("Accept", "application/json");
+    headers.put("Authorization", "Basic dXNlcjpwYXNz");
+    headers.put("ibm-mq-rest-gateway-qmgr", "GW1");
+    return headers;
+  }
+
+  @Test
+  void nameValuePairsFollowMapOrder() {
+    RequestHeaders headers = new RequestHeaders(sampleHeaders());
+
+    assertThat(headers.nameValuePairs())
+        .containsExactly(
+            "Accept",
+            "application/json",
+            "Authorization",
+            "Basic dXNlcjpwYXNz",
+            "ibm-mq-rest-gateway-qmgr",
+            "GW1");
+  }
+
+  @Test
+  void behavesAsUnmodifiableMap() {
+    RequestHeaders headers = new RequestHeaders(sampleHeaders());
+
+    assertThat(headers).isEqualTo(sampleHeaders());
+    assertThat(headers.get("Authorization")).isEqualTo("Basic dXNlcjpwYXNz");
+    assertThatThrownBy(() -> headers.put("Accept", "text/plain"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void copiesTheSourceMap() {
+    Map<String, String> source = sampleHeaders();
+    RequestHeaders headers = new RequestHeaders(source);
+
+    source.put("Cookie", "LtpaToken2=abc");
+
+    assertThat(headers).doesNotContainKey("Cookie").hasSize(3);
+  }
+
+  @Test
+  void emptyHeadersHaveNoPairs() {
+    assertThat(new RequestHeaders(Map.of()).nameValuePairs()).isEmpty();
+  }
+}
@@ -0,0 +1,54 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheConfigTest {
+
+  @Test
+  void defaultsApplyToEveryQualifier() {
+    ResponseCacheConfig config = ResponseCacheConfig.defaults();
+
+    assertThat(config.defaultTtl()).isEqualTo(ResponseCacheConfig.DEFAULT_TTL);
+    assertThat(config.ttl("queue")).isEqualTo(Duration.ofSeconds(5));
+    assertThat(config.maxEntries()).isEqualTo(ResponseCacheConfig.DEFAULT_MAX_ENTRIES);
+  }
+
+  @Test
+  void perQualifierTtlOverridesDefault() {
+    ResponseCacheConfig config =
+        new ResponseCacheConfig.Builder()
+            .defaultTtl(Duration.ofSeconds(10))
+            .ttl("QSTATUS", Duration.ZERO)
+            .ttl("qmgr", Duration.ofMinutes(1))
+            .maxEntries(5)
+            .build();
+
+    assertThat(config.ttl("queue")).isEqualTo(Duration.ofSeconds(10));
+    assertThat(config.ttl("qstatus")).isZero();
+    assertThat(config.ttl("qmgr")).isEqualTo(Duration.ofMinutes(1));
+    assertThat(config.maxEntries()).isEqualTo(5);
+    assertThat(config.toString()).contains("maxEntries=5");
+  }
+
+  @Test
+  void negativeTtlIsRejected() {
+    ResponseCacheConfig.Builder builder = new ResponseCacheConfig.Builder();
+
+    assertThatThrownBy(() -> builder.defaultTtl(Duration.ofSeconds(-1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("ttl must be >= 0");
+    assertThatThrownBy(() -> builder.ttl("queue", Duration.ofSeconds(-1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void maxEntriesMustBePositive() {
+    assertThatThrownBy(() -> new ResponseCacheConfig.Builder().maxEntries(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxEntries must be >= 1");
+  }
+}
@@ -0,0 +1,118 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheTest {
+
+  private static final TransportResponse RESPONSE = new TransportResponse(200, "{}", Map.of());
+
+  private static Map<String, Object> display(String qualifier, @Nullable String name) {
+    Map<String, Object> payload = new HashMap<>();
+    payload.put("command", "DISPLAY");
+    payload.put("qualifier", qualifier);
+    if (name != null) {
+      payload.put("name", name);
+    }
+    return Map.copyOf(payload);
+  }
+
+  private static ResponseCache cache(ResponseCacheConfig.Builder builder) {
+    return new ResponseCache(builder.build());
+  }
+
+  @Test
+  void returnsResponseUntilTtlExpires() {
+    ResponseCache cache =
+        cache(new ResponseCacheConfig.Builder().defaultTtl(Duration.ofSeconds(2)));
+    Map<String, Object> payload = display("QUEUE", "Q1");
+
+    cache.put(payload, "queue", RESPONSE, cache.generation(), 100.0);
+
+    assertThat(cache.get(display("QUEUE", "Q1"), 101.9)).isSameAs(RESPONSE);
+    assertThat(cache.get(payload, 102.0)).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void zeroTtlQualifierIsNotCached() {
+    ResponseCache cache = cache(new ResponseCacheConfig.Builder().ttl("qstatus", Duration.ZERO));
+    Map<String, Object> payload = display("QSTATUS", "Q1");
+
+    cache.put(payload, "qstatus", RESPONSE, cache.generation(), 0.0);
+
+    assertThat(cache.isCached("qstatus")).isFalse();
+    assertThat(cache.isCached("queue")).isTrue();
+    assertThat(cache.get(payload, 0.0)).isNull();
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedEntry() {
+    ResponseCache cache = cache(new ResponseCacheConfig.Builder().maxEntries(2));
+    cache.put(display("QUEUE", "Q1"), "queue", RESPONSE, cache.generation(), 0.0);
+    cache.put(display("QUEUE", "Q2"), "queue", RESPONSE, cache.generation(), 0.0);
+
+    cache.get(display("QUEUE", "Q1"), 0.0);
+    cache.put(display("QUEUE", "Q3"), "queue", RESPONSE, cache.generation(), 0.0);
+
+    assertThat(cache.get(display("QUEUE", "Q1"), 0.0)).isNotNull();
+    assertThat(cache.get(display("QUEUE", "Q2"), 0.0)).isNull();
+    assertThat(cache.get(display("QUEUE", "Q3"), 0.0)).isNotNull();
+  }
+
+  @Test
+  void invalidateEvictsSameNameGenericAndUnnamedEntriesOfQualifier() {
+    ResponseCache cache = cache(new ResponseCacheConfig.Builder());
+    cache.put(display("QUEUE", "Q1"), "queue", RESPONSE, cache.generation(), 0.0);
+    cache.put(display("QUEUE", "Q2"), "queue", RESPONSE, cache.generation(), 0.0);
+    cache.put(display("QUEUE", "Q*"), "queue", RESPONSE, cache.generation(), 0.0);
+    cache.put(display("QUEUE", null), "queue", RESPONSE, cache.generation(), 0.0);
+    cache.put(display("CHANNEL", "Q1"), "channel", RESPONSE, cache.generation(), 0.0);
+
+    cache.invalidate("queue", "Q1");
+
+    assertThat(cache.get(display("QUEUE", "Q1"), 0.0)).isNull();
+    assertThat(cache.get(display("QUEUE", "Q*"), 0.0)).isNull();
+    assertThat(cache.get(display("QUEUE", null), 0.0)).isNull();
+    assertThat(cache.get(display("QUEUE", "Q2"), 0.0)).isNotNull();
+    assertThat(cache.get(display("CHANNEL", "Q1"), 0.0)).isNotNull();
+  }
+
+  @Test
+  void invalidateWithoutNameEvictsWholeQualifier() {
+    ResponseCache cache = cache(new ResponseCacheConfig.Builder());
+    cache.put(display("QMGR", null), "qmgr", RESPONSE, cache.generation(), 0.0);
+    cache.put(display("QUEUE", "Q1"), "queue", RESPONSE, cache.generation(), 0.0);
+
+    cache.invalidate("qmgr", null);
+
+    assertThat(cache.get(display("QMGR", null), 0.0)).isNull();
+    assertThat(cache.get(display("QUEUE", "Q1"), 0.0)).isNotNull();
+  }
+
+  @Test
+  void responseRacingAnInvalidationIsNotStored() {
+    ResponseCache cache = cache(new ResponseCacheConfig.Builder());
+    long generation = cache.generation();
+
+    cache.invalidate("queue", "Q1");
+    cache.put(display("QUEUE", "Q1"), "queue", RESPONSE, generation, 0.0);
+
+    assertThat(cache.get(display("QUEUE", "Q1"), 0.0)).isNull();
+  }
+
+  @Test
+  void clearEvictsEverything() {
+    ResponseCache cache = cache(new ResponseCacheConfig.Builder());
+    cache.put(display("QUEUE", "Q1"), "queue", RESPONSE, cache.generation(), 0.0);
+
+    cache.clear();
+
+    assertThat(cache.size()).isZero();
+  }
+}
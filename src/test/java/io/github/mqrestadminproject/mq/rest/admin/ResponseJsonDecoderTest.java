@@ -0,0 +1,306 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ResponseJsonDecoderTest {
+
+  private static Object decode(String json) throws IOException {
+    return ResponseJsonDecoder.decode(json);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> decodeObject(String json) throws IOException {
+    return (Map<String, Object>) decode(json);
+  }
+
+  /** Returns a stream that hands out at most one byte per read. */
+  private static InputStream trickle(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)) {
+      @Override
+      public synchronized int read(byte[] buffer, int offset, int length) {
+        return super.read(buffer, offset, Math.min(length, 1));
+      }
+    };
+  }
+
+  private static String lookup(ResponseJsonDecoder.StringTable dictionary, String string) {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    return dictionary.get(bytes, 0, bytes.length, string.hashCode());
+  }
+
+  @Test
+  void wholeNumbersDecodeAsIntegerOrLong() throws IOException {
+    assertThat(
+            decode(
+                "[0,-0,5000,-2147483648,2147483647,2147483648,"
+                    + "-9223372036854775808,9223372036854775807]"))
+        .isEqualTo(
+            List.of(
+                0,
+                0,
+                5000,
+                Integer.MIN_VALUE,
+                Integer.MAX_VALUE,
+                2147483648L,
+                Long.MIN_VALUE,
+                Long.MAX_VALUE));
+  }
+
+  @Test
+  void fractionsExponentsAndHugeNumbersDecodeAsDouble() throws IOException {
+    assertThat(decode("[1.5,-0.25,1e3,2E-2,1.5e+2,12345678901234567890,-9223372036854775809]"))
+        .isEqualTo(
+            List.of(
+                1.5, -0.25, 1000.0, 0.02, 150.0, 1.2345678901234567e19, -9.223372036854775808e18));
+    assertThat(decode("\t\r\n7 ")).isEqualTo(7);
+    assertThat(decode("-8")).isEqualTo(-8);
+  }
+
+  @Test
+  void decodesAllValueTypesInOrder() throws IOException {
+    Map<String, Object> decoded =
+        decodeObject(
+            " {\"s\":\"text\", \"t\":true,\"f\":false,\"z\":null,"
+                + "\"a\":[1,\"x\",null,[]],\"o\":{\"k\":{}}}\n");
+
+    assertThat(decoded)
+        .containsEntry("s", "text")
+        .containsEntry("t", true)
+        .containsEntry("f", false)
+        .containsEntry("z", null)
+        .containsEntry("a", Arrays.asList(1, "x", null, List.of()))
+        .containsEntry("o", Map.of("k", Map.of()));
+    assertThat(decoded.keySet()).containsExactly("s", "t", "f", "z", "a", "o");
+  }
+
+  @Test
+  void decodesEscapesAndUtf8() throws IOException {
+    assertThat(
+            decode("[\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t\",\"\\u00e9\\ud83d\\ude00\",\"héllo 😀\"]"))
+        .isEqualTo(List.of("a\"b\\c/d\b\f\n\r\t", "é😀", "héllo 😀"));
+  }
+
+  @Test
+  void decodesDeeplyNestedArrays() throws IOException {
+    Object expected = List.of();
+    for (int depth = 1; depth < 100; depth++) {
+      expected = List.of(expected);
+    }
+
+    assertThat(decode("[".repeat(100) + "]".repeat(100))).isEqualTo(expected);
+  }
+
+  @Test
+  void sharesDictionaryNamesAndValuesAcrossResponses() throws IOException {
+    Map<String, Object> first = decodeObject("{\"QTYPE\":\"QLOCAL\",\"status\":\"RUNNING\"}");
+    Map<String, Object> second = decodeObject("{\"QTYPE\":\"QLOCAL\",\"status\":\"RUNNING\"}");
+
+    assertThat(first.keySet().iterator().next()).isSameAs(second.keySet().iterator().next());
+    assertThat(first.get("QTYPE")).isSameAs(second.get("QTYPE"));
+    assertThat(first.get("status")).isSameAs(second.get("status"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void sharesRepeatedNamesWithinResponse() throws IOException {
+    List<Map<String, Object>> rows =
+        (List<Map<String, Object>>) decode("[{\"custom_name\":1},{\"custom_name\":2}]");
+
+    assertThat(rows.get(0).keySet().iterator().next())
+        .isSameAs(rows.get(1).keySet().iterator().next());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void sharesCollidingNamesAndStopsAddingNamesWhenFull() throws IOException {
+    // "Aa" and "BB" have the same hash code
+    StringBuilder json = new StringBuilder("[{\"Aa\":1,\"BB\":2");
+    for (int index = 0; index < 600; index++) {
+      json.append(",\"name").append(index).append("\":0");
+    }
+    json.append("},{\"Aa\":3,\"BB\":4,\"name599\":0}]");
+
+    List<Map<String, Object>> rows = (List<Map<String, Object>>) decode(json.toString());
+    List<String> first = List.copyOf(rows.get(0).keySet());
+    List<String> second = List.copyOf(rows.get(1).keySet());
+
+    assertThat(second.get(0)).isSameAs(first.get(0));
+    assertThat(second.get(1)).isSameAs(first.get(1));
+    assertThat(second.get(2)).isEqualTo("name599").isNotSameAs(first.get(601));
+  }
+
+  @Test
+  void dictionaryHoldsOnlyShortAsciiStrings() {
+    String longName = "Q".repeat(65);
+    ResponseJsonDecoder.StringTable dictionary =
+        ResponseJsonDecoder.buildDictionary(Set.of("QLOCAL", longName, "é"));
+
+    assertThat(lookup(dictionary, "QLOCAL")).isEqualTo("QLOCAL");
+    assertThat(lookup(dictionary, longName)).isNull();
+    assertThat(lookup(dictionary, "é")).isNull();
+  }
+
+  @Test
+  void streamDecodesAcrossReadsAndLongStrings() throws IOException {
+    String longText = "x".repeat(20_000);
+    String json = "{\"long\":\"" + longText + "\",\"n\":-12.5e1,\"t\":true}";
+    try (ResponseJsonDecoder decoder = new ResponseJsonDecoder(trickle(json))) {
+      assertThat(decoder.readValue()).isEqualTo(Map.of("long", longText, "n", -125.0, "t", true));
+      assertThat(decoder.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+    }
+  }
+
+  @Test
+  void pullsTokensIncrementally() throws IOException {
+    try (ResponseJsonDecoder decoder = new ResponseJsonDecoder(trickle("{\"a\":[1,{\"b\":2}]}"))) {
+      assertThat(decoder.peek()).isEqualTo(JsonToken.BEGIN_OBJECT);
+      decoder.beginObject();
+      assertThat(decoder.nextName()).isEqualTo("a");
+      decoder.beginArray();
+      assertThat(decoder.peek()).isEqualTo(JsonToken.NUMBER);
+      assertThat(decoder.readValue()).isEqualTo(1);
+      assertThat(decoder.readValue()).isEqualTo(Map.of("b", 2));
+      assertThat(decoder.hasNext()).isFalse();
+      decoder.endArray();
+      decoder.endObject();
+      assertThat(decoder.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+    }
+  }
+
+  @Test
+  void peekReportsEveryTokenType() throws IOException {
+    try (ResponseJsonDecoder decoder =
+        new ResponseJsonDecoder(trickle("[{\"a\":true},false,null,\"s\",1,[]]"))) {
+      assertThat(decoder.peek()).isEqualTo(JsonToken.BEGIN_ARRAY);
+      decoder.beginArray();
+      assertThat(decoder.peek()).isEqualTo(JsonToken.BEGIN_OBJECT);
+      decoder.beginObject();
+      assertThat(decoder.peek()).isEqualTo(JsonToken.NAME);
+      assertThat(decoder.nextName()).isEqualTo("a");
+      assertThat(decoder.peek()).isEqualTo(JsonToken.BOOLEAN);
+      assertThat(decoder.readValue()).isEqualTo(true);
+      assertThat(decoder.peek()).isEqualTo(JsonToken.END_OBJECT);
+      decoder.endObject();
+      assertThat(decoder.peek()).isEqualTo(JsonToken.BOOLEAN);
+      assertThat(decoder.readValue()).isEqualTo(false);
+      assertThat(decoder.peek()).isEqualTo(JsonToken.NULL);
+      assertThat(decoder.readValue()).isNull();
+      assertThat(decoder.peek()).isEqualTo(JsonToken.STRING);
+      assertThat(decoder.readValue()).isEqualTo("s");
+      assertThat(decoder.peek()).isEqualTo(JsonToken.NUMBER);
+      assertThat(decoder.readValue()).isEqualTo(1);
+      decoder.beginArray();
+      assertThat(decoder.peek()).isEqualTo(JsonToken.END_ARRAY);
+      decoder.endArray();
+      assertThat(decoder.peek()).isEqualTo(JsonToken.END_ARRAY);
+      decoder.endArray();
+      assertThat(decoder.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+      assertThat(decoder.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void unexpectedTokensThrow() throws IOException {
+    try (ResponseJsonDecoder decoder = new ResponseJsonDecoder(trickle("[1]"))) {
+      assertThatThrownBy(decoder::beginObject)
+          .isInstanceOf(MalformedJsonException.class)
+          .hasMessageStartingWith("Expected an object");
+      decoder.beginArray();
+      assertThat(decoder.readValue()).isEqualTo(1);
+      assertThatThrownBy(decoder::readValue)
+          .isInstanceOf(MalformedJsonException.class)
+          .hasMessageStartingWith("Expected a value");
+    }
+  }
+
+  @Test
+  void closeClosesStream() throws IOException {
+    boolean[] closed = {false};
+    InputStream body =
+        new ByteArrayInputStream(new byte[0]) {
+          @Override
+          public void close() {
+            closed[0] = true;
+          }
+        };
+
+    new ResponseJsonDecoder(body).close();
+
+    assertThat(closed[0]).isTrue();
+  }
+
+  @Test
+  void malformedInputThrows() {
+    for (String json :
+        List.of(
+            "",
+            "  ",
+            "{",
+            "{\"a\"}",
+            "{\"a\":}",
+            "{\"a\":1,}",
+            "{\"a\":1 \"b\":2}",
+            "{,}",
+            "{a:1}",
+            "[1,]",
+            "[1 2]",
+            "[01]",
+            "[-]",
+            "[1.]",
+            "[1e]",
+            "[1e+]",
+            "[1.5x]",
+            "[tru]",
+            "[tr",
+            "[\"abc",
+            "[\"abc\\",
+            "[\"\\x\"]",
+            "[\"\\u12\"]",
+            "[\"\\u12zz\"]",
+            "{} {}",
+            "'a'")) {
+      assertThatThrownBy(() -> decode(json)).as(json).isInstanceOf(MalformedJsonException.class);
+    }
+  }
+
+  @Test
+  void textIsEncodedAsUtf8WhileRead() throws IOException {
+    String text = "a\u00e9\u20ac\ud83d\ude00\ud800z";
+    byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+
+    assertThat(new ResponseJsonDecoder.Utf8Encoding(text).readAllBytes()).isEqualTo(expected);
+
+    // One byte at a time, so every multi-byte character is split across reads
+    ResponseJsonDecoder.Utf8Encoding encoding = new ResponseJsonDecoder.Utf8Encoding(text);
+    byte[] bytes = new byte[expected.length];
+    for (int index = 0; index < bytes.length; index++) {
+      assertThat(encoding.read(new byte[0], 0, 0)).isZero();
+      int read = encoding.read();
+      assertThat(read).isNotNegative();
+      bytes[index] = (byte) read;
+    }
+    assertThat(bytes).isEqualTo(expected);
+    assertThat(encoding.read()).isEqualTo(-1);
+    assertThat(encoding.read(bytes, 0, bytes.length)).isEqualTo(-1);
+  }
+
+  @Test
+  void decodesTextAcrossEncodedBuffers() throws IOException {
+    String value = "\u20ac".repeat(10_000);
+
+    assertThat(decode("[\"" + value + "\"]")).isEqualTo(List.of(value));
+  }
+}
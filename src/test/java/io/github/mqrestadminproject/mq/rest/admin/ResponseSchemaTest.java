@@ -0,0 +1,45 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.mqrestadminproject.mq.rest.admin.mapping.MappingData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ResponseSchemaTest {
+
+  @Test
+  void columnsFollowNameOrderWithoutDuplicates() {
+    ResponseSchema schema = new ResponseSchema("queue", List.of("a", "b", "a", "c"));
+
+    assertThat(schema.qualifier()).isEqualTo("queue");
+    assertThat(schema.names()).containsExactly("a", "b", "c");
+    assertThat(schema.size()).isEqualTo(3);
+    assertThat(schema.name(1)).isEqualTo("b");
+    assertThat(schema.indexOf("c")).isEqualTo(2);
+    assertThat(schema.indexOf("missing")).isEqualTo(-1);
+  }
+
+  @Test
+  void mappedSchemaUsesSnakeCaseNames() {
+    ResponseSchema schema = ResponseSchema.fromMapping(MappingData.loadDefault(), "queue", true);
+
+    assertThat(schema.indexOf("current_queue_depth")).isNotNegative();
+    assertThat(schema.indexOf("CURDEPTH")).isNegative();
+  }
+
+  @Test
+  void unmappedSchemaUsesMqscNames() {
+    ResponseSchema schema = ResponseSchema.fromMapping(MappingData.loadDefault(), "queue", false);
+
+    assertThat(schema.indexOf("CURDEPTH")).isNotNegative();
+    assertThat(schema.indexOf("current_queue_depth")).isNegative();
+  }
+
+  @Test
+  void unknownQualifierGivesEmptySchema() {
+    ResponseSchema schema = ResponseSchema.fromMapping(MappingData.loadDefault(), "nope", true);
+
+    assertThat(schema.size()).isZero();
+  }
+}
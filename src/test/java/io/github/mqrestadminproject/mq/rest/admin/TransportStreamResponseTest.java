@@ -0,0 +1,70 @@
+package io.github.mqrestadminproject.mq.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TransportStreamResponseTest {
+
+  private static InputStream body(String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void constructionWithValidValues() throws IOException {
+    TransportStreamResponse response =
+        new TransportStreamResponse(200, body("{}"), Map.of("Content-Type", "application/json"));
+
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.body().readAllBytes()).isEqualTo("{}".getBytes(StandardCharsets.UTF_8));
+    assertThat(response.headers()).containsEntry("Content-Type", "application/json");
+  }
+
+  @Test
+  void nullBodyThrowsNullPointerException() {
+    assertThatThrownBy(() -> new TransportStreamResponse(200, null, Map.of()))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("body");
+  }
+
+  @Test
+  void nullHeadersThrowsNullPointerException() {
+    assertThatThrownBy(() -> new TransportStreamResponse(200, body(""), null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("headers");
+  }
+
+  @Test
+  void headersAreDefensivelyCopied() {
+    HashMap<String, String> mutableHeaders = new HashMap<>();
+    mutableHeaders.put("X-Key", "original");
+
+    TransportStreamResponse response = new TransportStreamResponse(200, body(""), mutableHeaders);
+    mutableHeaders.put("X-Key", "modified");
+
+    assertThat(response.headers()).containsEntry("X-Key", "original");
+  }
+
+  @Test
+  void closeClosesBody() throws IOException {
+    boolean[] closed = {false};
+    InputStream stream =
+        new ByteArrayInputStream(new byte[0]) {
+          @Override
+          public void close() {
+            closed[0] = true;
+          }
+        };
+
+    new TransportStreamResponse(200, stream, Map.of()).close();
+
+    assertThat(closed[0]).isTrue();
+  }
+}
@@ -0,0 +1,79 @@
+package io.github.mqrestadminproject.mq.rest.admin.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.mqrestadminproject.mq.rest.admin.ensure.EnsureAction;
+import io.github.mqrestadminproject.mq.rest.admin.ensure.EnsureResult;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MqRestBulkEnsureExceptionTest {
+
+  private static final EnsureResult CREATED = new EnsureResult(EnsureAction.CREATED, null);
+
+  @Test
+  void constructWithResultsAndFailures() {
+    MqRestTransportException first = new MqRestTransportException("down", "url");
+    MqRestTransportException second = new MqRestTransportException("down", "url");
+    Map<String, MqRestException> failures = new LinkedHashMap<>();
+    failures.put("Q3", second);
+    failures.put("Q2", first);
+
+    MqRestBulkEnsureException ex =
+        new MqRestBulkEnsureException("fail", Map.of("Q1", CREATED), failures);
+
+    assertThat(ex.getMessage()).isEqualTo("fail");
+    assertThat(ex.getResults()).containsExactly(Map.entry("Q1", CREATED));
+    assertThat(ex.getFailures().keySet()).containsExactly("Q3", "Q2");
+    assertThat(ex.getCause()).isSameAs(second);
+  }
+
+  @Test
+  void resultsAndFailuresAreUnmodifiableCopies() {
+    Map<String, EnsureResult> results = new LinkedHashMap<>(Map.of("Q1", CREATED));
+    Map<String, MqRestException> failures =
+        new LinkedHashMap<>(Map.of("Q2", new MqRestTransportException("down", "url")));
+
+    MqRestBulkEnsureException ex = new MqRestBulkEnsureException("fail", results, failures);
+    results.clear();
+    failures.clear();
+
+    assertThat(ex.getResults()).containsOnlyKeys("Q1");
+    assertThat(ex.getFailures()).containsOnlyKeys("Q2");
+    assertThatThrownBy(() -> ex.getResults().clear())
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> ex.getFailures().clear())
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void emptyFailuresThrows() {
+    assertThatThrownBy(() -> new MqRestBulkEnsureException("fail", Map.of(), Map.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("failures must not be empty");
+  }
+
+  @Test
+  void nullArgumentsThrow() {
+    Map<String, MqRestException> failures =
+        Map.of("Q2", new MqRestTransportException("down", "url"));
+
+    assertThatThrownBy(() -> new MqRestBulkEnsureException("fail", Map.of(), null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("failures");
+    assertThatThrownBy(() -> new MqRestBulkEnsureException("fail", null, failures))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("results");
+  }
+
+  @Test
+  void isMqRestException() {
+    MqRestBulkEnsureException ex =
+        new MqRestBulkEnsureException(
+            "fail", Map.of(), Map.of("Q2", new MqRestTransportException("down", "url")));
+    assertThat(ex).isInstanceOf(MqRestException.class);
+    assertThat(ex).isInstanceOf(RuntimeException.class);
+  }
+}
@@ -0,0 +1,79 @@
+package io.github.mqrestadminproject.mq.rest.admin.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.mqrestadminproject.mq.rest.admin.sync.SyncOperation;
+import io.github.mqrestadminproject.mq.rest.admin.sync.SyncResult;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MqRestBulkSyncExceptionTest {
+
+  private static final SyncResult STARTED = new SyncResult(SyncOperation.STARTED, 1, 0.5);
+
+  @Test
+  void constructWithResultsAndFailures() {
+    MqRestTimeoutException first = new MqRestTimeoutException("late", "CH2", "START", 5.0);
+    MqRestTimeoutException second = new MqRestTimeoutException("late", "CH3", "START", 5.0);
+    Map<String, MqRestException> failures = new LinkedHashMap<>();
+    failures.put("CH3", second);
+    failures.put("CH2", first);
+
+    MqRestBulkSyncException ex =
+        new MqRestBulkSyncException("fail", Map.of("CH1", STARTED), failures);
+
+    assertThat(ex.getMessage()).isEqualTo("fail");
+    assertThat(ex.getResults()).containsExactly(Map.entry("CH1", STARTED));
+    assertThat(ex.getFailures().keySet()).containsExactly("CH3", "CH2");
+    assertThat(ex.getCause()).isSameAs(second);
+  }
+
+  @Test
+  void resultsAndFailuresAreUnmodifiableCopies() {
+    Map<String, SyncResult> results = new LinkedHashMap<>(Map.of("CH1", STARTED));
+    Map<String, MqRestException> failures =
+        new LinkedHashMap<>(Map.of("CH2", new MqRestTimeoutException("late", "CH2", "START", 5.0)));
+
+    MqRestBulkSyncException ex = new MqRestBulkSyncException("fail", results, failures);
+    results.clear();
+    failures.clear();
+
+    assertThat(ex.getResults()).containsOnlyKeys("CH1");
+    assertThat(ex.getFailures()).containsOnlyKeys("CH2");
+    assertThatThrownBy(() -> ex.getResults().clear())
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> ex.getFailures().clear())
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void emptyFailuresThrows() {
+    assertThatThrownBy(() -> new MqRestBulkSyncException("fail", Map.of(), Map.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("failures must not be empty");
+  }
+
+  @Test
+  void nullArgumentsThrow() {
+    Map<String, MqRestException> failures =
+        Map.of("CH2", new MqRestTimeoutException("late", "CH2", "START", 5.0));
+
+    assertThatThrownBy(() -> new MqRestBulkSyncException("fail", Map.of(), null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("failures");
+    assertThatThrownBy(() -> new MqRestBulkSyncException("fail", null, failures))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("results");
+  }
+
+  @Test
+  void isMqRestException() {
+    MqRestBulkSyncException ex =
+        new MqRestBulkSyncException(
+            "fail", Map.of(), Map.of("CH2", new MqRestTimeoutException("late", "CH2", "START", 0)));
+    assertThat(ex).isInstanceOf(MqRestException.class);
+    assertThat(ex).isInstanceOf(RuntimeException.class);
+  }
+}
@@ -0,0 +1,69 @@
+package io.github.mqrestadminproject.mq.rest.admin.group;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class GroupResultTest {
+
+  @Test
+  void constructsWithResultsAndFailures() {
+    IllegalStateException error = new IllegalStateException("down");
+    GroupResult<String> result = new GroupResult<>(Map.of("QM1", "ok"), Map.of("QM2", error));
+
+    assertThat(result.results()).containsExactly(Map.entry("QM1", "ok"));
+    assertThat(result.failures()).containsExactly(Map.entry("QM2", error));
+    assertThat(result.allSucceeded()).isFalse();
+  }
+
+  @Test
+  void allSucceededWhenNoFailures() {
+    GroupResult<String> result = new GroupResult<>(Map.of("QM1", "ok"), Map.of());
+
+    assertThat(result.allSucceeded()).isTrue();
+  }
+
+  @Test
+  void allowsNullResultValuesAndKeepsOrder() {
+    Map<String, String> results = new LinkedHashMap<>();
+    results.put("QM3", "c");
+    results.put("QM1", null);
+    results.put("QM2", "b");
+
+    GroupResult<String> result = new GroupResult<>(results, Map.of());
+
+    assertThat(result.results().keySet()).containsExactly("QM3", "QM1", "QM2");
+    assertThat(result.results()).containsEntry("QM1", null);
+  }
+
+  @Test
+  void mapsAreDefensivelyCopiedAndUnmodifiable() {
+    Map<String, String> results = new HashMap<>(Map.of("QM1", "ok"));
+    GroupResult<String> result = new GroupResult<>(results, new HashMap<>());
+    results.put("QM2", "late");
+
+    assertThat(result.results()).containsOnlyKeys("QM1");
+    assertThatThrownBy(() -> result.results().put("QM3", "x"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> result.failures().put("QM3", new IllegalStateException()))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void nullResultsThrowsNullPointerException() {
+    assertThatThrownBy(() -> new GroupResult<String>(null, Map.of()))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("results");
+  }
+
+  @Test
+  void nullFailuresThrowsNullPointerException() {
+    assertThatThrownBy(() -> new GroupResult<String>(Map.of(), null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("failures");
+  }
+}
@@ -0,0 +1,200 @@
+package io.github.mqrestadminproject.mq.rest.admin.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LazyResponseAttributesTest {
+
+  private static final String TEST_JSON =
+      """
+      {
+        "qualifiers": {
+          "queue": {
+            "response_key_map": {
+              "MAXDEPTH": "max_depth",
+              "DESCR": "description",
+              "GET": "get",
+              "CURDEPTH": "depth",
+              "IPPROCS": "depth"
+            },
+            "response_value_map": {
+              "GET": {
+                "ENABLED": "enabled",
+                "DISABLED": "disabled"
+              }
+            }
+          }
+        }
+      }
+      """;
+
+  private final AttributeMapper mapper = new AttributeMapper(MappingData.fromJson(TEST_JSON));
+
+  private static Map<String, Object> row(Object... keysAndValues) {
+    Map<String, Object> row = new LinkedHashMap<>();
+    for (int index = 0; index < keysAndValues.length; index += 2) {
+      row.put((String) keysAndValues[index], keysAndValues[index + 1]);
+    }
+    return row;
+  }
+
+  private static Map<String, Object> upperCased(Map<String, Object> raw) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    raw.forEach((key, value) -> result.put(key.toUpperCase(Locale.ROOT), value));
+    return result;
+  }
+
+  @Test
+  void getMapsKeyAndValue() {
+    Map<String, Object> view =
+        mapper.responseView("queue", row("MAXDEPTH", 5000, "GET", "ENABLED"));
+
+    assertThat(view.get("max_depth")).isEqualTo(5000);
+    assertThat(view.get("get")).isEqualTo("enabled");
+    assertThat(view.containsKey("get")).isTrue();
+  }
+
+  @Test
+  void getMatchesRawNamesInAnyCase() {
+    Map<String, Object> view =
+        mapper.responseView("queue", row("maxdepth", 5000, "Descr", "test", "get", "DISABLED"));
+
+    assertThat(view.get("max_depth")).isEqualTo(5000);
+    assertThat(view.get("description")).isEqualTo("test");
+    assertThat(view.get("get")).isEqualTo("disabled");
+  }
+
+  @Test
+  void unknownValuePassesThrough() {
+    Map<String, Object> view =
+        mapper.responseView("queue", row("GET", "SOMETIMES", "DESCR", List.of("a")));
+
+    assertThat(view.get("get")).isEqualTo("SOMETIMES");
+    assertThat(view.get("description")).isEqualTo(List.of("a"));
+  }
+
+  @Test
+  void unknownListElementPassesThrough() {
+    Map<String, Object> view =
+        mapper.responseView("queue", row("GET", List.of("ENABLED", "SOMETIMES")));
+
+    assertThat(view.get("get")).isEqualTo(List.of("enabled", "SOMETIMES"));
+  }
+
+  @Test
+  void nullValueIsPresent() {
+    Map<String, Object> view = mapper.responseView("queue", row("descr", null, "GET", null));
+
+    assertThat(view.get("description")).isNull();
+    assertThat(view.containsKey("description")).isTrue();
+    assertThat(view.containsKey("get")).isTrue();
+  }
+
+  @Test
+  void nullValueUnderMixedCaseNameIsPresent() {
+    Map<String, Object> view = mapper.responseView("queue", row("Descr", null, "Other", null));
+
+    assertThat(view.get("description")).isNull();
+    assertThat(view.containsKey("description")).isTrue();
+    assertThat(view.containsKey("OTHER")).isTrue();
+  }
+
+  @Test
+  void missingAttributeIsAbsent() {
+    Map<String, Object> view = mapper.responseView("queue", row("MAXDEPTH", 5000));
+
+    assertThat(view.get("description")).isNull();
+    assertThat(view.containsKey("description")).isFalse();
+    assertThat(view.containsKey("missing_name")).isFalse();
+  }
+
+  @Test
+  void unknownAttributeKeepsUpperCaseName() {
+    Map<String, Object> view = mapper.responseView("queue", row("unknown", "x", "Other", "y"));
+
+    assertThat(view.get("UNKNOWN")).isEqualTo("x");
+    assertThat(view.get("OTHER")).isEqualTo("y");
+    assertThat(view.containsKey("unknown")).isFalse();
+    assertThat(view.containsKey("Other")).isFalse();
+  }
+
+  @Test
+  void mappedAttributeIsNotFoundUnderMqscName() {
+    Map<String, Object> view = mapper.responseView("queue", row("MAXDEPTH", 5000));
+
+    assertThat(view.containsKey("MAXDEPTH")).isFalse();
+  }
+
+  @Test
+  void nonStringKeyIsAbsent() {
+    Map<String, Object> view = mapper.responseView("queue", row("MAXDEPTH", 5000));
+
+    assertThat(view.containsKey(42)).isFalse();
+  }
+
+  @Test
+  void ambiguousNameUsesFullMapping() {
+    Map<String, Object> view = mapper.responseView("queue", row("CURDEPTH", 1, "IPPROCS", 2));
+
+    assertThat(view.get("depth")).isEqualTo(2);
+    assertThat(view.get("missing_name")).isNull();
+  }
+
+  @Test
+  void missingAmbiguousNameIsAbsent() {
+    Map<String, Object> view = mapper.responseView("queue", row("MAXDEPTH", 5000));
+
+    assertThat(view.containsKey("depth")).isFalse();
+  }
+
+  @Test
+  void unknownQualifierPassesUpperCaseNamesThrough() {
+    Map<String, Object> view = mapper.responseView("unknown", row("curdepth", 3, "DESCR", "d"));
+
+    assertThat(view.get("CURDEPTH")).isEqualTo(3);
+    assertThat(view.get("DESCR")).isEqualTo("d");
+    assertThat(view.containsKey("curdepth")).isFalse();
+    assertThat(view).isEqualTo(Map.of("CURDEPTH", 3, "DESCR", "d"));
+  }
+
+  @Test
+  void entriesMatchEagerMapping() {
+    Map<String, Object> raw =
+        row("maxdepth", 5000, "GET", "ENABLED", "Descr", null, "CURDEPTH", 1, "extra", "x");
+
+    Map<String, Object> view = mapper.responseView("queue", raw);
+    Map<String, Object> eager = mapper.mapResponseAttributes("queue", upperCased(raw), false);
+
+    assertThat(view).isEqualTo(eager);
+    assertThat(view).containsExactlyEntriesOf(eager);
+    assertThat(view).hasSameHashCodeAs(eager).hasToString(eager.toString());
+  }
+
+  @Test
+  void lookupsAfterIterationUseMappedEntries() {
+    Map<String, Object> view =
+        mapper.responseView("queue", row("MAXDEPTH", 5000, "Descr", null, "extra", "x"));
+
+    assertThat(view).hasSize(3);
+    assertThat(view.get("max_depth")).isEqualTo(5000);
+    assertThat(view.containsKey("description")).isTrue();
+    assertThat(view.get("EXTRA")).isEqualTo("x");
+    assertThat(view.containsKey("MAXDEPTH")).isFalse();
+  }
+
+  @Test
+  void viewIsReadOnly() {
+    Map<String, Object> view = mapper.responseView("queue", row("MAXDEPTH", 5000));
+
+    assertThatThrownBy(() -> view.put("max_depth", 1))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> view.remove("max_depth"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+}
@@ -60,6 +60,11 @@ class MappingDataTest {
     assertThat(data.getQualifierForCommand("DISPLAY QUEUE")).isEqualTo("queue");
   }
 
+  @Test
+  void loadDefaultReturnsSharedInstance() {
+    assertThat(MappingData.loadDefault()).isSameAs(MappingData.loadDefault());
+  }
+
   @Test
   void fromJsonParsesValidJson() {
     MappingData data = MappingData.fromJson(VALID_JSON);
@@ -130,6 +135,53 @@ class MappingDataTest {
     assertThat(merged.getQualifierForCommand("DISPLAY CHANNEL")).isEqualTo("channel");
   }
 
+  @Test
+  void withOverridesMergeSharesUntouchedCompiledEntries() {
+    MappingData base = MappingData.fromJson(JSON_WITH_MACROS);
+    Map<String, Object> overrides = new LinkedHashMap<>();
+    overrides.put("commands", Map.of("ALTER QUEUE", Map.of("qualifier", "local_queue")));
+    overrides.put("qualifiers", Map.of("channel", Map.of("request_key_map", Map.of())));
+
+    MappingData merged = base.withOverrides(overrides, MappingOverrideMode.MERGE);
+
+    assertThat(merged.getQualifierMapping("queue")).isSameAs(base.getQualifierMapping("queue"));
+    assertThat(merged.getResponseParameterMacros("DISPLAY", "QUEUE"))
+        .isSameAs(base.getResponseParameterMacros("DISPLAY", "QUEUE"));
+    assertThat(merged.getQualifierForCommand("ALTER QUEUE")).isEqualTo("local_queue");
+    assertThat(merged.hasQualifier("channel")).isTrue();
+  }
+
+  @Test
+  void withOverridesMergeLeavesBaseUnchanged() {
+    MappingData base = MappingData.fromJson(VALID_JSON);
+    Map<String, Object> overrides = new LinkedHashMap<>();
+    overrides.put("commands", Map.of("DISPLAY QUEUE", Map.of("qualifier", "local_queue")));
+    overrides.put(
+        "qualifiers", Map.of("queue", Map.of("request_key_map", Map.of("depth", "CURDEPTH"))));
+
+    MappingData merged = base.withOverrides(overrides, MappingOverrideMode.MERGE);
+
+    assertThat(base.getQualifierForCommand("DISPLAY QUEUE")).isEqualTo("queue");
+    assertThat(base.getSnakeToMqscMap("queue")).doesNotContainKey("depth");
+    assertThat(merged.getSnakeToMqscMap("queue")).containsEntry("depth", "CURDEPTH");
+    assertThat(merged.getQualifierMapping("queue")).isNotSameAs(base.getQualifierMapping("queue"));
+  }
+
+  @Test
+  void withOverridesMergeCopiesOverrideValues() {
+    MappingData base = MappingData.fromJson(VALID_JSON);
+    Map<String, Object> keyMap = new LinkedHashMap<>();
+    keyMap.put("depth", "CURDEPTH");
+    Map<String, Object> overrides = new LinkedHashMap<>();
+    overrides.put("qualifiers", Map.of("queue", Map.of("request_key_map", keyMap)));
+
+    MappingData merged = base.withOverrides(overrides, MappingOverrideMode.MERGE);
+    keyMap.put("depth", "CHANGED");
+
+    assertThat(merged.getQualifierData("queue"))
+        .containsEntry("request_key_map", Map.of("depth", "CURDEPTH"));
+  }
+
   @Test
   void withOverridesMergeOverridesExistingEntries() {
     MappingData base = MappingData.fromJson(VALID_JSON);
@@ -141,6 +193,28 @@ class MappingDataTest {
     assertThat(merged.getQualifierForCommand("DISPLAY QUEUE")).isEqualTo("local_queue");
   }
 
+  @Test
+  void withOverridesMergeRemovesAndReplacesDefaultEntriesWithoutChangingDefault() {
+    MappingData defaults = MappingData.loadDefault();
+    QualifierMapping queueMapping = defaults.getQualifierMapping("queue");
+    Map<String, Object> commandOverrides = new LinkedHashMap<>();
+    commandOverrides.put("DISPLAY QUEUE", Map.of("qualifier", "local_queue"));
+    Map<String, Object> qualifierOverrides = new LinkedHashMap<>();
+    qualifierOverrides.put("queue", "scalar_value");
+    Map<String, Object> overrides = new LinkedHashMap<>();
+    overrides.put("commands", commandOverrides);
+    overrides.put("qualifiers", qualifierOverrides);
+
+    MappingData merged = defaults.withOverrides(overrides, MappingOverrideMode.MERGE);
+
+    assertThat(merged.getQualifierForCommand("DISPLAY QUEUE")).isEqualTo("local_queue");
+    assertThat(merged.getQualifierMapping("queue")).isNull();
+    assertThat(MappingData.loadDefault()).isSameAs(defaults);
+    assertThat(defaults.getQualifierForCommand("DISPLAY QUEUE")).isEqualTo("queue");
+    assertThat(defaults.getQualifierMapping("queue")).isNotNull().isSameAs(queueMapping);
+    assertThat(defaults.hasQualifier("queue")).isTrue();
+  }
+
   @Test
   void withOverridesReplaceReplacesDataEntirely() {
     String replaceJson =
@@ -499,6 +573,46 @@ class MappingDataTest {
     assertThat(map).containsEntry("attr", "REQUEST_VALUE");
   }
 
+  @Test
+  void getResponseKeyMapReturnsMqscToSnakeNames() {
+    MappingData data = MappingData.fromJson(JSON_WITH_MACROS);
+
+    assertThat(data.getResponseKeyMap("queue"))
+        .containsEntry("MAXDEPTH", "max_depth")
+        .doesNotContainValue("description");
+  }
+
+  @Test
+  void getResponseKeyMapReturnsEmptyForUnknownQualifier() {
+    MappingData data = MappingData.fromJson(VALID_JSON);
+
+    assertThat(data.getResponseKeyMap("channel")).isEmpty();
+  }
+
+  @Test
+  void getResponseVocabularyCollectsResponseNamesAndValues() {
+    String json =
+        """
+        {
+          "qualifiers": {
+            "queue": {
+              "request_key_map": {"max_depth": "MAXDEPTH"},
+              "response_key_map": {"MAXDEPTH": "max_depth", "USAGE": "usage"},
+              "response_value_map": {"USAGE": {"NORMAL": "normal", "XMITQ": "transmission"}}
+            },
+            "channel": {
+              "response_key_map": {"CHLTYPE": "channel_type"},
+              "request_value_map": {"channel_type": {"sender": "SDR"}}
+            }
+          }
+        }
+        """;
+    MappingData data = MappingData.fromJson(json);
+
+    assertThat(data.getResponseVocabulary())
+        .containsExactlyInAnyOrder("MAXDEPTH", "USAGE", "NORMAL", "XMITQ", "CHLTYPE");
+  }
+
   @Test
   void getSnakeToMqscMapReturnsEmptyForUnknownQualifier() {
     MappingData data = MappingData.fromJson(VALID_JSON);
@@ -571,4 +685,40 @@ class MappingDataTest {
 
     assertThat(result).containsEntry("valid_attr", "VALID_MQSC").hasSize(1);
   }
+
+  @Test
+  void getQualifierDataReturnsNullWhenNoQualifiersSection() {
+    MappingData data = MappingData.fromMap(Map.of());
+
+    assertThat(data.getQualifierData("queue")).isNull();
+  }
+
+  @Test
+  void hasQualifierReturnsFalseWhenQualifierEntryNotMap() {
+    MappingData data = MappingData.fromMap(Map.of("qualifiers", Map.of("queue", "not_a_map")));
+
+    assertThat(data.hasQualifier("queue")).isFalse();
+  }
+
+  @Test
+  void resolveResponseParameterMacroMatchesCaseInsensitively() {
+    MappingData data = MappingData.fromJson(JSON_WITH_MACROS);
+
+    assertThat(data.resolveResponseParameterMacro("DISPLAY", "QUEUE", "clusinfo"))
+        .isEqualTo("CLUSINFO");
+  }
+
+  @Test
+  void resolveResponseParameterMacroReturnsNullForNonMacro() {
+    MappingData data = MappingData.fromJson(JSON_WITH_MACROS);
+
+    assertThat(data.resolveResponseParameterMacro("DISPLAY", "QUEUE", "max_depth")).isNull();
+  }
+
+  @Test
+  void resolveResponseParameterMacroReturnsNullForUnknownCommand() {
+    MappingData data = MappingData.fromJson(JSON_WITH_MACROS);
+
+    assertThat(data.resolveResponseParameterMacro("DISPLAY", "CHANNEL", "clusinfo")).isNull();
+  }
 }
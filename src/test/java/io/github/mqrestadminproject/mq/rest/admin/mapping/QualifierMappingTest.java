@@ -0,0 +1,87 @@
+package io.github.mqrestadminproject.mq.rest.admin.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.mqrestadminproject.mq.rest.admin.mapping.QualifierMapping.KeyValueTarget;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class QualifierMappingTest {
+
+  @Test
+  void compileConvertsKeyMapValuesToStrings() {
+    Map<String, Object> keyMap = new LinkedHashMap<>();
+    keyMap.put("max_depth", "MAXDEPTH");
+    keyMap.put("numeric", 42);
+
+    QualifierMapping mapping = QualifierMapping.compile(Map.of("request_key_map", keyMap));
+
+    assertThat(mapping.keyMap(MappingDirection.REQUEST))
+        .containsExactly(Map.entry("max_depth", "MAXDEPTH"), Map.entry("numeric", "42"));
+    assertThat(mapping.keyMap(MappingDirection.RESPONSE)).isEmpty();
+  }
+
+  @Test
+  void compileSkipsNonMapValueMapEntries() {
+    Map<String, Object> valueMap = new LinkedHashMap<>();
+    valueMap.put("DEFPSIST", Map.of("YES", "yes"));
+    valueMap.put("BROKEN", "not_a_map");
+
+    QualifierMapping mapping = QualifierMapping.compile(Map.of("response_value_map", valueMap));
+
+    assertThat(mapping.valueMap(MappingDirection.RESPONSE))
+        .containsOnlyKeys("DEFPSIST")
+        .containsEntry("DEFPSIST", Map.of("YES", "yes"));
+    assertThat(mapping.valueMap(MappingDirection.REQUEST)).isEmpty();
+  }
+
+  @Test
+  void compileKeepsOnlyCompleteKeyValueTargets() {
+    Map<String, Object> nullValueTarget = new LinkedHashMap<>();
+    nullValueTarget.put("key", "REPLACE");
+    nullValueTarget.put("value", null);
+    Map<String, Object> targets = new LinkedHashMap<>();
+    targets.put("yes", Map.of("key", "REPLACE", "value", "YES"));
+    targets.put("numeric_key", Map.of("key", 1, "value", "NO"));
+    targets.put("null_value", nullValueTarget);
+    targets.put("scalar", "NOREPLACE");
+
+    QualifierMapping mapping =
+        QualifierMapping.compile(Map.of("request_key_value_map", Map.of("replace", targets)));
+
+    assertThat(mapping.keyValueMap(MappingDirection.REQUEST).get("replace"))
+        .containsExactly(Map.entry("yes", new KeyValueTarget("REPLACE", "YES")));
+  }
+
+  @Test
+  void compileKeepsNonMapKeyValueEntryAsEmptyTargets() {
+    QualifierMapping mapping =
+        QualifierMapping.compile(Map.of("request_key_value_map", Map.of("replace", "broken")));
+
+    assertThat(mapping.keyValueMap(MappingDirection.REQUEST)).containsEntry("replace", Map.of());
+  }
+
+  @Test
+  void keyValueMapIsEmptyForResponseDirection() {
+    QualifierMapping mapping =
+        QualifierMapping.compile(
+            Map.of(
+                "request_key_value_map",
+                Map.of("replace", Map.of("yes", Map.of("key", "REPLACE", "value", "YES")))));
+
+    assertThat(mapping.keyValueMap(MappingDirection.RESPONSE)).isEmpty();
+  }
+
+  @Test
+  void compiledTablesAreUnmodifiable() {
+    QualifierMapping mapping =
+        QualifierMapping.compile(Map.of("request_key_map", Map.of("max_depth", "MAXDEPTH")));
+
+    assertThatThrownBy(() -> mapping.keyMap(MappingDirection.REQUEST).put("x", "Y"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> mapping.snakeToMqscMap().put("x", "Y"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+}
@@ -0,0 +1,149 @@
+package io.github.mqrestadminproject.mq.rest.admin.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ResponseRowMapperTest {
+
+  private static final String TEST_JSON =
+      """
+      {
+        "qualifiers": {
+          "queue": {
+            "response_key_map": {
+              "MAXDEPTH": "max_depth",
+              "DESCR": "description",
+              "GET": "get"
+            },
+            "response_value_map": {
+              "GET": {
+                "ENABLED": "enabled",
+                "DISABLED": "disabled"
+              }
+            }
+          }
+        }
+      }
+      """;
+
+  private final AttributeMapper mapper = new AttributeMapper(MappingData.fromJson(TEST_JSON));
+
+  private static List<Map<String, Object>> mapRows(
+      ResponseRowMapper rowMapper, List<Map<String, Object>> rawRows) {
+    List<Map<String, Object>> rows = new ArrayList<>();
+    for (Map<String, Object> rawRow : rawRows) {
+      Map<String, Object> row = new LinkedHashMap<>();
+      rowMapper.beginRow();
+      rawRow.forEach((name, value) -> rowMapper.put(row, name, value));
+      rows.add(row);
+    }
+    rowMapper.finish();
+    return rows;
+  }
+
+  private static Map<String, Object> upperCased(Map<String, Object> raw) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    raw.forEach((key, value) -> result.put(key.toUpperCase(Locale.ROOT), value));
+    return result;
+  }
+
+  @Test
+  void mapsNamesInAnyCaseAndValues() {
+    Map<String, Object> raw = new LinkedHashMap<>();
+    raw.put("maxdepth", 5000);
+    raw.put("Get", "DISABLED");
+    raw.put("DESCR", "test");
+
+    List<Map<String, Object>> rows =
+        mapRows(mapper.responseRowMapper("queue", true), List.of(raw, Map.of("get", "ENABLED")));
+
+    assertThat(rows.get(0))
+        .containsExactly(
+            Map.entry("max_depth", 5000),
+            Map.entry("get", "disabled"),
+            Map.entry("description", "test"));
+    assertThat(rows.get(1)).containsExactly(Map.entry("get", "enabled"));
+  }
+
+  @Test
+  void matchesMapResponseListOfUpperCasedRows() {
+    Map<String, Object> first = new LinkedHashMap<>();
+    first.put("maxdepth", 5000);
+    first.put("get", "SOMETIMES");
+    first.put("extra", "x");
+    Map<String, Object> second = new LinkedHashMap<>();
+    second.put("GET", List.of("ENABLED", "NEVER"));
+    second.put("other", null);
+
+    List<Map<String, Object>> rows =
+        mapRows(mapper.responseRowMapper("queue", false), List.of(first, second));
+
+    assertThat(rows)
+        .isEqualTo(
+            mapper.mapResponseList("queue", List.of(upperCased(first), upperCased(second)), false));
+  }
+
+  @Test
+  void strictFinishReportsIssuesOfAllRows() {
+    ResponseRowMapper rowMapper = mapper.responseRowMapper("queue", true);
+
+    assertThatThrownBy(
+            () ->
+                mapRows(
+                    rowMapper,
+                    List.of(Map.of("unknown", "x"), Map.of("GET", "SOMETIMES", "MAXDEPTH", 1))))
+        .isInstanceOfSatisfying(
+            MappingException.class,
+            e -> {
+              assertThat(e.getIssues()).hasSize(2);
+              assertThat(e.getIssues().get(0).reason()).isEqualTo(MappingReason.UNKNOWN_KEY);
+              assertThat(e.getIssues().get(0).attributeName()).isEqualTo("UNKNOWN");
+              assertThat(e.getIssues().get(0).objectIndex()).isZero();
+              assertThat(e.getIssues().get(1).reason()).isEqualTo(MappingReason.UNKNOWN_VALUE);
+              assertThat(e.getIssues().get(1).objectIndex()).isEqualTo(1);
+            });
+  }
+
+  @Test
+  void permissiveFinishKeepsUnknownAttributes() {
+    ResponseRowMapper rowMapper = mapper.responseRowMapper("queue", false);
+
+    List<Map<String, Object>> rows = mapRows(rowMapper, List.of(Map.of("unknown", "x")));
+
+    assertThat(rows.get(0)).containsExactly(Map.entry("UNKNOWN", "x"));
+  }
+
+  @Test
+  void unknownQualifierUpperCasesNamesAndRecordsIssuePerRow() {
+    ResponseRowMapper rowMapper = mapper.responseRowMapper("unknown", false);
+
+    List<Map<String, Object>> rows = mapRows(rowMapper, List.of(Map.of("curdepth", 3), Map.of()));
+
+    assertThat(rows).containsExactly(Map.of("CURDEPTH", 3), Map.of());
+    assertThatThrownBy(
+            () -> mapRows(mapper.responseRowMapper("unknown", true), List.of(Map.of(), Map.of())))
+        .isInstanceOfSatisfying(
+            MappingException.class,
+            e ->
+                assertThat(e.getIssues())
+                    .extracting(MappingIssue::reason, MappingIssue::objectIndex)
+                    .containsExactly(
+                        tuple(MappingReason.UNKNOWN_QUALIFIER, 0),
+                        tuple(MappingReason.UNKNOWN_QUALIFIER, 1)));
+  }
+
+  @Test
+  void finishWithoutRowsSucceeds() {
+    assertThatCode(() -> mapper.responseRowMapper("unknown", true).finish())
+        .doesNotThrowAnyException();
+  }
+}
@@ -2,6 +2,7 @@ package io.github.mqrestadminproject.mq.rest.admin.sync;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 import org.junit.jupiter.api.Test;
 
@@ -11,7 +12,110 @@ class SyncConfigTest {
   void noArgConstructorUsesDefaults() {
     SyncConfig config = new SyncConfig();
     assertThat(config.timeoutSeconds()).isEqualTo(30.0);
-    assertThat(config.pollIntervalSeconds()).isEqualTo(1.0);
+    assertThat(config.pollIntervalSeconds()).isEqualTo(0.25);
+    assertThat(config.initialDelaySeconds()).isEqualTo(0.0);
+    assertThat(config.backoffMultiplier()).isEqualTo(2.0);
+    assertThat(config.maxPollIntervalSeconds()).isEqualTo(5.0);
+    assertThat(config.jitter()).isEqualTo(0.1);
+  }
+
+  @Test
+  void earlierDefaultPollIntervalIsKept() {
+    assertThat(SyncConfig.DEFAULT_POLL_INTERVAL_SECONDS).isEqualTo(1.0);
+    assertThat(SyncConfig.DEFAULT_INITIAL_POLL_INTERVAL_SECONDS).isEqualTo(0.25);
+  }
+
+  @Test
+  void delayIsClampedToTimeRemaining() {
+    SyncConfig config = new SyncConfig(10.0, 4.0);
+    assertThat(config.delayBeforePollSeconds(3, 0.5, 7.5)).isEqualTo(2.5);
+    assertThat(config.delayBeforePollSeconds(3, 0.5, 6.0)).isEqualTo(4.0);
+    assertThat(config.delayBeforePollSeconds(3, 0.5, 12.0)).isEqualTo(0.0);
+  }
+
+  @Test
+  void twoArgConstructorUsesFixedInterval() {
+    SyncConfig config = new SyncConfig(60.0, 0.5);
+    assertThat(config.initialDelaySeconds()).isEqualTo(0.5);
+    assertThat(config.backoffMultiplier()).isEqualTo(1.0);
+    assertThat(config.maxPollIntervalSeconds()).isEqualTo(0.5);
+    assertThat(config.jitter()).isEqualTo(0.0);
+    assertThat(config.delayBeforePollSeconds(0, 0.9, 0)).isEqualTo(0.5);
+    assertThat(config.delayBeforePollSeconds(5, 0.1, 0)).isEqualTo(0.5);
+  }
+
+  @Test
+  void delaysBackOffUpToMaximum() {
+    SyncConfig config = new SyncConfig(30.0, 0.5, 0.0, 2.0, 3.0, 0.0);
+    assertThat(config.delayBeforePollSeconds(0, 0.5, 0)).isEqualTo(0.0);
+    assertThat(config.delayBeforePollSeconds(1, 0.5, 0)).isEqualTo(0.5);
+    assertThat(config.delayBeforePollSeconds(2, 0.5, 0)).isEqualTo(1.0);
+    assertThat(config.delayBeforePollSeconds(3, 0.5, 0)).isEqualTo(2.0);
+    assertThat(config.delayBeforePollSeconds(4, 0.5, 0)).isEqualTo(3.0);
+    assertThat(config.delayBeforePollSeconds(50, 0.5, 0)).isEqualTo(3.0);
+  }
+
+  @Test
+  void jitterSpreadsDelayBothWays() {
+    SyncConfig config = new SyncConfig(30.0, 1.0, 1.0, 1.0, 1.0, 0.2);
+    assertThat(config.delayBeforePollSeconds(1, 0.0, 0)).isCloseTo(0.8, within(1e-9));
+    assertThat(config.delayBeforePollSeconds(1, 0.5, 0)).isCloseTo(1.0, within(1e-9));
+    assertThat(config.delayBeforePollSeconds(1, 0.999, 0)).isLessThan(1.2);
+  }
+
+  @Test
+  void builderStartsFromDefaults() {
+    assertThat(new SyncConfig.Builder().build()).isEqualTo(new SyncConfig());
+  }
+
+  @Test
+  void builderSetsEveryComponent() {
+    SyncConfig config =
+        new SyncConfig.Builder()
+            .timeoutSeconds(120)
+            .pollIntervalSeconds(0.1)
+            .initialDelaySeconds(0.05)
+            .backoffMultiplier(1.5)
+            .maxPollIntervalSeconds(10)
+            .jitter(0.3)
+            .build();
+    assertThat(config).isEqualTo(new SyncConfig(120, 0.1, 0.05, 1.5, 10, 0.3));
+  }
+
+  @Test
+  void negativeInitialDelayThrows() {
+    assertThatThrownBy(() -> new SyncConfig.Builder().initialDelaySeconds(-0.1).build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("initialDelaySeconds must be >= 0");
+  }
+
+  @Test
+  void backoffMultiplierBelowOneThrows() {
+    assertThatThrownBy(() -> new SyncConfig.Builder().backoffMultiplier(0.5).build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("backoffMultiplier must be >= 1");
+  }
+
+  @Test
+  void maxPollIntervalBelowPollIntervalThrows() {
+    assertThatThrownBy(
+            () -> new SyncConfig.Builder().pollIntervalSeconds(2).maxPollIntervalSeconds(1).build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxPollIntervalSeconds must be >= pollIntervalSeconds");
+  }
+
+  @Test
+  void negativeJitterThrows() {
+    assertThatThrownBy(() -> new SyncConfig.Builder().jitter(-0.1).build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("jitter must be >= 0 and < 1");
+  }
+
+  @Test
+  void jitterOfOneThrows() {
+    assertThatThrownBy(() -> new SyncConfig.Builder().jitter(1.0).build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("jitter must be >= 0 and < 1");
   }
 
   @Test